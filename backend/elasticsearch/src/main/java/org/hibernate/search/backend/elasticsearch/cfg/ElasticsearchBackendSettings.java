@@ -14,6 +14,7 @@
 import org.hibernate.search.backend.elasticsearch.index.layout.impl.SimpleIndexLayoutStrategy;
 import org.hibernate.search.backend.elasticsearch.mapping.TypeNameMappingStrategyName;
 import org.hibernate.search.backend.elasticsearch.multitenancy.MultiTenancyStrategyName;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchScrollMode;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 
 /**
@@ -180,6 +181,21 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String MAX_CONNECTIONS_PER_ROUTE = "max_connections_per_route";
 
+	/**
+	 * Whether request and response bodies should be compressed using gzip.
+	 * <p>
+	 * When enabled, request bodies are compressed as they are sent,
+	 * and Elasticsearch is asked to compress response bodies.
+	 * This reduces network usage substantially, JSON being very compressible,
+	 * at the cost of some CPU usage on both sides.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#COMPRESSION_ENABLED}.
+	 */
+	public static final String COMPRESSION_ENABLED = "compression.enabled";
+
 	/**
 	 * Whether automatic discovery of nodes in the Elasticsearch cluster is enabled.
 	 * <p>
@@ -270,6 +286,35 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String SCROLL_TIMEOUT = "scroll_timeout";
 
+	/**
+	 * The way scrolls retrieve successive chunks of hits from Elasticsearch.
+	 * <p>
+	 * Expects an {@link ElasticsearchScrollMode} value, or a String representation of such value.
+	 * <p>
+	 * With {@link ElasticsearchScrollMode#SEARCH_AFTER}, {@link #SCROLL_TIMEOUT} is used as the keep-alive
+	 * of the point in time, if any.
+	 * <p>
+	 * Defaults to {@link Defaults#SCROLL_MODE}.
+	 */
+	public static final String SCROLL_MODE = "scroll_mode";
+
+	/**
+	 * The number of slices each scroll is split into,
+	 * each slice being retrieved in parallel with the others.
+	 * <p>
+	 * Slicing is only supported with the {@link ElasticsearchScrollMode#SEARCH_AFTER} scroll mode,
+	 * with a version of Elasticsearch that supports points in time.
+	 * Since slices cannot preserve the order of hits,
+	 * slicing is also restricted to queries sorted by index order only ({@code f.indexOrder()}),
+	 * and scrolls over queries with any other sort, including the default sort by score, fail on creation.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as 4,
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SCROLL_SLICES}.
+	 */
+	public static final String SCROLL_SLICES = "scroll_slices";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -285,6 +330,7 @@ private Defaults() {
 		public static final int CONNECTION_TIMEOUT = 1000;
 		public static final int MAX_CONNECTIONS = 20;
 		public static final int MAX_CONNECTIONS_PER_ROUTE = 10;
+		public static final boolean COMPRESSION_ENABLED = false;
 		public static final boolean DISCOVERY_ENABLED = false;
 		public static final int DISCOVERY_REFRESH_INTERVAL = 10;
 		public static final boolean LOG_JSON_PRETTY_PRINTING = false;
@@ -294,5 +340,7 @@ private Defaults() {
 		public static final BeanReference<IndexLayoutStrategy> LAYOUT_STRATEGY =
 				BeanReference.of( IndexLayoutStrategy.class, SimpleIndexLayoutStrategy.NAME );
 		public static final int SCROLL_TIMEOUT = 60;
+		public static final ElasticsearchScrollMode SCROLL_MODE = ElasticsearchScrollMode.SCROLL;
+		public static final int SCROLL_SLICES = 1;
 	}
 }
@@ -107,6 +107,23 @@ private ElasticsearchIndexSettings() {
 	 */
 	public static final String INDEXING_QUEUE_SIZE = INDEXING_PREFIX + IndexingRadicals.QUEUE_SIZE;
 
+	/**
+	 * Whether indexing works affecting the same document in the same batch should be coalesced,
+	 * so that only the last index or delete request is sent to Elasticsearch.
+	 * <p>
+	 * Works that were skipped complete when the last work completes.
+	 * Works are only coalesced if they have the same routing key and refresh strategy.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_COALESCE_WORKS}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_COALESCE_WORKS = INDEXING_PREFIX + IndexingRadicals.COALESCE_WORKS;
+
 	/**
 	 * The maximum size of bulk requests created when processing indexing queues.
 	 * <p>
@@ -120,6 +137,98 @@ private ElasticsearchIndexSettings() {
 	 */
 	public static final String INDEXING_MAX_BULK_SIZE = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_SIZE;
 
+	/**
+	 * The maximum size, in bytes, of bulk requests created when processing indexing queues.
+	 * <p>
+	 * The size of each indexing request is estimated from its JSON representation,
+	 * and a bulk is sent as soon as adding another indexing request would exceed this limit.
+	 * A single indexing request larger than this limit is sent in its own bulk.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_BULK_BYTES}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_MAX_BULK_BYTES = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_BYTES;
+
+	/**
+	 * Whether the number of indexing requests in each bulk should adapt to the observed behavior of Elasticsearch.
+	 * <p>
+	 * When enabled, the number of indexing requests in each bulk starts at {@link #INDEXING_MAX_BULK_SIZE},
+	 * shrinks when bulk requests are rejected or slower than {@link #INDEXING_ADAPTIVE_BULK_TARGET_LATENCY},
+	 * and grows back up to {@link #INDEXING_MAX_BULK_SIZE} when bulk requests are fast enough.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_ADAPTIVE_BULK_SIZE}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_ADAPTIVE_BULK_SIZE = INDEXING_PREFIX + IndexingRadicals.ADAPTIVE_BULK_SIZE;
+
+	/**
+	 * The bulk request latency, in milliseconds, that adaptive bulk sizing aims for.
+	 * <p>
+	 * Only used when {@link #INDEXING_ADAPTIVE_BULK_SIZE} is enabled.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_ADAPTIVE_BULK_TARGET_LATENCY}.
+	 */
+	public static final String INDEXING_ADAPTIVE_BULK_TARGET_LATENCY =
+			INDEXING_PREFIX + IndexingRadicals.ADAPTIVE_BULK_TARGET_LATENCY;
+
+	/**
+	 * The maximum number of times an indexing request rejected by Elasticsearch
+	 * because it is overloaded (HTTP status 429) will be re-submitted.
+	 * <p>
+	 * Only the rejected requests of a bulk request are re-submitted,
+	 * after a delay that grows exponentially with each retry:
+	 * see {@link #INDEXING_BULK_ITEM_RETRY_INITIAL_DELAY} and {@link #INDEXING_BULK_ITEM_RETRY_MAX_DELAY}.
+	 * Indexing requests that are still rejected after the last retry are reported as failed.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed to such integer value.
+	 * {@code 0} disables retries.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_BULK_ITEM_MAX_RETRIES}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_BULK_ITEM_MAX_RETRIES = INDEXING_PREFIX + IndexingRadicals.BULK_ITEM_MAX_RETRIES;
+
+	/**
+	 * The delay, in milliseconds, before the first retry of indexing requests rejected by Elasticsearch.
+	 * <p>
+	 * The delay doubles with each retry, up to {@link #INDEXING_BULK_ITEM_RETRY_MAX_DELAY},
+	 * and is randomly reduced by up to half so that retries from different queues are spread out.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_BULK_ITEM_RETRY_INITIAL_DELAY}.
+	 */
+	public static final String INDEXING_BULK_ITEM_RETRY_INITIAL_DELAY =
+			INDEXING_PREFIX + IndexingRadicals.BULK_ITEM_RETRY_INITIAL_DELAY;
+
+	/**
+	 * The maximum delay, in milliseconds, before a retry of indexing requests rejected by Elasticsearch.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_BULK_ITEM_RETRY_MAX_DELAY}.
+	 */
+	public static final String INDEXING_BULK_ITEM_RETRY_MAX_DELAY =
+			INDEXING_PREFIX + IndexingRadicals.BULK_ITEM_RETRY_MAX_DELAY;
+
 	/**
 	 * Configuration property keys for indexing, without the {@link #INDEXING_PREFIX prefix}.
 	 */
@@ -130,7 +239,14 @@ private IndexingRadicals() {
 
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
+		public static final String COALESCE_WORKS = "coalesce_works";
 		public static final String MAX_BULK_SIZE = "max_bulk_size";
+		public static final String MAX_BULK_BYTES = "max_bulk_bytes";
+		public static final String ADAPTIVE_BULK_SIZE = "adaptive_bulk_size";
+		public static final String ADAPTIVE_BULK_TARGET_LATENCY = "adaptive_bulk_target_latency";
+		public static final String BULK_ITEM_MAX_RETRIES = "bulk_item_max_retries";
+		public static final String BULK_ITEM_RETRY_INITIAL_DELAY = "bulk_item_retry_initial_delay";
+		public static final String BULK_ITEM_RETRY_MAX_DELAY = "bulk_item_retry_max_delay";
 	}
 
 	/**
@@ -145,7 +261,14 @@ private Defaults() {
 		public static final int SCHEMA_MANAGEMENT_MINIMAL_REQUIRED_STATUS_WAIT_TIMEOUT = 10_000;
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
+		public static final boolean INDEXING_COALESCE_WORKS = false;
 		public static final int INDEXING_MAX_BULK_SIZE = 100;
+		public static final int INDEXING_MAX_BULK_BYTES = 10 * 1024 * 1024;
+		public static final boolean INDEXING_ADAPTIVE_BULK_SIZE = false;
+		public static final int INDEXING_ADAPTIVE_BULK_TARGET_LATENCY = 1000;
+		public static final int INDEXING_BULK_ITEM_MAX_RETRIES = 3;
+		public static final int INDEXING_BULK_ITEM_RETRY_INITIAL_DELAY = 100;
+		public static final int INDEXING_BULK_ITEM_RETRY_MAX_DELAY = 5000;
 		public static final DynamicMapping DYNAMIC_MAPPING = DynamicMapping.STRICT;
 	}
 
@@ -0,0 +1,117 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Set;
+
+import org.hibernate.search.util.common.impl.CollectionHelper;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * Parses the body of responses to bulk requests in a streaming fashion,
+ * retaining only the properties of each bulk item that Hibernate Search actually uses.
+ * <p>
+ * Each item in a bulk response carries metadata ({@code _shards}, {@code _seq_no}, {@code _version}, ...)
+ * that would otherwise be materialized as a tree of JSON objects for every single document,
+ * only to be discarded right after the success of each item was checked.
+ * <p>
+ * Only responses to {@code _bulk} requests are parsed this way.
+ * Search and scroll responses are still parsed into a full JSON tree,
+ * because that tree is exposed through public APIs,
+ * e.g. {@code ElasticsearchSearchResult#responseBody()} and request transformers.
+ */
+public final class BulkResponseParser {
+
+	private static final String ITEMS_PROPERTY = "items";
+
+	private static final Set<String> RETAINED_ITEM_PROPERTIES =
+			CollectionHelper.asImmutableSet( "_index", "_id", "status", "result", "error" );
+
+	private final Gson gson;
+	private final TypeAdapter<JsonElement> elementAdapter;
+
+	public BulkResponseParser(Gson gson) {
+		this.gson = gson;
+		this.elementAdapter = gson.getAdapter( JsonElement.class );
+	}
+
+	public JsonObject parse(Reader reader) throws IOException {
+		JsonReader jsonReader = gson.newJsonReader( reader );
+		if ( jsonReader.peek() != JsonToken.BEGIN_OBJECT ) {
+			// Unexpected format: just parse the response as-is.
+			return elementAdapter.read( jsonReader ).getAsJsonObject();
+		}
+
+		JsonObject result = new JsonObject();
+		jsonReader.beginObject();
+		while ( jsonReader.hasNext() ) {
+			String name = jsonReader.nextName();
+			if ( ITEMS_PROPERTY.equals( name ) && jsonReader.peek() == JsonToken.BEGIN_ARRAY ) {
+				result.add( name, parseItems( jsonReader ) );
+			}
+			else {
+				result.add( name, elementAdapter.read( jsonReader ) );
+			}
+		}
+		jsonReader.endObject();
+		return result;
+	}
+
+	private JsonArray parseItems(JsonReader jsonReader) throws IOException {
+		JsonArray items = new JsonArray();
+		jsonReader.beginArray();
+		while ( jsonReader.hasNext() ) {
+			items.add( parseItem( jsonReader ) );
+		}
+		jsonReader.endArray();
+		return items;
+	}
+
+	private JsonElement parseItem(JsonReader jsonReader) throws IOException {
+		// Items have the following format: { "actionName" : { "status" : 201, ... } }
+		if ( jsonReader.peek() != JsonToken.BEGIN_OBJECT ) {
+			return elementAdapter.read( jsonReader );
+		}
+		JsonObject item = new JsonObject();
+		jsonReader.beginObject();
+		while ( jsonReader.hasNext() ) {
+			String actionName = jsonReader.nextName();
+			item.add( actionName, parseItemContent( jsonReader ) );
+		}
+		jsonReader.endObject();
+		return item;
+	}
+
+	private JsonElement parseItemContent(JsonReader jsonReader) throws IOException {
+		if ( jsonReader.peek() != JsonToken.BEGIN_OBJECT ) {
+			return elementAdapter.read( jsonReader );
+		}
+		JsonObject content = new JsonObject();
+		jsonReader.beginObject();
+		while ( jsonReader.hasNext() ) {
+			String name = jsonReader.nextName();
+			if ( RETAINED_ITEM_PROPERTIES.contains( name ) ) {
+				content.add( name, elementAdapter.read( jsonReader ) );
+			}
+			else {
+				jsonReader.skipValue();
+			}
+		}
+		jsonReader.endObject();
+		return content;
+	}
+
+}
@@ -60,27 +60,31 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
 	private final Optional<Integer> requestTimeoutMs;
 	private final int connectionTimeoutMs;
+	private final boolean compressionEnabled;
 
 	private final Gson gson;
+	private final BulkResponseParser bulkResponseParser;
 	private final JsonLogHelper jsonLogHelper;
 
 	ElasticsearchClientImpl(RestClient restClient, Sniffer sniffer,
 			ScheduledExecutorService timeoutExecutorService,
-			Optional<Integer> requestTimeoutMs, int connectionTimeoutMs,
+			Optional<Integer> requestTimeoutMs, int connectionTimeoutMs, boolean compressionEnabled,
 			Gson gson, JsonLogHelper jsonLogHelper) {
 		this.restClient = restClient;
 		this.sniffer = sniffer;
 		this.timeoutExecutorService = timeoutExecutorService;
 		this.requestTimeoutMs = requestTimeoutMs;
 		this.connectionTimeoutMs = connectionTimeoutMs;
+		this.compressionEnabled = compressionEnabled;
 		this.gson = gson;
+		this.bulkResponseParser = new BulkResponseParser( gson );
 		this.jsonLogHelper = jsonLogHelper;
 	}
 
 	@Override
 	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
 		CompletableFuture<ElasticsearchResponse> result = Futures.create( () -> send( request ) )
-				.thenApply( this::convertResponse );
+				.thenApply( response -> convertResponse( request, response ) );
 		if ( requestLog.isDebugEnabled() ) {
 			long startTime = System.nanoTime();
 			result.thenAccept( response -> log( request, startTime, response ) );
@@ -102,7 +106,7 @@ private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchReque
 
 		HttpEntity entity;
 		try {
-			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest );
+			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest, compressionEnabled );
 		}
 		catch (IOException | RuntimeException e) {
 			completableFuture.completeExceptionally( e );
@@ -200,9 +204,9 @@ private void setPerRequestSocketTimeout(ElasticsearchRequest elasticsearchReques
 		request.setOptions( requestOptions );
 	}
 
-	private ElasticsearchResponse convertResponse(Response response) {
+	private ElasticsearchResponse convertResponse(ElasticsearchRequest request, Response response) {
 		try {
-			JsonObject body = parseBody( response );
+			JsonObject body = parseBody( request, response );
 			return new ElasticsearchResponse(
 					response.getHost(),
 					response.getStatusLine().getStatusCode(),
@@ -215,7 +219,7 @@ private ElasticsearchResponse convertResponse(Response response) {
 		}
 	}
 
-	private JsonObject parseBody(Response response) throws IOException {
+	private JsonObject parseBody(ElasticsearchRequest request, Response response) throws IOException {
 		HttpEntity entity = response.getEntity();
 		if ( entity == null ) {
 			return null;
@@ -224,10 +228,21 @@ private JsonObject parseBody(Response response) throws IOException {
 		Charset charset = getCharset( entity );
 		try ( InputStream inputStream = entity.getContent();
 				Reader reader = new InputStreamReader( inputStream, charset ) ) {
+			if ( isBulkRequest( request ) ) {
+				// Bulk responses can be large and are mostly made of metadata we don't need:
+				// avoid building a full JSON tree.
+				return bulkResponseParser.parse( reader );
+			}
+			// Other responses, in particular search and scroll responses, are exposed as a full JSON tree
+			// through public APIs (ElasticsearchSearchResult#responseBody()), so they cannot be streamed.
 			return gson.fromJson( reader, JsonObject.class );
 		}
 	}
 
+	private static boolean isBulkRequest(ElasticsearchRequest request) {
+		return "POST".equals( request.method() ) && request.path().endsWith( "/" + Paths._BULK.encoded );
+	}
+
 	private static Charset getCharset(HttpEntity entity) {
 		ContentType contentType = ContentType.get( entity );
 		Charset charset = contentType.getCharset();
@@ -55,6 +55,11 @@
  * report the content length; if not the encoding completion will be deferred
  * but not resetting so to avoid repeating encoding work.
  *
+ * Optionally, the content can be compressed using gzip.
+ * Compression happens progressively as well, in {@link ProgressiveCharBufferWriter},
+ * so the optimisations above still apply: the content length is reported
+ * for content that is still small once compressed.
+ *
  * @author Sanne Grinovero (C) 2017 Red Hat Inc.
  */
 final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
@@ -63,6 +68,8 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 
 	private static final BasicHeader CONTENT_TYPE = new BasicHeader( HTTP.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString() );
 
+	private static final BasicHeader CONTENT_ENCODING_GZIP = new BasicHeader( HTTP.CONTENT_ENCODING, "gzip" );
+
 	/**
 	 * The size of byte buffer pages in {@link ProgressiveCharBufferWriter}
 	 * It's a rather large size: a tradeoff for very large JSON
@@ -82,6 +89,7 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 
 	private final Gson gson;
 	private final List<JsonObject> bodyParts;
+	private final boolean gzip;
 
 	/**
 	 * We don't want to compute the length in advance as it would defeat the optimisations
@@ -117,15 +125,21 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	 * We keep this as a field level attribute as we might have
 	 * partially rendered JSON stored in its buffers while flow control
 	 * refuses to accept more bytes.
+	 * Created lazily, and discarded on {@link #close()},
+	 * so that we never leave a writer (and its native resources, when compressing) behind.
 	 */
-	private ProgressiveCharBufferWriter writer =
-			new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+	private ProgressiveCharBufferWriter writer;
 
 	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
+		this( gson, bodyParts, false );
+	}
+
+	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts, boolean gzip) throws IOException {
 		Contracts.assertNotNull( gson, "gson" );
 		Contracts.assertNotNull( bodyParts, "bodyParts" );
 		this.gson = gson;
 		this.bodyParts = bodyParts;
+		this.gzip = gzip;
 		this.contentLength = -1;
 		attemptOnePassEncoding();
 	}
@@ -153,8 +167,8 @@ public Header getContentType() {
 
 	@Override
 	public Header getContentEncoding() {
-		//Apparently this is the correct value:
-		return null;
+		//Apparently this is the correct value when not compressing:
+		return gzip ? CONTENT_ENCODING_GZIP : null;
 	}
 
 	@Override
@@ -165,18 +179,34 @@ public InputStream getContent() {
 	@Override
 	public void writeTo(OutputStream out) throws IOException {
 		/*
-		 * For this method we use no pagination, so ignore the mutable fields.
+		 * For this method we use no pagination (unless compressing), so ignore the mutable fields.
 		 *
 		 * Note we don't close the counting stream or the writer,
 		 * because we must not close the output stream that was passed as a parameter.
 		 */
 		CountingOutputStream countingStream = new CountingOutputStream( out );
-		Writer outWriter = new OutputStreamWriter( countingStream, CHARSET );
-		for ( JsonObject bodyPart : bodyParts ) {
-			gson.toJson( bodyPart, outWriter );
-			outWriter.append( '\n' );
+		if ( gzip ) {
+			/*
+			 * Compress exactly as produceContent() does,
+			 * so that the compressed content (and its length) is always the same.
+			 * Reading the whole content resets the mutable fields when closing the stream.
+			 */
+			try ( InputStream content = getContent() ) {
+				byte[] buffer = new byte[BYTE_BUFFER_PAGE_SIZE];
+				int read;
+				while ( ( read = content.read( buffer ) ) >= 0 ) {
+					countingStream.write( buffer, 0, read );
+				}
+			}
+		}
+		else {
+			Writer outWriter = new OutputStreamWriter( countingStream, CHARSET );
+			for ( JsonObject bodyPart : bodyParts ) {
+				gson.toJson( bodyPart, outWriter );
+				outWriter.append( '\n' );
+			}
+			outWriter.flush();
 		}
-		outWriter.flush();
 		//Now we finally know the content size in bytes:
 		hintContentLength( countingStream.getBytesWritten() );
 	}
@@ -197,8 +227,27 @@ public void close() {
 		//Nothing to close but let's make sure we re-wind the stream
 		//so that we can start from the beginning if needed
 		this.nextBodyToEncodeIndex = 0;
-		//Discard previous buffers as they might contain in-process content:
-		this.writer = new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+		//Discard previous buffers as they might contain in-process content;
+		//a new writer will be created if content is produced again.
+		if ( this.writer != null ) {
+			this.writer.close();
+			this.writer = null;
+		}
+	}
+
+	/**
+	 * @return {@code true} if this entity holds native resources that will only be released by {@link #close()},
+	 * {@code false} otherwise.
+	 */
+	boolean holdsNativeResources() {
+		return writer != null && writer.holdsNativeResources();
+	}
+
+	private ProgressiveCharBufferWriter writer() {
+		if ( writer == null ) {
+			writer = new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE, gzip );
+		}
+		return writer;
 	}
 
 	/**
@@ -215,9 +264,10 @@ public void close() {
 	private void attemptOnePassEncoding() throws IOException {
 		// Essentially attempt to use the writer without going NPE on the output sink
 		// as it's not set yet.
-		triggerFullWrite();
+		ProgressiveCharBufferWriter writer = writer();
+		triggerFullWrite( writer );
 		if ( nextBodyToEncodeIndex == bodyParts.size() ) {
-			writer.flush();
+			writer.finish();
 			// The buffer's content length so far is the final content length,
 			// as we know the entire content has been encoded already.
 			hintContentLength( writer.contentLength() );
@@ -232,7 +282,7 @@ private void attemptOnePassEncoding() throws IOException {
 	 * was written.
 	 * @throws IOException If writing fails.
 	 */
-	private void triggerFullWrite() throws IOException {
+	private void triggerFullWrite(ProgressiveCharBufferWriter writer) throws IOException {
 		while ( nextBodyToEncodeIndex < bodyParts.size() ) {
 			JsonObject bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
 			gson.toJson( bodyPart, writer );
@@ -252,6 +302,7 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 		// to have available space !
 		// Production of data is expected to complete only after we invoke ContentEncoder#complete.
 
+		ProgressiveCharBufferWriter writer = writer();
 		//Re-set the encoder as it might be a different one than a previously used instance:
 		writer.setOutput( encoder );
 
@@ -262,12 +313,13 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 			return;
 		}
 
-		triggerFullWrite();
+		triggerFullWrite( writer );
 
 		if ( writer.isFlowControlPushingBack() ) {
 			//Just quit: return control to the caller and trust we'll be called again.
 			return;
 		}
+		writer.finish();
 		writer.flushToOutput();
 		if ( writer.isFlowControlPushingBack() ) {
 			//Just quit: return control to the caller and trust we'll be called again.
@@ -39,9 +39,12 @@ public int read() throws IOException {
 	public int read(byte[] b, int off, int len) throws IOException {
 		int offset = off;
 		int length = len;
-		while ( length > 0 && !contentEncoder.isCompleted() ) {
+		while ( length > 0 ) {
 			int bytesRead = readFromBuffer( b, offset, length );
 			if ( bytesRead == 0 ) {
+				if ( contentEncoder.isCompleted() ) {
+					break;
+				}
 				writeToBuffer();
 				bytesRead = readFromBuffer( b, offset, length );
 			}
@@ -49,7 +52,7 @@ public int read(byte[] b, int off, int len) throws IOException {
 			length -= bytesRead;
 		}
 		int totalBytesRead = offset - off;
-		if ( totalBytesRead == 0 && contentEncoder.isCompleted() ) {
+		if ( totalBytesRead == 0 && len > 0 ) {
 			return -1;
 		}
 		return totalBytesRead;
@@ -68,7 +71,8 @@ private void writeToBuffer() throws IOException {
 
 	private int readFromBuffer() {
 		if ( buffer.hasRemaining() ) {
-			return buffer.get();
+			// Bytes are signed, but we must return a value between 0 and 255
+			return buffer.get() & 0xFF;
 		}
 		else {
 			return -1;
@@ -16,6 +16,8 @@
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
 
 import org.apache.http.nio.ContentEncoder;
 
@@ -26,6 +28,10 @@
  * To be used when your input source is not reactive (uses {@link Writer}),
  * but you have multiple elements to write and thus could take advantage of
  * reactive output to some extent.
+ * <p>
+ * Optionally, the output can be compressed using gzip:
+ * encoded bytes are then deflated progressively as they are written,
+ * so compression does not require buffering the whole content.
  *
  * @author Sanne Grinovero
  */
@@ -72,10 +78,45 @@ class ProgressiveCharBufferWriter extends Writer {
 
 	private int contentLength = 0;
 
+	/**
+	 * The deflater used for gzip compression, or {@code null} if compression is disabled.
+	 */
+	private final Deflater deflater;
+
+	/**
+	 * When compression is enabled, a buffer for encoded bytes that have not been deflated yet.
+	 */
+	private final ByteBuffer uncompressedBuffer;
+
+	/**
+	 * When compression is enabled, the checksum of uncompressed bytes, for the gzip trailer.
+	 */
+	private final CRC32 uncompressedChecksum;
+
+	private boolean finished = false;
+
+	private boolean deflaterEnded = false;
+
 	public ProgressiveCharBufferWriter(Charset charset, int charBufferSize, int pageSize) {
+		this( charset, charBufferSize, pageSize, false );
+	}
+
+	public ProgressiveCharBufferWriter(Charset charset, int charBufferSize, int pageSize, boolean gzip) {
 		this.charsetEncoder = charset.newEncoder();
 		this.pageSize = pageSize;
 		this.charBuffer = CharBuffer.allocate( charBufferSize );
+		if ( gzip ) {
+			// "nowrap": we write the gzip header and trailer ourselves
+			this.deflater = new Deflater( Deflater.DEFAULT_COMPRESSION, true );
+			this.uncompressedBuffer = ByteBuffer.allocate( pageSize );
+			this.uncompressedChecksum = new CRC32();
+			writeBytes( GzipFormat.HEADER );
+		}
+		else {
+			this.deflater = null;
+			this.uncompressedBuffer = null;
+			this.uncompressedChecksum = null;
+		}
 	}
 
 	/**
@@ -129,7 +170,40 @@ public void flush() throws IOException {
 
 	@Override
 	public void close() {
-		// Nothing to do
+		endDeflater();
+	}
+
+	/**
+	 * @return {@code true} if this writer holds native resources that will only be released by {@link #close()},
+	 * {@code false} otherwise.
+	 */
+	boolean holdsNativeResources() {
+		return deflater != null && !deflaterEnded;
+	}
+
+	/**
+	 * Signal that all content has been written,
+	 * so that compressed content, if any, can be completed.
+	 * <p>
+	 * Calling this method multiple times has no effect.
+	 * Writing after this method has been called is not allowed.
+	 *
+	 * @throws IOException when {@link ContentEncoder#write(ByteBuffer)} fails.
+	 */
+	public void finish() throws IOException {
+		flush();
+		if ( deflater == null || finished ) {
+			return;
+		}
+		finished = true;
+		deflateUncompressedBuffer();
+		deflater.finish();
+		while ( !deflater.finished() ) {
+			deflateToCurrentPage();
+		}
+		writeBytes( GzipFormat.trailer( uncompressedChecksum.getValue(), deflater.getBytesRead() ) );
+		// All the content is now in buffer pages: the deflater is no longer needed.
+		endDeflater();
 	}
 
 	/**
@@ -177,7 +251,19 @@ public int contentLength() {
 		return contentLength;
 	}
 
+	private void endDeflater() {
+		if ( deflater != null && !deflaterEnded ) {
+			// Release native resources
+			deflater.end();
+			deflaterEnded = true;
+		}
+	}
+
 	private void writeToByteBuffer(CharBuffer input) throws IOException {
+		if ( deflater != null ) {
+			writeToUncompressedBuffer( input );
+			return;
+		}
 		while ( true ) {
 			if ( currentPage == null ) {
 				currentPage = ByteBuffer.allocate( pageSize );
@@ -189,17 +275,24 @@ private void writeToByteBuffer(CharBuffer input) throws IOException {
 				return;
 			}
 			else if ( coderResult.equals( CoderResult.OVERFLOW ) ) {
-				// Avoid storing buffers if we can simply flush them
-				attemptFlushPendingBuffers( true );
-				if ( currentPage != null ) {
-					/*
-					 * We couldn't flush the current page, but it's full,
-					 * so let's move it out of the way.
-					 */
-					currentPage.flip();
-					needWritingPages.add( currentPage );
-					currentPage = null;
-				}
+				onCurrentPageFull();
+			}
+			else {
+				//Encoding exception
+				coderResult.throwException();
+				return; //Unreachable
+			}
+		}
+	}
+
+	private void writeToUncompressedBuffer(CharBuffer input) throws IOException {
+		while ( true ) {
+			CoderResult coderResult = charsetEncoder.encode( input, uncompressedBuffer, false );
+			if ( coderResult.equals( CoderResult.UNDERFLOW ) ) {
+				return;
+			}
+			else if ( coderResult.equals( CoderResult.OVERFLOW ) ) {
+				deflateUncompressedBuffer();
 			}
 			else {
 				//Encoding exception
@@ -209,6 +302,66 @@ else if ( coderResult.equals( CoderResult.OVERFLOW ) ) {
 		}
 	}
 
+	private void deflateUncompressedBuffer() throws IOException {
+		if ( uncompressedBuffer.position() == 0 ) {
+			return;
+		}
+		uncompressedChecksum.update( uncompressedBuffer.array(), uncompressedBuffer.arrayOffset(),
+				uncompressedBuffer.position() );
+		deflater.setInput( uncompressedBuffer.array(), uncompressedBuffer.arrayOffset(),
+				uncompressedBuffer.position() );
+		while ( !deflater.needsInput() ) {
+			deflateToCurrentPage();
+		}
+		uncompressedBuffer.clear();
+	}
+
+	private void deflateToCurrentPage() throws IOException {
+		if ( currentPage == null ) {
+			currentPage = ByteBuffer.allocate( pageSize );
+		}
+		int deflated = deflater.deflate( currentPage.array(), currentPage.arrayOffset() + currentPage.position(),
+				currentPage.remaining() );
+		currentPage.position( currentPage.position() + deflated );
+		contentLength += deflated;
+		if ( !currentPage.hasRemaining() ) {
+			onCurrentPageFull();
+		}
+	}
+
+	private void writeBytes(byte[] bytes) {
+		int offset = 0;
+		while ( offset < bytes.length ) {
+			if ( currentPage == null ) {
+				currentPage = ByteBuffer.allocate( pageSize );
+			}
+			int length = Math.min( currentPage.remaining(), bytes.length - offset );
+			currentPage.put( bytes, offset, length );
+			offset += length;
+			contentLength += length;
+			if ( !currentPage.hasRemaining() ) {
+				// Don't try to flush: this is only used for small headers/trailers
+				currentPage.flip();
+				needWritingPages.add( currentPage );
+				currentPage = null;
+			}
+		}
+	}
+
+	private void onCurrentPageFull() throws IOException {
+		// Avoid storing buffers if we can simply flush them
+		attemptFlushPendingBuffers( true );
+		if ( currentPage != null ) {
+			/*
+			 * We couldn't flush the current page, but it's full,
+			 * so let's move it out of the way.
+			 */
+			currentPage.flip();
+			needWritingPages.add( currentPage );
+			currentPage = null;
+		}
+	}
+
 	/**
 	 * @return {@code true} if this buffer contains content to be written, {@code false} otherwise.
 	 */
@@ -257,4 +410,29 @@ private boolean write(ByteBuffer buffer) throws IOException {
 		return toWrite == actuallyWritten;
 	}
 
+	/**
+	 * Constants and helpers for the gzip file format, see RFC 1952.
+	 */
+	private static final class GzipFormat {
+		private static final byte[] HEADER = new byte[] {
+				(byte) 0x1f, (byte) 0x8b, // Magic number
+				Deflater.DEFLATED, // Compression method
+				0, // Flags
+				0, 0, 0, 0, // Modification time
+				0, // Extra flags
+				(byte) 0xff // Operating system: unknown
+		};
+
+		private GzipFormat() {
+		}
+
+		static byte[] trailer(long crc, long uncompressedSize) {
+			return new byte[] {
+					(byte) crc, (byte) ( crc >> 8 ), (byte) ( crc >> 16 ), (byte) ( crc >> 24 ),
+					(byte) uncompressedSize, (byte) ( uncompressedSize >> 8 ),
+					(byte) ( uncompressedSize >> 16 ), (byte) ( uncompressedSize >> 24 )
+			};
+		}
+	}
+
 }
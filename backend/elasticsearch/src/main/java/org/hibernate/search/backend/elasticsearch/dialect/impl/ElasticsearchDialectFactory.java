@@ -20,6 +20,7 @@
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch64ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch67ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch70ProtocolDialect;
+import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch712ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.ElasticsearchProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.util.common.AssertionFailure;
@@ -69,12 +70,13 @@ else if ( major == 5 ) {
 		else if ( major == 6 ) {
 			return createProtocolDialectV6( version, minor );
 		}
+		else if ( major == 7 ) {
+			return createProtocolDialectV7( minor );
+		}
 		else {
-			// Either the latest supported version, or a newer/unknown one
-			if ( major != 7 ) {
-				log.unknownElasticsearchVersion( version );
-			}
-			return new Elasticsearch70ProtocolDialect();
+			// A newer/unknown version
+			log.unknownElasticsearchVersion( version );
+			return new Elasticsearch712ProtocolDialect();
 		}
 	}
 
@@ -118,4 +120,12 @@ private ElasticsearchProtocolDialect createProtocolDialectV6(ElasticsearchVersio
 		return new Elasticsearch67ProtocolDialect();
 	}
 
+	private ElasticsearchProtocolDialect createProtocolDialectV7(int minor) {
+		if ( minor < 12 ) {
+			return new Elasticsearch70ProtocolDialect();
+		}
+		// Either the latest supported version, or a newer/unknown one
+		return new Elasticsearch712ProtocolDialect();
+	}
+
 }
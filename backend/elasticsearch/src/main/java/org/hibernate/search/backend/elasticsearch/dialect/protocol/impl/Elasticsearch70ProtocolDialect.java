@@ -13,11 +13,11 @@
 import org.hibernate.search.backend.elasticsearch.lowlevel.syntax.search.impl.ElasticsearchSearchSyntax;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.Elasticsearch7SearchResultExtractorFactory;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchResultExtractorFactory;
-import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.Elasticsearch7WorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.Elasticsearch70WorkBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 
 /**
- * The protocol dialect for Elasticsearch 7.0.
+ * The protocol dialect for Elasticsearch 7.0 to 7.11.
  */
 public class Elasticsearch70ProtocolDialect implements ElasticsearchProtocolDialect {
 
@@ -33,7 +33,7 @@ public ElasticsearchSearchSyntax createSearchSyntax() {
 
 	@Override
 	public ElasticsearchWorkBuilderFactory createWorkBuilderFactory(GsonProvider gsonProvider) {
-		return new Elasticsearch7WorkBuilderFactory( gsonProvider );
+		return new Elasticsearch70WorkBuilderFactory( gsonProvider );
 	}
 
 	@Override
@@ -21,6 +21,7 @@
 import org.hibernate.search.backend.elasticsearch.lowlevel.syntax.metadata.impl.ElasticsearchIndexMetadataSyntax;
 import org.hibernate.search.backend.elasticsearch.lowlevel.syntax.search.impl.ElasticsearchSearchSyntax;
 import org.hibernate.search.backend.elasticsearch.resources.impl.BackendThreads;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchScrollMode;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchResultExtractorFactory;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
@@ -43,6 +44,18 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 					.withDefault( ElasticsearchBackendSettings.Defaults.SCROLL_TIMEOUT )
 					.build();
 
+	private static final ConfigurationProperty<ElasticsearchScrollMode> SCROLL_MODE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.SCROLL_MODE )
+					.as( ElasticsearchScrollMode.class, ElasticsearchScrollMode::of )
+					.withDefault( ElasticsearchBackendSettings.Defaults.SCROLL_MODE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SCROLL_SLICES =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.SCROLL_SLICES )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.SCROLL_SLICES )
+					.build();
+
 	private final BeanHolder<? extends ElasticsearchClientFactory> clientFactoryHolder;
 	private final BackendThreads threads;
 	private final GsonProvider defaultGsonProvider;
@@ -59,6 +72,8 @@ class ElasticsearchLinkImpl implements ElasticsearchLink {
 	private ElasticsearchWorkBuilderFactory workBuilderFactory;
 	private ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory;
 	private Integer scrollTimeout;
+	private ElasticsearchScrollMode scrollMode;
+	private int scrollSlices;
 
 	ElasticsearchLinkImpl(BeanHolder<? extends ElasticsearchClientFactory> clientFactoryHolder,
 			BackendThreads threads, GsonProvider defaultGsonProvider, boolean logPrettyPrinting,
@@ -116,6 +131,18 @@ public Integer getScrollTimeout() {
 		return scrollTimeout;
 	}
 
+	@Override
+	public ElasticsearchScrollMode getScrollMode() {
+		checkStarted();
+		return scrollMode;
+	}
+
+	@Override
+	public int getScrollSlices() {
+		checkStarted();
+		return scrollSlices;
+	}
+
 	ElasticsearchVersion getElasticsearchVersion() {
 		checkStarted();
 		return elasticsearchVersion;
@@ -149,6 +176,8 @@ void onStart(BeanResolver beanResolver, ConfigurationPropertySource propertySour
 			workBuilderFactory = protocolDialect.createWorkBuilderFactory( gsonProvider );
 			searchResultExtractorFactory = protocolDialect.createSearchResultExtractorFactory();
 			scrollTimeout = SCROLL_TIMEOUT.get( propertySource );
+			scrollMode = SCROLL_MODE.get( propertySource );
+			scrollSlices = SCROLL_SLICES.get( propertySource );
 		}
 	}
 
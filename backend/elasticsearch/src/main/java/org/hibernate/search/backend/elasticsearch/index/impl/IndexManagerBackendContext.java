@@ -24,6 +24,7 @@
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchIndexesContext;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionBackendContext;
+import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchMultiSearchExecutor;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchQueryBuilder;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.SearchBackendContext;
 import org.hibernate.search.backend.elasticsearch.work.execution.impl.ElasticsearchIndexIndexer;
@@ -60,6 +61,7 @@ public class IndexManagerBackendContext implements SearchBackendContext, WorkExe
 	private final ElasticsearchParallelWorkOrchestrator generalPurposeOrchestrator;
 
 	private final SearchProjectionBackendContext searchProjectionBackendContext;
+	private final ElasticsearchMultiSearchExecutor multiSearchExecutor;
 
 	public IndexManagerBackendContext(ElasticsearchBackend backendAPI,
 			EventContext eventContext,
@@ -85,6 +87,7 @@ public IndexManagerBackendContext(ElasticsearchBackend backendAPI,
 				typeNameMapping.getTypeNameExtractionHelper(),
 				multiTenancyStrategy.idProjectionExtractionHelper()
 		);
+		this.multiSearchExecutor = new ElasticsearchMultiSearchExecutor( link, generalPurposeOrchestrator );
 	}
 
 	@Override
@@ -157,9 +160,9 @@ public <H> ElasticsearchSearchQueryBuilder<H> createSearchQueryBuilder(
 		multiTenancyStrategy.documentIdHelper().checkTenantId( sessionContext.tenantIdentifier(), eventContext );
 		return new ElasticsearchSearchQueryBuilder<>(
 				link.getWorkBuilderFactory(), link.getSearchResultExtractorFactory(),
-				generalPurposeOrchestrator,
+				generalPurposeOrchestrator, multiSearchExecutor,
 				searchContext, sessionContext, loadingContextBuilder, rootProjection,
-				link.getScrollTimeout()
+				link.getScrollTimeout(), link.getScrollMode(), link.getScrollSlices()
 		);
 	}
 
@@ -47,6 +47,7 @@
 import org.jboss.logging.annotations.ValidIdRange;
 import org.jboss.logging.annotations.ValidIdRanges;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import org.apache.http.HttpHost;
@@ -725,4 +726,45 @@ SearchException customIndexSettingsJsonSyntaxErrors(String filePath, @Cause Exce
 	@Message(id = ID_OFFSET + 136, value = "Invalid use of 'missing().use(...)' for a distance sort. Elasticsearch always assumes missing values have a distance of '+Infinity', and this behavior cannot be customized.")
 	SearchException missingAsOnSortNotSupported(@Param EventContext context);
 
+	@Message(id = ID_OFFSET + 137,
+			// Note: no need to add a '\n' before "Response", since the formatter will always add one
+			value = "Elasticsearch request failed for a query executed as part of a multi-search: %3$s\nRequest metadata: %1$sResponse: %2$s")
+	SearchException elasticsearchMultiSearchItemFailed(
+			@FormatWith(ElasticsearchJsonObjectFormatter.class) JsonObject requestMetadata,
+			@FormatWith(ElasticsearchJsonObjectFormatter.class) JsonObject response,
+			String causeMessage, @Cause Exception cause);
+
+	@LogMessage(level = Level.DEBUG)
+	@Message(id = ID_OFFSET + 138,
+			value = "Elasticsearch rejected %1$d out of %2$d items of a bulk request because it is overloaded."
+					+ " Retrying these items in %3$dms (retry %4$d of %5$d).")
+	void retryingRejectedBulkItems(int rejectedItemCount, int itemCount, long delayMillis,
+			int attempt, int maxRetries);
+
+	@LogMessage(level = Level.DEBUG)
+	@Message(id = ID_OFFSET + 139,
+			value = "Unable to retry %1$d items of a bulk request rejected by Elasticsearch: %2$s")
+	void failedToRetryRejectedBulkItems(int rejectedItemCount, String causeMessage, @Cause Throwable cause);
+
+	@LogMessage(level = Level.DEBUG)
+	@Message(id = ID_OFFSET + 140,
+			value = "Indexing orchestrator '%1$s' retried %2$d bulk items rejected by Elasticsearch;"
+					+ " %3$d items were still rejected after all retries.")
+	void rejectedBulkItemRetryStatistics(String orchestratorName, long retriedItemCount, long exhaustedItemCount);
+
+	@Message(id = ID_OFFSET + 141, value = "Invalid scroll mode: '%1$s'."
+			+ " Valid modes are: %2$s.")
+	SearchException invalidScrollMode(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET + 142,
+			value = "Unable to scroll with %1$d slices: slicing requires the 'search-after' scroll mode"
+					+ " and a version of Elasticsearch that supports points in time (7.12 or later).")
+	SearchException cannotSliceScrollWithoutPointInTime(int sliceCount);
+
+	@Message(id = ID_OFFSET + 143,
+			value = "Unable to scroll with %1$d slices: slices are retrieved independently and cannot preserve the order of hits,"
+					+ " so slicing requires the query to be sorted by index order only ('f.indexOrder()'), but the query sort is '%2$s'."
+					+ " Either sort the query by index order only, or set the number of scroll slices to 1.")
+	SearchException cannotSliceScrollWithSort(int sliceCount, JsonArray sort);
+
 }
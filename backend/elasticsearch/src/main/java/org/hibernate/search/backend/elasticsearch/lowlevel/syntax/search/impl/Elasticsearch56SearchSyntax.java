@@ -26,6 +26,11 @@ public String getTermAggregationOrderByTermToken() {
 		return "_term"; // _key in ES6.0+
 	}
 
+	@Override
+	public String getDocumentIdentifierSortField() {
+		return "_uid"; // _id is not sortable before ES6.0
+	}
+
 	@Override
 	public void requestNestedSort(List<String> nestedPathHierarchy, JsonObject innerObject, JsonObject filterOrNull) {
 		// the old api requires only the last path (the deepest one)
@@ -32,6 +32,11 @@ public String getTermAggregationOrderByTermToken() {
 		return "_key";
 	}
 
+	@Override
+	public String getDocumentIdentifierSortField() {
+		return "_id";
+	}
+
 	@Override
 	public void requestDocValues(JsonObject requestBody, JsonPrimitive fieldName) {
 		// The default format is the format defined in the mapping, which is what we want
@@ -19,4 +19,10 @@ public interface ElasticsearchSearchSyntax {
 
 	void requestNestedSort(List<String> nestedPathHierarchy, JsonObject innerObject, JsonObject filterOrNull);
 
+	/**
+	 * @return The name of a field that is unique for each document and can be sorted on,
+	 * to be used as a tiebreaker when paging with "search_after" without a point in time.
+	 */
+	String getDocumentIdentifierSortField();
+
 }
@@ -0,0 +1,91 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Adapts the maximum number of works in each bulk to the observed behavior of the Elasticsearch cluster.
+ * <p>
+ * The maximum bulk size is halved whenever a bulk is rejected or fails
+ * (e.g. because the cluster is overloaded and responds with HTTP 429),
+ * reduced by a quarter whenever a bulk takes longer than the target latency,
+ * and increased by a tenth whenever a full bulk completes within the target latency,
+ * without ever exceeding the configured maximum bulk size.
+ * Shrinking fast and growing slowly lets the bulk size converge on what the cluster can handle.
+ * <p>
+ * This class is thread-safe: a single instance is shared by all queues of an orchestrator,
+ * since they all target the same cluster.
+ */
+final class ElasticsearchAdaptiveBulkSize {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String name;
+	private final int upperBound;
+	private final long targetLatencyNanos;
+
+	private volatile int current;
+
+	/**
+	 * @param name The name of the orchestrator, for logging.
+	 * @param upperBound The maximum number of works in a single bulk; also the initial maximum bulk size.
+	 * @param targetLatencyMillis The bulk request latency to aim for, in milliseconds.
+	 */
+	ElasticsearchAdaptiveBulkSize(String name, int upperBound, long targetLatencyMillis) {
+		this.name = name;
+		this.upperBound = upperBound;
+		this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos( targetLatencyMillis );
+		this.current = upperBound;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[name=" + name + ", current=" + current + ", upperBound=" + upperBound + "]";
+	}
+
+	/**
+	 * @return The current maximum number of works in a single bulk.
+	 */
+	int current() {
+		return current;
+	}
+
+	/**
+	 * @param bulkSize The number of works in the executed bulk.
+	 * @param latencyNanos The time it took to execute the bulk, in nanoseconds.
+	 * @param rejected Whether the bulk failed or some of its items were rejected.
+	 */
+	synchronized void onBulkExecuted(int bulkSize, long latencyNanos, boolean rejected) {
+		int previous = current;
+		int next;
+		if ( rejected ) {
+			next = previous / 2;
+		}
+		else if ( latencyNanos > targetLatencyNanos ) {
+			next = previous - previous / 4;
+		}
+		else if ( bulkSize >= previous ) {
+			// Only grow when the bulk was full: smaller bulks tell us nothing about larger ones.
+			next = previous + Math.max( 1, previous / 10 );
+		}
+		else {
+			return;
+		}
+		next = Math.max( 1, Math.min( upperBound, next ) );
+		if ( next != previous ) {
+			current = next;
+			log.tracef( "%s: changed maximum bulk size from %d to %d after a bulk of %d works"
+					+ " executed in %d ms (rejected: %s)",
+					name, previous, next, bulkSize, TimeUnit.NANOSECONDS.toMillis( latencyNanos ), rejected );
+		}
+	}
+}
@@ -31,6 +31,17 @@ public void markAsFailed(Throwable t) {
 		future.completeExceptionally( t );
 	}
 
+	@Override
+	public Object getCoalescingKey() {
+		return work.getCoalescingKey();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // Works with the same coalescing key are single-document works with the same result type
+	public void markAsSupersededBy(BatchedWork<?> work) {
+		( (ElasticsearchBatchedWork<T>) work ).future.whenComplete( Futures.copyHandler( future ) );
+	}
+
 	String getQueuingKey() {
 		return work.getQueuingKey();
 	}
@@ -6,10 +6,12 @@
  */
 package org.hibernate.search.backend.elasticsearch.orchestration.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
 import org.hibernate.search.backend.elasticsearch.link.impl.ElasticsearchLink;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.resources.impl.BackendThreads;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexingWork;
@@ -19,6 +21,7 @@
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.data.impl.SimpleHashFunction;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 /**
  * An orchestrator sending works to a queue which is processed periodically
@@ -33,6 +36,8 @@
 		extends AbstractElasticsearchWorkOrchestrator<ElasticsearchBatchedWork<?>>
 		implements ElasticsearchSerialWorkOrchestrator {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private static final ConfigurationProperty<Integer> QUEUE_COUNT =
 			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_QUEUE_COUNT )
 					.asInteger()
@@ -51,10 +56,53 @@
 					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<Integer> MAX_BULK_BYTES =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_BYTES )
+					.asInteger()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_BYTES )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> ADAPTIVE_BULK_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_ADAPTIVE_BULK_SIZE )
+					.asBoolean()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_ADAPTIVE_BULK_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> ADAPTIVE_BULK_TARGET_LATENCY =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_ADAPTIVE_BULK_TARGET_LATENCY )
+					.asInteger()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_ADAPTIVE_BULK_TARGET_LATENCY )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> COALESCE_WORKS =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_COALESCE_WORKS )
+					.asBoolean()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_COALESCE_WORKS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> BULK_ITEM_MAX_RETRIES =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_BULK_ITEM_MAX_RETRIES )
+					.asInteger()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_BULK_ITEM_MAX_RETRIES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> BULK_ITEM_RETRY_INITIAL_DELAY =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_BULK_ITEM_RETRY_INITIAL_DELAY )
+					.asInteger()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_BULK_ITEM_RETRY_INITIAL_DELAY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> BULK_ITEM_RETRY_MAX_DELAY =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_BULK_ITEM_RETRY_MAX_DELAY )
+					.asInteger()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_BULK_ITEM_RETRY_MAX_DELAY )
+					.build();
+
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
 
 	private BatchingExecutor<ElasticsearchBatchedWorkProcessor>[] executors;
+	private ElasticsearchBulkItemRetrier retrier;
 
 	/**
 	 * @param name The name of the orchestrator thread (and of this orchestrator when reporting errors)
@@ -81,19 +129,32 @@ public <T> CompletableFuture<T> submit(IndexingWork<T> work) {
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
+		boolean coalesceWorks = COALESCE_WORKS.get( propertySource );
 		int maxBulkSize = MAX_BULK_SIZE.get( propertySource );
+		int maxBulkBytes = MAX_BULK_BYTES.get( propertySource );
+		// Shared by all queues, since they all target the same cluster.
+		ElasticsearchAdaptiveBulkSize adaptiveBulkSize = ADAPTIVE_BULK_SIZE.get( propertySource )
+				? new ElasticsearchAdaptiveBulkSize( name(), maxBulkSize, ADAPTIVE_BULK_TARGET_LATENCY.get( propertySource ) )
+				: null;
+		// Shared by all queues, so that retry statistics are aggregated per orchestrator.
+		retrier = new ElasticsearchBulkItemRetrier( threads.getWorkExecutor(),
+				BULK_ITEM_MAX_RETRIES.get( propertySource ),
+				BULK_ITEM_RETRY_INITIAL_DELAY.get( propertySource ),
+				BULK_ITEM_RETRY_MAX_DELAY.get( propertySource ) );
 
 		ElasticsearchWorkExecutionContext executionContext = createWorkExecutionContext();
 
 		executors = new BatchingExecutor[queueCount];
 		for ( int i = 0; i < executors.length; i++ ) {
 			// Processors are not thread-safe: create one per executor.
-			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext, maxBulkSize );
+			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext,
+					maxBulkSize, maxBulkBytes, adaptiveBulkSize, retrier );
 			executors[i] = new BatchingExecutor<>(
 					name() + " - " + i,
 					processor,
 					queueSize,
 					true,
+					coalesceWorks,
 					failureHandler
 			);
 		}
@@ -123,16 +184,20 @@ protected void doStop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.pushAll( BatchingExecutor::stop, executors );
 		}
+		if ( retrier != null && retrier.retriedItemCount() > 0 ) {
+			log.rejectedBulkItemRetryStatistics( name(), retrier.retriedItemCount(), retrier.exhaustedItemCount() );
+		}
 	}
 
 	private ElasticsearchBatchedWorkProcessor createProcessor(ElasticsearchWorkExecutionContext context,
-			int maxBulkSize) {
+			int maxBulkSize, int maxBulkBytes, ElasticsearchAdaptiveBulkSize adaptiveBulkSize,
+			ElasticsearchBulkItemRetrier retrier) {
 		ElasticsearchWorkSequenceBuilder sequenceBuilder = new ElasticsearchDefaultWorkSequenceBuilder( context );
 		ElasticsearchWorkBulker bulker = new ElasticsearchDefaultWorkBulker(
 				sequenceBuilder,
 				(worksToBulk, refreshStrategy) ->
 						link.getWorkBuilderFactory().bulk( worksToBulk ).refresh( refreshStrategy ).build(),
-				maxBulkSize
+				maxBulkSize, maxBulkBytes, adaptiveBulkSize, retrier
 		);
 		return new ElasticsearchBatchedWorkProcessor( sequenceBuilder, bulker );
 	}
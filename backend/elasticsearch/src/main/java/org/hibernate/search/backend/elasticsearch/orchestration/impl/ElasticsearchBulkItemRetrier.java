@@ -0,0 +1,227 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Re-submits the items of a bulk that Elasticsearch rejected because it was overloaded (HTTP status 429).
+ * <p>
+ * Only the rejected items are re-submitted, in a new bulk,
+ * after a delay that grows exponentially with each attempt and includes a random part,
+ * so that queues rejected at the same time do not retry at the same time.
+ * Items that are still rejected after the maximum number of retries are reported as failed, as usual.
+ * <p>
+ * Retries happen as part of the execution of the original bulk,
+ * so following works in the same sequence, in particular later updates to the same documents,
+ * are only executed after the retries.
+ * <p>
+ * This class is thread-safe: a single instance is shared by all queues of an orchestrator.
+ */
+final class ElasticsearchBulkItemRetrier {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final ScheduledExecutorService scheduler;
+	private final int maxRetries;
+	private final long initialDelayMillis;
+	private final long maxDelayMillis;
+
+	private final LongAdder retriedItemCount = new LongAdder();
+	private final LongAdder exhaustedItemCount = new LongAdder();
+
+	/**
+	 * @param scheduler The executor used to delay retries.
+	 * @param maxRetries The maximum number of times a rejected item is re-submitted.
+	 * @param initialDelayMillis The maximum delay before the first retry, in milliseconds.
+	 * @param maxDelayMillis The maximum delay before any retry, in milliseconds.
+	 */
+	ElasticsearchBulkItemRetrier(ScheduledExecutorService scheduler, int maxRetries,
+			long initialDelayMillis, long maxDelayMillis) {
+		this.scheduler = scheduler;
+		this.maxRetries = maxRetries;
+		this.initialDelayMillis = initialDelayMillis;
+		this.maxDelayMillis = maxDelayMillis;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[maxRetries=" + maxRetries
+				+ ", retriedItemCount=" + retriedItemCount() + ", exhaustedItemCount=" + exhaustedItemCount() + "]";
+	}
+
+	/**
+	 * @return The number of times an item was re-submitted because Elasticsearch rejected it.
+	 */
+	long retriedItemCount() {
+		return retriedItemCount.sum();
+	}
+
+	/**
+	 * @return The number of items that were still rejected after the maximum number of retries.
+	 */
+	long exhaustedItemCount() {
+		return exhaustedItemCount.sum();
+	}
+
+	/**
+	 * @param bulkWork The bulk work to execute.
+	 * @param items The items of the bulk work, in order.
+	 * @param refreshStrategy The refresh strategy of the bulk work.
+	 * @param bulkWorkFactory The factory to use to create bulk works for retried items.
+	 * @return A bulk work that executes the given bulk work, then retries its rejected items if necessary.
+	 */
+	NonBulkableWork<BulkResult> wrap(NonBulkableWork<BulkResult> bulkWork, List<? extends BulkableWork<?>> items,
+			DocumentRefreshStrategy refreshStrategy,
+			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory) {
+		if ( maxRetries <= 0 ) {
+			return bulkWork;
+		}
+		return new RetryingBulkWork( bulkWork, new ArrayList<>( items ), refreshStrategy, bulkWorkFactory );
+	}
+
+	long delayMillis(int attempt) {
+		long exponentialDelay = initialDelayMillis << Math.min( attempt - 1, 30 );
+		if ( exponentialDelay <= 0 || exponentialDelay > maxDelayMillis ) {
+			exponentialDelay = maxDelayMillis;
+		}
+		// Half fixed, half random: delays still grow, but concurrent retries are spread out.
+		long fixedPart = exponentialDelay / 2;
+		return fixedPart + ThreadLocalRandom.current().nextLong( exponentialDelay - fixedPart + 1 );
+	}
+
+	private CompletableFuture<Void> delay(long delayMillis) {
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		scheduler.schedule( () -> future.complete( null ), delayMillis, TimeUnit.MILLISECONDS );
+		return future;
+	}
+
+	private final class RetryingBulkWork implements NonBulkableWork<BulkResult> {
+		private final NonBulkableWork<BulkResult> delegate;
+		private final List<BulkableWork<?>> items;
+		private final DocumentRefreshStrategy refreshStrategy;
+		private final BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory;
+
+		private RetryingBulkWork(NonBulkableWork<BulkResult> delegate, List<BulkableWork<?>> items,
+				DocumentRefreshStrategy refreshStrategy,
+				BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory) {
+			this.delegate = delegate;
+			this.items = items;
+			this.refreshStrategy = refreshStrategy;
+			this.bulkWorkFactory = bulkWorkFactory;
+		}
+
+		@Override
+		public String toString() {
+			return delegate.toString();
+		}
+
+		@Override
+		public CompletableFuture<BulkResult> execute(ElasticsearchWorkExecutionContext context) {
+			return delegate.execute( context )
+					.thenCompose( result -> retryRejectedItems( context, result, 1 ) );
+		}
+
+		private CompletableFuture<BulkResult> retryRejectedItems(ElasticsearchWorkExecutionContext context,
+				BulkResult result, int attempt) {
+			List<Integer> rejectedIndexes = new ArrayList<>();
+			for ( int i = 0; i < items.size(); i++ ) {
+				if ( result.isRejected( i ) ) {
+					rejectedIndexes.add( i );
+				}
+			}
+			if ( rejectedIndexes.isEmpty() ) {
+				return CompletableFuture.completedFuture( result );
+			}
+			if ( attempt > maxRetries ) {
+				exhaustedItemCount.add( rejectedIndexes.size() );
+				return CompletableFuture.completedFuture( result );
+			}
+
+			List<BulkableWork<?>> rejectedItems = new ArrayList<>( rejectedIndexes.size() );
+			for ( Integer index : rejectedIndexes ) {
+				rejectedItems.add( items.get( index ) );
+			}
+			long delayMillis = delayMillis( attempt );
+			log.retryingRejectedBulkItems( rejectedItems.size(), items.size(), delayMillis, attempt, maxRetries );
+			retriedItemCount.add( rejectedItems.size() );
+
+			return Futures.create( () -> delay( delayMillis ) )
+					.thenCompose( ignored -> bulkWorkFactory.apply( rejectedItems, refreshStrategy ).execute( context ) )
+					.handle( (retryResult, throwable) -> {
+						if ( throwable != null ) {
+							// Keep the results we already have: the rejected items will be reported as failed,
+							// but the items that succeeded before will not.
+							log.failedToRetryRejectedBulkItems( rejectedItems.size(), throwable.getMessage(), throwable );
+							exhaustedItemCount.add( rejectedItems.size() );
+							return CompletableFuture.completedFuture( result );
+						}
+						return retryRejectedItems( context,
+								new RetriedBulkResult( result, rejectedIndexes, retryResult ), attempt + 1 );
+					} )
+					.thenCompose( future -> future );
+		}
+	}
+
+	/**
+	 * A bulk result where the results of some items were replaced with the results of a retry.
+	 */
+	private static final class RetriedBulkResult implements BulkResult {
+		private final BulkResult originalResult;
+		private final Map<Integer, Integer> retryIndexByOriginalIndex;
+		private final BulkResult retryResult;
+
+		private RetriedBulkResult(BulkResult originalResult, List<Integer> retriedIndexes, BulkResult retryResult) {
+			this.originalResult = originalResult;
+			this.retryIndexByOriginalIndex = new HashMap<>();
+			for ( int i = 0; i < retriedIndexes.size(); i++ ) {
+				retryIndexByOriginalIndex.put( retriedIndexes.get( i ), i );
+			}
+			this.retryResult = retryResult;
+		}
+
+		@Override
+		public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index) {
+			Integer retryIndex = retryIndexByOriginalIndex.get( index );
+			return retryIndex == null
+					? originalResult.extract( context, work, index )
+					: retryResult.extract( context, work, retryIndex );
+		}
+
+		@Override
+		public boolean hasRejectedItems() {
+			return retryResult.hasRejectedItems();
+		}
+
+		@Override
+		public boolean isRejected(int index) {
+			Integer retryIndex = retryIndexByOriginalIndex.get( index );
+			return retryIndex == null
+					? originalResult.isRejected( index )
+					: retryResult.isRejected( retryIndex );
+		}
+	}
+}
@@ -8,21 +8,32 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
 class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 
 	private final ElasticsearchWorkSequenceBuilder sequenceBuilder;
 	private final BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory;
 	private final int maxBulkSize;
+	private final long maxBulkBytes;
+	private final ElasticsearchAdaptiveBulkSize adaptiveBulkSize;
+	private final ElasticsearchBulkItemRetrier retrier;
 
 	private final List<BulkableWork<?>> currentBulkItems;
+	private long currentBulkBytes;
 	private DocumentRefreshStrategy currentBulkRefreshStrategy;
 	private CompletableFuture<NonBulkableWork<BulkResult>> currentBulkWorkFuture;
 	private CompletableFuture<BulkResult> currentBulkResultFuture;
@@ -37,9 +48,32 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
 			int maxBulkSize) {
+		this( sequenceBuilder, bulkWorkFactory, maxBulkSize, Long.MAX_VALUE, null, null );
+	}
+
+	/**
+	 * @param sequenceBuilder The sequence builder to add works to
+	 * @param bulkWorkFactory The factory for bulk works
+	 * @param maxBulkSize Maximum number of works in a single bulk.
+	 * If a bulk reaches this size, it will be automatically
+	 * {@link #finalizeBulkWork() finalized}.
+	 * @param maxBulkBytes Maximum estimated size of a single bulk, in bytes.
+	 * If adding a work would make a bulk exceed this size,
+	 * the bulk will be automatically {@link #finalizeBulkWork() finalized} before the work is added.
+	 * @param adaptiveBulkSize A controller adapting the maximum number of works in a single bulk
+	 * to the observed execution of bulks, or {@code null} to always use {@code maxBulkSize}.
+	 * @param retrier A retrier for bulk items rejected by Elasticsearch, or {@code null} to never retry.
+	 */
+	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
+			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
+			int maxBulkSize, long maxBulkBytes, ElasticsearchAdaptiveBulkSize adaptiveBulkSize,
+			ElasticsearchBulkItemRetrier retrier) {
 		this.sequenceBuilder = sequenceBuilder;
 		this.bulkWorkFactory = bulkWorkFactory;
 		this.maxBulkSize = maxBulkSize;
+		this.maxBulkBytes = maxBulkBytes;
+		this.adaptiveBulkSize = adaptiveBulkSize;
+		this.retrier = retrier;
 
 		this.currentBulkItems = new ArrayList<>();
 		this.currentBulkWorkFuture = null;
@@ -58,6 +92,16 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 			currentBulkRefreshStrategy = workRefreshStrategy;
 		}
 
+		if ( maxBulkBytes != Long.MAX_VALUE ) {
+			long workBytes = estimateSize( work );
+			if ( !currentBulkItems.isEmpty() && currentBulkBytes + workBytes > maxBulkBytes ) {
+				// This work would make the bulk too large; send the current bulk without it.
+				finalizeBulkWork();
+				currentBulkRefreshStrategy = workRefreshStrategy;
+			}
+			currentBulkBytes += workBytes;
+		}
+
 		if ( currentBulkWorkFuture == null ) {
 			currentBulkWorkFuture = new CompletableFuture<>();
 			currentBulkResultFuture = sequenceBuilder.addBulkExecution( currentBulkWorkFuture );
@@ -70,7 +114,7 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 				currentBulkResultFuture, work, currentBulkWorkIndex
 		);
 
-		if ( currentBulkItems.size() >= maxBulkSize ) {
+		if ( currentBulkItems.size() >= currentMaxBulkSize() || currentBulkBytes >= maxBulkBytes ) {
 			finalizeBulkWork();
 		}
 
@@ -85,6 +129,12 @@ public void finalizeBulkWork() {
 		}
 
 		NonBulkableWork<BulkResult> bulkWork = bulkWorkFactory.apply( currentBulkItems, currentBulkRefreshStrategy );
+		if ( adaptiveBulkSize != null ) {
+			bulkWork = new ObservedBulkWork( bulkWork, currentBulkItems.size(), adaptiveBulkSize );
+		}
+		if ( retrier != null ) {
+			bulkWork = retrier.wrap( bulkWork, currentBulkItems, currentBulkRefreshStrategy, bulkWorkFactory );
+		}
 		currentBulkWorkFuture.complete( bulkWork );
 		reset();
 	}
@@ -92,8 +142,93 @@ public void finalizeBulkWork() {
 	@Override
 	public void reset() {
 		this.currentBulkItems.clear();
+		this.currentBulkBytes = 0L;
 		this.currentBulkRefreshStrategy = null;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
 	}
+
+	private int currentMaxBulkSize() {
+		return adaptiveBulkSize == null ? maxBulkSize : adaptiveBulkSize.current();
+	}
+
+	/**
+	 * Estimates the size of a work in a bulk request, in bytes,
+	 * without serializing it: serialization will only happen once, when sending the request.
+	 * The estimate ignores escaping and assumes one byte per character,
+	 * which is exact for most JSON produced by Hibernate Search.
+	 */
+	private static long estimateSize(BulkableWork<?> work) {
+		// +1 for each line feed
+		long size = estimateSize( work.getBulkableActionMetadata() ) + 1;
+		JsonObject body = work.getBulkableActionBody();
+		if ( body != null ) {
+			size += estimateSize( body ) + 1;
+		}
+		return size;
+	}
+
+	private static long estimateSize(JsonElement element) {
+		if ( element == null || element.isJsonNull() ) {
+			return 4; // null
+		}
+		else if ( element.isJsonObject() ) {
+			JsonObject object = element.getAsJsonObject();
+			long size = 2 + Math.max( 0, object.size() - 1 ); // braces and commas
+			for ( Map.Entry<String, JsonElement> member : object.entrySet() ) {
+				size += member.getKey().length() + 3; // quotes and colon
+				size += estimateSize( member.getValue() );
+			}
+			return size;
+		}
+		else if ( element.isJsonArray() ) {
+			JsonArray array = element.getAsJsonArray();
+			long size = 2 + Math.max( 0, array.size() - 1 ); // brackets and commas
+			for ( JsonElement item : array ) {
+				size += estimateSize( item );
+			}
+			return size;
+		}
+		else {
+			JsonPrimitive primitive = element.getAsJsonPrimitive();
+			if ( primitive.isString() ) {
+				return primitive.getAsString().length() + 2; // quotes
+			}
+			else {
+				// Numbers are short; booleans are 4 or 5 characters
+				return 8;
+			}
+		}
+	}
+
+	/**
+	 * A bulk work that reports its execution to the {@link ElasticsearchAdaptiveBulkSize}.
+	 */
+	private static final class ObservedBulkWork implements NonBulkableWork<BulkResult> {
+		private final NonBulkableWork<BulkResult> delegate;
+		private final int bulkSize;
+		private final ElasticsearchAdaptiveBulkSize adaptiveBulkSize;
+
+		private ObservedBulkWork(NonBulkableWork<BulkResult> delegate, int bulkSize,
+				ElasticsearchAdaptiveBulkSize adaptiveBulkSize) {
+			this.delegate = delegate;
+			this.bulkSize = bulkSize;
+			this.adaptiveBulkSize = adaptiveBulkSize;
+		}
+
+		@Override
+		public String toString() {
+			return delegate.toString();
+		}
+
+		@Override
+		public CompletableFuture<BulkResult> execute(ElasticsearchWorkExecutionContext context) {
+			long start = System.nanoTime();
+			return delegate.execute( context )
+					.whenComplete( (result, throwable) -> adaptiveBulkSize.onBulkExecuted(
+							bulkSize, System.nanoTime() - start,
+							throwable != null || result.hasRejectedItems()
+					) );
+		}
+	}
 }
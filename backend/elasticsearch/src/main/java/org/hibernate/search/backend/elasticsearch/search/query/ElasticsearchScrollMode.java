@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.engine.cfg.spi.ParseUtils;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * The way {@link ElasticsearchSearchScroll scrolls} retrieve successive chunks of hits from Elasticsearch.
+ */
+public enum ElasticsearchScrollMode {
+
+	/**
+	 * Use the scroll API.
+	 * <p>
+	 * Elasticsearch keeps a search context open on the cluster for each scroll,
+	 * until the scroll is closed or times out.
+	 */
+	SCROLL("scroll"),
+
+	/**
+	 * Use successive searches relying on {@code search_after},
+	 * on a point in time if the version of Elasticsearch supports it (7.12 and later).
+	 * <p>
+	 * With a point in time, a single lightweight search context is kept open on the cluster for each scroll,
+	 * and results are consistent with the state of the index when the scroll started.
+	 * Without a point in time, no context is kept open on the cluster at all,
+	 * but changes to the index while scrolling may be reflected in the results.
+	 */
+	SEARCH_AFTER("search-after");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static ElasticsearchScrollMode of(String value) {
+		return ParseUtils.parseDiscreteValues(
+				ElasticsearchScrollMode.values(),
+				ElasticsearchScrollMode::externalRepresentation,
+				log::invalidScrollMode,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	ElasticsearchScrollMode(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	public String externalRepresentation() {
+		return externalRepresentation;
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.link.impl.ElasticsearchLink;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.spi.MultiSearchExecutor;
+import org.hibernate.search.engine.search.query.spi.MultiSearchRequest;
+import org.hibernate.search.util.common.impl.Futures;
+
+/**
+ * Executes multiple queries in a single {@code _msearch} request.
+ * <p>
+ * Queries relying on a request transformer cannot be part of a multi-search request,
+ * because the transformer expects a standalone search request:
+ * those queries are simply executed separately.
+ */
+public class ElasticsearchMultiSearchExecutor implements MultiSearchExecutor {
+
+	private final ElasticsearchLink link;
+	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+
+	public ElasticsearchMultiSearchExecutor(ElasticsearchLink link,
+			ElasticsearchParallelWorkOrchestrator queryOrchestrator) {
+		this.link = link;
+		this.queryOrchestrator = queryOrchestrator;
+	}
+
+	@Override
+	public List<SearchResult<?>> fetch(List<MultiSearchRequest<?>> requests) {
+		SearchResult<?>[] results = new SearchResult<?>[requests.size()];
+
+		List<Item<?>> items = new ArrayList<>();
+		List<SearchWork<?>> works = new ArrayList<>();
+		List<Integer> standaloneIndexes = new ArrayList<>();
+		try {
+			for ( int i = 0; i < requests.size(); i++ ) {
+				MultiSearchRequest<?> request = requests.get( i );
+				if ( ( (ElasticsearchSearchQueryImpl<?>) request.query() ).hasRequestTransformer() ) {
+					standaloneIndexes.add( i );
+				}
+				else {
+					Item<?> item = Item.start( i, request );
+					items.add( item );
+					works.add( item.work );
+				}
+			}
+
+			if ( !items.isEmpty() ) {
+				NonBulkableWork<MultiSearchResult> work = link.getWorkBuilderFactory().multiSearch( works ).build();
+				MultiSearchResult multiSearchResult = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+				for ( int i = 0; i < items.size(); i++ ) {
+					Item<?> item = items.get( i );
+					// Loading happens in the calling thread, one query at a time
+					results[item.requestIndex] = item.complete( multiSearchResult, i );
+				}
+			}
+		}
+		finally {
+			// Stop the timeouts of all started items, even if the multi-search request failed as a whole.
+			for ( Item<?> item : items ) {
+				item.stop();
+			}
+		}
+
+		for ( Integer i : standaloneIndexes ) {
+			MultiSearchRequest<?> request = requests.get( i );
+			results[i] = request.query().fetch( request.offset(), request.limit() );
+		}
+
+		return Arrays.asList( results );
+	}
+
+	private static final class Item<H> {
+
+		@SuppressWarnings("unchecked") // This executor is only used for Elasticsearch queries
+		static <H> Item<H> start(int requestIndex, MultiSearchRequest<H> request) {
+			ElasticsearchSearchQueryImpl<H> query = (ElasticsearchSearchQueryImpl<H>) request.query();
+			return new Item<>( requestIndex, query,
+					query.startMultiSearchItem( request.offset(), request.limit() ) );
+		}
+
+		private final int requestIndex;
+		private final ElasticsearchSearchQueryImpl<H> query;
+		private final SearchWork<ElasticsearchLoadableSearchResult<H>> work;
+
+		private Item(int requestIndex, ElasticsearchSearchQueryImpl<H> query,
+				SearchWork<ElasticsearchLoadableSearchResult<H>> work) {
+			this.requestIndex = requestIndex;
+			this.query = query;
+			this.work = work;
+		}
+
+		SearchResult<H> complete(MultiSearchResult multiSearchResult, int indexInMultiSearch) {
+			return query.completeMultiSearchItem( multiSearchResult.extract( work, indexInMultiSearch ) );
+		}
+
+		void stop() {
+			query.stopMultiSearchItem();
+		}
+	}
+}
@@ -0,0 +1,227 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScroll;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchScrollResult;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.OpenPointInTimeWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchResultTotal;
+import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
+import org.hibernate.search.util.common.impl.Futures;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * A scroll that pages through hits with "search_after",
+ * optionally on a point in time and split into slices retrieved in parallel.
+ * <p>
+ * Unlike {@link ElasticsearchSearchScrollImpl}, this does not keep a search context open on the cluster
+ * between two calls to {@link #next()}, except for the point in time, which is much lighter.
+ */
+public class ElasticsearchSearchAfterScrollImpl<H> implements ElasticsearchSearchScroll<H> {
+
+	private static final JsonAccessor<JsonArray> HITS_HITS_ACCESSOR =
+			JsonAccessor.root().property( "hits" ).property( "hits" ).asArray();
+	private static final JsonAccessor<JsonArray> SORT_ACCESSOR =
+			JsonAccessor.root().property( "sort" ).asArray();
+	private static final JsonAccessor<String> POINT_IN_TIME_ID_ACCESSOR =
+			JsonAccessor.root().property( "pit_id" ).asString();
+
+	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+	private final ElasticsearchWorkBuilderFactory workFactory;
+	private final Function<JsonObject, SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>>> searchWorkBuilderFactory;
+	private final JsonObject payload;
+	private final Collection<URLEncodedString> indexNames;
+	private final Set<String> routingKeys;
+	private final String pointInTimeKeepAlive;
+	private final TimeoutManager timeoutManager;
+	private final List<Slice> slices;
+
+	private boolean started;
+	private String pointInTimeId;
+
+	/**
+	 * @param payload The search payload, whose sort must end with a tiebreaker.
+	 * @param pointInTimeKeepAlive The keep-alive of the point in time, or {@code null} not to use a point in time.
+	 * @param chunkSize The maximum number of hits to return from each call to {@link #next()}.
+	 * @param sliceCount The number of slices; must be {@code 1} when not using a point in time.
+	 */
+	public ElasticsearchSearchAfterScrollImpl(ElasticsearchParallelWorkOrchestrator queryOrchestrator,
+			ElasticsearchWorkBuilderFactory workFactory,
+			Function<JsonObject, SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>>> searchWorkBuilderFactory,
+			JsonObject payload, Collection<URLEncodedString> indexNames, Set<String> routingKeys,
+			String pointInTimeKeepAlive, int chunkSize, int sliceCount,
+			TimeoutManager timeoutManager) {
+		this.queryOrchestrator = queryOrchestrator;
+		this.workFactory = workFactory;
+		this.searchWorkBuilderFactory = searchWorkBuilderFactory;
+		this.payload = payload;
+		this.indexNames = indexNames;
+		this.routingKeys = routingKeys;
+		this.pointInTimeKeepAlive = pointInTimeKeepAlive;
+		this.timeoutManager = timeoutManager;
+
+		// Never request less than one hit per slice
+		int effectiveSliceCount = Math.max( 1, Math.min( sliceCount, chunkSize ) );
+		int sliceChunkSize = chunkSize / effectiveSliceCount;
+		this.slices = new ArrayList<>( effectiveSliceCount );
+		for ( int i = 0; i < effectiveSliceCount; i++ ) {
+			slices.add( new Slice( effectiveSliceCount == 1 ? null : i, effectiveSliceCount, sliceChunkSize ) );
+		}
+	}
+
+	@Override
+	public void close() {
+		if ( pointInTimeId != null ) {
+			Futures.unwrappedExceptionJoin( queryOrchestrator.submit(
+					workFactory.closePointInTime( pointInTimeId ).build() ) );
+			pointInTimeId = null;
+		}
+	}
+
+	@Override
+	public ElasticsearchSearchScrollResult<H> next() {
+		timeoutManager.start();
+		try {
+			if ( !started ) {
+				started = true;
+				if ( pointInTimeKeepAlive != null ) {
+					pointInTimeId = openPointInTime();
+				}
+			}
+
+			List<Slice> activeSlices = new ArrayList<>( slices.size() );
+			List<CompletableFuture<ElasticsearchLoadableSearchResult<H>>> futures = new ArrayList<>( slices.size() );
+			for ( Slice slice : slices ) {
+				if ( slice.exhausted ) {
+					continue;
+				}
+				activeSlices.add( slice );
+				// Submit all slices before waiting for any of them, so that they execute in parallel.
+				futures.add( queryOrchestrator.submit( slice.nextWork() ) );
+			}
+
+			List<H> hits = new ArrayList<>();
+			boolean hasHits = false;
+			Duration took = null;
+			boolean timedOut = false;
+			for ( int i = 0; i < activeSlices.size(); i++ ) {
+				Slice slice = activeSlices.get( i );
+				ElasticsearchLoadableSearchResult<H> loadableSearchResult = Futures.unwrappedExceptionJoin( futures.get( i ) );
+				ElasticsearchSearchResultImpl<H> searchResult = loadableSearchResult.loadBlocking();
+				slice.onResult( loadableSearchResult.hasHits(), searchResult );
+
+				hits.addAll( searchResult.hits() );
+				hasHits = hasHits || loadableSearchResult.hasHits();
+				Duration sliceTook = searchResult.took();
+				// Slices execute in parallel: the slowest one determines the overall duration.
+				if ( took == null || sliceTook != null && sliceTook.compareTo( took ) > 0 ) {
+					took = sliceTook;
+				}
+				timedOut = timedOut || searchResult.timedOut();
+			}
+
+			return new ElasticsearchSearchScrollResultImpl<>( total(), hasHits, hits, took, timedOut );
+		}
+		finally {
+			timeoutManager.stop();
+		}
+	}
+
+	private String openPointInTime() {
+		OpenPointInTimeWorkBuilder builder = workFactory.openPointInTime( pointInTimeKeepAlive );
+		for ( URLEncodedString indexName : indexNames ) {
+			builder.index( indexName );
+		}
+		builder.routingKeys( routingKeys );
+		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( builder.build() ) );
+	}
+
+	private SearchResultTotal total() {
+		long hitCount = 0L;
+		boolean exact = true;
+		for ( Slice slice : slices ) {
+			if ( slice.total == null ) {
+				// Not executed yet: cannot happen after the first call to next()
+				return SimpleSearchResultTotal.lowerBound( hitCount );
+			}
+			hitCount += slice.total.hitCountLowerBound();
+			exact = exact && slice.total.isHitCountExact();
+		}
+		return SimpleSearchResultTotal.of( hitCount, exact );
+	}
+
+	private final class Slice {
+		private final Integer id;
+		private final int count;
+		private final int chunkSize;
+
+		private JsonArray searchAfter;
+		private SearchResultTotal total;
+		private boolean exhausted;
+
+		private Slice(Integer id, int count, int chunkSize) {
+			this.id = id;
+			this.count = count;
+			this.chunkSize = chunkSize;
+		}
+
+		SearchWork<ElasticsearchLoadableSearchResult<H>> nextWork() {
+			SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> builder = searchWorkBuilderFactory.apply( payload )
+					.paging( chunkSize, null );
+			if ( pointInTimeId != null ) {
+				builder.pointInTime( pointInTimeId, pointInTimeKeepAlive );
+			}
+			if ( id != null ) {
+				builder.slice( id, count );
+			}
+			if ( searchAfter != null ) {
+				builder.searchAfter( searchAfter )
+						// The total hit count was computed on the first page already
+						.disableTrackTotalHits();
+			}
+			return builder.build();
+		}
+
+		void onResult(boolean hasHits, ElasticsearchSearchResultImpl<H> result) {
+			if ( total == null ) {
+				total = result.total();
+			}
+			JsonObject responseBody = result.responseBody();
+			// The point in time ID may change from one request to the next: always use the latest one.
+			POINT_IN_TIME_ID_ACCESSOR.get( responseBody ).ifPresent( id -> pointInTimeId = id );
+			JsonArray jsonHits = HITS_HITS_ACCESSOR.get( responseBody ).orElse( null );
+			if ( !hasHits || jsonHits == null || jsonHits.size() == 0 ) {
+				exhausted = true;
+				return;
+			}
+			JsonElement lastHit = jsonHits.get( jsonHits.size() - 1 );
+			searchAfter = SORT_ACCESSOR.get( lastHit.getAsJsonObject() ).orElse( null );
+			if ( searchAfter == null || !result.timedOut() && jsonHits.size() < chunkSize ) {
+				// A full page is returned as long as there are more hits: this was the last page.
+				exhausted = true;
+			}
+		}
+	}
+}
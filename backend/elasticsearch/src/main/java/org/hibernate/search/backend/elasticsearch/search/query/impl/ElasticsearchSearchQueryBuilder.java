@@ -25,6 +25,7 @@
 import org.hibernate.search.backend.elasticsearch.search.predicate.impl.PredicateRequestContext;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.DistanceSortKey;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchScrollMode;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchQuery;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
@@ -55,6 +56,7 @@
 	private final ElasticsearchWorkBuilderFactory workFactory;
 	private final ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory;
 	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+	private final ElasticsearchMultiSearchExecutor multiSearchExecutor;
 
 	private final ElasticsearchSearchContext searchContext;
 	private final BackendSessionContext sessionContext;
@@ -63,6 +65,8 @@
 	private final SearchLoadingContextBuilder<?, ?, ?> loadingContextBuilder;
 	private final ElasticsearchSearchProjection<?, H> rootProjection;
 	private final Integer scrollTimeout;
+	private final ElasticsearchScrollMode scrollMode;
+	private final int scrollSlices;
 
 	private final Set<String> routingKeys;
 	private JsonObject jsonPredicate;
@@ -79,14 +83,16 @@ public ElasticsearchSearchQueryBuilder(
 			ElasticsearchWorkBuilderFactory workFactory,
 			ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory,
 			ElasticsearchParallelWorkOrchestrator queryOrchestrator,
+			ElasticsearchMultiSearchExecutor multiSearchExecutor,
 			ElasticsearchSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			SearchLoadingContextBuilder<?, ?, ?> loadingContextBuilder,
 			ElasticsearchSearchProjection<?, H> rootProjection,
-			Integer scrollTimeout) {
+			Integer scrollTimeout, ElasticsearchScrollMode scrollMode, int scrollSlices) {
 		this.workFactory = workFactory;
 		this.searchResultExtractorFactory = searchResultExtractorFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.multiSearchExecutor = multiSearchExecutor;
 
 		this.searchContext = searchContext;
 		this.sessionContext = sessionContext;
@@ -96,6 +102,8 @@ public ElasticsearchSearchQueryBuilder(
 		this.loadingContextBuilder = loadingContextBuilder;
 		this.rootProjection = rootProjection;
 		this.scrollTimeout = scrollTimeout;
+		this.scrollMode = scrollMode;
+		this.scrollSlices = scrollSlices;
 	}
 
 	@Override
@@ -230,12 +238,12 @@ public ElasticsearchSearchQuery<H> build() {
 				);
 
 		return new ElasticsearchSearchQueryImpl<>(
-				workFactory, queryOrchestrator,
+				workFactory, queryOrchestrator, multiSearchExecutor,
 				searchContext, sessionContext, loadingContext, routingKeys,
 				payload, requestTransformer,
 				searchResultExtractor,
 				timeoutManager,
-				scrollTimeout, totalHitCountThreshold
+				scrollTimeout, scrollMode, scrollSlices, totalHitCountThreshold
 		);
 	}
 }
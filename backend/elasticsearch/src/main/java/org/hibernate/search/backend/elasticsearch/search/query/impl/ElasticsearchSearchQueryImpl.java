@@ -7,10 +7,13 @@
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
@@ -18,6 +21,7 @@
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchIndexContext;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchScrollMode;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchQuery;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchRequestTransformer;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
@@ -28,6 +32,7 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.ExplainResult;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.backend.types.converter.runtime.spi.ToDocumentIdentifierValueConvertContext;
@@ -35,12 +40,15 @@
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
+import org.hibernate.search.engine.search.query.spi.MultiSearchExecutor;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
@@ -55,8 +63,11 @@
 	 */
 	private static final int MAX_RESULT_WINDOW_SIZE = 10000;
 
+	private static final JsonAccessor<JsonArray> SORT_ACCESSOR = JsonAccessor.root().property( "sort" ).asArray();
+
 	private final ElasticsearchWorkBuilderFactory workFactory;
 	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+	private final ElasticsearchMultiSearchExecutor multiSearchExecutor;
 	private final ElasticsearchSearchContext searchContext;
 	private final BackendSessionContext sessionContext;
 	private final SearchLoadingContext<?, ?> loadingContext;
@@ -65,12 +76,15 @@
 	private final ElasticsearchSearchRequestTransformer requestTransformer;
 	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
 	private final Integer scrollTimeout;
+	private final ElasticsearchScrollMode scrollMode;
+	private final int scrollSlices;
 	private final Long totalHitCountThreshold;
 
 	private TimeoutManager timeoutManager;
 
 	ElasticsearchSearchQueryImpl(ElasticsearchWorkBuilderFactory workFactory,
 			ElasticsearchParallelWorkOrchestrator queryOrchestrator,
+			ElasticsearchMultiSearchExecutor multiSearchExecutor,
 			ElasticsearchSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			SearchLoadingContext<?, ?> loadingContext,
@@ -78,9 +92,11 @@
 			JsonObject payload,
 			ElasticsearchSearchRequestTransformer requestTransformer,
 			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
-			TimeoutManager timeoutManager, Integer scrollTimeout, Long totalHitCountThreshold) {
+			TimeoutManager timeoutManager, Integer scrollTimeout, ElasticsearchScrollMode scrollMode, int scrollSlices,
+			Long totalHitCountThreshold) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.multiSearchExecutor = multiSearchExecutor;
 		this.searchContext = searchContext;
 		this.sessionContext = sessionContext;
 		this.loadingContext = loadingContext;
@@ -90,6 +106,8 @@
 		this.searchResultExtractor = searchResultExtractor;
 		this.timeoutManager = timeoutManager;
 		this.scrollTimeout = scrollTimeout;
+		this.scrollMode = scrollMode;
+		this.scrollSlices = scrollSlices;
 		this.totalHitCountThreshold = totalHitCountThreshold;
 	}
 
@@ -113,19 +131,14 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 	@Override
 	public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
 		timeoutManager.start();
-		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder()
-				.paging( defaultedLimit( limit, offset ), offset )
-				.totalHitCountThreshold( totalHitCountThreshold )
-				.build();
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = fetchWork( timeoutManager, offset, limit, true );
 
 		ElasticsearchSearchResultImpl<H> result = Futures.unwrappedExceptionJoin(
 				queryOrchestrator.submit( work ) )
 				/*
 				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async query execution, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * Asynchronous query execution goes through fetchAsync instead,
+				 * which loads hits in the executor provided by the user.
 				 */
 				.loadBlocking();
 		timeoutManager.stop();
@@ -135,19 +148,14 @@ public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
 	@Override
 	public List<H> fetchHits(Integer offset, Integer limit) {
 		timeoutManager.start();
-		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = searchWorkBuilder()
-				.paging( defaultedLimit( limit, offset ), offset )
-				.disableTrackTotalHits()
-				.build();
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = fetchWork( timeoutManager, offset, limit, false );
 
 		ElasticsearchSearchResultImpl<H> result = Futures.unwrappedExceptionJoin(
 				queryOrchestrator.submit( work ) )
 				/*
 				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async query execution, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * Asynchronous query execution goes through fetchHitsAsync instead,
+				 * which loads hits in the executor provided by the user.
 				 */
 				.loadBlocking();
 		timeoutManager.stop();
@@ -157,33 +165,55 @@ public List<H> fetchHits(Integer offset, Integer limit) {
 	@Override
 	public long fetchTotalHitCount() {
 		timeoutManager.start();
-
-		JsonObject filteredPayload = new JsonObject();
-		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
-		if ( querySubTree.isPresent() ) {
-			filteredPayload.add( "query", querySubTree.get() );
-		}
-
-		CountWorkBuilder builder = workFactory.count();
-		for ( ElasticsearchSearchIndexContext index : searchContext.indexes().elements() ) {
-			builder.index( index.names().read() );
-		}
-		builder.query( filteredPayload )
-				.routingKeys( routingKeys )
-				// soft timeout has no meaning for a count work
-				.deadline( timeoutManager.hardDeadlineOrNull() )
-				.requestTransformer(
-						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
-				);
-		NonBulkableWork<Long> work = builder.build();
+		NonBulkableWork<Long> work = countWork( timeoutManager );
 		Long result = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
 		timeoutManager.stop();
 		return result;
 	}
 
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit, Executor loadingExecutor) {
+		return doFetchAsync( offset, limit, true, loadingExecutor );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit, Executor loadingExecutor) {
+		return doFetchAsync( offset, limit, false, loadingExecutor ).thenApply( SearchResult::hits );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		// Asynchronous executions may run concurrently: each needs its own timeout manager.
+		TimeoutManager callTimeoutManager = timeoutManager.copy();
+		return Futures.create( () -> {
+			callTimeoutManager.start();
+			return queryOrchestrator.submit( countWork( callTimeoutManager ) );
+		} )
+				.whenComplete( (result, throwable) -> callTimeoutManager.stop() );
+	}
+
 	@Override
 	public ElasticsearchSearchScroll<H> scroll(int chunkSize) {
 		String scrollTimeoutString = this.scrollTimeout + "s";
+		boolean pointInTimeSupported = workFactory.isPointInTimeSupported();
+
+		if ( scrollSlices > 1
+				&& ( !ElasticsearchScrollMode.SEARCH_AFTER.equals( scrollMode ) || !pointInTimeSupported ) ) {
+			throw log.cannotSliceScrollWithoutPointInTime( scrollSlices );
+		}
+		if ( scrollSlices > 1 && !isSortedByIndexOrderOnly() ) {
+			throw log.cannotSliceScrollWithSort( scrollSlices, SORT_ACCESSOR.get( payload ).orElse( null ) );
+		}
+
+		if ( ElasticsearchScrollMode.SEARCH_AFTER.equals( scrollMode ) ) {
+			List<URLEncodedString> indexNames = new ArrayList<>();
+			for ( ElasticsearchSearchIndexContext index : searchContext.indexes().elements() ) {
+				indexNames.add( index.names().read() );
+			}
+			return new ElasticsearchSearchAfterScrollImpl<>( queryOrchestrator, workFactory, this::searchWorkBuilder,
+					searchAfterPayload( pointInTimeSupported ), indexNames, routingKeys,
+					pointInTimeSupported ? scrollTimeoutString : null, chunkSize, scrollSlices, timeoutManager );
+		}
 
 		SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> firstScroll = searchWorkBuilder()
 				.scrolling( chunkSize, scrollTimeoutString );
@@ -220,7 +250,67 @@ public JsonObject explain(String typeName, Object id) {
 		return doExplain( index, id );
 	}
 
+	private CompletionStage<SearchResult<H>> doFetchAsync(Integer offset, Integer limit, boolean trackTotalHitCount,
+			Executor loadingExecutor) {
+		// Asynchronous executions may run concurrently: each needs its own timeout manager.
+		TimeoutManager callTimeoutManager = timeoutManager.copy();
+		return Futures.create( () -> {
+			callTimeoutManager.start();
+			return queryOrchestrator.submit( fetchWork( callTimeoutManager, offset, limit, trackTotalHitCount ) );
+		} )
+				/*
+				 * The HTTP response is handled in an HTTP client thread,
+				 * and loading relies on caller resources that are not thread-safe (e.g. the ORM session):
+				 * hand loading over to the executor provided by the caller.
+				 */
+				.<SearchResult<H>>thenApplyAsync( ElasticsearchLoadableSearchResult::loadBlocking, loadingExecutor )
+				.whenComplete( (result, throwable) -> callTimeoutManager.stop() );
+	}
+
+	private SearchWork<ElasticsearchLoadableSearchResult<H>> fetchWork(TimeoutManager timeoutManager,
+			Integer offset, Integer limit, boolean trackTotalHitCount) {
+		SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> builder = searchWorkBuilder( payload, timeoutManager )
+				.paging( defaultedLimit( limit, offset ), offset );
+		if ( trackTotalHitCount ) {
+			builder.totalHitCountThreshold( totalHitCountThreshold );
+		}
+		else {
+			builder.disableTrackTotalHits();
+		}
+		return builder.build();
+	}
+
+	private NonBulkableWork<Long> countWork(TimeoutManager timeoutManager) {
+		JsonObject filteredPayload = new JsonObject();
+		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
+		if ( querySubTree.isPresent() ) {
+			filteredPayload.add( "query", querySubTree.get() );
+		}
+
+		CountWorkBuilder builder = workFactory.count();
+		for ( ElasticsearchSearchIndexContext index : searchContext.indexes().elements() ) {
+			builder.index( index.names().read() );
+		}
+		builder.query( filteredPayload )
+				.routingKeys( routingKeys )
+				// soft timeout has no meaning for a count work
+				.deadline( timeoutManager.hardDeadlineOrNull() )
+				.requestTransformer(
+						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
+				);
+		return builder.build();
+	}
+
 	private SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> searchWorkBuilder() {
+		return searchWorkBuilder( payload );
+	}
+
+	private SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> searchWorkBuilder(JsonObject payload) {
+		return searchWorkBuilder( payload, timeoutManager );
+	}
+
+	private SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> searchWorkBuilder(JsonObject payload,
+			TimeoutManager timeoutManager) {
 		SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> builder =
 				workFactory.search( payload, searchResultExtractor );
 		for ( ElasticsearchSearchIndexContext index : searchContext.indexes().elements() ) {
@@ -235,6 +325,47 @@ private SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> searchWorkBuilde
 		return builder;
 	}
 
+	/**
+	 * @return A copy of the payload whose sort ends with a tiebreaker,
+	 * so that "search_after" can resume after any hit without skipping or repeating hits.
+	 */
+	private JsonObject searchAfterPayload(boolean pointInTimeSupported) {
+		JsonObject result = new JsonObject();
+		for ( Map.Entry<String, JsonElement> entry : payload.entrySet() ) {
+			result.add( entry.getKey(), entry.getValue() );
+		}
+		JsonArray sort = new JsonArray();
+		Optional<JsonArray> originalSort = SORT_ACCESSOR.get( payload );
+		if ( originalSort.isPresent() ) {
+			sort.addAll( originalSort.get() );
+		}
+		else {
+			// Default sort; must be explicit since we append a tiebreaker.
+			JsonObject scoreSort = new JsonObject();
+			scoreSort.addProperty( "_score", "desc" );
+			sort.add( scoreSort );
+		}
+		// "_shard_doc" is the most efficient tiebreaker, but requires a point in time.
+		String tiebreakerField = pointInTimeSupported ? "_shard_doc"
+				: searchContext.searchSyntax().getDocumentIdentifierSortField();
+		JsonObject tiebreaker = new JsonObject();
+		tiebreaker.addProperty( tiebreakerField, "asc" );
+		sort.add( tiebreaker );
+		result.add( "sort", sort );
+		return result;
+	}
+
+	private boolean isSortedByIndexOrderOnly() {
+		// Slices are retrieved independently and their hits concatenated:
+		// only index order, which is meaningless across slices anyway, can be "preserved".
+		Optional<JsonArray> sort = SORT_ACCESSOR.get( payload );
+		if ( !sort.isPresent() || sort.get().size() != 1 ) {
+			return false;
+		}
+		JsonElement element = sort.get().get( 0 );
+		return element.isJsonPrimitive() && "_doc".equals( element.getAsString() );
+	}
+
 	private Integer defaultedLimit(Integer limit, Integer offset) {
 		/*
 		 * If the user has given a 'size' value, take it as is, let ES itself complain if it's too high;
@@ -283,6 +414,31 @@ private URLEncodedString toElasticsearchId(ElasticsearchSearchIndexContext index
 				.toElasticsearchId( sessionContext.tenantIdentifier(), documentId ) );
 	}
 
+	@Override
+	public MultiSearchExecutor multiSearchExecutor() {
+		return multiSearchExecutor;
+	}
+
+	boolean hasRequestTransformer() {
+		return requestTransformer != null;
+	}
+
+	SearchWork<ElasticsearchLoadableSearchResult<H>> startMultiSearchItem(Integer offset, Integer limit) {
+		timeoutManager.start();
+		return fetchWork( timeoutManager, offset, limit, true );
+	}
+
+	SearchResult<H> completeMultiSearchItem(ElasticsearchLoadableSearchResult<H> loadableResult) {
+		/*
+		 * WARNING: the following call must run in the user thread.
+		 */
+		return loadableResult.loadBlocking();
+	}
+
+	void stopMultiSearchItem() {
+		timeoutManager.stop();
+	}
+
 	@Override
 	public void failAfter(long timeout, TimeUnit timeUnit) {
 		// replace the timeout manager on already created query instance
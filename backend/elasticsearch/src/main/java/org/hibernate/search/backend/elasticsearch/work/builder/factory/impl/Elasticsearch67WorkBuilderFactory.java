@@ -31,7 +31,7 @@
 /**
  * A work builder factory for ES6.7 and later 6.x.
  * <p>
- * Compared to ES7:
+ * Compared to ES7.0:
  * <ul>
  *     <li>Mappings are assigned a "type name"; we use the hardcoded "doc" type name</li>
  *     <li>Some URLs require to include this type name instead of the "_doc" keyword used in ES7.</li>
@@ -39,7 +39,7 @@
  * </ul>
  */
 @SuppressWarnings("deprecation") // We use Paths.DOC on purpose
-public class Elasticsearch67WorkBuilderFactory extends Elasticsearch7WorkBuilderFactory {
+public class Elasticsearch67WorkBuilderFactory extends Elasticsearch70WorkBuilderFactory {
 
 	public Elasticsearch67WorkBuilderFactory(GsonProvider gsonProvider) {
 		super( gsonProvider );
@@ -0,0 +1,42 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.builder.factory.impl;
+
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.ClosePointInTimeWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.OpenPointInTimeWorkBuilder;
+import org.hibernate.search.util.common.AssertionFailure;
+
+/**
+ * A work builder factory for ES7.0 to ES7.11.
+ * <p>
+ * Compared to ES7.12+:
+ * <ul>
+ *     <li>Points in time and the "_shard_doc" sort tiebreaker are not supported.</li>
+ * </ul>
+ */
+public class Elasticsearch70WorkBuilderFactory extends Elasticsearch7WorkBuilderFactory {
+
+	public Elasticsearch70WorkBuilderFactory(GsonProvider gsonProvider) {
+		super( gsonProvider );
+	}
+
+	@Override
+	public boolean isPointInTimeSupported() {
+		return false;
+	}
+
+	@Override
+	public OpenPointInTimeWorkBuilder openPointInTime(String keepAlive) {
+		throw new AssertionFailure( "Points in time are not supported on this version of Elasticsearch" );
+	}
+
+	@Override
+	public ClosePointInTimeWorkBuilder closePointInTime(String pointInTimeId) {
+		throw new AssertionFailure( "Points in time are not supported on this version of Elasticsearch" );
+	}
+}
@@ -17,6 +17,7 @@
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.BulkWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.ClearScrollWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.ClosePointInTimeWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.CloseIndexWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.CountWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.CreateIndexWorkBuilder;
@@ -28,7 +29,9 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.GetIndexMetadataWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.MergeSegmentsWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.OpenIndexWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.OpenPointInTimeWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexAliasesWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexMappingWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexSettingsWorkBuilder;
@@ -39,6 +42,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ClearScrollWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ClosePointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CloseIndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CountWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.CreateIndexWork;
@@ -51,7 +55,9 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.ForceMergeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.GetIndexMetadataWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.OpenIndexWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.OpenPointInTimeWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexAliasesWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexSettingsWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexTypeMappingWork;
@@ -118,6 +124,11 @@ public <T> SearchWorkBuilder<T> search(JsonObject payload, ElasticsearchSearchRe
 		return SearchWork.Builder.forElasticsearch7AndAbove( payload, searchResultExtractor );
 	}
 
+	@Override
+	public MultiSearchWorkBuilder multiSearch(List<? extends SearchWork<?>> searchWorks) {
+		return new MultiSearchWork.Builder( searchWorks );
+	}
+
 	@Override
 	public CountWorkBuilder count() {
 		return new CountWork.Builder();
@@ -139,6 +150,21 @@ public ClearScrollWorkBuilder clearScroll(String scrollId) {
 		return new ClearScrollWork.Builder( scrollId );
 	}
 
+	@Override
+	public boolean isPointInTimeSupported() {
+		return true;
+	}
+
+	@Override
+	public OpenPointInTimeWorkBuilder openPointInTime(String keepAlive) {
+		return new OpenPointInTimeWork.Builder( keepAlive );
+	}
+
+	@Override
+	public ClosePointInTimeWorkBuilder closePointInTime(String pointInTimeId) {
+		return new ClosePointInTimeWork.Builder( pointInTimeId );
+	}
+
 	@Override
 	public CreateIndexWorkBuilder createIndex(URLEncodedString indexName) {
 		return CreateIndexWork.Builder.forElasticsearch7AndAbove( gsonProvider, indexName );
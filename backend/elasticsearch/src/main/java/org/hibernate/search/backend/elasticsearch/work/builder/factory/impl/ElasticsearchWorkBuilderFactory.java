@@ -16,6 +16,7 @@
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.BulkWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.ClearScrollWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.ClosePointInTimeWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.CloseIndexWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.CountWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.CreateIndexWorkBuilder;
@@ -27,7 +28,9 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.GetIndexMetadataWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.MergeSegmentsWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.OpenIndexWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.OpenPointInTimeWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexAliasesWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexMappingWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexSettingsWorkBuilder;
@@ -37,6 +40,7 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.WaitForIndexStatusWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
 
 import com.google.gson.JsonObject;
 
@@ -63,6 +67,8 @@ DeleteWorkBuilder delete(String entityTypeName, Object entityIdentifier,
 
 	<T> SearchWorkBuilder<T> search(JsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor);
 
+	MultiSearchWorkBuilder multiSearch(List<? extends SearchWork<?>> searchWorks);
+
 	CountWorkBuilder count();
 
 	ExplainWorkBuilder explain(URLEncodedString indexName, URLEncodedString id, JsonObject payload);
@@ -72,6 +78,17 @@ <T> ScrollWorkBuilder<T> scroll(String scrollId, String scrollTimeout,
 
 	ClearScrollWorkBuilder clearScroll(String scrollId);
 
+	/**
+	 * @return {@code true} if this version of Elasticsearch supports points in time
+	 * and the "_shard_doc" sort tiebreaker, {@code false} otherwise.
+	 * When {@code false}, {@link #openPointInTime(String)} and {@link #closePointInTime(String)} must not be called.
+	 */
+	boolean isPointInTimeSupported();
+
+	OpenPointInTimeWorkBuilder openPointInTime(String keepAlive);
+
+	ClosePointInTimeWorkBuilder closePointInTime(String pointInTimeId);
+
 	CreateIndexWorkBuilder createIndex(URLEncodedString indexName);
 
 	DropIndexWorkBuilder dropIndex(URLEncodedString indexName);
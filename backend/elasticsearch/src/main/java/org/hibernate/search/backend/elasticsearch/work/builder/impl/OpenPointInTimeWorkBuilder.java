@@ -0,0 +1,20 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.builder.impl;
+
+import java.util.Set;
+
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+
+public interface OpenPointInTimeWorkBuilder extends ElasticsearchWorkBuilder<NonBulkableWork<String>> {
+
+	OpenPointInTimeWorkBuilder index(URLEncodedString indexName);
+
+	OpenPointInTimeWorkBuilder routingKeys(Set<String> routingKeys);
+
+}
@@ -11,11 +11,13 @@
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
-import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
 import org.hibernate.search.engine.common.timing.spi.Deadline;
 
+import com.google.gson.JsonArray;
 
-public interface SearchWorkBuilder<R> extends ElasticsearchWorkBuilder<NonBulkableWork<R>> {
+
+public interface SearchWorkBuilder<R> extends ElasticsearchWorkBuilder<SearchWork<R>> {
 
 	SearchWorkBuilder<R> index(URLEncodedString indexName);
 
@@ -32,4 +34,16 @@
 	SearchWorkBuilder<R> disableTrackTotalHits();
 
 	SearchWorkBuilder<R> totalHitCountThreshold(Long totalHitCountThreshold);
+
+	/**
+	 * Execute the search on a point in time instead of on indexes.
+	 * <p>
+	 * Indexes and routing keys are ignored in that case:
+	 * they must be passed when opening the point in time.
+	 */
+	SearchWorkBuilder<R> pointInTime(String pointInTimeId, String keepAlive);
+
+	SearchWorkBuilder<R> searchAfter(JsonArray sortValues);
+
+	SearchWorkBuilder<R> slice(int sliceId, int sliceCount);
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
 
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -29,6 +30,7 @@
 	private final String documentIdentifier;
 
 	private final DocumentRefreshStrategy refreshStrategy;
+	private final Object coalescingKey;
 
 	protected AbstractSingleDocumentIndexingWork(AbstractBuilder<?> builder) {
 		this.bulkableActionMetadata = builder.buildBulkableActionMetadata();
@@ -38,6 +40,9 @@ protected AbstractSingleDocumentIndexingWork(AbstractBuilder<?> builder) {
 		this.entityIdentifier = builder.entityIdentifier;
 		this.documentIdentifier = builder.documentIdentifier;
 		this.refreshStrategy = builder.refreshStrategy;
+		// Only works with the same refresh strategy can replace each other:
+		// a work that does not trigger a refresh cannot replace one that does.
+		this.coalescingKey = Arrays.asList( builder.buildDocumentLocation(), refreshStrategy );
 	}
 
 	@Override
@@ -45,6 +50,11 @@ public String getQueuingKey() {
 		return documentIdentifier;
 	}
 
+	@Override
+	public Object getCoalescingKey() {
+		return coalescingKey;
+	}
+
 	@Override
 	public String getEntityTypeName() {
 		return entityTypeName;
@@ -108,6 +118,13 @@ public B refresh(DocumentRefreshStrategy refreshStrategy) {
 			return (B) this;
 		}
 
+		/**
+		 * @return An object identifying the location of the document in the cluster:
+		 * index, identifier, routing key.
+		 * Used to detect works affecting the same document.
+		 */
+		protected abstract Object buildDocumentLocation();
+
 		protected abstract JsonObject buildBulkableActionMetadata();
 
 		protected abstract JsonObject buildBulkableActionBody();
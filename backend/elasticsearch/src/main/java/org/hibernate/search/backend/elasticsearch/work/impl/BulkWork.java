@@ -7,6 +7,8 @@
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
@@ -17,12 +19,16 @@
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 
 public class BulkWork extends AbstractNonBulkableWork<BulkResult> {
 
 	private static final JsonAccessor<JsonArray> BULK_ITEMS = JsonAccessor.root().property( "items" ).asArray();
+	private static final JsonAccessor<Integer> BULK_ITEM_STATUS = JsonAccessor.root().property( "status" ).asInteger();
+
+	private static final int TOO_MANY_REQUESTS_HTTP_STATUS_CODE = 429;
 
 	protected BulkWork(Builder builder) {
 		super( builder );
@@ -95,6 +101,28 @@ public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T>
 			JsonObject bulkItemResponse = results.get( index ).getAsJsonObject();
 			return work.handleBulkResult( context, bulkItemResponse );
 		}
+
+		@Override
+		public boolean hasRejectedItems() {
+			for ( int i = 0; i < results.size(); i++ ) {
+				if ( isRejected( i ) ) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public boolean isRejected(int index) {
+			// Result items have the following format: { "actionName" : { "status" : 201, ... } }
+			for ( Map.Entry<String, JsonElement> action : results.get( index ).getAsJsonObject().entrySet() ) {
+				Optional<Integer> status = BULK_ITEM_STATUS.get( action.getValue().getAsJsonObject() );
+				if ( status.isPresent() && status.get() == TOO_MANY_REQUESTS_HTTP_STATUS_CODE ) {
+					return true;
+				}
+			}
+			return false;
+		}
 	}
 
 }
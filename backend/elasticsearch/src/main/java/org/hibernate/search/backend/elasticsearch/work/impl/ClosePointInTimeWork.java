@@ -0,0 +1,56 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.ClosePointInTimeWorkBuilder;
+
+import com.google.gson.JsonObject;
+
+
+public class ClosePointInTimeWork extends AbstractNonBulkableWork<Void> {
+
+	protected ClosePointInTimeWork(Builder builder) {
+		super( builder );
+	}
+
+	@Override
+	protected Void generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
+		return null;
+	}
+
+	public static class Builder
+			extends AbstractBuilder<Builder>
+			implements ClosePointInTimeWorkBuilder {
+		private final String pointInTimeId;
+
+		public Builder(String pointInTimeId) {
+			super( DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
+			this.pointInTimeId = pointInTimeId;
+		}
+
+		@Override
+		protected ElasticsearchRequest buildRequest() {
+			JsonObject body = new JsonObject();
+			body.addProperty( "id", pointInTimeId );
+
+			ElasticsearchRequest.Builder builder =
+					ElasticsearchRequest.delete()
+					.pathComponent( Paths._PIT )
+					.body( body );
+
+			return builder.build();
+		}
+
+		@Override
+		public ClosePointInTimeWork build() {
+			return new ClosePointInTimeWork( this );
+		}
+	}
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.util.Arrays;
+
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexWorkBuilder;
 
@@ -52,6 +54,11 @@ private Builder(String entityTypeName, Object entityIdentifier, URLEncodedString
 			this.document = document;
 		}
 
+		@Override
+		protected Object buildDocumentLocation() {
+			return Arrays.asList( indexName.original, documentIdentifier, routingKey );
+		}
+
 		@Override
 		protected JsonObject buildBulkableActionMetadata() {
 			JsonObject index = new JsonObject();
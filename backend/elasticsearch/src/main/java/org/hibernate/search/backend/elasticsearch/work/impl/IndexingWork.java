@@ -16,4 +16,13 @@
 	 */
 	String getQueuingKey();
 
+	/**
+	 * @return A key identifying the document affected by this work,
+	 * if this work entirely replaces the previous state of that document (e.g. index or delete),
+	 * or {@code null}.
+	 * Works in the same batch with the same (non-null) key may be coalesced,
+	 * in which case only the last one is executed.
+	 */
+	Object getCoalescingKey();
+
 }
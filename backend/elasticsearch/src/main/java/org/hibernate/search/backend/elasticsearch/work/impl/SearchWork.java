@@ -6,13 +6,18 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
@@ -20,22 +25,34 @@
 import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 
 public class SearchWork<R> extends AbstractNonBulkableWork<R> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 	private static final Log queryLog = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
 
+	private static final JsonAccessor<Integer> MULTI_SEARCH_ITEM_STATUS_CODE =
+			JsonAccessor.root().property( "status" ).asInteger();
+	private static final JsonAccessor<JsonObject> MULTI_SEARCH_ITEM_ERROR =
+			JsonAccessor.root().property( "error" ).asObject();
+
 	private final ElasticsearchSearchResultExtractor<R> resultExtractor;
 	private final Deadline deadline;
 	private final boolean failOnDeadline;
+	private final JsonObject multiSearchHeader;
+	private final JsonObject multiSearchBody;
 
 	protected SearchWork(Builder<R> builder) {
 		super( builder );
 		this.resultExtractor = builder.resultExtractor;
 		this.deadline = builder.deadline;
 		this.failOnDeadline = builder.failOnDeadline;
+		this.multiSearchHeader = builder.buildMultiSearchHeader();
+		this.multiSearchBody = builder.buildMultiSearchBody();
 	}
 
 	@Override
@@ -54,6 +71,45 @@ protected R generateResult(ElasticsearchWorkExecutionContext context, Elasticsea
 		return resultExtractor.extract( body, failOnDeadline ? deadline : null );
 	}
 
+	/**
+	 * @return The metadata to send for this search when it is executed as part of a multi-search request.
+	 * Note that request transformers are ignored in that case.
+	 */
+	public JsonObject getMultiSearchHeader() {
+		return multiSearchHeader;
+	}
+
+	/**
+	 * @return The body to send for this search when it is executed as part of a multi-search request.
+	 */
+	public JsonObject getMultiSearchBody() {
+		return multiSearchBody;
+	}
+
+	/**
+	 * @return The deadline after which the client should stop waiting for a response,
+	 * or {@code null} if there is no such deadline.
+	 */
+	public Deadline getClientDeadline() {
+		return failOnDeadline ? deadline : null;
+	}
+
+	public R handleMultiSearchResult(JsonObject multiSearchResponseItem) {
+		Optional<JsonObject> error = MULTI_SEARCH_ITEM_ERROR.get( multiSearchResponseItem );
+		Optional<Integer> statusCode = MULTI_SEARCH_ITEM_STATUS_CODE.get( multiSearchResponseItem );
+		try {
+			if ( error.isPresent()
+					|| statusCode.isPresent() && !ElasticsearchClientUtils.isSuccessCode( statusCode.get() ) ) {
+				throw log.elasticsearchResponseIndicatesFailure();
+			}
+			return resultExtractor.extract( multiSearchResponseItem, getClientDeadline() );
+		}
+		catch (RuntimeException e) {
+			throw log.elasticsearchMultiSearchItemFailed( multiSearchHeader, multiSearchResponseItem,
+					e.getMessage(), e );
+		}
+	}
+
 	public static class Builder<R>
 			extends AbstractBuilder<Builder<R>>
 			implements SearchWorkBuilder<R> {
@@ -88,6 +144,11 @@ public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, Elast
 		private Set<String> routingKeys;
 		private Deadline deadline;
 		private boolean failOnDeadline;
+		private String pointInTimeId;
+		private String pointInTimeKeepAlive;
+		private JsonArray searchAfter;
+		private Integer sliceId;
+		private Integer sliceCount;
 
 		private Builder(JsonObject payload, ElasticsearchSearchResultExtractor<R> resultExtractor, Boolean trackTotalHits,
 				boolean allowPartialSearchResultsSupported) {
@@ -151,13 +212,35 @@ public SearchWorkBuilder<R> totalHitCountThreshold(Long totalHitCountThreshold)
 			return this;
 		}
 
+		@Override
+		public SearchWorkBuilder<R> pointInTime(String pointInTimeId, String keepAlive) {
+			this.pointInTimeId = pointInTimeId;
+			this.pointInTimeKeepAlive = keepAlive;
+			return this;
+		}
+
+		@Override
+		public SearchWorkBuilder<R> searchAfter(JsonArray sortValues) {
+			this.searchAfter = sortValues;
+			return this;
+		}
+
+		@Override
+		public SearchWorkBuilder<R> slice(int sliceId, int sliceCount) {
+			this.sliceId = sliceId;
+			this.sliceCount = sliceCount;
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
-			ElasticsearchRequest.Builder builder =
-					ElasticsearchRequest.post()
-					.multiValuedPathComponent( indexes )
-					.pathComponent( Paths._SEARCH )
-					.body( payload );
+			ElasticsearchRequest.Builder builder = ElasticsearchRequest.post();
+			if ( pointInTimeId == null ) {
+				builder.multiValuedPathComponent( indexes );
+			}
+			// else: the indexes are those of the point in time, and must not be repeated.
+			builder.pathComponent( Paths._SEARCH )
+					.body( buildStandaloneBody() );
 
 			if ( from != null ) {
 				builder.param( "from", from );
@@ -172,7 +255,7 @@ protected ElasticsearchRequest buildRequest() {
 				builder.param( "scroll", scrollTimeout );
 			}
 
-			if ( routingKeys != null && !routingKeys.isEmpty() ) {
+			if ( pointInTimeId == null && routingKeys != null && !routingKeys.isEmpty() ) {
 				builder.multiValuedParam( "routing", routingKeys );
 			}
 
@@ -191,6 +274,79 @@ protected ElasticsearchRequest buildRequest() {
 			return builder.build();
 		}
 
+		private JsonObject buildStandaloneBody() {
+			if ( pointInTimeId == null && searchAfter == null && sliceId == null ) {
+				return payload;
+			}
+			// Copy the payload so that it is not altered: it may be shared by multiple searches.
+			JsonObject body = copyPayload();
+			if ( pointInTimeId != null ) {
+				JsonObject pit = new JsonObject();
+				pit.addProperty( "id", pointInTimeId );
+				pit.addProperty( "keep_alive", pointInTimeKeepAlive );
+				body.add( "pit", pit );
+			}
+			if ( searchAfter != null ) {
+				body.add( "search_after", searchAfter );
+			}
+			if ( sliceId != null ) {
+				JsonObject slice = new JsonObject();
+				slice.addProperty( "id", sliceId );
+				slice.addProperty( "max", sliceCount );
+				body.add( "slice", slice );
+			}
+			return body;
+		}
+
+		private JsonObject copyPayload() {
+			JsonObject body = new JsonObject();
+			for ( Map.Entry<String, JsonElement> entry : payload.entrySet() ) {
+				body.add( entry.getKey(), entry.getValue() );
+			}
+			return body;
+		}
+
+		private JsonObject buildMultiSearchHeader() {
+			JsonObject header = new JsonObject();
+			JsonArray indexArray = new JsonArray();
+			for ( URLEncodedString index : indexes ) {
+				indexArray.add( index.original );
+			}
+			header.add( "index", indexArray );
+			if ( routingKeys != null && !routingKeys.isEmpty() ) {
+				header.addProperty( "routing", String.join( ",", routingKeys ) );
+			}
+			return header;
+		}
+
+		private JsonObject buildMultiSearchBody() {
+			// Paging, total hit tracking and timeout are passed as request parameters for a standalone search,
+			// but must be part of the body in a multi-search.
+			// Copy the payload so that it is not altered.
+			JsonObject body = copyPayload();
+			if ( from != null ) {
+				body.addProperty( "from", from );
+			}
+			if ( size != null ) {
+				body.addProperty( "size", size );
+			}
+			if ( trackTotalHits != null ) {
+				if ( trackTotalHits && totalHitCountThreshold != null ) {
+					body.addProperty( "track_total_hits", totalHitCountThreshold );
+				}
+				else {
+					body.addProperty( "track_total_hits", trackTotalHits );
+				}
+			}
+			if ( deadline != null ) {
+				// Server-side timeout.
+				// "allow_partial_search_results" cannot be set per search in a multi-search request,
+				// but the client-side timeout is enough to enforce failures on timeout.
+				body.addProperty( "timeout", deadline.remainingTimeMillis() + "ms" );
+			}
+			return body;
+		}
+
 		@Override
 		public SearchWork<R> build() {
 			return new SearchWork<>( this );
@@ -14,4 +14,17 @@ public interface BulkResult {
 
 	<T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index);
 
+	/**
+	 * @return {@code true} if Elasticsearch rejected at least one item of the bulk
+	 * because it was overloaded (HTTP status 429), {@code false} otherwise.
+	 */
+	boolean hasRejectedItems();
+
+	/**
+	 * @param index The index of an item in the bulk.
+	 * @return {@code true} if Elasticsearch rejected the item at the given index
+	 * because it was overloaded (HTTP status 429), {@code false} otherwise.
+	 */
+	boolean isRejected(int index);
+
 }
@@ -0,0 +1,77 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+public class BulkResponseParserTest {
+
+	private final Gson gson = GsonProvider.create( GsonBuilder::new, true ).getGson();
+
+	private final BulkResponseParser parser = new BulkResponseParser( gson );
+
+	@Test
+	public void success() throws IOException {
+		String response = "{\"took\":30,\"errors\":false,\"items\":["
+				+ "{\"index\":{\"_index\":\"myindex\",\"_type\":\"_doc\",\"_id\":\"1\",\"_version\":1,"
+				+ "\"result\":\"created\",\"_shards\":{\"total\":2,\"successful\":1,\"failed\":0},"
+				+ "\"_seq_no\":0,\"_primary_term\":1,\"status\":201}},"
+				+ "{\"delete\":{\"_index\":\"myindex\",\"_type\":\"_doc\",\"_id\":\"2\",\"_version\":1,"
+				+ "\"result\":\"not_found\",\"_shards\":{\"total\":2,\"successful\":1,\"failed\":0},"
+				+ "\"_seq_no\":1,\"_primary_term\":1,\"status\":404}}"
+				+ "]}";
+
+		assertThat( parser.parse( new StringReader( response ) ) )
+				.isEqualTo( parse( "{\"took\":30,\"errors\":false,\"items\":["
+						+ "{\"index\":{\"_index\":\"myindex\",\"_id\":\"1\",\"result\":\"created\",\"status\":201}},"
+						+ "{\"delete\":{\"_index\":\"myindex\",\"_id\":\"2\",\"result\":\"not_found\",\"status\":404}}"
+						+ "]}" ) );
+	}
+
+	@Test
+	public void itemFailure() throws IOException {
+		String response = "{\"took\":3,\"errors\":true,\"items\":["
+				+ "{\"index\":{\"_index\":\"myindex\",\"_type\":\"_doc\",\"_id\":\"1\",\"status\":400,"
+				+ "\"error\":{\"type\":\"mapper_parsing_exception\",\"reason\":\"failed to parse\","
+				+ "\"caused_by\":{\"type\":\"illegal_argument_exception\",\"reason\":\"Some reason\"}}}}"
+				+ "]}";
+
+		assertThat( parser.parse( new StringReader( response ) ) )
+				.isEqualTo( parse( "{\"took\":3,\"errors\":true,\"items\":["
+						+ "{\"index\":{\"_index\":\"myindex\",\"_id\":\"1\",\"status\":400,"
+						+ "\"error\":{\"type\":\"mapper_parsing_exception\",\"reason\":\"failed to parse\","
+						+ "\"caused_by\":{\"type\":\"illegal_argument_exception\",\"reason\":\"Some reason\"}}}}"
+						+ "]}" ) );
+	}
+
+	@Test
+	public void requestFailure() throws IOException {
+		String response = "{\"error\":{\"root_cause\":[{\"type\":\"illegal_argument_exception\","
+				+ "\"reason\":\"The bulk request must be terminated by a newline [\\n]\"}],"
+				+ "\"type\":\"illegal_argument_exception\","
+				+ "\"reason\":\"The bulk request must be terminated by a newline [\\n]\"},\"status\":400}";
+
+		assertThat( parser.parse( new StringReader( response ) ) )
+				.isEqualTo( parse( response ) );
+	}
+
+	private static JsonObject parse(String json) {
+		return new JsonParser().parse( json ).getAsJsonObject();
+	}
+}
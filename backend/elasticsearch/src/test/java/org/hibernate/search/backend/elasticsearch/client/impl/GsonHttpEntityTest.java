@@ -10,6 +10,7 @@
 import static org.junit.Assume.assumeTrue;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -17,11 +18,13 @@
 import java.io.OutputStream;
 import java.io.Reader;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 
@@ -40,13 +43,13 @@
 @RunWith(Parameterized.class)
 public class GsonHttpEntityTest {
 
-	@Parameterized.Parameters(name = "{0}")
-	public static Object[][] params() {
+	@Parameterized.Parameters(name = "gzip = {1}, {0}")
+	public static List<Object[]> params() {
 		JsonObject bodyPart1 = new JsonParser().parse( "{ \"foo\": \"bar\" }" ).getAsJsonObject();
 		JsonObject bodyPart2 = new JsonParser().parse( "{ \"foobar\": 235 }" ).getAsJsonObject();
 		JsonObject bodyPart3 = new JsonParser().parse( "{ \"obj1\": " + bodyPart1.toString()
 				+ ", \"obj2\": " + bodyPart2.toString() + "}" ).getAsJsonObject();
-		return new Object[][] {
+		Object[][] payloads = new Object[][] {
 				{ Collections.emptyList() },
 				{ Collections.singletonList( bodyPart1 ) },
 				{ Collections.singletonList( bodyPart2 ) },
@@ -66,16 +69,25 @@ public static Object[][] params() {
 								.flatMap( List::stream ).limit( 10_000 ).collect( Collectors.toList() )
 				}
 		};
+		List<Object[]> params = new ArrayList<>();
+		for ( boolean gzip : new boolean[] { false, true } ) {
+			for ( Object[] payload : payloads ) {
+				params.add( new Object[] { payload[0], gzip } );
+			}
+		}
+		return params;
 	}
 
 
+	private final boolean gzip;
 	private final GsonHttpEntity gsonEntity;
 	private final String expectedPayloadString;
 	private final int expectedContentLength;
 
-	public GsonHttpEntityTest(List<JsonObject> payload) throws IOException {
+	public GsonHttpEntityTest(List<JsonObject> payload, boolean gzip) throws IOException {
 		Gson gson = GsonProvider.create( GsonBuilder::new, true ).getGson();
-		this.gsonEntity = new GsonHttpEntity( gson, payload );
+		this.gzip = gzip;
+		this.gsonEntity = new GsonHttpEntity( gson, payload, gzip );
 		StringBuilder builder = new StringBuilder();
 		for ( JsonObject object : payload ) {
 			gson.toJson( object, builder );
@@ -86,11 +98,24 @@ public GsonHttpEntityTest(List<JsonObject> payload) throws IOException {
 	}
 
 	@Test
-	public void initialContentLength() {
+	public void initialContentLength() throws IOException {
 		// The content length cannot be known from the start for large payloads
 		assumeTrue( expectedContentLength < 1024 );
 
-		assertThat( gsonEntity.getContentLength() ).isEqualTo( expectedContentLength );
+		long initialContentLength = gsonEntity.getContentLength();
+		assertThat( initialContentLength ).isEqualTo( contentLength( doWriteTo( gsonEntity ) ) );
+	}
+
+	@Test
+	public void contentEncoding() {
+		Header contentEncoding = gsonEntity.getContentEncoding();
+		if ( gzip ) {
+			assertThat( contentEncoding.getName() ).isEqualTo( "Content-Encoding" );
+			assertThat( contentEncoding.getValue() ).isEqualTo( "gzip" );
+		}
+		else {
+			assertThat( contentEncoding ).isNull();
+		}
 	}
 
 	@Test
@@ -104,10 +129,9 @@ public void contentType() {
 	public void produceContent_noPushBack() throws IOException {
 		int pushBackPeriod = Integer.MAX_VALUE;
 		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
-			assertThat( doProduceContent( gsonEntity, pushBackPeriod ) )
-					.isEqualTo( expectedPayloadString );
-			assertThat( gsonEntity.getContentLength() )
-					.isEqualTo( expectedContentLength );
+			byte[] content = doProduceContent( gsonEntity, pushBackPeriod );
+			assertThat( decode( content ) ).isEqualTo( expectedPayloadString );
+			assertThat( gsonEntity.getContentLength() ).isEqualTo( contentLength( content ) );
 		}
 	}
 
@@ -115,10 +139,9 @@ public void produceContent_noPushBack() throws IOException {
 	public void produceContent_pushBack_every5Bytes() throws IOException {
 		int pushBackPeriod = 5;
 		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
-			assertThat( doProduceContent( gsonEntity, pushBackPeriod ) )
-					.isEqualTo( expectedPayloadString );
-			assertThat( gsonEntity.getContentLength() )
-					.isEqualTo( expectedContentLength );
+			byte[] content = doProduceContent( gsonEntity, pushBackPeriod );
+			assertThat( decode( content ) ).isEqualTo( expectedPayloadString );
+			assertThat( gsonEntity.getContentLength() ).isEqualTo( contentLength( content ) );
 		}
 	}
 
@@ -126,10 +149,9 @@ public void produceContent_pushBack_every5Bytes() throws IOException {
 	public void produceContent_pushBack_every100Bytes() throws IOException {
 		int pushBackPeriod = 100;
 		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
-			assertThat( doProduceContent( gsonEntity, pushBackPeriod ) )
-					.isEqualTo( expectedPayloadString );
-			assertThat( gsonEntity.getContentLength() )
-					.isEqualTo( expectedContentLength );
+			byte[] content = doProduceContent( gsonEntity, pushBackPeriod );
+			assertThat( decode( content ) ).isEqualTo( expectedPayloadString );
+			assertThat( gsonEntity.getContentLength() ).isEqualTo( contentLength( content ) );
 		}
 	}
 
@@ -137,63 +159,110 @@ public void produceContent_pushBack_every100Bytes() throws IOException {
 	public void produceContent_pushBack_every500Bytes() throws IOException {
 		int pushBackPeriod = 500;
 		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
-			assertThat( doProduceContent( gsonEntity, pushBackPeriod ) )
-					.isEqualTo( expectedPayloadString );
-			assertThat( gsonEntity.getContentLength() )
-					.isEqualTo( expectedContentLength );
+			byte[] content = doProduceContent( gsonEntity, pushBackPeriod );
+			assertThat( decode( content ) ).isEqualTo( expectedPayloadString );
+			assertThat( gsonEntity.getContentLength() ).isEqualTo( contentLength( content ) );
 		}
 	}
 
 	@Test
 	public void writeTo() throws IOException {
 		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
-			assertThat( doWriteTo( gsonEntity ) )
-					.isEqualTo( expectedPayloadString );
-			assertThat( gsonEntity.getContentLength() )
-					.isEqualTo( expectedContentLength );
+			byte[] content = doWriteTo( gsonEntity );
+			assertThat( decode( content ) ).isEqualTo( expectedPayloadString );
+			assertThat( gsonEntity.getContentLength() ).isEqualTo( contentLength( content ) );
 		}
 	}
 
 	@Test
 	public void getContent() throws IOException {
 		for ( int i = 0; i < 2; i++ ) { // Try several times: the result shouldn't change.
-			assertThat( doGetContent( gsonEntity ) )
-					.isEqualTo( expectedPayloadString );
-			assertThat( gsonEntity.getContentLength() )
-					.isEqualTo( expectedContentLength );
+			byte[] content = doGetContent( gsonEntity );
+			assertThat( decode( content ) ).isEqualTo( expectedPayloadString );
+			assertThat( gsonEntity.getContentLength() ).isEqualTo( contentLength( content ) );
+		}
+	}
+
+	@Test
+	public void nativeResources_releasedOnClose() throws IOException {
+		// Content fully produced
+		doProduceContent( gsonEntity, Integer.MAX_VALUE );
+		assertThat( gsonEntity.holdsNativeResources() ).isFalse();
+
+		// Content partially produced
+		try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
+			gsonEntity.produceContent( new OutputStreamContentEncoder( outputStream, 5 ), StubIOControl.INSTANCE );
+		}
+		gsonEntity.close();
+		assertThat( gsonEntity.holdsNativeResources() ).isFalse();
+
+		// Content read through getContent()
+		doGetContent( gsonEntity );
+		assertThat( gsonEntity.holdsNativeResources() ).isFalse();
+
+		// Content read through writeTo()
+		doWriteTo( gsonEntity );
+		gsonEntity.close();
+		assertThat( gsonEntity.holdsNativeResources() ).isFalse();
+	}
+
+	@Test
+	public void nativeResources_smallContent_releasedOnceEncoded() {
+		// Small content is fully encoded upfront: compression resources can be released immediately
+		assumeTrue( expectedContentLength < 1024 );
+
+		assertThat( gsonEntity.holdsNativeResources() ).isFalse();
+	}
+
+	private long contentLength(byte[] content) {
+		// When compressing, we can't predict the length of the content, so we just check it's consistent
+		return gzip ? content.length : expectedContentLength;
+	}
+
+	private String decode(byte[] content) throws IOException {
+		InputStream inputStream = new ByteArrayInputStream( content );
+		if ( gzip ) {
+			inputStream = new GZIPInputStream( inputStream );
+		}
+		try ( Reader reader = new InputStreamReader( inputStream, Charsets.UTF_8 );
+				BufferedReader bufferedReader = new BufferedReader( reader ) ) {
+			StringBuilder builder = new StringBuilder();
+			int read;
+			while ( ( read = bufferedReader.read() ) >= 0 ) {
+				builder.appendCodePoint( read );
+			}
+			return builder.toString();
 		}
 	}
 
-	private String doProduceContent(GsonHttpEntity entity, int pushBackPeriod) throws IOException {
+	private byte[] doProduceContent(GsonHttpEntity entity, int pushBackPeriod) throws IOException {
 		try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
 			ContentEncoder contentEncoder = new OutputStreamContentEncoder( outputStream, pushBackPeriod );
 			while ( !contentEncoder.isCompleted() ) {
 				entity.produceContent( contentEncoder, StubIOControl.INSTANCE );
 			}
-			return outputStream.toString( Charsets.UTF_8.name() );
+			return outputStream.toByteArray();
 		}
 		finally {
 			entity.close();
 		}
 	}
 
-	private String doWriteTo(GsonHttpEntity entity) throws IOException {
+	private byte[] doWriteTo(GsonHttpEntity entity) throws IOException {
 		try ( ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
 			entity.writeTo( outputStream );
-			return outputStream.toString( Charsets.UTF_8.name() );
+			return outputStream.toByteArray();
 		}
 	}
 
-	private String doGetContent(GsonHttpEntity entity) throws IOException {
+	private byte[] doGetContent(GsonHttpEntity entity) throws IOException {
 		try ( InputStream inputStream = entity.getContent();
-				Reader reader = new InputStreamReader( inputStream, Charsets.UTF_8 );
-				BufferedReader bufferedReader = new BufferedReader( reader ) ) {
-			StringBuilder builder = new StringBuilder();
+				ByteArrayOutputStream outputStream = new ByteArrayOutputStream() ) {
 			int read;
-			while ( ( read = bufferedReader.read() ) >= 0 ) {
-				builder.appendCodePoint( read );
+			while ( ( read = inputStream.read() ) >= 0 ) {
+				outputStream.write( read );
 			}
-			return builder.toString();
+			return outputStream.toByteArray();
 		}
 	}
 
@@ -20,6 +20,7 @@
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch64ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch67ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch70ProtocolDialect;
+import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.Elasticsearch712ProtocolDialect;
 import org.hibernate.search.backend.elasticsearch.dialect.protocol.impl.ElasticsearchProtocolDialect;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.impl.test.annotation.TestForIssue;
@@ -450,12 +451,44 @@ public void es7100() {
 		);
 	}
 
+	@Test
+	public void es7112() {
+		testSuccess(
+				"7.11.2", "7.11.2",
+				Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+		);
+	}
+
+	@Test
+	public void es712() {
+		testSuccess(
+				"7.12", "7.12.0",
+				Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
+		);
+	}
+
+	@Test
+	public void es7120() {
+		testSuccess(
+				"7.12.0", "7.12.0",
+				Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
+		);
+	}
+
+	@Test
+	public void es713() {
+		testSuccess(
+				"7.13", "7.13.1",
+				Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
+		);
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HSEARCH-3563")
 	public void es8() {
 		testSuccessWithWarning(
 				"8", "8.0.0",
-				Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+				Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 		);
 	}
 
@@ -464,7 +497,7 @@ public void es8() {
 	public void es80() {
 		testSuccessWithWarning(
 				"8.0", "8.0.0",
-				Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+				Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 		);
 	}
 
@@ -473,7 +506,7 @@ public void es80() {
 	public void es800() {
 		testSuccessWithWarning(
 				"8.0.0", "8.0.0",
-				Elasticsearch7ModelDialect.class, Elasticsearch70ProtocolDialect.class
+				Elasticsearch7ModelDialect.class, Elasticsearch712ProtocolDialect.class
 		);
 	}
 
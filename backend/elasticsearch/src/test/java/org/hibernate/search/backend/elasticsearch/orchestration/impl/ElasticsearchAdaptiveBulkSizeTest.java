@@ -0,0 +1,68 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class ElasticsearchAdaptiveBulkSizeTest {
+
+	private static final long TARGET_LATENCY_MILLIS = 1000L;
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos( TARGET_LATENCY_MILLIS / 2 );
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos( TARGET_LATENCY_MILLIS * 2 );
+
+	@Test
+	public void initial() {
+		ElasticsearchAdaptiveBulkSize bulkSize = new ElasticsearchAdaptiveBulkSize( "test", 100, TARGET_LATENCY_MILLIS );
+		assertThat( bulkSize.current() ).isEqualTo( 100 );
+	}
+
+	@Test
+	public void rejected() {
+		ElasticsearchAdaptiveBulkSize bulkSize = new ElasticsearchAdaptiveBulkSize( "test", 100, TARGET_LATENCY_MILLIS );
+		bulkSize.onBulkExecuted( 100, FAST, true );
+		assertThat( bulkSize.current() ).isEqualTo( 50 );
+		bulkSize.onBulkExecuted( 3, FAST, true );
+		assertThat( bulkSize.current() ).isEqualTo( 25 );
+
+		// Never goes below 1
+		for ( int i = 0; i < 10; i++ ) {
+			bulkSize.onBulkExecuted( 1, FAST, true );
+		}
+		assertThat( bulkSize.current() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void slow() {
+		ElasticsearchAdaptiveBulkSize bulkSize = new ElasticsearchAdaptiveBulkSize( "test", 100, TARGET_LATENCY_MILLIS );
+		bulkSize.onBulkExecuted( 100, SLOW, false );
+		assertThat( bulkSize.current() ).isEqualTo( 75 );
+	}
+
+	@Test
+	public void fast() {
+		ElasticsearchAdaptiveBulkSize bulkSize = new ElasticsearchAdaptiveBulkSize( "test", 100, TARGET_LATENCY_MILLIS );
+		bulkSize.onBulkExecuted( 100, FAST, true );
+		assertThat( bulkSize.current() ).isEqualTo( 50 );
+
+		// Bulks that are not full do not make the bulk size grow
+		bulkSize.onBulkExecuted( 20, FAST, false );
+		assertThat( bulkSize.current() ).isEqualTo( 50 );
+
+		bulkSize.onBulkExecuted( 50, FAST, false );
+		assertThat( bulkSize.current() ).isEqualTo( 55 );
+
+		// Never goes above the upper bound
+		for ( int i = 0; i < 20; i++ ) {
+			bulkSize.onBulkExecuted( bulkSize.current(), FAST, false );
+		}
+		assertThat( bulkSize.current() ).isEqualTo( 100 );
+	}
+}
@@ -0,0 +1,199 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.BiFunction;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.mockito.quality.Strictness;
+
+@SuppressWarnings("unchecked") // Raw types are the only way to mock parameterized types
+public class ElasticsearchBulkItemRetrierTest {
+
+	private static final DocumentRefreshStrategy DEFAULT_REFRESH = DocumentRefreshStrategy.NONE;
+
+	@Rule
+	public final MockitoRule mockito = MockitoJUnit.rule().strictness( Strictness.STRICT_STUBS );
+
+	@Mock
+	private ElasticsearchWorkExecutionContext contextMock;
+	@Mock
+	private BiFunction<List<? extends BulkableWork<?>>,
+			DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactoryMock;
+
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+	@After
+	public void shutdownScheduler() {
+		scheduler.shutdownNow();
+	}
+
+	@Test
+	public void noRejection() {
+		ElasticsearchBulkItemRetrier retrier = new ElasticsearchBulkItemRetrier( scheduler, 3, 1L, 10L );
+		BulkableWork<Object> work1 = bulkableWorkMock( 1 );
+		BulkableWork<Object> work2 = bulkableWorkMock( 2 );
+		NonBulkableWork<BulkResult> bulkWork = workMock( 3 );
+		BulkResult bulkResult = mock( BulkResult.class );
+
+		when( bulkWork.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( bulkResult ) );
+		when( bulkResult.isRejected( 0 ) ).thenReturn( false );
+		when( bulkResult.isRejected( 1 ) ).thenReturn( false );
+
+		BulkResult result = retrier.wrap( bulkWork, Arrays.asList( work1, work2 ), DEFAULT_REFRESH, bulkWorkFactoryMock )
+				.execute( contextMock ).join();
+
+		assertThat( result ).isSameAs( bulkResult );
+		assertThat( retrier.retriedItemCount() ).isEqualTo( 0L );
+		assertThat( retrier.exhaustedItemCount() ).isEqualTo( 0L );
+	}
+
+	@Test
+	public void retryRejectedItemsOnly() {
+		ElasticsearchBulkItemRetrier retrier = new ElasticsearchBulkItemRetrier( scheduler, 3, 1L, 10L );
+		BulkableWork<Object> work1 = bulkableWorkMock( 1 );
+		BulkableWork<Object> work2 = bulkableWorkMock( 2 );
+		BulkableWork<Object> work3 = bulkableWorkMock( 3 );
+		NonBulkableWork<BulkResult> bulkWork = workMock( 4 );
+		NonBulkableWork<BulkResult> retryBulkWork = workMock( 5 );
+		BulkResult bulkResult = mock( BulkResult.class );
+		BulkResult retryBulkResult = mock( BulkResult.class );
+		Object work1Result = new Object();
+		Object work2Result = new Object();
+		Object work3Result = new Object();
+
+		when( bulkWork.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( bulkResult ) );
+		when( bulkResult.isRejected( 0 ) ).thenReturn( false );
+		when( bulkResult.isRejected( 1 ) ).thenReturn( true );
+		when( bulkResult.isRejected( 2 ) ).thenReturn( false );
+		when( bulkWorkFactoryMock.apply( Collections.singletonList( work2 ), DEFAULT_REFRESH ) ).thenReturn( retryBulkWork );
+		when( retryBulkWork.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( retryBulkResult ) );
+		when( retryBulkResult.isRejected( 0 ) ).thenReturn( false );
+
+		BulkResult result = retrier.wrap( bulkWork, Arrays.asList( work1, work2, work3 ),
+				DEFAULT_REFRESH, bulkWorkFactoryMock )
+				.execute( contextMock ).join();
+
+		when( bulkResult.extract( contextMock, work1, 0 ) ).thenReturn( work1Result );
+		when( retryBulkResult.extract( contextMock, work2, 0 ) ).thenReturn( work2Result );
+		when( bulkResult.extract( contextMock, work3, 2 ) ).thenReturn( work3Result );
+		assertThat( result.extract( contextMock, work1, 0 ) ).isSameAs( work1Result );
+		assertThat( result.extract( contextMock, work2, 1 ) ).isSameAs( work2Result );
+		assertThat( result.extract( contextMock, work3, 2 ) ).isSameAs( work3Result );
+		assertThat( retrier.retriedItemCount() ).isEqualTo( 1L );
+		assertThat( retrier.exhaustedItemCount() ).isEqualTo( 0L );
+	}
+
+	@Test
+	public void retryBudgetExhausted() {
+		ElasticsearchBulkItemRetrier retrier = new ElasticsearchBulkItemRetrier( scheduler, 2, 1L, 10L );
+		BulkableWork<Object> work1 = bulkableWorkMock( 1 );
+		NonBulkableWork<BulkResult> bulkWork = workMock( 2 );
+		NonBulkableWork<BulkResult> retryBulkWork1 = workMock( 3 );
+		NonBulkableWork<BulkResult> retryBulkWork2 = workMock( 4 );
+		BulkResult bulkResult = mock( BulkResult.class );
+		BulkResult retryBulkResult1 = mock( BulkResult.class );
+		BulkResult retryBulkResult2 = mock( BulkResult.class );
+		Object work1Result = new Object();
+
+		when( bulkWork.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( bulkResult ) );
+		when( bulkResult.isRejected( 0 ) ).thenReturn( true );
+		when( bulkWorkFactoryMock.apply( Collections.singletonList( work1 ), DEFAULT_REFRESH ) )
+				.thenReturn( retryBulkWork1, retryBulkWork2 );
+		when( retryBulkWork1.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( retryBulkResult1 ) );
+		when( retryBulkResult1.isRejected( 0 ) ).thenReturn( true );
+		when( retryBulkWork2.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( retryBulkResult2 ) );
+		when( retryBulkResult2.isRejected( 0 ) ).thenReturn( true );
+
+		BulkResult result = retrier.wrap( bulkWork, Collections.singletonList( work1 ), DEFAULT_REFRESH, bulkWorkFactoryMock )
+				.execute( contextMock ).join();
+
+		// The result of the last retry is used, so that the rejection is reported as usual
+		when( retryBulkResult2.extract( contextMock, work1, 0 ) ).thenReturn( work1Result );
+		assertThat( result.extract( contextMock, work1, 0 ) ).isSameAs( work1Result );
+		assertThat( retrier.retriedItemCount() ).isEqualTo( 2L );
+		assertThat( retrier.exhaustedItemCount() ).isEqualTo( 1L );
+	}
+
+	@Test
+	public void retryFailure() {
+		ElasticsearchBulkItemRetrier retrier = new ElasticsearchBulkItemRetrier( scheduler, 3, 1L, 10L );
+		BulkableWork<Object> work1 = bulkableWorkMock( 1 );
+		BulkableWork<Object> work2 = bulkableWorkMock( 2 );
+		NonBulkableWork<BulkResult> bulkWork = workMock( 3 );
+		NonBulkableWork<BulkResult> retryBulkWork = workMock( 4 );
+		BulkResult bulkResult = mock( BulkResult.class );
+		CompletableFuture<BulkResult> retryBulkFuture = new CompletableFuture<>();
+		retryBulkFuture.completeExceptionally( new RuntimeException( "Some message" ) );
+
+		when( bulkWork.execute( contextMock ) ).thenReturn( CompletableFuture.completedFuture( bulkResult ) );
+		when( bulkResult.isRejected( 0 ) ).thenReturn( false );
+		when( bulkResult.isRejected( 1 ) ).thenReturn( true );
+		when( bulkWorkFactoryMock.apply( Collections.singletonList( work2 ), DEFAULT_REFRESH ) ).thenReturn( retryBulkWork );
+		when( retryBulkWork.execute( contextMock ) ).thenReturn( retryBulkFuture );
+
+		BulkResult result = retrier.wrap( bulkWork, Arrays.asList( work1, work2 ), DEFAULT_REFRESH, bulkWorkFactoryMock )
+				.execute( contextMock ).join();
+
+		// The original result is kept: items that succeeded initially are not affected by the failed retry
+		assertThat( result ).isSameAs( bulkResult );
+		assertThat( retrier.retriedItemCount() ).isEqualTo( 1L );
+		assertThat( retrier.exhaustedItemCount() ).isEqualTo( 1L );
+	}
+
+	@Test
+	public void disabled() {
+		ElasticsearchBulkItemRetrier retrier = new ElasticsearchBulkItemRetrier( scheduler, 0, 1L, 10L );
+		BulkableWork<Object> work1 = bulkableWorkMock( 1 );
+		NonBulkableWork<BulkResult> bulkWork = workMock( 2 );
+
+		assertThat( retrier.wrap( bulkWork, Collections.singletonList( work1 ), DEFAULT_REFRESH, bulkWorkFactoryMock ) )
+				.isSameAs( bulkWork );
+	}
+
+	@Test
+	public void delay() {
+		ElasticsearchBulkItemRetrier retrier = new ElasticsearchBulkItemRetrier( scheduler, 10, 100L, 1000L );
+		for ( int i = 0; i < 100; i++ ) {
+			assertThat( retrier.delayMillis( 1 ) ).isBetween( 50L, 100L );
+			assertThat( retrier.delayMillis( 2 ) ).isBetween( 100L, 200L );
+			assertThat( retrier.delayMillis( 3 ) ).isBetween( 200L, 400L );
+			assertThat( retrier.delayMillis( 5 ) ).isBetween( 500L, 1000L );
+			assertThat( retrier.delayMillis( 100 ) ).isBetween( 500L, 1000L );
+		}
+	}
+
+	private <T> NonBulkableWork<T> workMock(int index) {
+		return mock( NonBulkableWork.class, "work" + index );
+	}
+
+	private <T> BulkableWork<T> bulkableWorkMock(int index) {
+		return mock( BulkableWork.class, "bulkableWork" + index );
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.orchestration.impl;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hibernate.search.util.impl.test.FutureAssert.assertThatFuture;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
@@ -17,6 +18,7 @@
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
@@ -32,6 +34,8 @@
 import org.mockito.junit.MockitoRule;
 import org.mockito.quality.Strictness;
 
+import com.google.gson.JsonObject;
+
 @SuppressWarnings("unchecked") // Raw types are the only way to mock parameterized types
 public class ElasticsearchDefaultWorkBulkerTest {
 
@@ -262,6 +266,100 @@ public void newBulkOnDifferentRefresh() {
 		verifyNoOtherSequenceInteractionsAndReset();
 	}
 
+	@Test
+	public void newBulkOnTooManyBytes() {
+		// Each work is estimated to 49 bytes: {"a":"<40 characters>"} followed by a line feed
+		BulkableWork<Void> work1 = bulkableWorkMock( 1 );
+		BulkableWork<Void> work2 = bulkableWorkMock( 2 );
+		BulkableWork<Void> work3 = bulkableWorkMock( 3 );
+		NonBulkableWork<BulkResult> bulkWork1 = workMock( 4 );
+		NonBulkableWork<BulkResult> bulkWork2 = workMock( 5 );
+
+		CompletableFuture<Void> work1FutureFromSequenceBuilder = new CompletableFuture<>();
+		CompletableFuture<Void> work2FutureFromSequenceBuilder = new CompletableFuture<>();
+		CompletableFuture<Void> work3FutureFromSequenceBuilder = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork1ResultFuture = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork2ResultFuture = new CompletableFuture<>();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork1FutureArgumentCaptor = futureCaptor();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork2FutureArgumentCaptor = futureCaptor();
+
+		ElasticsearchDefaultWorkBulker bulker = new ElasticsearchDefaultWorkBulker( sequenceBuilderMock,
+				bulkWorkFactoryMock, DEFAULT_MAX_BULK_SIZE, 100L, null, null );
+		verifyNoOtherSequenceInteractionsAndReset();
+
+		when( work1.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( work1.getBulkableActionMetadata() ).thenReturn( metadata( 40 ) );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork1FutureArgumentCaptor.capture() ) ).thenReturn( bulkWork1ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work1, 0 ) )
+				.thenReturn( work1FutureFromSequenceBuilder );
+		bulker.add( work1 );
+		verifyNoOtherSequenceInteractionsAndReset();
+
+		when( work2.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( work2.getBulkableActionMetadata() ).thenReturn( metadata( 40 ) );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work2, 1 ) )
+				.thenReturn( work2FutureFromSequenceBuilder );
+		bulker.add( work2 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork1FutureArgumentCaptor.getValue() ).isPending();
+
+		// Adding work3 would exceed 100 bytes => new bulk
+		when( work3.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+		when( work3.getBulkableActionMetadata() ).thenReturn( metadata( 40 ) );
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work1, work2 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork1 );
+		when( sequenceBuilderMock.addBulkExecution( bulkWork2FutureArgumentCaptor.capture() ) ).thenReturn( bulkWork2ResultFuture );
+		when( sequenceBuilderMock.addBulkResultExtraction( bulkWork2ResultFuture, work3, 0 ) )
+				.thenReturn( work3FutureFromSequenceBuilder );
+		bulker.add( work3 );
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork1FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork1 );
+		assertThatFuture( bulkWork2FutureArgumentCaptor.getValue() ).isPending();
+
+		when( bulkWorkFactoryMock.apply( Arrays.asList( work3 ), DEFAULT_REFRESH ) ).thenReturn( bulkWork2 );
+		bulker.finalizeBulkWork();
+		verifyNoOtherSequenceInteractionsAndReset();
+		assertThatFuture( bulkWork2FutureArgumentCaptor.getValue() ).isSuccessful( bulkWork2 );
+	}
+
+	@Test
+	public void newBulkOnTooManyBulkedWorks_adaptive() {
+		ElasticsearchAdaptiveBulkSize adaptiveBulkSize = new ElasticsearchAdaptiveBulkSize( "test", DEFAULT_MAX_BULK_SIZE, 1000L );
+		// Simulate a rejected bulk: the maximum bulk size is halved
+		adaptiveBulkSize.onBulkExecuted( DEFAULT_MAX_BULK_SIZE, 0L, true );
+		int adaptedMaxBulkSize = DEFAULT_MAX_BULK_SIZE / 2;
+
+		List<BulkableWork<Void>> firstBulkWorks = new ArrayList<>();
+		for ( int i = 0 ; i < adaptedMaxBulkSize ; ++i ) {
+			firstBulkWorks.add( bulkableWorkMock( i ) );
+		}
+		NonBulkableWork<BulkResult> bulkWork1 = workMock( adaptedMaxBulkSize );
+
+		CompletableFuture<BulkResult> bulkWork1ResultFuture = new CompletableFuture<>();
+		ArgumentCaptor<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork1FutureArgumentCaptor = futureCaptor();
+
+		ElasticsearchDefaultWorkBulker bulker = new ElasticsearchDefaultWorkBulker( sequenceBuilderMock,
+				bulkWorkFactoryMock, DEFAULT_MAX_BULK_SIZE, Long.MAX_VALUE, adaptiveBulkSize, null );
+		verifyNoOtherSequenceInteractionsAndReset();
+
+		when( sequenceBuilderMock.addBulkExecution( bulkWork1FutureArgumentCaptor.capture() ) ).thenReturn( bulkWork1ResultFuture );
+		for ( int i = 0 ; i < adaptedMaxBulkSize ; ++i ) {
+			BulkableWork<Void> work = firstBulkWorks.get( i );
+			when( work.getRefreshStrategy() ).thenReturn( DEFAULT_REFRESH );
+			when( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work, i ) )
+					.thenReturn( new CompletableFuture<>() );
+		}
+		when( bulkWorkFactoryMock.apply( firstBulkWorks, DEFAULT_REFRESH ) ).thenReturn( bulkWork1 );
+		for ( BulkableWork<?> work : firstBulkWorks ) {
+			bulker.add( work );
+		}
+		verifyNoOtherSequenceInteractionsAndReset();
+		// The bulk work is wrapped so that its execution can be observed
+		Consumer<NonBulkableWork<BulkResult>> wrappedBulkWorkAssertion = bulkWork -> assertThat( bulkWork )
+				.isNotSameAs( bulkWork1 )
+				.hasToString( bulkWork1.toString() );
+		assertThatFuture( bulkWork1FutureArgumentCaptor.getValue() ).isSuccessful( wrappedBulkWorkAssertion );
+	}
+
 	private void verifyNoOtherSequenceInteractionsAndReset() {
 		verifyNoMoreInteractions( sequenceBuilderMock, bulkWorkFactoryMock );
 		reset( sequenceBuilderMock, bulkWorkFactoryMock );
@@ -275,6 +373,16 @@ private <T> NonBulkableWork<T> workMock(int index) {
 		return mock( NonBulkableWork.class, "work" + index );
 	}
 
+	private static JsonObject metadata(int valueLength) {
+		JsonObject metadata = new JsonObject();
+		StringBuilder value = new StringBuilder();
+		for ( int i = 0; i < valueLength; i++ ) {
+			value.append( 'x' );
+		}
+		metadata.addProperty( "a", value.toString() );
+		return metadata;
+	}
+
 	private <T> BulkableWork<T> bulkableWorkMock(int index) {
 		return mock( BulkableWork.class, "bulkableWork" + index );
 	}
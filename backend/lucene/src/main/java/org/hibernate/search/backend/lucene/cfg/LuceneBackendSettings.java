@@ -78,6 +78,52 @@ private LuceneBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * Whether search queries should be executed in parallel over multiple slices of the index segments.
+	 * <p>
+	 * When enabled, the backend will create a dedicated thread pool for searches,
+	 * of the size defined by {@link #THREAD_POOL_SIZE},
+	 * and each search query will be able to use multiple threads from that pool.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_PARALLEL_SEGMENTS}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Threads",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String SEARCH_PARALLEL_SEGMENTS = "search.parallel_segments";
+
+	/**
+	 * The maximum number of queries cached by the query cache of the backend.
+	 * <p>
+	 * The query cache holds the documents matched by filters on each large segment,
+	 * so that filters used in many search queries, such as tenant filters, are not re-evaluated every time.
+	 * Tenant filters are always cached, other filters are cached once they are used often enough.
+	 * <p>
+	 * Expects a positive integer value, or a string that can be parsed to such integer value.
+	 * {@code 0} disables the query cache.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_QUERY_CACHE_MAX_SIZE}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Query cache",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String SEARCH_QUERY_CACHE_MAX_SIZE = "search.query_cache.max_size";
+
+	/**
+	 * The maximum amount of memory used by the query cache of the backend, in megabytes.
+	 * <p>
+	 * Expects a strictly positive integer value, or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to 5% of the maximum heap size, or 32 MB, whichever is smaller.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Query cache",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String SEARCH_QUERY_CACHE_MAX_RAM_SIZE = "search.query_cache.max_ram_size";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -89,5 +135,9 @@ private Defaults() {
 		public static final Version LUCENE_VERSION = Version.LATEST;
 
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
+
+		public static final boolean SEARCH_PARALLEL_SEGMENTS = false;
+
+		public static final int SEARCH_QUERY_CACHE_MAX_SIZE = 1000;
 	}
 }
@@ -146,6 +146,44 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_REFRESH_INTERVAL = IO_PREFIX + IORadicals.REFRESH_INTERVAL;
 
+	/**
+	 * Whether index readers should be refreshed periodically in a background thread,
+	 * instead of being refreshed lazily by the first search query executed after the refresh interval expired.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy,
+	 * and requires a strictly positive {@link #IO_REFRESH_INTERVAL refresh interval}:
+	 * index readers will be refreshed every {@link #IO_REFRESH_INTERVAL refresh interval}.
+	 * <p>
+	 * When enabled, search queries no longer pay the cost of opening a new index reader after a write,
+	 * unless a refresh was explicitly forced by a previous write
+	 * (for example with the "searchable" automatic indexing synchronization strategy in the ORM mapper).
+	 * <p>
+	 * The duration of each background refresh and the age of the replaced index reader
+	 * are only reported in the logs, at the DEBUG level.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_REFRESH_BACKGROUND}.
+	 */
+	public static final String IO_REFRESH_BACKGROUND = IO_PREFIX + IORadicals.REFRESH_BACKGROUND;
+
+	/**
+	 * Whether new segments should be warmed up before index readers refreshed in the background
+	 * are made available to search queries.
+	 * <p>
+	 * Only has an effect when {@link #IO_REFRESH_BACKGROUND background refresh} is enabled.
+	 * <p>
+	 * Warming up loads the data structures of new segments (terms, norms, doc values, ...) in memory,
+	 * so that the first search queries hitting these segments do not have to.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a String that can be parsed into such Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_REFRESH_WARM_SEGMENTS}.
+	 */
+	public static final String IO_REFRESH_WARM_SEGMENTS = IO_PREFIX + IORadicals.REFRESH_WARM_SEGMENTS;
+
 	/**
 	 * The prefix for property keys related to the index writer.
 	 */
@@ -344,6 +382,82 @@ private LuceneIndexSettings() {
 	 */
 	public static final String INDEXING_QUEUE_SIZE = INDEXING_PREFIX + IndexingRadicals.QUEUE_SIZE;
 
+	/**
+	 * Whether indexing works affecting the same document in the same batch should be coalesced,
+	 * so that only the last update or delete is executed.
+	 * <p>
+	 * Works that were skipped complete when the last work completes.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_COALESCE_WORKS}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_COALESCE_WORKS = INDEXING_PREFIX + IndexingRadicals.COALESCE_WORKS;
+
+	/**
+	 * Whether consecutive document additions in the same batch should be written to the index in bulk.
+	 * <p>
+	 * Only additions are affected: updates and deletes are always executed one by one.
+	 * The documents of each addition are still written as a separate block.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_BULK_ADDS}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_BULK_ADDS = INDEXING_PREFIX + IndexingRadicals.BULK_ADDS;
+
+	/**
+	 * The sort to apply to documents in each segment of the index at indexing time.
+	 * <p>
+	 * When the sort of a query is the same as the index sort, or a prefix of the index sort,
+	 * the search stops collecting hits in each segment as soon as it found enough top hits,
+	 * provided the total hit count does not need to be computed exactly.
+	 * <p>
+	 * Expects a comma-separated list of sort definitions,
+	 * each in the format {@code <field path>} or {@code <field path>:asc} or {@code <field path>:desc},
+	 * e.g. {@code publicationDate:desc,title}.
+	 * Sorted fields must be single-valued, sortable fields of a string, boolean, numeric or temporal type,
+	 * and the index must not contain nested documents.
+	 * Missing values are sorted last.
+	 * <p>
+	 * Changing this property on an existing index requires dropping the index and reindexing.
+	 * <p>
+	 * Defaults to no value, meaning the index is not sorted.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Index sort",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEX_SORT = "index_sort";
+
+	/**
+	 * The maximum number of tenant indexes to keep open at the same time,
+	 * when using one index per tenant.
+	 * <p>
+	 * Tenant indexes are opened on first use.
+	 * When this limit is exceeded, the least recently used tenant indexes
+	 * that are not currently in use are closed:
+	 * their index writer and index readers are released, until they are used again.
+	 * <p>
+	 * Only available for the "index-per-tenant" multi-tenancy strategy.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#MAX_OPEN_TENANT_INDEXES}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Multi-tenancy",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String MAX_OPEN_TENANT_INDEXES = "max_open_tenant_indexes";
+
 	/**
 	 * Builds a configuration property key for the given shard of all indexes of the default backend,
 	 * with the given radical.
@@ -434,6 +548,8 @@ private IORadicals() {
 		public static final String STRATEGY = "strategy";
 		public static final String COMMIT_INTERVAL = "commit_interval";
 		public static final String REFRESH_INTERVAL = "refresh_interval";
+		public static final String REFRESH_BACKGROUND = "refresh_background";
+		public static final String REFRESH_WARM_SEGMENTS = "refresh_warm_segments";
 	}
 
 	/**
@@ -490,6 +606,8 @@ private IndexingRadicals() {
 
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
+		public static final String COALESCE_WORKS = "coalesce_works";
+		public static final String BULK_ADDS = "bulk_adds";
 	}
 
 	/**
@@ -508,7 +626,12 @@ private Defaults() {
 		public static final IOStrategyName IO_STRATEGY = IOStrategyName.NEAR_REAL_TIME;
 		public static final int IO_COMMIT_INTERVAL = 1000;
 		public static final int IO_REFRESH_INTERVAL = 0;
+		public static final boolean IO_REFRESH_BACKGROUND = false;
+		public static final boolean IO_REFRESH_WARM_SEGMENTS = false;
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
+		public static final boolean INDEXING_COALESCE_WORKS = false;
+		public static final boolean INDEXING_BULK_ADDS = false;
+		public static final int MAX_OPEN_TENANT_INDEXES = 100;
 	}
 }
@@ -20,6 +20,7 @@
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.multitenancy.MultiTenancyStrategyName;
 import org.hibernate.search.backend.lucene.multitenancy.impl.DiscriminatorMultiTenancyStrategy;
+import org.hibernate.search.backend.lucene.multitenancy.impl.IndexPerTenantMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
@@ -38,6 +39,7 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.search.LRUQueryCache;
 import org.apache.lucene.util.Version;
 
 
@@ -62,6 +64,17 @@ public class LuceneBackendFactory implements BackendFactory {
 					.asBeanReference( LuceneAnalysisConfigurer.class )
 					.build();
 
+	private static final ConfigurationProperty<Integer> SEARCH_QUERY_CACHE_MAX_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_QUERY_CACHE_MAX_SIZE )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_QUERY_CACHE_MAX_SIZE )
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> SEARCH_QUERY_CACHE_MAX_RAM_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_QUERY_CACHE_MAX_RAM_SIZE )
+					.asInteger()
+					.build();
+
 	@Override
 	public BackendImplementor create(EventContext eventContext, BackendBuildContext buildContext,
 			ConfigurationPropertySource propertySource) {
@@ -78,9 +91,12 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 					buildContext, propertySource, luceneVersion
 			);
 
+			LRUQueryCache queryCache = createQueryCacheOrNull( propertySource );
+
 			return new LuceneBackendImpl(
 					eventContext,
 					backendThreads,
+					queryCache,
 					new LuceneWorkFactoryImpl( multiTenancyStrategy ),
 					analysisDefinitionRegistry,
 					multiTenancyStrategy,
@@ -116,6 +132,18 @@ private Version getLuceneVersion(EventContext backendContext, ConfigurationPrope
 		return luceneVersion;
 	}
 
+	private LRUQueryCache createQueryCacheOrNull(ConfigurationPropertySource propertySource) {
+		int maxSize = SEARCH_QUERY_CACHE_MAX_SIZE.get( propertySource );
+		if ( maxSize <= 0 ) {
+			return null;
+		}
+		// Same default as Lucene's static query cache.
+		long maxRamBytesUsed = SEARCH_QUERY_CACHE_MAX_RAM_SIZE.get( propertySource )
+				.map( megabytes -> megabytes * 1024L * 1024L )
+				.orElseGet( () -> Math.min( 32L * 1024L * 1024L, Runtime.getRuntime().maxMemory() / 20 ) );
+		return new LRUQueryCache( maxSize, maxRamBytesUsed );
+	}
+
 	private MultiTenancyStrategy getMultiTenancyStrategy(ConfigurationPropertySource propertySource) {
 		MultiTenancyStrategyName multiTenancyStrategyName = MULTI_TENANCY_STRATEGY.get( propertySource );
 
@@ -124,6 +152,8 @@ private MultiTenancyStrategy getMultiTenancyStrategy(ConfigurationPropertySource
 				return new NoMultiTenancyStrategy();
 			case DISCRIMINATOR:
 				return new DiscriminatorMultiTenancyStrategy();
+			case INDEX_PER_TENANT:
+				return new IndexPerTenantMultiTenancyStrategy();
 			default:
 				throw new AssertionFailure( String.format(
 						Locale.ROOT, "Unsupported multi-tenancy strategy '%1$s'.",
@@ -34,6 +34,7 @@
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.search.LRUQueryCache;
 import org.apache.lucene.search.similarities.Similarity;
 
 
@@ -54,6 +55,7 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 
 	LuceneBackendImpl(EventContext eventContext,
 			BackendThreads threads,
+			LRUQueryCache queryCache,
 			LuceneWorkFactory workFactory,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			MultiTenancyStrategy multiTenancyStrategy,
@@ -66,7 +68,7 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 		Similarity similarity = analysisDefinitionRegistry.getSimilarity();
 
 		this.readOrchestrator = new LuceneSyncWorkOrchestratorImpl(
-				"Lucene read work orchestrator - " + eventContext.render(), similarity
+				"Lucene read work orchestrator - " + eventContext.render(), similarity, threads, queryCache
 		);
 		this.multiTenancyStrategy = multiTenancyStrategy;
 
@@ -6,6 +6,10 @@
  */
 package org.hibernate.search.backend.lucene.index.impl;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+
 import org.hibernate.search.backend.lucene.LuceneBackend;
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
@@ -19,7 +23,6 @@
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.NearRealTimeIOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterConfigSource;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
-import org.hibernate.search.backend.lucene.orchestration.impl.LuceneBatchedWorkProcessor;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestratorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
@@ -29,8 +32,10 @@
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchIndexesContext;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
+import org.hibernate.search.backend.lucene.search.query.impl.LuceneMultiSearchExecutor;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchQueryBuilder;
 import org.hibernate.search.backend.lucene.search.query.impl.SearchBackendContext;
+import org.hibernate.search.backend.lucene.types.sort.impl.IndexSortSupport;
 import org.hibernate.search.backend.lucene.work.execution.impl.LuceneIndexIndexer;
 import org.hibernate.search.backend.lucene.work.execution.impl.LuceneIndexIndexingPlan;
 import org.hibernate.search.backend.lucene.work.execution.impl.LuceneIndexWorkspace;
@@ -48,12 +53,14 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContextBuilder;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.similarities.Similarity;
 
 public class IndexManagerBackendContext implements WorkExecutionBackendContext, SearchBackendContext {
@@ -64,10 +71,16 @@ public class IndexManagerBackendContext implements WorkExecutionBackendContext,
 					.withDefault( LuceneIndexSettings.Defaults.IO_STRATEGY )
 					.build();
 
+	private static final OptionalConfigurationProperty<List<String>> INDEX_SORT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEX_SORT )
+					.asString().multivalued()
+					.build();
+
 	private final LuceneBackend backendAPI;
 	private final EventContext eventContext;
 
 	private final BackendThreads threads;
+	private final LuceneMultiSearchExecutor multiSearchExecutor;
 	private final Similarity similarity;
 	private final LuceneWorkFactory workFactory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
@@ -89,6 +102,7 @@ public IndexManagerBackendContext(LuceneBackend backendAPI,
 		this.backendAPI = backendAPI;
 		this.eventContext = eventContext;
 		this.threads = threads;
+		this.multiSearchExecutor = new LuceneMultiSearchExecutor( threads );
 		this.similarity = similarity;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.timingSource = timingSource;
@@ -166,6 +180,8 @@ public <H> LuceneSearchQueryBuilder<H> createSearchQueryBuilder(
 		return new LuceneSearchQueryBuilder<>(
 				workFactory,
 				readOrchestrator,
+				threads.getQueryExecutor(),
+				multiSearchExecutor,
 				searchContext,
 				sessionContext,
 				loadingContextBuilder,
@@ -181,6 +197,14 @@ EventContext getEventContext() {
 		return eventContext;
 	}
 
+	boolean isIndexPerTenant() {
+		return multiTenancyStrategy.isIndexPerTenant();
+	}
+
+	Executor maintenanceExecutor() {
+		return threads.getMaintenanceExecutor();
+	}
+
 	LuceneIndexEntryFactory createLuceneIndexEntryFactory(LuceneIndexModel model) {
 		return new LuceneIndexEntryFactory( model, multiTenancyStrategy );
 	}
@@ -205,8 +229,10 @@ Shard createShard(LuceneIndexModel model, EventContext shardEventContext, Direct
 		LuceneSerialWorkOrchestratorImpl indexingOrchestrator;
 		IndexAccessorImpl indexAccessor = null;
 		String indexName = model.hibernateSearchName();
+		Sort indexSort = IndexSortSupport.createIndexSortOrNull( model,
+				INDEX_SORT.get( propertySource ).orElse( Collections.emptyList() ), shardEventContext );
 		IndexWriterConfigSource writerConfigSource = IndexWriterConfigSource.create(
-				similarity, model.getIndexingAnalyzer(), propertySource, shardEventContext
+				similarity, model.getIndexingAnalyzer(), indexSort, propertySource, shardEventContext
 		);
 
 		try {
@@ -244,9 +270,7 @@ private LuceneSerialWorkOrchestratorImpl createIndexingOrchestrator(EventContext
 			IndexAccessorImpl indexAccessor) {
 		return new LuceneSerialWorkOrchestratorImpl(
 				"Lucene indexing orchestrator for " + eventContext.render(),
-				new LuceneBatchedWorkProcessor(
-						eventContext, indexAccessor
-				),
+				eventContext, indexAccessor,
 				threads,
 				failureHandler
 		);
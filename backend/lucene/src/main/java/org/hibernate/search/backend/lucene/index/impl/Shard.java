@@ -74,6 +74,10 @@ void stop() {
 		}
 	}
 
+	void createIndexIfMissing() {
+		indexAccessor.createIndexIfMissing();
+	}
+
 	DirectoryReader openReader() throws IOException {
 		return indexAccessor.getIndexReader();
 	}
@@ -16,6 +16,7 @@
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
 import org.hibernate.search.backend.lucene.index.spi.ShardingStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderCollector;
@@ -25,6 +26,7 @@
 import org.hibernate.search.backend.lucene.schema.management.impl.SchemaManagementIndexManagerContext;
 import org.hibernate.search.backend.lucene.work.execution.impl.WorkExecutionIndexManagerContext;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerStartContext;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.util.common.impl.Closer;
@@ -33,12 +35,20 @@
 class ShardHolder implements ReadIndexManagerContext, WorkExecutionIndexManagerContext,
 		SchemaManagementIndexManagerContext {
 
+	private static final ConfigurationProperty<Integer> MAX_OPEN_TENANT_INDEXES =
+			ConfigurationProperty.forKey( LuceneIndexSettings.MAX_OPEN_TENANT_INDEXES )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.MAX_OPEN_TENANT_INDEXES )
+					.build();
+
 	private final IndexManagerBackendContext backendContext;
 	private final LuceneIndexModel model;
 
 	private BeanHolder<? extends ShardingStrategy> shardingStrategyHolder;
 	private final Map<String, Shard> shards = new LinkedHashMap<>();
 	private final List<LuceneParallelWorkOrchestrator> managementOrchestrators = new ArrayList<>();
+	// Only set when using one index per tenant, in which case shards above remain empty
+	private TenantIndexes tenantIndexes;
 
 	ShardHolder(IndexManagerBackendContext backendContext, LuceneIndexModel model) {
 		this.backendContext = backendContext;
@@ -56,6 +66,16 @@ void start(IndexManagerStartContext startContext) {
 		try {
 			ShardingStrategyInitializationContextImpl initializationContext =
 					new ShardingStrategyInitializationContextImpl( backendContext, model, startContext, propertySource );
+
+			if ( backendContext.isIndexPerTenant() ) {
+				// Tenant shards will be created and started lazily, on first use.
+				Map<String, TenantShardFactory> factories = new LinkedHashMap<>();
+				this.tenantIndexes = new TenantIndexes( model.hibernateSearchName(), factories,
+						MAX_OPEN_TENANT_INDEXES.get( propertySource ), backendContext.maintenanceExecutor() );
+				this.shardingStrategyHolder = initializationContext.createTenantShardFactories( factories );
+				return;
+			}
+
 			this.shardingStrategyHolder = initializationContext.create( shards );
 
 			if ( startContext.failureCollector().hasFailure() ) {
@@ -70,14 +90,19 @@ void start(IndexManagerStartContext startContext) {
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
-					.pushAll( Shard::stop, shards.values() );
+					.pushAll( Shard::stop, shards.values() )
+					.push( TenantIndexes::stop, tenantIndexes );
 			shards.clear();
 			managementOrchestrators.clear();
+			tenantIndexes = null;
 			throw e;
 		}
 	}
 
 	CompletableFuture<?> preStop() {
+		if ( tenantIndexes != null ) {
+			return tenantIndexes.preStop();
+		}
 		CompletableFuture<?>[] futures = new CompletableFuture[shards.size()];
 		int i = 0;
 		for ( Shard shard : shards.values() ) {
@@ -90,14 +115,22 @@ CompletableFuture<?> preStop() {
 	void stop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.pushAll( Shard::stop, shards.values() );
+			closer.push( TenantIndexes::stop, tenantIndexes );
 			shards.clear();
 			managementOrchestrators.clear();
+			tenantIndexes = null;
 		}
 	}
 
 	@Override
-	public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector readerCollector) throws IOException {
+	public void openIndexReaders(String tenantId, Set<String> routingKeys, DirectoryReaderCollector readerCollector)
+			throws IOException {
 		String mappedTypeName = model.mappedTypeName();
+		if ( tenantIndexes != null ) {
+			tenantIndexes.get( tenantId ).openIndexReaders( toShardIds( routingKeys, tenantIndexes.shardIds() ),
+					mappedTypeName, readerCollector );
+			return;
+		}
 		Collection<Shard> enabledShards = toShards( routingKeys );
 		for ( Shard shard : enabledShards ) {
 			readerCollector.collect( mappedTypeName, shard.openReader() );
@@ -115,12 +148,23 @@ public String mappedTypeName() {
 	}
 
 	@Override
-	public LuceneSerialWorkOrchestrator indexingOrchestrator(String documentId, String routingKey) {
+	public LuceneSerialWorkOrchestrator indexingOrchestrator(String tenantId, String documentId, String routingKey) {
+		if ( tenantIndexes != null ) {
+			return tenantIndexes.get( tenantId ).indexingOrchestrator( toShardId( documentId, routingKey ) );
+		}
 		return toShard( documentId, routingKey ).indexingOrchestrator();
 	}
 
 	@Override
-	public List<LuceneParallelWorkOrchestrator> managementOrchestrators(Set<String> routingKeys) {
+	public List<LuceneParallelWorkOrchestrator> managementOrchestrators(String tenantId, Set<String> routingKeys) {
+		if ( tenantIndexes != null ) {
+			TenantShards tenant = tenantIndexes.get( tenantId );
+			List<LuceneParallelWorkOrchestrator> orchestrators = new ArrayList<>();
+			for ( String shardId : toShardIds( routingKeys, tenantIndexes.shardIds() ) ) {
+				orchestrators.add( tenant.managementOrchestrator( shardId ) );
+			}
+			return orchestrators;
+		}
 		Collection<Shard> enabledShards = toShards( routingKeys );
 		List<LuceneParallelWorkOrchestrator> orchestrators = new ArrayList<>();
 		for ( Shard shard : enabledShards ) {
@@ -129,12 +173,35 @@ public List<LuceneParallelWorkOrchestrator> managementOrchestrators(Set<String>
 		return orchestrators;
 	}
 
+	@Override
+	public List<LuceneParallelWorkOrchestrator> allManagementOrchestrators(String tenantId) {
+		if ( tenantIndexes != null ) {
+			return new ArrayList<>( tenantIndexes.get( tenantId ).allManagementOrchestrators() );
+		}
+		return managementOrchestrators;
+	}
+
 	@Override
 	public List<LuceneParallelWorkOrchestrator> allManagementOrchestrators() {
+		if ( tenantIndexes != null ) {
+			// Tenants are not known in advance: only target those that were used since startup.
+			List<LuceneParallelWorkOrchestrator> orchestrators = new ArrayList<>();
+			for ( TenantShards tenant : tenantIndexes.all() ) {
+				orchestrators.addAll( tenant.allManagementOrchestrators() );
+			}
+			return orchestrators;
+		}
 		return managementOrchestrators;
 	}
 
 	public List<Shard> shardsForTests() {
+		if ( tenantIndexes != null ) {
+			List<Shard> result = new ArrayList<>();
+			for ( TenantShards tenant : tenantIndexes.all() ) {
+				result.addAll( tenant.shardsForTests() );
+			}
+			return result;
+		}
 		return new ArrayList<>( shards.values() );
 	}
 
@@ -153,6 +220,22 @@ private Collection<Shard> toShards(Set<String> routingKeys) {
 		return enabledShards;
 	}
 
+	private Collection<String> toShardIds(Set<String> routingKeys, Collection<String> allShardIds) {
+		if ( shardingStrategyHolder == null || routingKeys.isEmpty() ) {
+			// No sharding or no routing key => target all shards
+			return allShardIds;
+		}
+		return shardingStrategyHolder.get().toShardIdentifiers( routingKeys );
+	}
+
+	private String toShardId(String documentId, String routingKey) {
+		if ( shardingStrategyHolder == null ) {
+			// Sharding is disabled: there's only one shard, registered with a null identifier
+			return null;
+		}
+		return shardingStrategyHolder.get().toShardIdentifier( documentId, routingKey );
+	}
+
 	private Shard toShard(String documentId, String routingKey) {
 		if ( shardingStrategyHolder == null ) {
 			// Sharding is disabled: there's only one shard
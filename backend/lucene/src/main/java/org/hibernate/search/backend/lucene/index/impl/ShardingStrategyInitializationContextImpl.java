@@ -11,6 +11,7 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
@@ -97,6 +98,15 @@ public ConfigurationPropertySource configurationPropertySource() {
 	}
 
 	public BeanHolder<? extends ShardingStrategy> create(Map<String, Shard> shardCollector) {
+		return create( shardId -> contributeShardWithSilentFailure( shardCollector, shardId ) );
+	}
+
+	public BeanHolder<? extends ShardingStrategy> createTenantShardFactories(
+			Map<String, TenantShardFactory> factoryCollector) {
+		return create( shardId -> contributeTenantShardFactoryWithSilentFailure( factoryCollector, shardId ) );
+	}
+
+	private BeanHolder<? extends ShardingStrategy> create(Consumer<Optional<String>> shardContributor) {
 		BeanHolder<? extends ShardingStrategy> shardingStrategyHolder =
 				SHARDING_STRATEGY.getAndTransform( shardingPropertySource, beanResolver()::resolve );
 
@@ -104,7 +114,7 @@ public BeanHolder<? extends ShardingStrategy> create(Map<String, Shard> shardCol
 
 		if ( shardIdentifiers == null ) {
 			// Sharding is disabled => single shard
-			contributeShardWithSilentFailure( shardCollector, Optional.empty() );
+			shardContributor.accept( Optional.empty() );
 			return null;
 		}
 
@@ -115,7 +125,7 @@ public BeanHolder<? extends ShardingStrategy> create(Map<String, Shard> shardCol
 		}
 
 		for ( String shardIdentifier : shardIdentifiers ) {
-			contributeShardWithSilentFailure( shardCollector, Optional.of( shardIdentifier ) );
+			shardContributor.accept( Optional.of( shardIdentifier ) );
 		}
 
 		return shardingStrategyHolder;
@@ -123,11 +133,7 @@ public BeanHolder<? extends ShardingStrategy> create(Map<String, Shard> shardCol
 
 	private void contributeShardWithSilentFailure(Map<String, Shard> shardCollector, Optional<String> shardId) {
 		EventContext shardEventContext = EventContexts.fromIndexNameAndShardId( indexName(), shardId );
-		ConfigurationPropertySource shardPropertySource =
-				shardId.isPresent() ?
-						indexPropertySource.withMask( LuceneIndexSettings.SHARDS ).withMask( shardId.get() )
-								.withFallback( indexPropertySource )
-						: indexPropertySource;
+		ConfigurationPropertySource shardPropertySource = shardPropertySource( shardId );
 
 		DirectoryHolder directoryHolder = null;
 		try ( BeanHolder<? extends DirectoryProvider> directoryProviderHolder =
@@ -144,12 +150,44 @@ private void contributeShardWithSilentFailure(Map<String, Shard> shardCollector,
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e ).push( directoryHolder );
+			addFailure( shardId, e );
+		}
+	}
+
+	private void contributeTenantShardFactoryWithSilentFailure(Map<String, TenantShardFactory> factoryCollector,
+			Optional<String> shardId) {
+		ConfigurationPropertySource shardPropertySource = shardPropertySource( shardId );
+
+		BeanHolder<? extends DirectoryProvider> directoryProviderHolder = null;
+		try {
+			// Directories are created lazily, for each tenant: keep the provider until the index is stopped.
+			directoryProviderHolder =
+					DIRECTORY_TYPE.getAndTransform( shardPropertySource, startContext.beanResolver()::resolve );
+
+			IOStrategy ioStrategy = backendContext.createIOStrategy( shardPropertySource );
+
+			TenantShardFactory factory = new TenantShardFactory( backendContext, model, beanResolver(),
+					shardId, shardPropertySource, directoryProviderHolder, ioStrategy );
+			factoryCollector.put( shardId.orElse( null ), factory );
+		}
+		catch (RuntimeException e) {
+			new SuppressingCloser( e ).push( directoryProviderHolder );
+			addFailure( shardId, e );
+		}
+	}
+
+	private ConfigurationPropertySource shardPropertySource(Optional<String> shardId) {
+		return shardId.isPresent() ?
+				indexPropertySource.withMask( LuceneIndexSettings.SHARDS ).withMask( shardId.get() )
+						.withFallback( indexPropertySource )
+				: indexPropertySource;
+	}
 
-			ContextualFailureCollector failureCollector = startContext.failureCollector();
-			if ( shardId.isPresent() ) {
-				failureCollector = failureCollector.withContext( EventContexts.fromShardId( shardId.get() ) );
-			}
-			failureCollector.add( e );
+	private void addFailure(Optional<String> shardId, RuntimeException e) {
+		ContextualFailureCollector failureCollector = startContext.failureCollector();
+		if ( shardId.isPresent() ) {
+			failureCollector = failureCollector.withContext( EventContexts.fromShardId( shardId.get() ) );
 		}
+		failureCollector.add( e );
 	}
 }
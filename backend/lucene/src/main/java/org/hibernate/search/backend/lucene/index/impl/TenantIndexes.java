@@ -0,0 +1,158 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * The indexes of all tenants for a single index manager, when using one index per tenant.
+ * <p>
+ * Tenant indexes are started lazily, on first use.
+ * When more than {@code maxStartedTenants} tenant indexes are started,
+ * the least recently used ones are stopped, provided they are not currently in use,
+ * so that the number of open index writers and index readers remains bounded.
+ * Stopping happens in the background, so that it does not delay the operation that triggered it.
+ */
+final class TenantIndexes {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String indexName;
+	private final Map<String, TenantShardFactory> factories;
+	private final int maxStartedTenants;
+	private final Executor stopExecutor;
+
+	private final ConcurrentMap<String, TenantShards> tenants = new ConcurrentHashMap<>();
+	/**
+	 * Tenants whose shards are started, from least recently used to most recently used.
+	 */
+	private final LinkedHashMap<String, TenantShards> startedTenants = // Guarded by this
+			new LinkedHashMap<>( 16, 0.75f, true );
+
+	TenantIndexes(String indexName, Map<String, TenantShardFactory> factories, int maxStartedTenants,
+			Executor stopExecutor) {
+		this.indexName = indexName;
+		this.factories = factories;
+		this.maxStartedTenants = maxStartedTenants;
+		this.stopExecutor = stopExecutor;
+	}
+
+	TenantShards get(String tenantId) {
+		return tenants.computeIfAbsent( tenantId, this::createTenant );
+	}
+
+	Collection<String> shardIds() {
+		return factories.keySet();
+	}
+
+	Collection<TenantShards> all() {
+		return tenants.values();
+	}
+
+	CompletableFuture<?> preStop() {
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( TenantShards tenant : tenants.values() ) {
+			futures.add( tenant.preStop() );
+		}
+		return CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) );
+	}
+
+	void stop() {
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.pushAll( TenantShards::stop, tenants.values() );
+			closer.pushAll( TenantShardFactory::close, factories.values() );
+			tenants.clear();
+			synchronized ( this ) {
+				startedTenants.clear();
+			}
+		}
+	}
+
+	void onUse(TenantShards tenant, boolean started) {
+		List<TenantShards> tenantsToStop = null;
+		List<Map<String, Shard>> shardsToStop = null;
+		synchronized ( this ) {
+			if ( started ) {
+				startedTenants.put( tenant.tenantId(), tenant );
+			}
+			else {
+				// Just update the access order
+				startedTenants.get( tenant.tenantId() );
+			}
+			Iterator<TenantShards> iterator = startedTenants.values().iterator();
+			while ( startedTenants.size() > maxStartedTenants && iterator.hasNext() ) {
+				TenantShards candidate = iterator.next();
+				if ( candidate == tenant ) {
+					continue;
+				}
+				Map<String, Shard> candidateShards = candidate.markStoppingIfIdle();
+				if ( candidateShards == null ) {
+					// In use: try the next one.
+					continue;
+				}
+				iterator.remove();
+				if ( tenantsToStop == null ) {
+					tenantsToStop = new ArrayList<>();
+					shardsToStop = new ArrayList<>();
+				}
+				tenantsToStop.add( candidate );
+				shardsToStop.add( candidateShards );
+			}
+		}
+		if ( tenantsToStop == null ) {
+			return;
+		}
+		// Stop shards outside of the lock and in the background,
+		// since it involves waiting for the end of indexing queues and committing.
+		for ( int i = 0; i < tenantsToStop.size(); i++ ) {
+			TenantShards tenantToStop = tenantsToStop.get( i );
+			Map<String, Shard> tenantShardsToStop = shardsToStop.get( i );
+			Runnable stopTask = () -> completeStop( tenantToStop, tenantShardsToStop );
+			try {
+				stopExecutor.execute( stopTask );
+			}
+			catch (RejectedExecutionException e) {
+				// The backend is shutting down: stop the shards right now, so that the tenant stop can complete.
+				stopTask.run();
+			}
+		}
+	}
+
+	private void completeStop(TenantShards tenantToStop, Map<String, Shard> shardsToStop) {
+		try {
+			tenantToStop.completeStop( shardsToStop );
+		}
+		catch (RuntimeException e) {
+			// Do not propagate: nothing is waiting for this stop to succeed.
+			log.unableToCloseIdleTenantIndex( e.getMessage(), tenantToStop.eventContext(), e );
+		}
+	}
+
+	private TenantShards createTenant(String tenantId) {
+		TenantShards tenant = new TenantShards( this, tenantId,
+				EventContexts.fromIndexName( indexName ).append( EventContexts.fromTenantId( tenantId ) ),
+				factories );
+		tenant.startDirectories();
+		return tenant;
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.lowlevel.directory.impl.DirectoryCreationContextImpl;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryCreationContext;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.bean.BeanResolver;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+/**
+ * Creates the directory and the shard with a given identifier for any tenant,
+ * when using one index per tenant.
+ */
+final class TenantShardFactory implements AutoCloseable {
+
+	private final IndexManagerBackendContext backendContext;
+	private final LuceneIndexModel model;
+	private final BeanResolver beanResolver;
+	private final Optional<String> shardId;
+	private final ConfigurationPropertySource shardPropertySource;
+	private final BeanHolder<? extends DirectoryProvider> directoryProviderHolder;
+	private final IOStrategy ioStrategy;
+
+	TenantShardFactory(IndexManagerBackendContext backendContext, LuceneIndexModel model,
+			BeanResolver beanResolver, Optional<String> shardId, ConfigurationPropertySource shardPropertySource,
+			BeanHolder<? extends DirectoryProvider> directoryProviderHolder, IOStrategy ioStrategy) {
+		this.backendContext = backendContext;
+		this.model = model;
+		this.beanResolver = beanResolver;
+		this.shardId = shardId;
+		this.shardPropertySource = shardPropertySource;
+		this.directoryProviderHolder = directoryProviderHolder;
+		this.ioStrategy = ioStrategy;
+	}
+
+	@Override
+	public void close() {
+		directoryProviderHolder.close();
+	}
+
+	ConfigurationPropertySource propertySource() {
+		return shardPropertySource;
+	}
+
+	EventContext eventContext(String tenantId) {
+		EventContext eventContext = EventContexts.fromIndexName( model.hibernateSearchName() )
+				.append( EventContexts.fromTenantId( tenantId ) );
+		if ( shardId.isPresent() ) {
+			eventContext = eventContext.append( EventContexts.fromShardId( shardId.get() ) );
+		}
+		return eventContext;
+	}
+
+	DirectoryHolder createDirectoryHolder(String tenantId) {
+		DirectoryCreationContext context = new DirectoryCreationContextImpl( eventContext( tenantId ),
+				model.hibernateSearchName(), shardId, Optional.of( tenantId ),
+				beanResolver, shardPropertySource.withMask( "directory" ) );
+		return directoryProviderHolder.get().createDirectoryHolder( context );
+	}
+
+	Shard createShard(String tenantId, DirectoryHolder directoryHolder) {
+		return backendContext.createShard( model, eventContext( tenantId ), directoryHolder, ioStrategy,
+				shardPropertySource );
+	}
+}
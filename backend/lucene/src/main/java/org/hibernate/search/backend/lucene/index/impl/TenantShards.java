@@ -0,0 +1,415 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderCollector;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneBatchedWork;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
+import org.hibernate.search.backend.lucene.work.impl.IndexManagementWork;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.impl.SuppressingCloser;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.store.Directory;
+
+/**
+ * The shards of a single tenant, when using one index per tenant.
+ * <p>
+ * Shards are started on first use, and may be stopped when idle to release their resources
+ * (index writer, index readers, indexing queues): see {@link TenantIndexes}.
+ * Directories, on the other hand, are kept until the index manager stops,
+ * so that stopping the shards of a tenant does not lose the content of in-memory directories.
+ * <p>
+ * The orchestrators exposed by this class start the shards as necessary,
+ * and prevent the shards from stopping until each work was queued (for indexing works)
+ * or executed (for index management works).
+ */
+final class TenantShards {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final TenantIndexes owner;
+	private final String tenantId;
+	private final EventContext eventContext;
+	private final Map<String, TenantShardFactory> factories;
+	private final Map<String, DirectoryHolder> directoryHolders = new LinkedHashMap<>();
+	private final Map<String, LuceneSerialWorkOrchestrator> indexingOrchestrators = new LinkedHashMap<>();
+	private final Map<String, LuceneParallelWorkOrchestrator> managementOrchestrators = new LinkedHashMap<>();
+
+	/**
+	 * The started shards, or null when stopped.
+	 */
+	private Map<String, Shard> shards; // Guarded by this
+	private int useCount; // Guarded by this
+	private CompletableFuture<Void> startFuture; // Guarded by this
+	private CompletableFuture<Void> stopFuture; // Guarded by this
+
+	TenantShards(TenantIndexes owner, String tenantId, EventContext eventContext,
+			Map<String, TenantShardFactory> factories) {
+		this.owner = owner;
+		this.tenantId = tenantId;
+		this.eventContext = eventContext;
+		this.factories = factories;
+		for ( String shardId : factories.keySet() ) {
+			indexingOrchestrators.put( shardId, new TenantSerialWorkOrchestrator( shardId ) );
+			managementOrchestrators.put( shardId, new TenantParallelWorkOrchestrator( shardId ) );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[tenantId=" + tenantId + "]";
+	}
+
+	String tenantId() {
+		return tenantId;
+	}
+
+	EventContext eventContext() {
+		return eventContext;
+	}
+
+	void startDirectories() {
+		try {
+			for ( Map.Entry<String, TenantShardFactory> entry : factories.entrySet() ) {
+				DirectoryHolder directoryHolder = entry.getValue().createDirectoryHolder( tenantId );
+				directoryHolders.put( entry.getKey(), directoryHolder );
+				directoryHolder.start();
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			new SuppressingCloser( e ).pushAll( directoryHolders.values() );
+			throw log.unableToInitializeIndexDirectory( e.getMessage(), eventContext, e );
+		}
+	}
+
+	synchronized CompletableFuture<?> preStop() {
+		if ( shards == null ) {
+			return stopFuture == null ? CompletableFuture.completedFuture( null ) : stopFuture;
+		}
+		return preStop( shards.values() );
+	}
+
+	void stop() {
+		CompletableFuture<Void> pendingTransition;
+		synchronized ( this ) {
+			pendingTransition = stopFuture != null ? stopFuture : startFuture;
+		}
+		if ( pendingTransition != null ) {
+			// Shards are being started or stopped: let that finish before closing directories.
+			pendingTransition.join();
+		}
+		Map<String, Shard> shardsToStop;
+		synchronized ( this ) {
+			shardsToStop = shards;
+			shards = null;
+		}
+		try ( Closer<IOException> closer = new Closer<>() ) {
+			if ( shardsToStop != null ) {
+				closer.pushAll( Shard::stop, shardsToStop.values() );
+			}
+			closer.pushAll( DirectoryHolder::close, directoryHolders.values() );
+		}
+		catch (IOException e) {
+			throw log.unableToShutdownIndexAccessor( e.getMessage(), e );
+		}
+	}
+
+	/**
+	 * Stops the shards if they are not currently in use.
+	 * <p>
+	 * Called by the owner, which must then call {@link #completeStop(Map)}.
+	 *
+	 * @return The shards to stop, or {@code null} if the shards are in use or already stopped.
+	 */
+	synchronized Map<String, Shard> markStoppingIfIdle() {
+		if ( shards == null || useCount > 0 ) {
+			return null;
+		}
+		Map<String, Shard> shardsToStop = shards;
+		shards = null;
+		stopFuture = new CompletableFuture<>();
+		return shardsToStop;
+	}
+
+	void completeStop(Map<String, Shard> shardsToStop) {
+		try {
+			Futures.unwrappedExceptionJoin( preStop( shardsToStop.values() ) );
+		}
+		finally {
+			CompletableFuture<Void> future;
+			try ( Closer<RuntimeException> closer = new Closer<>() ) {
+				closer.pushAll( Shard::stop, shardsToStop.values() );
+			}
+			finally {
+				synchronized ( this ) {
+					future = stopFuture;
+					stopFuture = null;
+				}
+				future.complete( null );
+			}
+		}
+	}
+
+	void openIndexReaders(Collection<String> shardIds, String mappedTypeName,
+			DirectoryReaderCollector readerCollector) throws IOException {
+		Map<String, Shard> currentShards = acquire();
+		try {
+			for ( String shardId : shardIds ) {
+				readerCollector.collect( mappedTypeName, currentShards.get( shardId ).openReader() );
+			}
+		}
+		finally {
+			release();
+		}
+	}
+
+	LuceneSerialWorkOrchestrator indexingOrchestrator(String shardId) {
+		return indexingOrchestrators.get( shardId );
+	}
+
+	LuceneParallelWorkOrchestrator managementOrchestrator(String shardId) {
+		return managementOrchestrators.get( shardId );
+	}
+
+	Collection<LuceneParallelWorkOrchestrator> allManagementOrchestrators() {
+		return managementOrchestrators.values();
+	}
+
+	synchronized List<Shard> shardsForTests() {
+		return shards == null ? Collections.emptyList() : new ArrayList<>( shards.values() );
+	}
+
+	private Map<String, Shard> acquire() {
+		Map<String, Shard> currentShards;
+		boolean started = false;
+		while ( true ) {
+			CompletableFuture<Void> pendingTransition;
+			boolean mustStart = false;
+			synchronized ( this ) {
+				if ( stopFuture != null ) {
+					pendingTransition = stopFuture;
+				}
+				else if ( startFuture != null ) {
+					pendingTransition = startFuture;
+				}
+				else if ( shards == null ) {
+					startFuture = new CompletableFuture<>();
+					pendingTransition = startFuture;
+					mustStart = true;
+				}
+				else {
+					++useCount;
+					currentShards = shards;
+					break;
+				}
+			}
+			if ( mustStart ) {
+				// Start the shards outside of the lock, since it involves IO.
+				currentShards = startShardsAndAcquire();
+				started = true;
+				break;
+			}
+			// The shards are being started or stopped: wait until they are, then try again.
+			pendingTransition.join();
+		}
+		owner.onUse( this, started );
+		return currentShards;
+	}
+
+	private Map<String, Shard> startShardsAndAcquire() {
+		Map<String, Shard> startedShards = null;
+		try {
+			startedShards = startShards();
+			return startedShards;
+		}
+		finally {
+			CompletableFuture<Void> future;
+			synchronized ( this ) {
+				future = startFuture;
+				startFuture = null;
+				if ( startedShards != null ) {
+					shards = startedShards;
+					++useCount;
+				}
+			}
+			// On failure, threads waiting for the start will simply try again.
+			future.complete( null );
+		}
+	}
+
+	private synchronized Map<String, Shard> acquireIfStarted() {
+		if ( shards == null ) {
+			return null;
+		}
+		++useCount;
+		return shards;
+	}
+
+	private synchronized void release() {
+		--useCount;
+	}
+
+	private Map<String, Shard> startShards() {
+		Map<String, Shard> startedShards = new LinkedHashMap<>();
+		try {
+			for ( Map.Entry<String, TenantShardFactory> entry : factories.entrySet() ) {
+				TenantShardFactory factory = entry.getValue();
+				Shard shard = factory.createShard( tenantId,
+						new TenantDirectoryHolder( directoryHolders.get( entry.getKey() ) ) );
+				shard.start( factory.propertySource() );
+				startedShards.put( entry.getKey(), shard );
+				// Tenant indexes are not created by schema management, since tenants are not known in advance.
+				shard.createIndexIfMissing();
+			}
+		}
+		catch (RuntimeException e) {
+			new SuppressingCloser( e ).pushAll( Shard::stop, startedShards.values() );
+			throw e;
+		}
+		return startedShards;
+	}
+
+	private static CompletableFuture<?> preStop(Collection<Shard> shards) {
+		CompletableFuture<?>[] futures = new CompletableFuture[shards.size()];
+		int i = 0;
+		for ( Shard shard : shards ) {
+			futures[i] = shard.preStop();
+			i++;
+		}
+		return CompletableFuture.allOf( futures );
+	}
+
+	private class TenantSerialWorkOrchestrator implements LuceneSerialWorkOrchestrator {
+		private final String shardId;
+
+		private TenantSerialWorkOrchestrator(String shardId) {
+			this.shardId = shardId;
+		}
+
+		@Override
+		public void submit(LuceneBatchedWork<?> work) {
+			Map<String, Shard> currentShards = acquire();
+			try {
+				// Once queued, the work will be executed before the shard stops.
+				currentShards.get( shardId ).indexingOrchestrator().submit( work );
+			}
+			finally {
+				release();
+			}
+		}
+
+		@Override
+		public void forceCommitInCurrentThread() {
+			Map<String, Shard> currentShards = acquireIfStarted();
+			if ( currentShards == null ) {
+				// Stopping the shard committed everything already.
+				return;
+			}
+			try {
+				currentShards.get( shardId ).indexingOrchestrator().forceCommitInCurrentThread();
+			}
+			finally {
+				release();
+			}
+		}
+
+		@Override
+		public void forceRefreshInCurrentThread() {
+			Map<String, Shard> currentShards = acquireIfStarted();
+			if ( currentShards == null ) {
+				// Index readers will be opened from scratch when the shard starts again.
+				return;
+			}
+			try {
+				currentShards.get( shardId ).indexingOrchestrator().forceRefreshInCurrentThread();
+			}
+			finally {
+				release();
+			}
+		}
+	}
+
+	private class TenantParallelWorkOrchestrator implements LuceneParallelWorkOrchestrator {
+		private final String shardId;
+
+		private TenantParallelWorkOrchestrator(String shardId) {
+			this.shardId = shardId;
+		}
+
+		@Override
+		public <T> void submit(CompletableFuture<T> future, IndexManagementWork<T> work) {
+			Map<String, Shard> currentShards = acquire();
+			try {
+				currentShards.get( shardId ).managementOrchestrator().submit( future, work );
+			}
+			catch (RuntimeException e) {
+				release();
+				throw e;
+			}
+			// The work is executed asynchronously: prevent the shard from stopping until it's done.
+			future.whenComplete( (result, throwable) -> release() );
+		}
+
+		@Override
+		public void forceCommitInCurrentThread() {
+			Map<String, Shard> currentShards = acquireIfStarted();
+			if ( currentShards == null ) {
+				// Stopping the shard committed everything already.
+				return;
+			}
+			try {
+				currentShards.get( shardId ).managementOrchestrator().forceCommitInCurrentThread();
+			}
+			finally {
+				release();
+			}
+		}
+	}
+
+	/**
+	 * A directory holder whose lifecycle is managed by {@link TenantShards} rather than by the shard,
+	 * so that the directory outlives the shard.
+	 */
+	private static final class TenantDirectoryHolder implements DirectoryHolder {
+		private final DirectoryHolder delegate;
+
+		private TenantDirectoryHolder(DirectoryHolder delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void start() {
+			// Already started
+		}
+
+		@Override
+		public void close() {
+			// Will be closed when the index manager stops
+		}
+
+		@Override
+		public Directory get() {
+			return delegate.get();
+		}
+	}
+}
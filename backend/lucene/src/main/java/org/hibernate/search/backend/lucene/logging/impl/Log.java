@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.logging.impl;
 
+import static org.jboss.logging.Logger.Level.DEBUG;
 import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.TRACE;
 import static org.jboss.logging.Logger.Level.WARN;
@@ -21,6 +22,7 @@
 import org.apache.lucene.util.Version;
 
 import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.backend.lucene.types.LuceneProjectionSource;
 import org.hibernate.search.engine.backend.scope.spi.IndexScopeBuilder;
 import org.hibernate.search.engine.backend.types.converter.spi.ToDocumentIdentifierValueConverter;
 import org.hibernate.search.engine.logging.spi.AggregationKeyFormatter;
@@ -636,4 +638,73 @@ SearchException cannotUseQueryElementForObjectFieldBecauseCreationException(Stri
 			value = "Unable to create instance of analysis component '%1$s': %2$s")
 	SearchException unableToCreateAnalysisComponent(@FormatWith(ClassFormatter.class) Class<?> type, String causeMessage,
 			@Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 143,
+			value = "Invalid refresh interval: background refresh requires a strictly positive refresh interval."
+					+ " Either set '%1$s' to a value higher than 0, or disable background refresh.")
+	SearchException backgroundRefreshRequiresPositiveRefreshInterval(String refreshIntervalPropertyKey);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET + 144,
+			value = "Refreshed index reader in the background in %1$d ms (warmed up %2$d new segments);"
+					+ " the previous index reader had been in use for %3$d ms. %4$s")
+	void backgroundRefreshExecuted(long refreshDurationMs, int warmedSegmentCount, long refreshLagMs,
+			@FormatWith(EventContextFormatter.class) EventContext context);
+
+	@Message(id = ID_OFFSET + 145,
+			value = "Unable to refresh the index reader in the background: %1$s")
+	SearchException unableToRefreshIndexReaderInBackground(String causeMessage,
+			@Param EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 146,
+			value = "Invalid index sort: index sorts cannot be used on indexes with nested documents.")
+	SearchException indexSortWithNestedDocuments(@Param EventContext context);
+
+	@Message(id = ID_OFFSET + 147,
+			value = "Invalid sort order '%1$s' in index sort definition '%2$s'. Valid orders are 'asc' and 'desc'.")
+	SearchException invalidIndexSortOrder(String order, String definition, @Param EventContext context);
+
+	@Message(id = ID_OFFSET + 148,
+			value = "Invalid index sort: unknown field '%1$s'.")
+	SearchException unknownFieldForIndexSort(String absoluteFieldPath, @Param EventContext context);
+
+	@Message(id = ID_OFFSET + 149,
+			value = "Invalid index sort: field '%1$s' cannot be used to sort the index."
+					+ " Index sorts require single-valued, sortable fields"
+					+ " of a string, boolean, numeric or temporal type.")
+	SearchException invalidFieldForIndexSort(String absoluteFieldPath, @Param EventContext context);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET + 150,
+			value = "Query cache statistics for orchestrator '%1$s': %2$d hits, %3$d misses, %4$d evictions;"
+					+ " %5$d cached query results using %6$d bytes on shutdown.")
+	void queryCacheStatistics(String orchestratorName, long hitCount, long missCount, long evictionCount,
+			long cacheSize, long ramBytesUsed);
+
+	@Message(id = ID_OFFSET + 151,
+			value = "Invalid tenant identifier: '%1$s'."
+					+ " With one index per tenant, the tenant identifier is used as a directory name:"
+					+ " it must only contain letters, digits, '_', '-' or '.', and must not start with '.'.")
+	SearchException invalidTenantIdForIndexPerTenant(String tenantId, @Param EventContext context);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 152,
+			value = "Unable to close the index of an idle tenant: %1$s %2$s")
+	void unableToCloseIdleTenantIndex(String causeMessage,
+			@FormatWith(EventContextFormatter.class) EventContext context, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 153,
+			value = "Invalid projection source '%1$s': docvalues of this field do not hold the exact projected value."
+					+ " Projections can only read values from docvalues"
+					+ " for string fields without an analyzer or normalizer, boolean, integer and floating-point fields,"
+					+ " and LocalDate, LocalTime, Year, YearMonth and MonthDay fields.")
+	SearchException cannotUseDocValuesProjectionSource(LuceneProjectionSource projectionSource,
+			@Param EventContext context);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 154,
+			value = "Unable to add the documents of %1$d index works in bulk: %2$s"
+					+ " The index writer was reset and each of these works will be executed separately. %3$s")
+	void failedToExecuteBulk(int workCount, String causeMessage,
+			@FormatWith(EventContextFormatter.class) EventContext context, @Cause Throwable cause);
 }
@@ -9,11 +9,23 @@
 import java.io.IOException;
 
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
 
-public interface CollectorFactory<C extends Collector> {
+/**
+ * A factory for collector managers.
+ * <p>
+ * Collectors are created through a {@link CollectorManager}
+ * so that the search can be executed in parallel over multiple slices of the index,
+ * each slice having its own collector,
+ * with the results of all collectors being reduced into a single result at the end of the search.
+ *
+ * @param <C> The type of collector.
+ * @param <T> The type of the result of the collector, once collectors for each index slice have been reduced.
+ */
+public interface CollectorFactory<C extends Collector, T> {
 
-	C createCollector(CollectorExecutionContext context) throws IOException;
+	CollectorManager<C, T> createCollectorManager(CollectorExecutionContext context) throws IOException;
 
-	CollectorKey<C> getCollectorKey();
+	CollectorKey<C, T> getCollectorKey();
 
 }
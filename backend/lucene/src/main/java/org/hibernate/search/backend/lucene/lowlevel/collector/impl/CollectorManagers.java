@@ -0,0 +1,60 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+
+public final class CollectorManagers {
+
+	private CollectorManagers() {
+	}
+
+	/**
+	 * Executes a search with the given collector manager,
+	 * potentially in parallel over multiple slices of the index if the searcher has an executor.
+	 * <p>
+	 * When slices are searched in other threads, Lucene wraps any failure into
+	 * a {@code RuntimeException(ExecutionException(failure))};
+	 * this method unwraps such failures so that callers can handle them as if the search was executed in the current thread.
+	 *
+	 * @param indexSearcher The index searcher.
+	 * @param query The query.
+	 * @param collectorManager The collector manager.
+	 * @param <C> The type of collectors.
+	 * @param <T> The type of the reduced result.
+	 * @return The result of {@link CollectorManager#reduce(java.util.Collection)}.
+	 * @throws IOException If Lucene throws an {@link IOException}.
+	 */
+	public static <C extends Collector, T> T search(IndexSearcher indexSearcher, Query query,
+			CollectorManager<C, T> collectorManager) throws IOException {
+		try {
+			return indexSearcher.search( query, collectorManager );
+		}
+		catch (RuntimeException e) {
+			Throwable cause = e.getCause();
+			if ( cause instanceof ExecutionException && cause.getCause() != null ) {
+				Throwable failure = cause.getCause();
+				if ( failure instanceof IOException ) {
+					throw (IOException) failure;
+				}
+				else if ( failure instanceof RuntimeException ) {
+					throw (RuntimeException) failure;
+				}
+				else if ( failure instanceof Error ) {
+					throw (Error) failure;
+				}
+			}
+			throw e;
+		}
+	}
+}
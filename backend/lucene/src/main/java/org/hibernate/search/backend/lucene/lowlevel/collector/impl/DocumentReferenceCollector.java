@@ -7,7 +7,9 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
@@ -18,24 +20,47 @@
 import org.apache.lucene.index.BinaryDocValues;
 import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.SimpleCollector;
 
 public final class DocumentReferenceCollector extends SimpleCollector {
 
-	public static final CollectorKey<DocumentReferenceCollector> KEY = CollectorKey.create();
+	public static final CollectorKey<DocumentReferenceCollector, DocumentReferenceCollector> KEY = CollectorKey.create();
 
-	public static final CollectorFactory<DocumentReferenceCollector> FACTORY = new CollectorFactory<DocumentReferenceCollector>() {
-		@Override
-		public DocumentReferenceCollector createCollector(CollectorExecutionContext context) {
-			return new DocumentReferenceCollector( context );
-		}
+	public static final CollectorFactory<DocumentReferenceCollector, DocumentReferenceCollector> FACTORY =
+			new CollectorFactory<DocumentReferenceCollector, DocumentReferenceCollector>() {
+				@Override
+				public CollectorManager<DocumentReferenceCollector, DocumentReferenceCollector> createCollectorManager(
+						CollectorExecutionContext context) {
+					return new CollectorManager<DocumentReferenceCollector, DocumentReferenceCollector>() {
+						@Override
+						public DocumentReferenceCollector newCollector() {
+							return new DocumentReferenceCollector( context );
+						}
+
+						@Override
+						public DocumentReferenceCollector reduce(Collection<DocumentReferenceCollector> collectors) {
+							return DocumentReferenceCollector.reduce( collectors );
+						}
+					};
+				}
 
-		@Override
-		public CollectorKey<DocumentReferenceCollector> getCollectorKey() {
-			return KEY;
+				@Override
+				public CollectorKey<DocumentReferenceCollector, DocumentReferenceCollector> getCollectorKey() {
+					return KEY;
+				}
+			};
+
+	private static DocumentReferenceCollector reduce(Collection<DocumentReferenceCollector> collectors) {
+		Iterator<DocumentReferenceCollector> iterator = collectors.iterator();
+		// Each collector only collected the documents of its own index slice: merge everything into the first one.
+		DocumentReferenceCollector reduced = iterator.next();
+		while ( iterator.hasNext() ) {
+			reduced.collected.putAll( iterator.next().collected );
 		}
-	};
+		return reduced;
+	}
 
 	private final IndexReaderMetadataResolver metadataResolver;
 
@@ -43,7 +68,7 @@ public CollectorKey<DocumentReferenceCollector> getCollectorKey() {
 	private BinaryDocValues currentLeafIdDocValues;
 	private int currentLeafDocBase;
 
-	private Map<Integer, DocumentReference> collected = new HashMap<>();
+	private final Map<Integer, DocumentReference> collected = new HashMap<>();
 
 	private DocumentReferenceCollector(CollectorExecutionContext executionContext) {
 		this.metadataResolver = executionContext.getMetadataResolver();
@@ -7,19 +7,20 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsCollectorManager;
 
-public class FacetsCollectorFactory implements CollectorFactory<FacetsCollector> {
-	public static final CollectorKey<FacetsCollector> KEY = CollectorKey.create();
+public class FacetsCollectorFactory implements CollectorFactory<FacetsCollector, FacetsCollector> {
+	public static final CollectorKey<FacetsCollector, FacetsCollector> KEY = CollectorKey.create();
 
-	public static final CollectorFactory<FacetsCollector> INSTANCE = new FacetsCollectorFactory();
+	public static final CollectorFactory<FacetsCollector, FacetsCollector> INSTANCE = new FacetsCollectorFactory();
 
 	@Override
-	public FacetsCollector createCollector(CollectorExecutionContext context) {
-		return new FacetsCollector();
+	public FacetsCollectorManager createCollectorManager(CollectorExecutionContext context) {
+		return new FacetsCollectorManager();
 	}
 
 	@Override
-	public CollectorKey<FacetsCollector> getCollectorKey() {
+	public CollectorKey<FacetsCollector, FacetsCollector> getCollectorKey() {
 		return KEY;
 	}
 }
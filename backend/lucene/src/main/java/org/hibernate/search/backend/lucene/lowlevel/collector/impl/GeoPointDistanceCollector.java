@@ -8,6 +8,8 @@
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.Collector;
@@ -45,6 +47,16 @@ public GeoPointDistanceCollector(String absoluteFieldPath, NestedDocsProvider ne
 		this.distances = new SpatialResultsCollector( hitsCount );
 	}
 
+	public static GeoPointDistanceCollector reduce(Collection<GeoPointDistanceCollector> collectors) {
+		Iterator<GeoPointDistanceCollector> iterator = collectors.iterator();
+		// Each collector only collected the documents of its own index slice: merge everything into the first one.
+		GeoPointDistanceCollector reduced = iterator.next();
+		while ( iterator.hasNext() ) {
+			reduced.distances.orderedEntries.addAll( iterator.next().distances.orderedEntries );
+		}
+		return reduced;
+	}
+
 	public Double getDistance(final int docId) {
 		return distances.get( docId );
 	}
@@ -0,0 +1,96 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.JoiningLongMultiValuesSource;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValues;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+
+/**
+ * Collects the values of a numeric docvalues field, for each collected document.
+ * <p>
+ * Values of nested documents are collected too, if a {@link NestedDocsProvider} is given.
+ * For each document, values are returned in the order of docvalues, i.e. in ascending order
+ * for each (nested) document, which is not necessarily the order in which they were indexed.
+ */
+public class LongMultiValuesCollector extends SimpleCollector {
+
+	private static final long[] NO_VALUES = new long[0];
+
+	private final JoiningLongMultiValuesSource valuesSource;
+
+	private final Map<Integer, long[]> values = new HashMap<>();
+
+	private int currentLeafDocBase;
+	private LongMultiValues currentLeafValues;
+
+	public LongMultiValuesCollector(String absoluteFieldPath, NestedDocsProvider nestedDocsProvider) {
+		this.valuesSource = JoiningLongMultiValuesSource.fromLongField( absoluteFieldPath, nestedDocsProvider );
+	}
+
+	public static LongMultiValuesCollector reduce(Collection<LongMultiValuesCollector> collectors) {
+		Iterator<LongMultiValuesCollector> iterator = collectors.iterator();
+		// Each collector only collected the documents of its own index slice: merge everything into the first one.
+		LongMultiValuesCollector reduced = iterator.next();
+		while ( iterator.hasNext() ) {
+			reduced.values.putAll( iterator.next().values );
+		}
+		return reduced;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[valuesSource=" + valuesSource + "]";
+	}
+
+	/**
+	 * @param docId The (index-wide) identifier of a collected document.
+	 * @return The values of the field for this document, possibly empty but never {@code null}.
+	 */
+	public long[] getValues(int docId) {
+		long[] result = values.get( docId );
+		return result == null ? NO_VALUES : result;
+	}
+
+	@Override
+	public void collect(int doc) throws IOException {
+		if ( !currentLeafValues.advanceExact( doc ) ) {
+			return;
+		}
+		long[] docValues = new long[1];
+		int count = 0;
+		while ( currentLeafValues.hasNextValue() ) {
+			if ( count == docValues.length ) {
+				docValues = Arrays.copyOf( docValues, count * 2 );
+			}
+			docValues[count++] = currentLeafValues.nextValue();
+		}
+		values.put( currentLeafDocBase + doc, count == docValues.length ? docValues : Arrays.copyOf( docValues, count ) );
+	}
+
+	@Override
+	public ScoreMode scoreMode() {
+		return ScoreMode.COMPLETE_NO_SCORES;
+	}
+
+	@Override
+	protected void doSetNextReader(LeafReaderContext context) throws IOException {
+		this.currentLeafDocBase = context.docBase;
+		this.currentLeafValues = valuesSource.getValues( context );
+	}
+}
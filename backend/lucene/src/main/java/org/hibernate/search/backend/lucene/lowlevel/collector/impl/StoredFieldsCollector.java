@@ -7,7 +7,9 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 
@@ -18,6 +20,7 @@
 import org.apache.lucene.document.Document;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.ScoreMode;
@@ -33,32 +36,55 @@
  */
 public class StoredFieldsCollector extends SimpleCollector {
 
-	public static final CollectorKey<StoredFieldsCollector> KEY = CollectorKey.create();
+	public static final CollectorKey<StoredFieldsCollector, StoredFieldsCollector> KEY = CollectorKey.create();
 
-	public static CollectorFactory<StoredFieldsCollector> factory(
+	public static CollectorFactory<StoredFieldsCollector, StoredFieldsCollector> factory(
 			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
 			Set<String> requiredNestedDocumentPathsForStoredFields) {
-		return new CollectorFactory<StoredFieldsCollector>() {
+		return new CollectorFactory<StoredFieldsCollector, StoredFieldsCollector>() {
 			@Override
-			public StoredFieldsCollector createCollector(CollectorExecutionContext context) throws IOException {
-				NestedDocsProvider nestedDocsProvider;
-				if ( requiredNestedDocumentPathsForStoredFields.isEmpty() ) {
-					nestedDocsProvider = null;
-				}
-				else {
-					nestedDocsProvider = context.createNestedDocsProvider( requiredNestedDocumentPathsForStoredFields );
-				}
-
-				return new StoredFieldsCollector( nestedDocsProvider, storedFieldVisitor, context.getIndexSearcher() );
+			public CollectorManager<StoredFieldsCollector, StoredFieldsCollector> createCollectorManager(
+					CollectorExecutionContext context) {
+				return new CollectorManager<StoredFieldsCollector, StoredFieldsCollector>() {
+					@Override
+					public StoredFieldsCollector newCollector() throws IOException {
+						NestedDocsProvider nestedDocsProvider;
+						if ( requiredNestedDocumentPathsForStoredFields.isEmpty() ) {
+							nestedDocsProvider = null;
+						}
+						else {
+							nestedDocsProvider = context.createNestedDocsProvider( requiredNestedDocumentPathsForStoredFields );
+						}
+
+						// The visitor is stateful: each collector, potentially running in its own thread, needs its own.
+						return new StoredFieldsCollector( nestedDocsProvider, storedFieldVisitor.copy(),
+								context.getIndexSearcher() );
+					}
+
+					@Override
+					public StoredFieldsCollector reduce(Collection<StoredFieldsCollector> collectors) {
+						return StoredFieldsCollector.reduce( collectors );
+					}
+				};
 			}
 
 			@Override
-			public CollectorKey<StoredFieldsCollector> getCollectorKey() {
+			public CollectorKey<StoredFieldsCollector, StoredFieldsCollector> getCollectorKey() {
 				return KEY;
 			}
 		};
 	}
 
+	private static StoredFieldsCollector reduce(Collection<StoredFieldsCollector> collectors) {
+		Iterator<StoredFieldsCollector> iterator = collectors.iterator();
+		// Each collector only collected the documents of its own index slice: merge everything into the first one.
+		StoredFieldsCollector reduced = iterator.next();
+		while ( iterator.hasNext() ) {
+			reduced.documents.putAll( iterator.next().documents );
+		}
+		return reduced;
+	}
+
 	private final NestedDocsProvider nestedDocsProvider;
 	private final Weight childrenWeight;
 	private final ReusableDocumentStoredFieldVisitor storedFieldVisitor;
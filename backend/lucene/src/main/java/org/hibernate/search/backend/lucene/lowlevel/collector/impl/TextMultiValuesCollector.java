@@ -0,0 +1,98 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.JoiningTextMultiValuesSource;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValues;
+import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+
+/**
+ * Collects the values of a text docvalues field, for each collected document.
+ * <p>
+ * Values of nested documents are collected too, if a {@link NestedDocsProvider} is given.
+ * For each document, values are returned in the order of docvalues, i.e. in ascending order
+ * for each (nested) document, without duplicates,
+ * which is not necessarily the order in which they were indexed.
+ */
+public class TextMultiValuesCollector extends SimpleCollector {
+
+	private static final String[] NO_VALUES = new String[0];
+
+	private final JoiningTextMultiValuesSource valuesSource;
+
+	private final Map<Integer, String[]> values = new HashMap<>();
+
+	private int currentLeafDocBase;
+	private TextMultiValues currentLeafValues;
+
+	public TextMultiValuesCollector(String absoluteFieldPath, NestedDocsProvider nestedDocsProvider) {
+		this.valuesSource = JoiningTextMultiValuesSource.fromField( absoluteFieldPath, nestedDocsProvider );
+	}
+
+	public static TextMultiValuesCollector reduce(Collection<TextMultiValuesCollector> collectors) {
+		Iterator<TextMultiValuesCollector> iterator = collectors.iterator();
+		// Each collector only collected the documents of its own index slice: merge everything into the first one.
+		TextMultiValuesCollector reduced = iterator.next();
+		while ( iterator.hasNext() ) {
+			reduced.values.putAll( iterator.next().values );
+		}
+		return reduced;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[valuesSource=" + valuesSource + "]";
+	}
+
+	/**
+	 * @param docId The (index-wide) identifier of a collected document.
+	 * @return The values of the field for this document, possibly empty but never {@code null}.
+	 */
+	public String[] getValues(int docId) {
+		String[] result = values.get( docId );
+		return result == null ? NO_VALUES : result;
+	}
+
+	@Override
+	public void collect(int doc) throws IOException {
+		if ( !currentLeafValues.advanceExact( doc ) ) {
+			return;
+		}
+		String[] docValues = new String[1];
+		int count = 0;
+		while ( currentLeafValues.hasNextValue() ) {
+			if ( count == docValues.length ) {
+				docValues = Arrays.copyOf( docValues, count * 2 );
+			}
+			// Ordinals are segment-specific: resolve the term right away.
+			docValues[count++] = currentLeafValues.lookupOrd( currentLeafValues.nextOrd() ).utf8ToString();
+		}
+		values.put( currentLeafDocBase + doc, count == docValues.length ? docValues : Arrays.copyOf( docValues, count ) );
+	}
+
+	@Override
+	public ScoreMode scoreMode() {
+		return ScoreMode.COMPLETE_NO_SCORES;
+	}
+
+	@Override
+	protected void doSetNextReader(LeafReaderContext context) throws IOException {
+		this.currentLeafDocBase = context.docBase;
+		this.currentLeafValues = valuesSource.getValues( context );
+	}
+}
@@ -43,14 +43,22 @@ public class DirectoryCreationContextImpl implements DirectoryCreationContext {
 	private final EventContext eventContext;
 	private final String indexName;
 	private final Optional<String> shardId;
+	private final Optional<String> tenantId;
 	private final BeanResolver beanResolver;
 	private final ConfigurationPropertySource configurationPropertySource;
 
 	public DirectoryCreationContextImpl(EventContext eventContext, String indexName, Optional<String> shardId,
 			BeanResolver beanResolver, ConfigurationPropertySource configurationPropertySource) {
+		this( eventContext, indexName, shardId, Optional.empty(), beanResolver, configurationPropertySource );
+	}
+
+	public DirectoryCreationContextImpl(EventContext eventContext, String indexName, Optional<String> shardId,
+			Optional<String> tenantId,
+			BeanResolver beanResolver, ConfigurationPropertySource configurationPropertySource) {
 		this.eventContext = eventContext;
 		this.indexName = indexName;
 		this.shardId = shardId;
+		this.tenantId = tenantId;
 		this.beanResolver = beanResolver;
 		this.configurationPropertySource = configurationPropertySource;
 	}
@@ -70,6 +78,11 @@ public Optional<String> shardId() {
 		return shardId;
 	}
 
+	@Override
+	public Optional<String> tenantId() {
+		return tenantId;
+	}
+
 	@Override
 	public BeanResolver beanResolver() {
 		return beanResolver;
@@ -58,6 +58,10 @@ public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
 				.orElseGet( () -> FSLockFactory::getDefault );
 
 		Path directoryPath = directoryRoot.resolve( context.indexName() );
+		Optional<String> tenantId = context.tenantId();
+		if ( tenantId.isPresent() ) {
+			directoryPath = directoryPath.resolve( tenantId.get() );
+		}
 		Optional<String> shardId = context.shardId();
 		if ( shardId.isPresent() ) {
 			directoryPath = directoryPath.resolve( shardId.get() );
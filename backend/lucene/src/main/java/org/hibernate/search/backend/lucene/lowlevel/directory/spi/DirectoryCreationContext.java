@@ -32,6 +32,13 @@ public interface DirectoryCreationContext {
 	 */
 	Optional<String> shardId();
 
+	/**
+	 * @return The identifier of the tenant, if the backend uses one index per tenant.
+	 */
+	default Optional<String> tenantId() {
+		return Optional.empty();
+	}
+
 	/**
 	 * @return A {@link BeanResolver}.
 	 */
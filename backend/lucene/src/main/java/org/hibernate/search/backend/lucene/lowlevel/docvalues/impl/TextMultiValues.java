@@ -9,6 +9,7 @@
 import java.io.IOException;
 
 import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.util.BytesRef;
 
 /**
  * A per-document, unordered sequence of text ordinals.
@@ -48,6 +49,13 @@ protected TextMultiValues() {
 	 */
 	public abstract long nextOrd() throws IOException;
 
+	/**
+	 * Retrieves the value for the specified ordinal.
+	 * @param ord An ordinal returned by {@link #nextOrd()}.
+	 * @return The value for this ordinal. Must not be modified.
+	 */
+	public abstract BytesRef lookupOrd(long ord) throws IOException;
+
 	/**
 	 * Returns the number of unique values.
 	 * @return number of unique values in this SortedDocValues. This is
@@ -79,6 +87,11 @@ public long nextOrd() {
 			throw new UnsupportedOperationException();
 		}
 
+		@Override
+		public BytesRef lookupOrd(long ord) {
+			throw new UnsupportedOperationException();
+		}
+
 		@Override
 		public long getValueCount() {
 			return 0;
@@ -113,6 +126,11 @@ public long nextOrd() throws IOException {
 			return result;
 		}
 
+		@Override
+		public BytesRef lookupOrd(long ord) throws IOException {
+			return values.lookupOrd( ord );
+		}
+
 		@Override
 		public long getValueCount() {
 			return values.getValueCount();
@@ -12,8 +12,11 @@
 
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValues;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValuesSource;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 
 import com.carrotsearch.hppc.IntHashSet;
+import com.carrotsearch.hppc.IntIntScatterMap;
+import com.carrotsearch.hppc.cursors.IntIntCursor;
 import com.carrotsearch.hppc.procedures.IntProcedure;
 import org.apache.lucene.facet.FacetResult;
 import org.apache.lucene.facet.Facets;
@@ -45,7 +48,12 @@ public class TextMultiValueFacetCounts extends Facets {
 	public TextMultiValueFacetCounts(IndexReader reader, String field, TextMultiValuesSource valuesSource, FacetsCollector hits)
 			throws IOException {
 		this.field = field;
-		dv = MultiDocValues.getSortedSetValues( reader, field );
+		if ( reader instanceof HibernateSearchMultiReader ) {
+			dv = ( (HibernateSearchMultiReader) reader ).getSortedSetValues( field );
+		}
+		else {
+			dv = MultiDocValues.getSortedSetValues( reader, field );
+		}
 		if ( dv != null && dv.getValueCount() > Integer.MAX_VALUE ) {
 			// We may want to remove this limitation?
 			// Note that DefaultSortedSetDocValuesReaderState has the same limitation,
@@ -119,91 +127,41 @@ private FacetResult getTopChildrenSortByCount(int topN) throws IOException {
 		return new FacetResult( field, new String[0], totCount, labelValues, childCount );
 	}
 
-	private void countOneSegment(OrdinalMap ordinalMap, TextMultiValues segValues, int segOrd, MatchingDocs hits)
-			throws IOException {
+	private SegmentCounts countOneSegment(TextMultiValues segValues, MatchingDocs hits) throws IOException {
 		if ( segValues == null ) {
 			// nothing to count
-			return;
+			return null;
 		}
-		IntHashSet uniqueOrdinalsForDocument = new IntHashSet();
+		int numSegOrds = (int) segValues.getValueCount();
+		// Few hits compared to the number of terms: don't allocate an array as large as the number of terms.
+		SegmentCounts segCounts = hits.totalHits < numSegOrds / 10
+				? new SparseSegmentCounts()
+				: new DenseSegmentCounts( numSegOrds );
 
+		IntHashSet uniqueOrdinalsForDocument = new IntHashSet();
+		IntProcedure incrementCountForOrdinal = segCounts::increment;
 		DocIdSetIterator docs = hits.bits.iterator();
-
-		// TODO: yet another option is to count all segs
-		// first, only in seg-ord space, and then do a
-		// merge-sort-PQ in the end to only "resolve to
-		// global" those seg ords that can compete, if we know
-		// we just want top K?  ie, this is the same algo
-		// that'd be used for merging facets across shards
-		// (distributed faceting).  but this has much higher
-		// temp ram req'ts (sum of number of ords across all
-		// segs)
-		if ( ordinalMap != null ) {
-			final LongValues ordMap = ordinalMap.getGlobalOrds( segOrd );
-
-			int numSegOrds = (int) segValues.getValueCount();
-
-			if ( hits.totalHits < numSegOrds / 10 ) {
-				IntProcedure incrementCountForOrdinal = ord -> counts[ord]++;
-				// Remap every ord to global ord as we iterate:
-				for ( int doc = docs.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = docs.nextDoc() ) {
-					if ( !segValues.advanceExact( doc ) ) {
-						continue; // No value for this doc
-					}
-					while ( segValues.hasNextValue() ) {
-						int term = (int) segValues.nextOrd();
-						int globalOrd = (int) ordMap.get( term );
-						uniqueOrdinalsForDocument.add( globalOrd );
-					}
-					uniqueOrdinalsForDocument.forEach( incrementCountForOrdinal );
-					uniqueOrdinalsForDocument.clear();
-				}
+		for ( int doc = docs.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = docs.nextDoc() ) {
+			if ( !segValues.advanceExact( doc ) ) {
+				continue; // No value for this doc
 			}
-			else {
-				// First count in seg-ord space:
-				final int[] segCounts = new int[numSegOrds];
-				IntProcedure incrementCountForOrdinal = ord -> segCounts[ord]++;
-				for ( int doc = docs.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = docs.nextDoc() ) {
-					if ( !segValues.advanceExact( doc ) ) {
-						continue; // No value for this doc
-					}
-					while ( segValues.hasNextValue() ) {
-						int term = (int) segValues.nextOrd();
-						uniqueOrdinalsForDocument.add( term );
-					}
-					uniqueOrdinalsForDocument.forEach( incrementCountForOrdinal );
-					uniqueOrdinalsForDocument.clear();
-				}
-
-				// Then, migrate to global ords:
-				for ( int ord = 0; ord < numSegOrds; ord++ ) {
-					int count = segCounts[ord];
-					if ( count != 0 ) {
-						counts[(int) ordMap.get( ord )] += count;
-					}
-				}
-			}
-		}
-		else {
-			// No ord mapping (e.g., single segment index):
-			// just aggregate directly into counts.
-			IntProcedure incrementCountForOrdinal = ord -> counts[ord]++;
-			for ( int doc = docs.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = docs.nextDoc() ) {
-				if ( !segValues.advanceExact( doc ) ) {
-					continue; // No value for this doc
-				}
-				while ( segValues.hasNextValue() ) {
-					int term = (int) segValues.nextOrd();
-					uniqueOrdinalsForDocument.add( term );
-				}
-				uniqueOrdinalsForDocument.forEach( incrementCountForOrdinal );
-				uniqueOrdinalsForDocument.clear();
+			while ( segValues.hasNextValue() ) {
+				int term = (int) segValues.nextOrd();
+				uniqueOrdinalsForDocument.add( term );
 			}
+			uniqueOrdinalsForDocument.forEach( incrementCountForOrdinal );
+			uniqueOrdinalsForDocument.clear();
 		}
+		return segCounts;
 	}
 
 	/**
 	 * Does all the "real work" of tallying up the counts.
+	 * <p>
+	 * Every segment is first counted in its own ordinal space, without involving the ordinal map.
+	 * Segment counts are then merged into global counts,
+	 * which only requires one ordinal map lookup per distinct segment ordinal
+	 * instead of one lookup per value of each matching document.
 	 */
 	private void count(IndexReader reader, TextMultiValuesSource valuesSource, List<MatchingDocs> matchingDocs) throws IOException {
 		OrdinalMap ordinalMap;
@@ -218,7 +176,9 @@ private void count(IndexReader reader, TextMultiValuesSource valuesSource, List<
 			ordinalMap = null;
 		}
 
-		for ( MatchingDocs hits : matchingDocs ) {
+		SegmentCounts[] countsPerSegment = new SegmentCounts[matchingDocs.size()];
+		for ( int i = 0; i < countsPerSegment.length; i++ ) {
+			MatchingDocs hits = matchingDocs.get( i );
 
 			// LUCENE-5090: make sure the provided reader context "matches"
 			// the top-level reader passed to the
@@ -229,7 +189,18 @@ private void count(IndexReader reader, TextMultiValuesSource valuesSource, List<
 						"the SortedSetDocValuesReaderState provided to this class does not match the reader being searched; you must create a new SortedSetDocValuesReaderState every time you open a new IndexReader" );
 			}
 
-			countOneSegment( ordinalMap, valuesSource.getValues( hits.context ), hits.context.ord, hits );
+			countsPerSegment[i] = countOneSegment( valuesSource.getValues( hits.context ), hits );
+		}
+
+		for ( int i = 0; i < countsPerSegment.length; i++ ) {
+			SegmentCounts segCounts = countsPerSegment[i];
+			if ( segCounts == null ) {
+				continue;
+			}
+			// No ord mapping (e.g., single segment index): segment ords are global ords.
+			LongValues ordMap = ordinalMap == null ? null
+					: ordinalMap.getGlobalOrds( matchingDocs.get( i ).context.ord );
+			segCounts.mergeInto( counts, ordMap );
 		}
 	}
 
@@ -243,4 +214,50 @@ public List<FacetResult> getAllDims(int topN) throws IOException {
 		return Collections.singletonList( getTopChildren( topN, field ) );
 	}
 
+	private interface SegmentCounts {
+		void increment(int segOrd);
+
+		void mergeInto(int[] globalCounts, LongValues ordMap);
+	}
+
+	private static final class DenseSegmentCounts implements SegmentCounts {
+		private final int[] counts;
+
+		DenseSegmentCounts(int numSegOrds) {
+			this.counts = new int[numSegOrds];
+		}
+
+		@Override
+		public void increment(int segOrd) {
+			counts[segOrd]++;
+		}
+
+		@Override
+		public void mergeInto(int[] globalCounts, LongValues ordMap) {
+			for ( int ord = 0; ord < counts.length; ord++ ) {
+				int count = counts[ord];
+				if ( count != 0 ) {
+					globalCounts[ordMap == null ? ord : (int) ordMap.get( ord )] += count;
+				}
+			}
+		}
+	}
+
+	private static final class SparseSegmentCounts implements SegmentCounts {
+		private final IntIntScatterMap counts = new IntIntScatterMap();
+
+		@Override
+		public void increment(int segOrd) {
+			counts.addTo( segOrd, 1 );
+		}
+
+		@Override
+		public void mergeInto(int[] globalCounts, LongValues ordMap) {
+			for ( IntIntCursor cursor : counts ) {
+				int ord = cursor.key;
+				globalCounts[ordMap == null ? ord : (int) ordMap.get( ord )] += cursor.value;
+			}
+		}
+	}
+
 }
@@ -31,7 +31,7 @@ public IndexAccessorImpl createIndexAccessor(String indexName, EventContext even
 		IndexReaderProvider indexReaderProvider = null;
 		try {
 			indexWriterProvider = createIndexWriterProvider( indexName, eventContext, directoryHolder, writerConfigSource );
-			indexReaderProvider = createIndexReaderProvider( directoryHolder, indexWriterProvider );
+			indexReaderProvider = createIndexReaderProvider( eventContext, directoryHolder, indexWriterProvider );
 			return new IndexAccessorImpl(
 					eventContext,
 					directoryHolder, indexWriterProvider, indexReaderProvider
@@ -49,7 +49,7 @@ public IndexAccessorImpl createIndexAccessor(String indexName, EventContext even
 	abstract IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext,
 			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource);
 
-	abstract IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
+	abstract IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
 			IndexWriterProvider indexWriterProvider);
 
 }
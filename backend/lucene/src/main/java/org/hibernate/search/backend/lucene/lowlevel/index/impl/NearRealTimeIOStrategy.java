@@ -6,7 +6,10 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
+import java.lang.invoke.MethodHandles;
+
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NearRealTimeIndexReaderProvider;
@@ -17,10 +20,13 @@
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
 import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 public class NearRealTimeIOStrategy extends IOStrategy {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private static final ConfigurationProperty<Integer> COMMIT_INTERVAL =
 			ConfigurationProperty.forKey( LuceneIndexSettings.IO_COMMIT_INTERVAL )
 					.asInteger()
@@ -33,12 +39,31 @@ public class NearRealTimeIOStrategy extends IOStrategy {
 					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_INTERVAL )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> REFRESH_BACKGROUND =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_REFRESH_BACKGROUND )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_BACKGROUND )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> REFRESH_WARM_SEGMENTS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_REFRESH_WARM_SEGMENTS )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_WARM_SEGMENTS )
+					.build();
+
 	public static NearRealTimeIOStrategy create(ConfigurationPropertySource propertySource,
 			TimingSource timingSource, BackendThreads threads, FailureHandler failureHandler) {
 		int commitInterval = COMMIT_INTERVAL.get( propertySource );
 		int refreshInterval = REFRESH_INTERVAL.get( propertySource );
+		boolean refreshBackground = REFRESH_BACKGROUND.get( propertySource );
+		boolean refreshWarmSegments = REFRESH_WARM_SEGMENTS.get( propertySource );
+		if ( refreshBackground && refreshInterval <= 0 ) {
+			throw log.backgroundRefreshRequiresPositiveRefreshInterval(
+					REFRESH_INTERVAL.resolveOrRaw( propertySource ) );
+		}
 		return new NearRealTimeIOStrategy(
 				timingSource, commitInterval, refreshInterval,
+				refreshBackground, refreshWarmSegments,
 				threads, failureHandler
 		);
 	}
@@ -46,14 +71,19 @@ public static NearRealTimeIOStrategy create(ConfigurationPropertySource property
 	private final TimingSource timingSource;
 	private final int commitInterval;
 	private final int refreshInterval;
+	private final boolean refreshBackground;
+	private final boolean refreshWarmSegments;
 
 	private NearRealTimeIOStrategy(TimingSource timingSource, int commitInterval, int refreshInterval,
+			boolean refreshBackground, boolean refreshWarmSegments,
 			BackendThreads threads,
 			FailureHandler failureHandler) {
 		super( threads, failureHandler );
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
 		this.refreshInterval = refreshInterval;
+		this.refreshBackground = refreshBackground;
+		this.refreshWarmSegments = refreshWarmSegments;
 	}
 
 	@Override
@@ -71,8 +101,15 @@ IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eve
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
 			IndexWriterProvider indexWriterProvider) {
+		if ( refreshBackground ) {
+			return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval,
+					new NearRealTimeIndexReaderProvider.BackgroundRefreshSettings(
+							threads.getRefreshExecutor(), refreshWarmSegments, eventContext, failureHandler
+					)
+			);
+		}
 		if ( refreshInterval != 0 ) {
 			timingSource.ensureTimeEstimateIsInitialized();
 		}
@@ -0,0 +1,61 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryCachingPolicy;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.UsageTrackingQueryCachingPolicy;
+
+/**
+ * A caching policy that caches filters added by Hibernate Search to (almost) every query
+ * as soon as they are used,
+ * and relies on Lucene's default policy for every other query.
+ * <p>
+ * Lucene's default policy never caches term queries, because they are cheap to evaluate on their own.
+ * However, filters on the tenant identifier or on the document type (main or nested document)
+ * are used in conjunction with every other query, on large segments, over and over again:
+ * caching them spares the repeated iteration over their (large) postings lists.
+ * <p>
+ * Conversely, {@link MappedTypeNameQuery} is never cached, however often it is used:
+ * it matches either all or none of the documents of each segment, in constant time and without reading the index,
+ * so caching it would only waste memory on a set of matching documents for each segment.
+ */
+public final class HibernateSearchQueryCachingPolicy implements QueryCachingPolicy {
+
+	private final QueryCachingPolicy delegate = new UsageTrackingQueryCachingPolicy();
+
+	@Override
+	public void onUse(Query query) {
+		if ( query instanceof MappedTypeNameQuery ) {
+			// Never cached: don't let it take room in the usage history.
+			return;
+		}
+		delegate.onUse( query );
+	}
+
+	@Override
+	public boolean shouldCache(Query query) throws IOException {
+		if ( query instanceof MappedTypeNameQuery ) {
+			return false;
+		}
+		return isRecurringFilter( query ) || delegate.shouldCache( query );
+	}
+
+	private static boolean isRecurringFilter(Query query) {
+		if ( !( query instanceof TermQuery ) ) {
+			return false;
+		}
+		String field = ( (TermQuery) query ).getTerm().field();
+		return MetadataFields.tenantIdFieldName().equals( field )
+				|| MetadataFields.typeFieldName().equals( field );
+	}
+}
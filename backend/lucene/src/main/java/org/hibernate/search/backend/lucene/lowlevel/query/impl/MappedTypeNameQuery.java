@@ -67,7 +67,8 @@ public Scorer scorer(LeafReaderContext context) {
 
 			@Override
 			public boolean isCacheable(LeafReaderContext ctx) {
-				// Not sure what the requirements for caching are: let's not bother.
+				// Matching documents are computed in constant time, without reading the index:
+				// caching them would only waste memory. See HibernateSearchQueryCachingPolicy.
 				return false;
 			}
 		};
@@ -18,6 +18,7 @@
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.index.SortedSetDocValues;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
@@ -40,15 +41,16 @@ public class HibernateSearchMultiReader extends MultiReader {
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	public static HibernateSearchMultiReader open(Set<String> indexNames,
-			Collection<? extends ReadIndexManagerContext> indexManagerContexts, Set<String> routingKeys) {
+			Collection<? extends ReadIndexManagerContext> indexManagerContexts,
+			String tenantId, Set<String> routingKeys, OrdinalMapCache ordinalMapCache) {
 		if ( indexManagerContexts.isEmpty() ) {
 			return null;
 		}
 		else {
-			Builder builder = new Builder();
+			Builder builder = new Builder( ordinalMapCache );
 			try {
 				for ( ReadIndexManagerContext indexManagerContext : indexManagerContexts ) {
-					indexManagerContext.openIndexReaders( routingKeys, builder );
+					indexManagerContext.openIndexReaders( tenantId, routingKeys, builder );
 				}
 				return builder.build();
 			}
@@ -64,18 +66,37 @@ public static HibernateSearchMultiReader open(Set<String> indexNames,
 
 	private final List<DirectoryReader> directoryReaders;
 	private final IndexReaderMetadataResolver metadataResolver;
+	private final OrdinalMapCache ordinalMapCache;
 
-	HibernateSearchMultiReader(List<DirectoryReader> directoryReaders, IndexReaderMetadataResolver metadataResolver) throws IOException {
+	HibernateSearchMultiReader(List<DirectoryReader> directoryReaders, IndexReaderMetadataResolver metadataResolver,
+			OrdinalMapCache ordinalMapCache) throws IOException {
 		// If this flag isn't set to true, the MultiReader will increase the usage counter!
 		super( toReaderArray( directoryReaders ), true );
 		this.directoryReaders = directoryReaders;
 		this.metadataResolver = metadataResolver;
+		this.ordinalMapCache = ordinalMapCache;
 	}
 
 	public IndexReaderMetadataResolver getMetadataResolver() {
 		return metadataResolver;
 	}
 
+	/**
+	 * Equivalent to {@link org.apache.lucene.index.MultiDocValues#getSortedSetValues(IndexReader, String)},
+	 * but reuses the ordinal maps cached by the backend when possible.
+	 *
+	 * @param field The name of the field whose doc values should be returned.
+	 * @return Doc values for the given field, or {@code null} if no segment has doc values for this field.
+	 * @throws IOException If Lucene throws an {@link IOException}.
+	 */
+	public SortedSetDocValues getSortedSetValues(String field) throws IOException {
+		return ordinalMapCache.getSortedSetValues( this, field );
+	}
+
+	List<DirectoryReader> getDirectoryReaders() {
+		return directoryReaders;
+	}
+
 	@Override
 	protected synchronized void doClose() throws IOException {
 		final boolean traceEnabled = log.isTraceEnabled();
@@ -102,8 +123,10 @@ private static IndexReader[] toReaderArray(List<DirectoryReader> directoryReader
 	public static class Builder implements DirectoryReaderCollector {
 		private final List<DirectoryReader> directoryReaders = new ArrayList<>();
 		private final Map<DirectoryReader, String> mappedTypeNameByDirectoryReader = new HashMap<>();
+		private final OrdinalMapCache ordinalMapCache;
 
-		private Builder() {
+		private Builder(OrdinalMapCache ordinalMapCache) {
+			this.ordinalMapCache = ordinalMapCache;
 		}
 
 		@Override
@@ -115,7 +138,7 @@ public void collect(String mappedTypeName, DirectoryReader directoryReader) {
 		HibernateSearchMultiReader build() throws IOException {
 			IndexReaderMetadataResolver metadataResolver =
 					new IndexReaderMetadataResolver( mappedTypeNameByDirectoryReader );
-			return new HibernateSearchMultiReader( directoryReaders, metadataResolver );
+			return new HibernateSearchMultiReader( directoryReaders, metadataResolver, ordinalMapCache );
 		}
 	}
 }
@@ -7,11 +7,27 @@
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.engine.common.timing.spi.TimingSource;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SimpleMergedSegmentWarmer;
+import org.apache.lucene.util.InfoStream;
 
 /**
  * A index reader holder that opens an index reader from the index writer,
@@ -22,29 +38,52 @@
  * i.e. as long as there were no changes
  * from the directory every time an index reader is requested.
  * <p>
+ * Optionally, the index reader can be refreshed periodically in a background thread,
+ * so that search queries never have to refresh the index reader themselves,
+ * unless a refresh was explicitly forced.
+ * <p>
  * Heavily inspired by {@code org.hibernate.search.backend.impl.lucene.NRTWorkspaceImpl} from Hibernate Search 5
  * by Sanne Grinovero.
  */
 public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final IndexWriterProvider indexWriterProvider;
 	private final TimingSource timingSource;
 	private final int refreshInterval;
+	private final BackgroundRefreshSettings backgroundRefreshSettings;
 
 	/**
 	 * Current open IndexReader, or null when closed.
 	 */
 	private volatile IndexReaderEntry currentReaderEntry = null;
 
+	/**
+	 * Current background refresh task, or null when closed or when background refresh is disabled.
+	 */
+	private ScheduledFuture<?> backgroundRefreshFuture = null;
+
 	public NearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider,
 			TimingSource timingSource, int refreshInterval) {
+		this( indexWriterProvider, timingSource, refreshInterval, null );
+	}
+
+	public NearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider,
+			TimingSource timingSource, int refreshInterval,
+			BackgroundRefreshSettings backgroundRefreshSettings) {
 		this.indexWriterProvider = indexWriterProvider;
 		this.timingSource = timingSource;
 		this.refreshInterval = refreshInterval;
+		this.backgroundRefreshSettings = backgroundRefreshSettings;
 	}
 
 	@Override
 	public synchronized void clear() throws IOException {
+		if ( backgroundRefreshFuture != null ) {
+			backgroundRefreshFuture.cancel( false );
+			backgroundRefreshFuture = null;
+		}
 		setCurrentReaderEntry( null );
 	}
 
@@ -83,7 +122,8 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 		IndexReaderEntry freshEntry;
 		if ( oldEntry == null ) {
 			DirectoryReader newReader = indexWriterProvider.getOrCreate().openReader();
-			freshEntry = new IndexReaderEntry( newReader, timingSource, refreshInterval );
+			freshEntry = createEntry( newReader );
+			scheduleBackgroundRefreshIfNecessary();
 		}
 		else {
 			DirectoryReader newReaderOrNull = indexWriterProvider.getOrCreate().openReaderIfChanged( oldEntry.reader );
@@ -92,7 +132,7 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 				freshEntry = oldEntry;
 			}
 			else {
-				freshEntry = new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval );
+				freshEntry = createEntry( newReaderOrNull );
 			}
 		}
 
@@ -116,17 +156,144 @@ private synchronized void setCurrentReaderEntry(IndexReaderEntry newEntry) throw
 		}
 	}
 
+	private IndexReaderEntry createEntry(DirectoryReader reader) {
+		// With background refresh, readers are never considered stale because of their age:
+		// the background task takes care of replacing them.
+		int entryRefreshInterval = backgroundRefreshSettings == null ? refreshInterval : -1;
+		return new IndexReaderEntry( reader, timingSource, entryRefreshInterval );
+	}
+
+	private void scheduleBackgroundRefreshIfNecessary() {
+		if ( backgroundRefreshSettings == null || backgroundRefreshFuture != null ) {
+			return;
+		}
+		backgroundRefreshFuture = backgroundRefreshSettings.executor.scheduleWithFixedDelay(
+				this::refreshInBackground, refreshInterval, refreshInterval, TimeUnit.MILLISECONDS );
+	}
+
+	private void refreshInBackground() {
+		IndexReaderEntry oldEntry = currentReaderEntry;
+		if ( oldEntry == null || !oldEntry.reader.tryIncRef() ) {
+			// The provider was cleared or the reader is being replaced concurrently: nothing to do.
+			return;
+		}
+		long startNanos = timingSource.nanoTime();
+		DirectoryReader newReader = null;
+		try {
+			newReader = indexWriterProvider.getOrCreate().openReaderIfChanged( oldEntry.reader );
+			if ( newReader == null ) {
+				// No change, keep the old reader
+				return;
+			}
+
+			int warmedSegmentCount = 0;
+			if ( backgroundRefreshSettings.warmNewSegments ) {
+				warmedSegmentCount = warmNewSegments( oldEntry.reader, newReader );
+			}
+
+			if ( !replaceCurrentReaderEntry( oldEntry, newReader ) ) {
+				// The reader was replaced concurrently (forced refresh, clear, ...): discard ours.
+				newReader.decRef();
+				return;
+			}
+
+			long endNanos = timingSource.nanoTime();
+			log.backgroundRefreshExecuted( TimeUnit.NANOSECONDS.toMillis( endNanos - startNanos ),
+					warmedSegmentCount, TimeUnit.NANOSECONDS.toMillis( endNanos - oldEntry.openedNanos ),
+					backgroundRefreshSettings.eventContext );
+		}
+		catch (RuntimeException | IOException e) {
+			if ( newReader != null ) {
+				try {
+					newReader.decRef();
+				}
+				catch (RuntimeException | IOException e2) {
+					e.addSuppressed( e2 );
+				}
+			}
+			FailureContext.Builder failureContextBuilder = FailureContext.builder();
+			failureContextBuilder.throwable( log.unableToRefreshIndexReaderInBackground( e.getMessage(),
+					backgroundRefreshSettings.eventContext, e ) );
+			failureContextBuilder.failingOperation( "Background index reader refresh" );
+			backgroundRefreshSettings.failureHandler.handle( failureContextBuilder.build() );
+		}
+		finally {
+			try {
+				oldEntry.reader.decRef();
+			}
+			catch (IOException e) {
+				log.unableToCloseIndexReader( backgroundRefreshSettings.eventContext, e );
+			}
+		}
+	}
+
+	private synchronized boolean replaceCurrentReaderEntry(IndexReaderEntry expectedEntry, DirectoryReader newReader)
+			throws IOException {
+		if ( currentReaderEntry != expectedEntry ) {
+			return false;
+		}
+		setCurrentReaderEntry( createEntry( newReader ) );
+		return true;
+	}
+
+	private int warmNewSegments(IndexReader oldReader, IndexReader newReader) throws IOException {
+		Set<Object> oldCoreKeys = new HashSet<>();
+		for ( LeafReaderContext leaf : oldReader.leaves() ) {
+			IndexReader.CacheHelper cacheHelper = leaf.reader().getCoreCacheHelper();
+			if ( cacheHelper != null ) {
+				oldCoreKeys.add( cacheHelper.getKey() );
+			}
+		}
+
+		SimpleMergedSegmentWarmer warmer = new SimpleMergedSegmentWarmer( InfoStream.NO_OUTPUT );
+		int warmedSegmentCount = 0;
+		for ( LeafReaderContext leaf : newReader.leaves() ) {
+			LeafReader leafReader = leaf.reader();
+			IndexReader.CacheHelper cacheHelper = leafReader.getCoreCacheHelper();
+			if ( cacheHelper == null || !oldCoreKeys.contains( cacheHelper.getKey() ) ) {
+				warmer.warm( leafReader );
+				++warmedSegmentCount;
+			}
+		}
+		return warmedSegmentCount;
+	}
+
+	public static final class BackgroundRefreshSettings {
+		private final ScheduledExecutorService executor;
+		private final boolean warmNewSegments;
+		private final EventContext eventContext;
+		private final FailureHandler failureHandler;
+
+		public BackgroundRefreshSettings(ScheduledExecutorService executor, boolean warmNewSegments,
+				EventContext eventContext, FailureHandler failureHandler) {
+			this.executor = executor;
+			this.warmNewSegments = warmNewSegments;
+			this.eventContext = eventContext;
+			this.failureHandler = failureHandler;
+		}
+	}
+
 	private static class IndexReaderEntry {
 		private final DirectoryReader reader;
 		private final TimingSource timingSource;
 		private final long expiration;
+		private final long openedNanos;
 
 		private volatile boolean refreshForced = false;
 
+		/**
+		 * @param refreshInterval The refresh interval, or a negative value for readers that never expire.
+		 */
 		private IndexReaderEntry(DirectoryReader reader, TimingSource timingSource, int refreshInterval) {
 			this.reader = reader;
 			this.timingSource = timingSource;
-			this.expiration = refreshInterval == 0 ? 0 : timingSource.monotonicTimeEstimate() + refreshInterval;
+			if ( refreshInterval < 0 ) {
+				this.expiration = Long.MAX_VALUE;
+			}
+			else {
+				this.expiration = refreshInterval == 0 ? 0 : timingSource.monotonicTimeEstimate() + refreshInterval;
+			}
+			this.openedNanos = timingSource.nanoTime();
 		}
 
 		public void forceRefresh() {
@@ -144,6 +311,10 @@ boolean isFresh() throws IOException {
 			if ( refreshForced ) {
 				return false;
 			}
+			if ( expiration == Long.MAX_VALUE ) {
+				// The reader is refreshed in the background. Let's assume the reader is fresh.
+				return true;
+			}
 			if ( expiration == 0 || expiration < timingSource.monotonicTimeEstimate() ) {
 				// The last refresh was a long time ago. Let's check if the reader is really fresh.
 				return reader.isCurrent();
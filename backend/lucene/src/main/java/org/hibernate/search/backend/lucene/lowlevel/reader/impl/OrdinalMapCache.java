@@ -0,0 +1,133 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.MultiDocValues;
+import org.apache.lucene.index.MultiDocValues.MultiSortedSetDocValues;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.util.packed.PackedInts;
+
+/**
+ * A cache of {@link OrdinalMap}s, i.e. mappings from segment ordinals to global ordinals for a given field.
+ * <p>
+ * Building an ordinal map requires iterating over the terms of every segment,
+ * which is costly for high-cardinality fields in indexes with many segments.
+ * Since directory readers are shared between queries (see {@link NearRealTimeIndexReaderProvider}),
+ * ordinal maps are built once per set of directory readers and field,
+ * and are evicted as soon as one of the directory readers is closed.
+ * <p>
+ * Each backend owns its own cache, which is cleared when the backend stops.
+ */
+public final class OrdinalMapCache {
+
+	private final Map<List<IndexReader.CacheKey>, Map<String, OrdinalMap>> cache = new ConcurrentHashMap<>();
+
+	private volatile boolean closed = false;
+
+	/**
+	 * Clears this cache and stops caching ordinal maps.
+	 */
+	public void close() {
+		closed = true;
+		cache.clear();
+	}
+
+	// For tests
+	int size() {
+		return cache.size();
+	}
+
+	/**
+	 * Equivalent to {@link MultiDocValues#getSortedSetValues(IndexReader, String)},
+	 * but reuses ordinal maps across calls when possible.
+	 *
+	 * @param reader The top-level reader, opened through {@link HibernateSearchMultiReader#open}.
+	 * @param field The name of the field whose doc values should be returned.
+	 * @return Doc values for the given field, or {@code null} if no segment has doc values for this field.
+	 * @throws IOException If Lucene throws an {@link IOException}.
+	 */
+	SortedSetDocValues getSortedSetValues(HibernateSearchMultiReader reader, String field) throws IOException {
+		List<LeafReaderContext> leaves = reader.leaves();
+		int size = leaves.size();
+		if ( size <= 1 || closed ) {
+			// Either no ordinal map is necessary, or the backend is stopping.
+			return MultiDocValues.getSortedSetValues( reader, field );
+		}
+
+		boolean anyReal = false;
+		SortedSetDocValues[] values = new SortedSetDocValues[size];
+		int[] starts = new int[size + 1];
+		long totalCost = 0;
+		for ( int i = 0; i < size; i++ ) {
+			LeafReaderContext context = leaves.get( i );
+			SortedSetDocValues v = context.reader().getSortedSetDocValues( field );
+			if ( v == null ) {
+				v = DocValues.emptySortedSet();
+			}
+			else {
+				anyReal = true;
+			}
+			values[i] = v;
+			starts[i] = context.docBase;
+			totalCost += v.cost();
+		}
+		starts[size] = reader.maxDoc();
+		if ( !anyReal ) {
+			return null;
+		}
+
+		Map<String, OrdinalMap> ordinalMaps = ordinalMapsFor( reader );
+		if ( ordinalMaps == null ) {
+			return MultiDocValues.getSortedSetValues( reader, field );
+		}
+		OrdinalMap ordinalMap = ordinalMaps.get( field );
+		if ( ordinalMap == null ) {
+			ordinalMap = OrdinalMap.build( null, values, PackedInts.DEFAULT );
+			OrdinalMap concurrentlyBuilt = ordinalMaps.putIfAbsent( field, ordinalMap );
+			if ( concurrentlyBuilt != null ) {
+				ordinalMap = concurrentlyBuilt;
+			}
+		}
+		return new MultiSortedSetDocValues( values, starts, ordinalMap, totalCost );
+	}
+
+	private Map<String, OrdinalMap> ordinalMapsFor(HibernateSearchMultiReader reader) {
+		List<DirectoryReader> directoryReaders = reader.getDirectoryReaders();
+		List<IndexReader.CacheHelper> cacheHelpers = new ArrayList<>( directoryReaders.size() );
+		List<IndexReader.CacheKey> cacheKeys = new ArrayList<>( directoryReaders.size() );
+		for ( DirectoryReader directoryReader : directoryReaders ) {
+			IndexReader.CacheHelper cacheHelper = directoryReader.getReaderCacheHelper();
+			if ( cacheHelper == null ) {
+				// This reader cannot be cached.
+				return null;
+			}
+			cacheHelpers.add( cacheHelper );
+			cacheKeys.add( cacheHelper.getKey() );
+		}
+		List<IndexReader.CacheKey> compositeKey = Collections.unmodifiableList( cacheKeys );
+		return cache.computeIfAbsent( compositeKey, ignored -> {
+			for ( IndexReader.CacheHelper cacheHelper : cacheHelpers ) {
+				// Evict the ordinal maps as soon as one of the readers is closed.
+				cacheHelper.addClosedListener( closedKey -> cache.remove( compositeKey ) );
+			}
+			return new ConcurrentHashMap<>();
+		} );
+	}
+
+}
@@ -15,6 +15,6 @@
  */
 public interface ReadIndexManagerContext {
 
-	void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector readerCollector) throws IOException;
+	void openIndexReaders(String tenantId, Set<String> routingKeys, DirectoryReaderCollector readerCollector) throws IOException;
 
 }
@@ -22,7 +22,13 @@ public enum MultiTenancyStrategyName {
 	/**
 	 * The multi-tenancy information is stored in the index as a discriminator field.
 	 */
-	DISCRIMINATOR("discriminator");
+	DISCRIMINATOR("discriminator"),
+
+	/**
+	 * The documents of each tenant are stored in a separate index, i.e. a separate directory,
+	 * which is opened on first use and closed when idle.
+	 */
+	INDEX_PER_TENANT("index-per-tenant");
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
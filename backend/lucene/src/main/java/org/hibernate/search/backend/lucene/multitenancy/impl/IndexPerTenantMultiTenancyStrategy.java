@@ -0,0 +1,62 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.multitenancy.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.regex.Pattern;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.search.Query;
+
+/**
+ * A strategy storing the documents of each tenant in a separate index.
+ * <p>
+ * Since an index only ever contains the documents of a single tenant,
+ * there is no need for a tenant field in documents or for a tenant filter in queries:
+ * routing works to the right index is handled by the shard holder.
+ */
+public class IndexPerTenantMultiTenancyStrategy implements MultiTenancyStrategy {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// Tenant identifiers end up in directory names: only accept characters that are safe on every file system.
+	private static final Pattern VALID_TENANT_ID = Pattern.compile( "[a-zA-Z0-9_\\-][a-zA-Z0-9_.\\-]*" );
+
+	@Override
+	public boolean isMultiTenancySupported() {
+		return true;
+	}
+
+	@Override
+	public boolean isIndexPerTenant() {
+		return true;
+	}
+
+	@Override
+	public void contributeToIndexedDocument(Document document, String tenantId) {
+		// No need to add anything to documents, the index is specific to the tenant
+	}
+
+	@Override
+	public Query filterOrNull(String tenantId) {
+		return null;
+	}
+
+	@Override
+	public void checkTenantId(String tenantId, EventContext backendContext) {
+		if ( tenantId == null ) {
+			throw log.multiTenancyEnabledButNoTenantIdProvided( backendContext );
+		}
+		if ( !VALID_TENANT_ID.matcher( tenantId ).matches() ) {
+			throw log.invalidTenantIdForIndexPerTenant( tenantId, backendContext );
+		}
+	}
+}
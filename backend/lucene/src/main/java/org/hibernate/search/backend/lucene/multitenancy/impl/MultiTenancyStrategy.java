@@ -22,6 +22,13 @@ public interface MultiTenancyStrategy {
 	 */
 	boolean isMultiTenancySupported();
 
+	/**
+	 * Indicates if the strategy stores the documents of each tenant in a separate index.
+	 *
+	 * @return {@code true} if each tenant has its own index, {@code false} if all tenants share the same index.
+	 */
+	boolean isIndexPerTenant();
+
 	/**
 	 * Contributes additional information to the indexed document.
 	 *
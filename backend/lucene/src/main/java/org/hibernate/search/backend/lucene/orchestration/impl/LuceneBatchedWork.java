@@ -10,6 +10,7 @@
 
 import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchedWork;
+import org.hibernate.search.util.common.impl.Futures;
 
 public class LuceneBatchedWork<T> implements BatchedWork<LuceneBatchedWorkProcessor> {
 	public final IndexingWork<T> work;
@@ -22,13 +23,7 @@
 
 	@Override
 	public void submitTo(LuceneBatchedWorkProcessor processor) {
-		try {
-			T result = processor.submit( work );
-			future.complete( result );
-		}
-		catch (RuntimeException e) {
-			markAsFailed( e );
-		}
+		processor.submit( work, future );
 	}
 
 	@Override
@@ -36,6 +31,17 @@ public void markAsFailed(Throwable t) {
 		future.completeExceptionally( t );
 	}
 
+	@Override
+	public Object getCoalescingKey() {
+		return work.getCoalescingKey();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // Works with the same coalescing key are single-document works with the same result type
+	public void markAsSupersededBy(BatchedWork<?> work) {
+		( (LuceneBatchedWork<T>) work ).future.whenComplete( Futures.copyHandler( future ) );
+	}
+
 	String getQueuingKey() {
 		return work.getQueuingKey();
 	}
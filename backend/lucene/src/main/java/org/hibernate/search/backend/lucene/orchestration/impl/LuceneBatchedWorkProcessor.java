@@ -6,28 +6,53 @@
  */
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
+import org.hibernate.search.backend.lucene.work.impl.BulkableIndexingWork;
 import org.hibernate.search.backend.lucene.work.impl.IndexManagementWork;
 import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchedWorkProcessor;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+
 /**
- * A thread-safe component responsible for applying write works to an index writer.
+ * A component responsible for applying write works to an index writer.
+ * <p>
+ * If bulk adds are enabled, within a batch, consecutive {@link BulkableIndexingWork bulkable works} (pure adds)
+ * are not executed immediately, but buffered then executed in bulk, with a single index writer lookup.
+ * The documents of each work are still added through their own call to the index writer, as a separate block.
+ * Updates are never executed in bulk, so that each one remains an atomic call to the index writer.
+ * <p>
+ * Not thread-safe: each batching executor must use its own instance,
+ * except for {@link #forceCommit()} and {@link #forceRefresh()} which may be called from any thread.
  * <p>
  * Ported from Search 5's LuceneBackendQueueTask, in particular.
  */
 public class LuceneBatchedWorkProcessor implements BatchedWorkProcessor {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final IndexAccessor indexAccessor;
 	private final IndexAccessorWorkExecutionContext context;
 
+	private final boolean bulkAdds;
+
+	private final List<BulkableIndexingWork> bulkWorks = new ArrayList<>();
+	private final List<CompletableFuture<Long>> bulkFutures = new ArrayList<>();
+
 	public LuceneBatchedWorkProcessor(EventContext eventContext,
-			IndexAccessor indexAccessor) {
+			IndexAccessor indexAccessor, boolean bulkAdds) {
 		this.indexAccessor = indexAccessor;
 		this.context = new IndexAccessorWorkExecutionContext( eventContext, indexAccessor );
+		this.bulkAdds = bulkAdds;
 	}
 
 	@Override
@@ -37,6 +62,7 @@ public void beginBatch() {
 
 	@Override
 	public CompletableFuture<?> endBatch() {
+		executeBulk();
 		try {
 			indexAccessor.commitOrDelay();
 		}
@@ -69,6 +95,41 @@ public <T> T submit(IndexManagementWork<T> work) {
 		}
 	}
 
+	/**
+	 * Submits a work for execution, either immediately or, if it can be executed in bulk,
+	 * at the latest when the batch ends.
+	 *
+	 * @param work The work to execute.
+	 * @param future The future to complete with the result of the work upon execution.
+	 * @param <T> The type of the work's result.
+	 */
+	@SuppressWarnings("unchecked") // Bulkable works are single-document works, whose result is a Long
+	public <T> void submit(IndexingWork<T> work, CompletableFuture<T> future) {
+		BulkableIndexingWork bulkableWork = bulkAdds ? work.asBulkable() : null;
+		if ( bulkableWork != null ) {
+			addToBulk( bulkableWork, (CompletableFuture<Long>) future );
+			return;
+		}
+
+		// Works that cannot be executed in bulk must see the effects of previous works.
+		executeBulk();
+		try {
+			future.complete( submit( work ) );
+		}
+		catch (RuntimeException e) {
+			future.completeExceptionally( e );
+		}
+	}
+
+	private void executeSingle(BulkableIndexingWork work, CompletableFuture<Long> future) {
+		try {
+			future.complete( submit( work ) );
+		}
+		catch (RuntimeException e) {
+			future.completeExceptionally( e );
+		}
+	}
+
 	public <T> T submit(IndexingWork<T> work) {
 		try {
 			return work.execute( context );
@@ -79,6 +140,52 @@ public <T> T submit(IndexingWork<T> work) {
 		}
 	}
 
+	private void addToBulk(BulkableIndexingWork work, CompletableFuture<Long> future) {
+		bulkWorks.add( work );
+		bulkFutures.add( future );
+	}
+
+	private void executeBulk() {
+		if ( bulkWorks.isEmpty() ) {
+			return;
+		}
+		try {
+			if ( bulkWorks.size() == 1 ) {
+				// Nothing to bulk: execute the work as usual.
+				executeSingle( bulkWorks.get( 0 ), bulkFutures.get( 0 ) );
+				return;
+			}
+
+			int executedCount = 0;
+			try {
+				IndexWriterDelegator indexWriterDelegator = context.getIndexWriterDelegator();
+				for ( ; executedCount < bulkWorks.size(); executedCount++ ) {
+					// One call per work: each work's documents form their own block,
+					// independently of the documents of other works.
+					long result = indexWriterDelegator.addDocuments( bulkWorks.get( executedCount ).getDocuments() );
+					bulkFutures.get( executedCount ).complete( result );
+				}
+			}
+			catch (IOException | RuntimeException e) {
+				int remainingCount = bulkWorks.size() - executedCount;
+				log.failedToExecuteBulk( remainingCount, e.getMessage(), context.getEventContext(), e );
+				// The failure may have left the index writer in an unusable state (e.g. tragic event):
+				// reset it before executing the works again.
+				indexAccessor.cleanUpAfterFailure( e, "Bulk of " + remainingCount + " index works" );
+				// Execute remaining works one by one, so that failures are reported for the relevant works only.
+				// This is safe even for the work that just failed:
+				// the index writer discards all documents of a block when adding one of them fails.
+				for ( int i = executedCount; i < bulkWorks.size(); i++ ) {
+					executeSingle( bulkWorks.get( i ), bulkFutures.get( i ) );
+				}
+			}
+		}
+		finally {
+			bulkWorks.clear();
+			bulkFutures.clear();
+		}
+	}
+
 	// Note this may be called outside of a batch
 	public void forceCommit() {
 		try {
@@ -9,6 +9,7 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
@@ -17,6 +18,7 @@
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.data.impl.SimpleHashFunction;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.reporting.EventContext;
 
 public class LuceneSerialWorkOrchestratorImpl
 		extends AbstractWorkOrchestrator<LuceneBatchedWork<?>>
@@ -34,6 +36,21 @@
 					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> COALESCE_WORKS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_COALESCE_WORKS )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_COALESCE_WORKS )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> BULK_ADDS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_BULK_ADDS )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_BULK_ADDS )
+					.build();
+
+	private final EventContext eventContext;
+	private final IndexAccessor indexAccessor;
+	// Only used for operations that don't depend on the current batch, such as forced commits.
 	private final LuceneBatchedWorkProcessor processor;
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
@@ -42,16 +59,19 @@
 
 	/**
 	 * @param name The name of the orchestrator thread (and of this orchestrator when reporting errors)
-	 * @param processor A processor to use in the background thread.
+	 * @param eventContext The event context of the index.
+	 * @param indexAccessor The index accessor used by processors in the background threads.
 	 * @param threads The threads for this backend.
 	 * @param failureHandler A failure handler to report failures of the background thread.
 	 */
 	public LuceneSerialWorkOrchestratorImpl(
-			String name, LuceneBatchedWorkProcessor processor,
+			String name, EventContext eventContext, IndexAccessor indexAccessor,
 			BackendThreads threads,
 			FailureHandler failureHandler) {
 		super( name );
-		this.processor = processor;
+		this.eventContext = eventContext;
+		this.indexAccessor = indexAccessor;
+		this.processor = new LuceneBatchedWorkProcessor( eventContext, indexAccessor, false );
 		this.threads = threads;
 		this.failureHandler = failureHandler;
 	}
@@ -71,14 +91,18 @@ public void forceRefreshInCurrentThread() {
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
+		boolean coalesceWorks = COALESCE_WORKS.get( propertySource );
+		boolean bulkAdds = BULK_ADDS.get( propertySource );
 
 		executors = new BatchingExecutor[queueCount];
 		for ( int i = 0; i < executors.length; i++ ) {
+			// Processors buffer works within a batch, so they are not thread-safe: create one per executor.
 			executors[i] = new BatchingExecutor<>(
 					name() + " - " + i,
-					processor,
+					new LuceneBatchedWorkProcessor( eventContext, indexAccessor, bulkAdds ),
 					queueSize,
 					true,
+					coalesceWorks,
 					failureHandler
 			);
 		}
@@ -24,11 +24,21 @@
 public interface LuceneSyncWorkOrchestrator {
 
 	default <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManagerContext> indexManagerContexts,
-			Set<String> routingKeys, ReadWork<T> work) {
-		return submit( indexNames, indexManagerContexts, routingKeys, work, null );
+			String tenantId, Set<String> routingKeys, ReadWork<T> work) {
+		return submit( indexNames, indexManagerContexts, tenantId, routingKeys, work, null );
 	}
 
 	<T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManagerContext> indexManagerContexts,
-			Set<String> routingKeys, ReadWork<T> work, HibernateSearchMultiReader indexReader);
+			String tenantId, Set<String> routingKeys, ReadWork<T> work, HibernateSearchMultiReader indexReader);
+
+	/**
+	 * Opens an index reader that can later be passed to
+	 * {@link #submit(Set, Collection, String, Set, ReadWork, HibernateSearchMultiReader)}.
+	 * <p>
+	 * The caller is responsible for closing the reader.
+	 */
+	HibernateSearchMultiReader openIndexReader(Set<String> indexNames,
+			Collection<? extends ReadIndexManagerContext> indexManagerContexts,
+			String tenantId, Set<String> routingKeys);
 
 }
@@ -11,11 +11,15 @@
 import java.util.Collection;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.query.impl.HibernateSearchQueryCachingPolicy;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.OrdinalMapCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.work.impl.ReadWork;
 import org.hibernate.search.backend.lucene.work.impl.ReadWorkExecutionContext;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
@@ -26,6 +30,8 @@
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LRUQueryCache;
+import org.apache.lucene.search.QueryCachingPolicy;
 import org.apache.lucene.search.similarities.Similarity;
 
 public class LuceneSyncWorkOrchestratorImpl
@@ -35,19 +41,35 @@
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final Similarity similarity;
-
-	public LuceneSyncWorkOrchestratorImpl(String name, Similarity similarity) {
+	private final BackendThreads threads;
+	private final LRUQueryCache queryCache;
+	private final QueryCachingPolicy queryCachingPolicy;
+	private final OrdinalMapCache ordinalMapCache;
+
+	/**
+	 * @param name The name of this orchestrator.
+	 * @param similarity The similarity to use in searches.
+	 * @param threads The backend threads.
+	 * @param queryCache The query cache to use in searches, or {@code null} to disable query caching.
+	 */
+	public LuceneSyncWorkOrchestratorImpl(String name, Similarity similarity, BackendThreads threads,
+			LRUQueryCache queryCache) {
 		super( name );
 		this.similarity = similarity;
+		this.threads = threads;
+		this.queryCache = queryCache;
+		this.queryCachingPolicy = new HibernateSearchQueryCachingPolicy();
+		this.ordinalMapCache = new OrdinalMapCache();
 		start( null ); // Nothing to start, just force the superclass to go to the right state.
 	}
 
 	@Override
 	public <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManagerContext> indexManagerContexts,
-			Set<String> routingKeys, ReadWork<T> work,
+			String tenantId, Set<String> routingKeys, ReadWork<T> work,
 			HibernateSearchMultiReader indexReader) {
 		WorkExecution<T> workExecution = new WorkExecution<>(
-				similarity, indexNames, indexManagerContexts, routingKeys, work, indexReader
+				similarity, queryCache, queryCachingPolicy, ordinalMapCache, threads.getSearchExecutor(),
+				indexNames, indexManagerContexts, tenantId, routingKeys, work, indexReader
 		);
 		Throwable throwable = null;
 		try {
@@ -72,6 +94,14 @@ public <T> T submit(Set<String> indexNames, Collection<? extends ReadIndexManage
 		}
 	}
 
+	@Override
+	public HibernateSearchMultiReader openIndexReader(Set<String> indexNames,
+			Collection<? extends ReadIndexManagerContext> indexManagerContexts,
+			String tenantId, Set<String> routingKeys) {
+		return HibernateSearchMultiReader.open( indexNames, indexManagerContexts, tenantId, routingKeys,
+				ordinalMapCache );
+	}
+
 	@Override
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		// Nothing to do
@@ -90,11 +120,19 @@ protected CompletableFuture<?> completion() {
 
 	@Override
 	protected void doStop() {
-		// Nothing to do
+		ordinalMapCache.close();
+		if ( queryCache != null ) {
+			log.queryCacheStatistics( name(), queryCache.getHitCount(), queryCache.getMissCount(),
+					queryCache.getEvictionCount(), queryCache.getCacheSize(), queryCache.ramBytesUsed() );
+			queryCache.clear();
+		}
 	}
 
 	static class WorkExecution<T> implements AutoCloseable, ReadWorkExecutionContext {
 		private final Similarity similarity;
+		private final LRUQueryCache queryCache;
+		private final QueryCachingPolicy queryCachingPolicy;
+		private final Executor searchExecutor;
 		private final Set<String> indexNames;
 		private final HibernateSearchMultiReader indexReader;
 		private final ReadWork<T> work;
@@ -102,16 +140,21 @@ protected void doStop() {
 
 		private T result;
 
-		WorkExecution(Similarity similarity, Set<String> indexNames,
+		WorkExecution(Similarity similarity, LRUQueryCache queryCache, QueryCachingPolicy queryCachingPolicy,
+				OrdinalMapCache ordinalMapCache, Executor searchExecutor, Set<String> indexNames,
 				Collection<? extends ReadIndexManagerContext> indexManagerContexts,
-				Set<String> routingKeys, ReadWork<T> work,
+				String tenantId, Set<String> routingKeys, ReadWork<T> work,
 				HibernateSearchMultiReader indexReader) {
 			this.similarity = similarity;
+			this.queryCache = queryCache;
+			this.queryCachingPolicy = queryCachingPolicy;
+			this.searchExecutor = searchExecutor;
 			this.indexNames = indexNames;
 			this.work = work;
 
 			if ( indexReader == null ) {
-				this.indexReader = HibernateSearchMultiReader.open( indexNames, indexManagerContexts, routingKeys );
+				this.indexReader = HibernateSearchMultiReader.open( indexNames, indexManagerContexts, tenantId,
+						routingKeys, ordinalMapCache );
 				this.closeIndexReader = true;
 			}
 			else {
@@ -122,8 +165,12 @@ protected void doStop() {
 
 		@Override
 		public IndexSearcher createSearcher() {
-			IndexSearcher searcher = new IndexSearcher( indexReader );
+			// If the executor is null, the searcher will simply search all segments in the calling thread.
+			IndexSearcher searcher = new IndexSearcher( indexReader, searchExecutor );
 			searcher.setSimilarity( similarity );
+			// Do not rely on Lucene's static, JVM-wide query cache: use the one of this backend, if any.
+			searcher.setQueryCache( queryCache );
+			searcher.setQueryCachingPolicy( queryCachingPolicy );
 			return searcher;
 		}
 
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.resources.impl;
 
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
@@ -25,10 +26,20 @@ public class BackendThreads {
 					.asInteger()
 					.build();
 
+	private static final ConfigurationProperty<Boolean> SEARCH_PARALLEL_SEGMENTS =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_PARALLEL_SEGMENTS )
+					.asBoolean()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_PARALLEL_SEGMENTS )
+					.build();
+
 	private final String prefix;
 
 	private ThreadPoolProvider threadPoolProvider;
 	private ScheduledExecutorService writeExecutor;
+	private ExecutorService searchExecutor;
+	private ExecutorService queryExecutor;
+	private ScheduledExecutorService maintenanceExecutor;
+	private ScheduledExecutorService refreshExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -48,11 +59,40 @@ public void onStart(ConfigurationPropertySource propertySource, ThreadPoolProvid
 		this.writeExecutor = threadPoolProvider.newScheduledExecutor(
 				threadPoolSize, prefix + " - Worker thread"
 		);
+		// We use a separate executor for searches so that long-running writes
+		// cannot delay searches, and vice-versa.
+		if ( SEARCH_PARALLEL_SEGMENTS.get( propertySource ) ) {
+			this.searchExecutor = threadPoolProvider.newFixedThreadPool(
+					threadPoolSize, prefix + " - Search thread"
+			);
+		}
+		// We use yet another executor to execute asynchronous queries:
+		// those may in turn submit tasks to the search executor and wait for them,
+		// so sharing a single pool could lead to deadlocks.
+		// Threads are only started when the first asynchronous query is executed.
+		this.queryExecutor = threadPoolProvider.newFixedThreadPool(
+				threadPoolSize, prefix + " - Query thread"
+		);
+		// We use a single, separate thread for background maintenance,
+		// which may block for a while but must not delay writes or searches.
+		this.maintenanceExecutor = threadPoolProvider.newScheduledExecutor(
+				1, prefix + " - Maintenance thread"
+		);
+		// We use a separate scheduled executor for background refreshes,
+		// so that periodic refreshes cannot delay writes (and commits) and vice-versa.
+		// Threads are only started when the first background refresh is scheduled.
+		this.refreshExecutor = threadPoolProvider.newScheduledExecutor(
+				threadPoolSize, prefix + " - Refresh thread"
+		);
 	}
 
 	public void onStop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( ExecutorService::shutdownNow, writeExecutor );
+			closer.push( ExecutorService::shutdownNow, searchExecutor );
+			closer.push( ExecutorService::shutdownNow, queryExecutor );
+			closer.push( ExecutorService::shutdownNow, maintenanceExecutor );
+			closer.push( ExecutorService::shutdownNow, refreshExecutor );
 		}
 	}
 
@@ -66,6 +106,40 @@ public ScheduledExecutorService getWriteExecutor() {
 		return writeExecutor;
 	}
 
+	/**
+	 * @return The executor to use for searching multiple slices of an index in parallel,
+	 * or {@code null} if searches should be executed in the calling thread only.
+	 */
+	public Executor getSearchExecutor() {
+		checkStarted();
+		return searchExecutor;
+	}
+
+	/**
+	 * @return The executor to use for executing queries asynchronously.
+	 */
+	public Executor getQueryExecutor() {
+		checkStarted();
+		return queryExecutor;
+	}
+
+	/**
+	 * @return The executor to use for background maintenance tasks,
+	 * such as stopping idle tenant indexes.
+	 */
+	public ScheduledExecutorService getMaintenanceExecutor() {
+		checkStarted();
+		return maintenanceExecutor;
+	}
+
+	/**
+	 * @return The executor to use for refreshing index readers periodically in the background.
+	 */
+	public ScheduledExecutorService getRefreshExecutor() {
+		checkStarted();
+		return refreshExecutor;
+	}
+
 	private void checkStarted() {
 		if ( writeExecutor == null ) {
 			throw new AssertionFailure(
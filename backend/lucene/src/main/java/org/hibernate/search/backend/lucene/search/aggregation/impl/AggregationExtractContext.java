@@ -39,7 +39,7 @@ public FromDocumentFieldValueConvertContext getConvertContext() {
 		return convertContext;
 	}
 
-	public <C extends Collector> C getCollector(CollectorKey<C> key) {
+	public <C extends Collector, T> T getCollector(CollectorKey<C, T> key) {
 		return collectors.get( key );
 	}
 
@@ -26,7 +26,7 @@ public Query getLuceneQuery() {
 		return luceneQuery;
 	}
 
-	public <C extends Collector> void requireCollector(CollectorFactory<C> collectorFactory) {
+	public <C extends Collector, T> void requireCollector(CollectorFactory<C, T> collectorFactory) {
 		extractionRequirementsBuilder.requireCollectorForAllMatchingDocs( collectorFactory );
 	}
 }
@@ -15,18 +15,23 @@
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsCollector;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TotalHitCountCollectorManager;
+import org.hibernate.search.backend.lucene.types.sort.impl.IndexSortSupport;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldCollector;
 import org.apache.lucene.search.TopScoreDocCollector;
-import org.apache.lucene.search.TotalHitCountCollector;
 
 /**
  * Regroups information about the data used as input of extraction (projections or aggregations):
@@ -35,8 +40,8 @@
 public final class ExtractionRequirements {
 
 	private final boolean requireScore;
-	private final Set<CollectorFactory<?>> requiredCollectorForAllMatchingDocsFactories;
-	private final Set<CollectorFactory<?>> requiredCollectorForTopDocsFactories;
+	private final Set<CollectorFactory<?, ?>> requiredCollectorForAllMatchingDocsFactories;
+	private final Set<CollectorFactory<?, ?>> requiredCollectorForTopDocsFactories;
 
 	private ExtractionRequirements(Builder builder) {
 		requireScore = builder.requireScore;
@@ -45,7 +50,7 @@ private ExtractionRequirements(Builder builder) {
 	}
 
 	public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query originalLuceneQuery, Sort sort,
-			IndexReaderMetadataResolver metadataResolver, int maxDocs, TimeoutManager timeoutManager,
+			IndexReaderMetadataResolver metadataResolver, ScoreDoc after, int maxDocs, TimeoutManager timeoutManager,
 			int requestedTotalHitCountThreshold)
 			throws IOException {
 		// Necessary to unwrap boolean queries with a single clause, in particular:
@@ -63,7 +68,7 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 			totalHitCountThreshold = requestedTotalHitCountThreshold;
 		}
 
-		TopDocsCollector<?> topDocsCollector = null;
+		CollectorManager<? extends TopDocsCollector<?>, ? extends TopDocs> topDocsCollectorManager = null;
 		Integer scoreSortFieldIndexForRescoring = null;
 		boolean requireFieldDocRescoring = false;
 
@@ -75,7 +80,8 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 
 		if ( maxDocs > 0 ) {
 			if ( sort == null || isDescendingScoreSort( sort ) ) {
-				topDocsCollector = TopScoreDocCollector.create( maxDocs, totalHitCountThreshold );
+				topDocsCollectorManager = TopScoreDocCollector.createSharedManager( maxDocs,
+						after == null ? null : new FieldDoc( after.doc, after.score ), totalHitCountThreshold );
 			}
 			else {
 				if ( requireScore ) {
@@ -86,21 +92,25 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query orig
 					// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
 					scoreSortFieldIndexForRescoring = getScoreSortFieldIndexOrNull( sort );
 				}
-				topDocsCollector = TopFieldCollector.create( sort, maxDocs, totalHitCountThreshold );
+				// If the sort is a prefix of the index sort and the total hit count threshold allows it,
+				// this allows the collector to stop collecting each segment as soon as it has enough top docs.
+				Sort effectiveSort = IndexSortSupport.toEarlyTerminatingSort( indexSearcher.getIndexReader(), sort );
+				topDocsCollectorManager = TopFieldCollector.createSharedManager( effectiveSort, maxDocs, (FieldDoc) after,
+						totalHitCountThreshold );
 			}
-			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollector );
+			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollectorManager );
 		}
 
-		if ( topDocsCollector == null && totalHitCountThreshold > 0 ) {
+		if ( topDocsCollectorManager == null && totalHitCountThreshold > 0 ) {
 			// Normally the topDocsCollector collects the total hit count,
 			// but if it's not there and not all docs are matched, we need a separate collector.
 			// Note that adding this collector can have a significant cost in some situations
 			// (e.g. for queries matching many hits), so we only add it if it's really necessary.
-			TotalHitCountCollector totalHitCountCollector = new TotalHitCountCollector();
-			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY, totalHitCountCollector );
+			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY,
+					TotalHitCountCollectorManager.INSTANCE );
 		}
 		collectorsForAllMatchingDocsBuilder.addAll( requiredCollectorForAllMatchingDocsFactories );
-		CollectorSet collectorsForAllMatchingDocs = collectorsForAllMatchingDocsBuilder.build();
+		HibernateSearchMultiCollectorManager collectorsForAllMatchingDocs = collectorsForAllMatchingDocsBuilder.build();
 
 		return new LuceneCollectors(
 				metadataResolver,
@@ -136,8 +146,8 @@ private Integer getScoreSortFieldIndexOrNull(Sort sort) {
 	public static class Builder {
 
 		private boolean requireScore;
-		private final Set<CollectorFactory<?>> requiredCollectorForAllMatchingDocsFactories = new LinkedHashSet<>();
-		private final Set<CollectorFactory<?>> requiredCollectorForTopDocsFactories = new LinkedHashSet<>();
+		private final Set<CollectorFactory<?, ?>> requiredCollectorForAllMatchingDocsFactories = new LinkedHashSet<>();
+		private final Set<CollectorFactory<?, ?>> requiredCollectorForTopDocsFactories = new LinkedHashSet<>();
 
 		private boolean requireAllStoredFields = false;
 		private final Set<String> requiredStoredFields = new HashSet<>();
@@ -147,11 +157,11 @@ public void requireScore() {
 			this.requireScore = true;
 		}
 
-		public <C extends Collector> void requireCollectorForAllMatchingDocs(CollectorFactory<C> collectorFactory) {
+		public <C extends Collector, T> void requireCollectorForAllMatchingDocs(CollectorFactory<C, T> collectorFactory) {
 			requiredCollectorForAllMatchingDocsFactories.add( collectorFactory );
 		}
 
-		public <C extends Collector> void requireCollectorForTopDocs(CollectorFactory<C> collectorFactory) {
+		public <C extends Collector, T> void requireCollectorForTopDocs(CollectorFactory<C, T> collectorFactory) {
 			requiredCollectorForTopDocsFactories.add( collectorFactory );
 		}
 
@@ -170,14 +180,15 @@ public void requireStoredField(String absoluteFieldPath, String nestedDocumentPa
 		}
 
 		public ExtractionRequirements build() {
-			CollectorFactory<StoredFieldsCollector> storedFieldCollectorFactory = createStoredFieldCollectorFactoryOrNull();
+			CollectorFactory<StoredFieldsCollector, StoredFieldsCollector> storedFieldCollectorFactory =
+					createStoredFieldCollectorFactoryOrNull();
 			if ( storedFieldCollectorFactory != null ) {
 				requiredCollectorForTopDocsFactories.add( storedFieldCollectorFactory );
 			}
 			return new ExtractionRequirements( this );
 		}
 
-		private CollectorFactory<StoredFieldsCollector> createStoredFieldCollectorFactoryOrNull() {
+		private CollectorFactory<StoredFieldsCollector, StoredFieldsCollector> createStoredFieldCollectorFactoryOrNull() {
 			ReusableDocumentStoredFieldVisitor storedFieldVisitor;
 			if ( requireAllStoredFields ) {
 				storedFieldVisitor = new ReusableDocumentStoredFieldVisitor();
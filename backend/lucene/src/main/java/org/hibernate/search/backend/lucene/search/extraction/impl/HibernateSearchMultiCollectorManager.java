@@ -0,0 +1,171 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.extraction.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.search.timeout.impl.LuceneCounterAdapter;
+import org.hibernate.search.engine.common.timing.spi.Deadline;
+import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FilterCollector;
+import org.apache.lucene.search.FilterLeafCollector;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.TimeLimitingCollector;
+
+/**
+ * A collector manager that composes multiple collector managers,
+ * creating one collector per component for each index slice,
+ * and reducing the collectors of each component separately at the end of the search.
+ * <p>
+ * When a timeout is defined, the collectors are wrapped with a {@link TimeLimitingCollector}.
+ * Reaching the timeout does not fail the search:
+ * collection simply stops in every slice so that the (partial) collected data can still be reduced,
+ * and the timeout is reported through {@link #getTimeExceededException()}.
+ */
+public class HibernateSearchMultiCollectorManager
+		implements CollectorManager<HibernateSearchMultiCollectorManager.ComposedCollector, CollectorSet> {
+
+	private final List<CollectorKey<?, ?>> keys;
+	private final List<CollectorManager<?, ?>> managers;
+	private final TimeoutManager timeoutManager;
+
+	private final AtomicReference<TimeLimitingCollector.TimeExceededException> timeExceededException =
+			new AtomicReference<>();
+
+	HibernateSearchMultiCollectorManager(Map<CollectorKey<?, ?>, CollectorManager<?, ?>> components,
+			TimeoutManager timeoutManager) {
+		this.keys = new ArrayList<>( components.keySet() );
+		this.managers = new ArrayList<>( components.values() );
+		this.timeoutManager = timeoutManager;
+	}
+
+	public boolean isEmpty() {
+		return managers.isEmpty();
+	}
+
+	@Override
+	public ComposedCollector newCollector() throws IOException {
+		Collector[] components = new Collector[managers.size()];
+		for ( int i = 0; i < components.length; i++ ) {
+			components[i] = managers.get( i ).newCollector();
+		}
+		Collector composed = wrapTimeLimitingCollectorIfNecessary(
+				// avoid to use a multi collector if we have just one collector,
+				// as MultiCollector explicitly ignores the total hit count optimization
+				( components.length == 1 ) ? components[0] : MultiCollector.wrap( components )
+		);
+		return new ComposedCollector( composed, components );
+	}
+
+	@Override
+	public CollectorSet reduce(Collection<ComposedCollector> collectors) throws IOException {
+		Map<CollectorKey<?, ?>, Object> results = new LinkedHashMap<>();
+		for ( int i = 0; i < managers.size(); i++ ) {
+			List<Collector> componentCollectors = new ArrayList<>( collectors.size() );
+			for ( ComposedCollector collector : collectors ) {
+				componentCollectors.add( collector.components[i] );
+			}
+			results.put( keys.get( i ), reduce( managers.get( i ), componentCollectors ) );
+		}
+		return new CollectorSet( results );
+	}
+
+	/**
+	 * @return The result of collectors that did not collect anything,
+	 * for when the search is skipped altogether.
+	 * @throws IOException If Lucene throws an {@link IOException}.
+	 */
+	public CollectorSet reduceWithoutCollecting() throws IOException {
+		if ( managers.isEmpty() ) {
+			return new CollectorSet( Collections.emptyMap() );
+		}
+		return reduce( Collections.singletonList( newCollector() ) );
+	}
+
+	/**
+	 * @return The exception thrown by the first collector to exceed the timeout, or {@code null} if none did.
+	 */
+	public TimeLimitingCollector.TimeExceededException getTimeExceededException() {
+		return timeExceededException.get();
+	}
+
+	@SuppressWarnings("unchecked") // Collectors were created by this manager, so they have the right type
+	private static <C extends Collector, T> T reduce(CollectorManager<C, T> manager, List<Collector> collectors)
+			throws IOException {
+		return manager.reduce( (List<C>) collectors );
+	}
+
+	private Collector wrapTimeLimitingCollectorIfNecessary(Collector collector) {
+		final Deadline deadline = timeoutManager.deadlineOrNull();
+		if ( deadline != null ) {
+			TimeLimitingCollector wrapped = new TimeLimitingCollector( collector,
+					new LuceneCounterAdapter( timeoutManager.timingSource() ),
+					deadline.remainingTimeMillis() );
+			// The timeout starts from the given baseline, not from when the collector is first used.
+			// This is important because some collectors are applied during a second search.
+			wrapped.setBaseline( timeoutManager.timeoutBaseline() );
+			return wrapped;
+		}
+		return collector;
+	}
+
+	private void onTimeExceeded(TimeLimitingCollector.TimeExceededException e) {
+		timeExceededException.compareAndSet( null, e );
+	}
+
+	public final class ComposedCollector extends FilterCollector {
+
+		private final Collector[] components;
+
+		private ComposedCollector(Collector composed, Collector[] components) {
+			super( composed );
+			this.components = components;
+		}
+
+		@Override
+		public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+			LeafCollector leafCollector;
+			try {
+				leafCollector = super.getLeafCollector( context );
+			}
+			catch (TimeLimitingCollector.TimeExceededException e) {
+				onTimeExceeded( e );
+				// Skip this leaf: Lucene will move on to the next one, which will be skipped too.
+				throw new CollectionTerminatedException();
+			}
+			if ( timeoutManager.deadlineOrNull() == null ) {
+				return leafCollector;
+			}
+			return new FilterLeafCollector( leafCollector ) {
+				@Override
+				public void collect(int doc) throws IOException {
+					try {
+						super.collect( doc );
+					}
+					catch (TimeLimitingCollector.TimeExceededException e) {
+						onTimeExceeded( e );
+						throw new CollectionTerminatedException();
+					}
+				}
+			};
+		}
+	}
+}
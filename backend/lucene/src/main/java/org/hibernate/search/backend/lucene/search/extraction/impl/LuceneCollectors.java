@@ -7,11 +7,13 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorManagers;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.ExplicitDocIdsQuery;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.engine.common.timing.spi.Deadline;
@@ -20,7 +22,6 @@
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.AssertionFailure;
 
-import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
@@ -36,8 +37,8 @@
 
 public class LuceneCollectors {
 
-	static final CollectorKey<TotalHitCountCollector> TOTAL_HIT_COUNT_KEY = CollectorKey.create();
-	static final CollectorKey<TopDocsCollector<?>> TOP_DOCS_KEY = CollectorKey.create();
+	static final CollectorKey<TotalHitCountCollector, Integer> TOTAL_HIT_COUNT_KEY = CollectorKey.create();
+	static final CollectorKey<TopDocsCollector<?>, TopDocs> TOP_DOCS_KEY = CollectorKey.create();
 
 	private final IndexReaderMetadataResolver metadataResolver;
 
@@ -47,8 +48,9 @@ public class LuceneCollectors {
 	private final boolean requireFieldDocRescoring;
 	private final Integer scoreSortFieldIndexForRescoring;
 
-	private final CollectorSet collectorsForAllMatchingDocs;
-	private final Set<CollectorFactory<?>> collectorsForTopDocsFactories;
+	private final HibernateSearchMultiCollectorManager collectorsForAllMatchingDocsManager;
+	private final Set<CollectorFactory<?, ?>> collectorsForTopDocsFactories;
+	private CollectorSet collectorsForAllMatchingDocs;
 	private CollectorSet collectorsForTopDocs;
 
 	private final TimeoutManager timeoutManager;
@@ -58,15 +60,15 @@ public class LuceneCollectors {
 
 	LuceneCollectors(IndexReaderMetadataResolver metadataResolver, IndexSearcher indexSearcher, Query rewrittenLuceneQuery,
 			boolean requireFieldDocRescoring, Integer scoreSortFieldIndexForRescoring,
-			CollectorSet collectorsForAllMatchingDocs,
-			Set<CollectorFactory<?>> collectorsForTopDocsFactories,
+			HibernateSearchMultiCollectorManager collectorsForAllMatchingDocsManager,
+			Set<CollectorFactory<?, ?>> collectorsForTopDocsFactories,
 			TimeoutManager timeoutManager) {
 		this.metadataResolver = metadataResolver;
 		this.indexSearcher = indexSearcher;
 		this.rewrittenLuceneQuery = rewrittenLuceneQuery;
 		this.requireFieldDocRescoring = requireFieldDocRescoring;
 		this.scoreSortFieldIndexForRescoring = scoreSortFieldIndexForRescoring;
-		this.collectorsForAllMatchingDocs = collectorsForAllMatchingDocs;
+		this.collectorsForAllMatchingDocsManager = collectorsForAllMatchingDocsManager;
 		this.collectorsForTopDocsFactories = collectorsForTopDocsFactories;
 		this.timeoutManager = timeoutManager;
 	}
@@ -83,21 +85,17 @@ public void collectMatchingDocs(int offset, Integer limit) throws IOException {
 		if ( timeoutManager.checkTimedOut() ) {
 			resultTotal = SimpleSearchResultTotal.lowerBound( 0L );
 			// in case of timeout before the query execution, skip the query
+			collectorsForAllMatchingDocs = collectorsForAllMatchingDocsManager.reduceWithoutCollecting();
 			return;
 		}
 
-		try {
-			Collector composed = collectorsForAllMatchingDocs.getComposed();
-			if ( composed != null ) {
-				indexSearcher.search( rewrittenLuceneQuery, composed );
-			}
+		if ( collectorsForAllMatchingDocsManager.isEmpty() ) {
+			collectorsForAllMatchingDocs = collectorsForAllMatchingDocsManager.reduceWithoutCollecting();
 		}
-		catch (TimeLimitingCollector.TimeExceededException e) {
-			Deadline deadline = timeoutManager.deadlineOrNull();
-			if ( deadline == null ) {
-				throw new AssertionFailure( "Timeout reached, but no timeout was defined", e );
-			}
-			deadline.forceTimeout( e );
+		else {
+			collectorsForAllMatchingDocs = CollectorManagers.search( indexSearcher, rewrittenLuceneQuery,
+					collectorsForAllMatchingDocsManager );
+			handleTimeExceeded( collectorsForAllMatchingDocsManager );
 		}
 
 		processCollectedMatchingDocs( offset, limit );
@@ -109,22 +107,22 @@ private void processCollectedMatchingDocs(int offset, Integer limit) throws IOEx
 			resultTotal = SimpleSearchResultTotal.exact( indexSearcher.getIndexReader().numDocs() );
 		}
 		else {
-			TotalHitCountCollector totalHitCountCollector = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY );
-			if ( totalHitCountCollector != null ) {
+			Integer totalHitCount = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY );
+			if ( totalHitCount != null ) {
 				boolean exact = !timeoutManager.isTimedOut();
-				resultTotal = SimpleSearchResultTotal.of( totalHitCountCollector.getTotalHits(), exact );
+				resultTotal = SimpleSearchResultTotal.of( totalHitCount, exact );
 			}
 		}
 
-		TopDocsCollector<?> topDocsCollector = collectorsForAllMatchingDocs.get( TOP_DOCS_KEY );
-		if ( topDocsCollector == null ) {
+		TopDocs allTopDocs = collectorsForAllMatchingDocs.get( TOP_DOCS_KEY );
+		if ( allTopDocs == null ) {
 			if ( resultTotal == null ) {
 				resultTotal = SimpleSearchResultTotal.lowerBound( 0 );
 			}
 			return;
 		}
 
-		extractTopDocs( topDocsCollector, offset, limit );
+		extractTopDocs( allTopDocs, offset, limit );
 		if ( resultTotal == null ) {
 			boolean exact = TotalHits.Relation.EQUAL_TO.equals( topDocs.totalHits.relation )
 					&& !timeoutManager.isTimedOut();
@@ -159,19 +157,11 @@ public void collectTopDocsData(int startInclusive, int endExclusive) throws IOEx
 			this.collectorsForTopDocs = null;
 			return;
 		}
-		try {
-			ScoreDoc[] scoreDocs = topDocs.scoreDocs;
-			ExplicitDocIdsQuery topDocsQuery = new ExplicitDocIdsQuery( scoreDocs, startInclusive, endExclusive );
-			this.collectorsForTopDocs = buildTopdDocsDataCollectors( topDocsQuery );
-			indexSearcher.search( topDocsQuery, collectorsForTopDocs.getComposed() );
-		}
-		catch (TimeLimitingCollector.TimeExceededException e) {
-			Deadline deadline = timeoutManager.deadlineOrNull();
-			if ( deadline == null ) {
-				throw new AssertionFailure( "Timeout reached, but no timeout was defined", e );
-			}
-			deadline.forceTimeout( e );
-		}
+		ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+		ExplicitDocIdsQuery topDocsQuery = new ExplicitDocIdsQuery( scoreDocs, startInclusive, endExclusive );
+		HibernateSearchMultiCollectorManager collectorsForTopDocsManager = buildTopDocsDataCollectors( topDocsQuery );
+		this.collectorsForTopDocs = CollectorManagers.search( indexSearcher, topDocsQuery, collectorsForTopDocsManager );
+		handleTimeExceeded( collectorsForTopDocsManager );
 	}
 
 	public CollectorSet getCollectorsForTopDocs() {
@@ -186,28 +176,30 @@ public TopDocs getTopDocs() {
 		return topDocs;
 	}
 
-	private void extractTopDocs(TopDocsCollector<?> topDocsCollector, int offset, Integer limit) {
-		if ( offset >= topDocsCollector.getTotalHits() ) {
-			// Hack.
-			// In this case, we cannot execute the code below as Lucene considers we passed incorrect arguments
-			// and returns a TopDocs instance with no ScoreDocs (correct)
-			// and a total hit count set to 0 (not always correct).
-			// Also, we cannot reconstruct the total hit count from just the collector
-			// since we don't have access to the relation (EQUAL/GT_OR_EQUAL).
-			// So we get just one topDoc, and infer everything from there.
-			TopDocs firstTopDoc = topDocsCollector.topDocs( 0, 1 );
-			topDocs = firstTopDoc instanceof TopFieldDocs
-					? new TopFieldDocs( firstTopDoc.totalHits, new FieldDoc[0], ( (TopFieldDocs) firstTopDoc ).fields )
-					: new TopDocs( firstTopDoc.totalHits, new ScoreDoc[0] );
-			return;
-		}
+	private void extractTopDocs(TopDocs allTopDocs, int offset, Integer limit) {
+		// The collectors return the top docs from the very first one,
+		// so we need to skip those before the offset ourselves.
+		ScoreDoc[] allScoreDocs = allTopDocs.scoreDocs;
+		int startInclusive = Math.min( offset, allScoreDocs.length );
+		int endExclusive = limit == null ? allScoreDocs.length : (int) Math.min( (long) offset + limit, allScoreDocs.length );
+		ScoreDoc[] scoreDocs = startInclusive == 0 && endExclusive == allScoreDocs.length
+				? allScoreDocs
+				: Arrays.copyOfRange( allScoreDocs, startInclusive, endExclusive );
+		topDocs = allTopDocs instanceof TopFieldDocs
+				? new TopFieldDocs( allTopDocs.totalHits, scoreDocs, ( (TopFieldDocs) allTopDocs ).fields )
+				: new TopDocs( allTopDocs.totalHits, scoreDocs );
+	}
 
-		if ( limit == null ) {
-			topDocs = topDocsCollector.topDocs( offset );
+	private void handleTimeExceeded(HibernateSearchMultiCollectorManager collectorManager) {
+		TimeLimitingCollector.TimeExceededException e = collectorManager.getTimeExceededException();
+		if ( e == null ) {
+			return;
 		}
-		else {
-			topDocs = topDocsCollector.topDocs( offset, limit );
+		Deadline deadline = timeoutManager.deadlineOrNull();
+		if ( deadline == null ) {
+			throw new AssertionFailure( "Timeout reached, but no timeout was defined", e );
 		}
+		deadline.forceTimeout( e );
 	}
 
 	private void handleRescoring() throws IOException {
@@ -225,7 +217,7 @@ private void handleRescoring() throws IOException {
 		}
 	}
 
-	private CollectorSet buildTopdDocsDataCollectors(Query topDocsQuery) throws IOException {
+	private HibernateSearchMultiCollectorManager buildTopDocsDataCollectors(Query topDocsQuery) throws IOException {
 		CollectorExecutionContext executionContext = new CollectorExecutionContext(
 				metadataResolver, indexSearcher,
 				// Only join nested documents for the top documents (not for all documents matching this.luceneQuery).
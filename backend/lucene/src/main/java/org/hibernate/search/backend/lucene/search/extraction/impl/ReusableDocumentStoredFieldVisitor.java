@@ -56,6 +56,17 @@ public ReusableDocumentStoredFieldVisitor(Set<String> fieldsToLoad) {
 		this.rootAcceptor = previous;
 	}
 
+	private ReusableDocumentStoredFieldVisitor(FieldAcceptor rootAcceptor) {
+		this.rootAcceptor = rootAcceptor;
+	}
+
+	/**
+	 * @return A new visitor accepting the same fields as this one, to be used in another thread.
+	 */
+	public ReusableDocumentStoredFieldVisitor copy() {
+		return new ReusableDocumentStoredFieldVisitor( rootAcceptor );
+	}
+
 	@Override
 	public void binaryField(FieldInfo fieldInfo, byte[] value) {
 		getDocument().add( new StoredField( fieldInfo.name, value ) );
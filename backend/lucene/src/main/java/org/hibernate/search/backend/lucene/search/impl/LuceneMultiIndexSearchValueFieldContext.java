@@ -136,6 +136,26 @@ public Analyzer searchAnalyzerOrNormalizer() {
 				"searchAnalyzerOrNormalizer" );
 	}
 
+	@Override
+	public boolean projectableFromDocValues() {
+		for ( LuceneSearchValueFieldContext<F> field : fieldForEachIndex ) {
+			if ( !field.type().projectableFromDocValues() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean projectableFromStoredFields() {
+		for ( LuceneSearchValueFieldContext<F> field : fieldForEachIndex ) {
+			if ( !field.type().projectableFromStoredFields() ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
 	@Override
 	public <T> LuceneSearchValueFieldQueryElementFactory<T, F> queryElementFactory(SearchQueryElementTypeKey<T> key) {
 		LuceneSearchValueFieldQueryElementFactory<T, F> factory = null;
@@ -52,6 +52,16 @@ default DslConverter<?, F> dslConverter(ValueConvert convert) {
 
 	<T> LuceneSearchValueFieldQueryElementFactory<T, F> queryElementFactory(SearchQueryElementTypeKey<T> key);
 
+	/**
+	 * @return {@code true} if projections on this field can read values from docvalues.
+	 */
+	boolean projectableFromDocValues();
+
+	/**
+	 * @return {@code true} if projections on this field can read values from stored fields.
+	 */
+	boolean projectableFromStoredFields();
+
 	Optional<String> searchAnalyzerName();
 
 	Analyzer searchAnalyzerOrNormalizer();
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.search.projection.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
 import java.util.Objects;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
@@ -31,6 +32,7 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.util.SloppyMath;
 
 /**
@@ -40,7 +42,7 @@
  * @param <P> The type of aggregated values returned by the projection (after conversion).
  */
 public class LuceneDistanceToFieldProjection<E, P> extends AbstractLuceneProjection<E, P>
-		implements CollectorFactory<GeoPointDistanceCollector> {
+		implements CollectorFactory<GeoPointDistanceCollector, GeoPointDistanceCollector> {
 
 	private static final ProjectionConverter<Double, Double> NO_OP_DOUBLE_CONVERTER = new ProjectionConverter<>(
 			Double.class,
@@ -129,24 +131,36 @@ public P transform(LoadingResult<?, ?> loadingResult, E extractedData,
 	}
 
 	@Override
-	public GeoPointDistanceCollector createCollector(CollectorExecutionContext context) {
-		return new GeoPointDistanceCollector(
-				absoluteFieldPath,
-				nestedDocumentPath == null ? null : context.createNestedDocsProvider( nestedDocumentPath ),
-				center, context.getMaxDocs()
-		);
+	public CollectorManager<GeoPointDistanceCollector, GeoPointDistanceCollector> createCollectorManager(
+			CollectorExecutionContext context) {
+		return new CollectorManager<GeoPointDistanceCollector, GeoPointDistanceCollector>() {
+			@Override
+			public GeoPointDistanceCollector newCollector() {
+				return new GeoPointDistanceCollector(
+						absoluteFieldPath,
+						nestedDocumentPath == null ? null : context.createNestedDocsProvider( nestedDocumentPath ),
+						center, context.getMaxDocs()
+				);
+			}
+
+			@Override
+			public GeoPointDistanceCollector reduce(Collection<GeoPointDistanceCollector> collectors) {
+				return GeoPointDistanceCollector.reduce( collectors );
+			}
+		};
 	}
 
 	@Override
-	public CollectorKey<GeoPointDistanceCollector> getCollectorKey() {
+	public CollectorKey<GeoPointDistanceCollector, GeoPointDistanceCollector> getCollectorKey() {
 		return collectorKey;
 	}
 
 	/**
 	 * Necessary in order to share a single collector if there are multiple similar projections.
-	 * See {@link #createCollector(CollectorExecutionContext)}, {@link #request(SearchProjectionRequestContext)}.
+	 * See {@link #createCollectorManager(CollectorExecutionContext)}, {@link #request(SearchProjectionRequestContext)}.
 	 */
-	private static final class DistanceCollectorKey implements CollectorKey<GeoPointDistanceCollector> {
+	private static final class DistanceCollectorKey
+			implements CollectorKey<GeoPointDistanceCollector, GeoPointDistanceCollector> {
 
 		private final String absoluteFieldPath;
 		private final GeoPoint center;
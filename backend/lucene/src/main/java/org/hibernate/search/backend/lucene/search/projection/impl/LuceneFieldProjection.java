@@ -7,13 +7,23 @@
 package org.hibernate.search.backend.lucene.search.projection.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.Objects;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.LongMultiValuesCollector;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TextMultiValuesCollector;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
 import org.hibernate.search.backend.lucene.search.impl.AbstractLuceneCodecAwareSearchValueFieldQueryElementFactory;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchValueFieldContext;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchValueFieldTypeContext;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneStringFieldCodec;
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
 import org.hibernate.search.engine.backend.types.converter.spi.ProjectionConverter;
 import org.hibernate.search.engine.search.common.ValueConvert;
@@ -25,9 +35,13 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
 
 /**
  * A projection on the values of an index field.
+ * <p>
+ * Values are read from docvalues when possible, and from stored fields otherwise.
  *
  * @param <E> The type of the aggregated value extracted from the Lucene index (before conversion).
  * @param <P> The type of the aggregated value returned by the projection (after conversion).
@@ -40,14 +54,17 @@
 	private final String nestedDocumentPath;
 
 	private final LuceneFieldCodec<F> codec;
+	private final DocValuesReader<F, ?> docValuesReader;
 	private final ProjectionConverter<F, ? extends V> converter;
 	private final ProjectionAccumulator<F, V, E, P> accumulator;
 
-	private LuceneFieldProjection(Builder<F, V> builder, ProjectionAccumulator<F, V, E, P> accumulator) {
+	private LuceneFieldProjection(Builder<F, V> builder, DocValuesReader<F, ?> docValuesReader,
+			ProjectionAccumulator<F, V, E, P> accumulator) {
 		super( builder );
 		this.absoluteFieldPath = builder.field.absolutePath();
 		this.nestedDocumentPath = builder.field.nestedDocumentPath();
 		this.codec = builder.codec;
+		this.docValuesReader = docValuesReader;
 		this.converter = builder.converter;
 		this.accumulator = accumulator;
 	}
@@ -56,23 +73,35 @@ private LuceneFieldProjection(Builder<F, V> builder, ProjectionAccumulator<F, V,
 	public String toString() {
 		return getClass().getSimpleName() + "["
 				+ "absoluteFieldPath=" + absoluteFieldPath
+				+ ", docValues=" + ( docValuesReader != null )
 				+ ", accumulator=" + accumulator
 				+ "]";
 	}
 
 	@Override
 	public void request(SearchProjectionRequestContext context) {
-		context.requireStoredField( absoluteFieldPath, nestedDocumentPath );
+		if ( docValuesReader != null ) {
+			// Docvalues are columnar: reading them is cheaper than loading and decompressing stored fields.
+			context.requireCollector( docValuesReader );
+		}
+		else {
+			context.requireStoredField( absoluteFieldPath, nestedDocumentPath );
+		}
 	}
 
 	@Override
 	public E extract(ProjectionHitMapper<?, ?> mapper, LuceneResult documentResult,
 			SearchProjectionExtractContext context) {
 		E extracted = accumulator.createInitial();
-		for ( IndexableField field : documentResult.getDocument().getFields() ) {
-			if ( field.name().equals( absoluteFieldPath ) ) {
-				F decoded = codec.decode( field );
-				extracted = accumulator.accumulate( extracted, decoded );
+		if ( docValuesReader != null ) {
+			extracted = docValuesReader.accumulate( context, documentResult.getDocId(), accumulator, extracted );
+		}
+		else {
+			for ( IndexableField field : documentResult.getDocument().getFields() ) {
+				if ( field.name().equals( absoluteFieldPath ) ) {
+					F decoded = codec.decode( field );
+					extracted = accumulator.accumulate( extracted, decoded );
+				}
 			}
 		}
 		return extracted;
@@ -85,33 +114,200 @@ public P transform(LoadingResult<?, ?> loadingResult, E extractedData,
 		return accumulator.finish( extractedData, converter, convertContext );
 	}
 
+	/**
+	 * Creates {@link DocValuesReader}s for a given field.
+	 *
+	 * @param <F> The type of field values.
+	 */
+	private interface DocValuesReaderFactory<F> {
+		DocValuesReader<F, ?> create(String absoluteFieldPath, String nestedDocumentPath);
+	}
+
+	/**
+	 * Reads field values from docvalues, through a collector running on top docs.
+	 *
+	 * @param <F> The type of field values.
+	 * @param <C> The type of collector.
+	 */
+	private abstract static class DocValuesReader<F, C extends Collector> implements CollectorFactory<C, C> {
+
+		protected final String absoluteFieldPath;
+		protected final String nestedDocumentPath;
+		private final DocValuesCollectorKey<C> collectorKey;
+
+		DocValuesReader(String absoluteFieldPath, String nestedDocumentPath) {
+			this.absoluteFieldPath = absoluteFieldPath;
+			this.nestedDocumentPath = nestedDocumentPath;
+			this.collectorKey = new DocValuesCollectorKey<>( absoluteFieldPath, nestedDocumentPath );
+		}
+
+		@Override
+		public CollectorKey<C, C> getCollectorKey() {
+			return collectorKey;
+		}
+
+		abstract <E> E accumulate(SearchProjectionExtractContext context, int docId,
+				ProjectionAccumulator<F, ?, E, ?> accumulator, E accumulated);
+	}
+
+	private static final class NumericDocValuesReader<F> extends DocValuesReader<F, LongMultiValuesCollector> {
+
+		private final AbstractLuceneNumericFieldCodec<F, ?> codec;
+
+		NumericDocValuesReader(AbstractLuceneNumericFieldCodec<F, ?> codec,
+				String absoluteFieldPath, String nestedDocumentPath) {
+			super( absoluteFieldPath, nestedDocumentPath );
+			this.codec = codec;
+		}
+
+		@Override
+		public CollectorManager<LongMultiValuesCollector, LongMultiValuesCollector> createCollectorManager(
+				CollectorExecutionContext context) {
+			return new CollectorManager<LongMultiValuesCollector, LongMultiValuesCollector>() {
+				@Override
+				public LongMultiValuesCollector newCollector() {
+					return new LongMultiValuesCollector(
+							absoluteFieldPath,
+							nestedDocumentPath == null ? null : context.createNestedDocsProvider( nestedDocumentPath )
+					);
+				}
+
+				@Override
+				public LongMultiValuesCollector reduce(Collection<LongMultiValuesCollector> collectors) {
+					return LongMultiValuesCollector.reduce( collectors );
+				}
+			};
+		}
+
+		@Override
+		<E> E accumulate(SearchProjectionExtractContext context, int docId,
+				ProjectionAccumulator<F, ?, E, ?> accumulator, E accumulated) {
+			LongMultiValuesCollector collector = context.getCollector( getCollectorKey() );
+			for ( long docValue : collector.getValues( docId ) ) {
+				accumulated = accumulator.accumulate( accumulated, codec.decodeDocValue( docValue ) );
+			}
+			return accumulated;
+		}
+	}
+
+	private static final class TextDocValuesReader extends DocValuesReader<String, TextMultiValuesCollector> {
+
+		TextDocValuesReader(String absoluteFieldPath, String nestedDocumentPath) {
+			super( absoluteFieldPath, nestedDocumentPath );
+		}
+
+		@Override
+		public CollectorManager<TextMultiValuesCollector, TextMultiValuesCollector> createCollectorManager(
+				CollectorExecutionContext context) {
+			return new CollectorManager<TextMultiValuesCollector, TextMultiValuesCollector>() {
+				@Override
+				public TextMultiValuesCollector newCollector() {
+					return new TextMultiValuesCollector(
+							absoluteFieldPath,
+							nestedDocumentPath == null ? null : context.createNestedDocsProvider( nestedDocumentPath )
+					);
+				}
+
+				@Override
+				public TextMultiValuesCollector reduce(Collection<TextMultiValuesCollector> collectors) {
+					return TextMultiValuesCollector.reduce( collectors );
+				}
+			};
+		}
+
+		@Override
+		<E> E accumulate(SearchProjectionExtractContext context, int docId,
+				ProjectionAccumulator<String, ?, E, ?> accumulator, E accumulated) {
+			TextMultiValuesCollector collector = context.getCollector( getCollectorKey() );
+			for ( String docValue : collector.getValues( docId ) ) {
+				// Docvalues of string fields hold the exact indexed value: no decoding necessary.
+				accumulated = accumulator.accumulate( accumulated, docValue );
+			}
+			return accumulated;
+		}
+	}
+
+	/**
+	 * Necessary in order to share a single collector if there are multiple projections on the same field.
+	 * See {@link DocValuesReader#createCollectorManager(CollectorExecutionContext)},
+	 * {@link #request(SearchProjectionRequestContext)}.
+	 */
+	private static final class DocValuesCollectorKey<C extends Collector> implements CollectorKey<C, C> {
+
+		private final String absoluteFieldPath;
+		private final String nestedDocumentPath;
+
+		private DocValuesCollectorKey(String absoluteFieldPath, String nestedDocumentPath) {
+			this.absoluteFieldPath = absoluteFieldPath;
+			this.nestedDocumentPath = nestedDocumentPath;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || !obj.getClass().equals( getClass() ) ) {
+				return false;
+			}
+			DocValuesCollectorKey<?> other = (DocValuesCollectorKey<?>) obj;
+			return absoluteFieldPath.equals( other.absoluteFieldPath )
+					&& Objects.equals( nestedDocumentPath, other.nestedDocumentPath );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( absoluteFieldPath, nestedDocumentPath );
+		}
+	}
+
 	public static class Factory<F>
 			extends
 			AbstractLuceneCodecAwareSearchValueFieldQueryElementFactory<TypeSelector<?>, F, LuceneFieldCodec<F>> {
+
+		public static Factory<String> forText(LuceneStringFieldCodec codec) {
+			return new Factory<>( codec, TextDocValuesReader::new );
+		}
+
+		private final DocValuesReaderFactory<F> docValuesReaderFactory;
+
 		public Factory(LuceneFieldCodec<F> codec) {
+			this( codec, null );
+		}
+
+		public Factory(AbstractLuceneNumericFieldCodec<F, ?> codec) {
+			this( codec, (absoluteFieldPath, nestedDocumentPath) ->
+					new NumericDocValuesReader<>( codec, absoluteFieldPath, nestedDocumentPath ) );
+		}
+
+		private Factory(LuceneFieldCodec<F> codec, DocValuesReaderFactory<F> docValuesReaderFactory) {
 			super( codec );
+			this.docValuesReaderFactory = docValuesReaderFactory;
 		}
 
 		@Override
 		public TypeSelector<?> create(LuceneSearchContext searchContext, LuceneSearchValueFieldContext<F> field) {
-			return new TypeSelector<>( codec, searchContext, field );
+			return new TypeSelector<>( codec, docValuesReaderFactory, searchContext, field );
 		}
+
 	}
 
 	public static class TypeSelector<F> {
 		private final LuceneFieldCodec<F> codec;
+		private final DocValuesReaderFactory<F> docValuesReaderFactory;
 		private final LuceneSearchContext searchContext;
 		private final LuceneSearchValueFieldContext<F> field;
 
-		private TypeSelector(LuceneFieldCodec<F> codec,
+		private TypeSelector(LuceneFieldCodec<F> codec, DocValuesReaderFactory<F> docValuesReaderFactory,
 				LuceneSearchContext searchContext, LuceneSearchValueFieldContext<F> field) {
 			this.codec = codec;
+			this.docValuesReaderFactory = docValuesReaderFactory;
 			this.searchContext = searchContext;
 			this.field = field;
 		}
 
 		public <V> Builder<F, V> type(Class<V> expectedType, ValueConvert convert) {
-			return new Builder<>( codec, searchContext, field,
+			return new Builder<>( codec, docValuesReaderFactory, searchContext, field,
 					field.type().projectionConverter( convert ).withConvertedType( expectedType, field ) );
 		}
 	}
@@ -122,15 +318,18 @@ public <V> Builder<F, V> type(Class<V> expectedType, ValueConvert convert) {
 		private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 		private final LuceneFieldCodec<F> codec;
+		private final DocValuesReaderFactory<F> docValuesReaderFactory;
 
 		private final LuceneSearchValueFieldContext<F> field;
 
 		private final ProjectionConverter<F, ? extends V> converter;
 
-		private Builder(LuceneFieldCodec<F> codec, LuceneSearchContext searchContext,
+		private Builder(LuceneFieldCodec<F> codec, DocValuesReaderFactory<F> docValuesReaderFactory,
+				LuceneSearchContext searchContext,
 				LuceneSearchValueFieldContext<F> field, ProjectionConverter<F, ? extends V> converter) {
 			super( searchContext );
 			this.codec = codec;
+			this.docValuesReaderFactory = docValuesReaderFactory;
 			this.field = field;
 			this.converter = converter;
 		}
@@ -140,7 +339,20 @@ public <P> SearchProjection<P> build(ProjectionAccumulator.Provider<V, P> accumu
 			if ( accumulatorProvider.isSingleValued() && field.multiValuedInRoot() ) {
 				throw log.invalidSingleValuedProjectionOnMultiValuedField( field.absolutePath(), field.eventContext() );
 			}
-			return new LuceneFieldProjection<>( this, accumulatorProvider.get() );
+			return new LuceneFieldProjection<>( this, docValuesReaderOrNull(), accumulatorProvider.get() );
+		}
+
+		private DocValuesReader<F, ?> docValuesReaderOrNull() {
+			// When targeting multiple indexes, docvalues can only be used if they can be used in all indexes.
+			LuceneSearchValueFieldTypeContext<F> type = field.type();
+			if ( docValuesReaderFactory == null || !type.projectableFromDocValues() ) {
+				return null;
+			}
+			if ( type.projectableFromStoredFields() && field.multiValuedInRoot() ) {
+				// For multi-valued fields, use storage if possible, because we need order to be preserved.
+				return null;
+			}
+			return docValuesReaderFactory.create( field.absolutePath(), field.nestedDocumentPath() );
 		}
 	}
 }
@@ -43,7 +43,7 @@ public Explanation explain(int docId) {
 		}
 	}
 
-	public <C extends Collector> C getCollector(CollectorKey<C> key) {
+	public <C extends Collector, T> T getCollector(CollectorKey<C, T> key) {
 		return collectors == null ? null : collectors.get( key );
 	}
 
@@ -95,6 +95,14 @@ public int hitSize() {
 		return ( topDocs == null ) ? 0 : topDocs.scoreDocs.length;
 	}
 
+	ScoreDoc lastHit() {
+		TopDocs topDocs = luceneCollectors.getTopDocs();
+		if ( topDocs == null || topDocs.scoreDocs.length == 0 ) {
+			return null;
+		}
+		return topDocs.scoreDocs[topDocs.scoreDocs.length - 1];
+	}
+
 	SearchResultTotal total() {
 		return luceneCollectors.getResultTotal();
 	}
@@ -0,0 +1,124 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.backend.lucene.work.impl.ReadWork;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.spi.MultiSearchExecutor;
+import org.hibernate.search.engine.search.query.spi.MultiSearchRequest;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Executes multiple queries in parallel, in the query thread pool.
+ * <p>
+ * Queries targeting the same indexes and routing keys share the same index reader,
+ * so that they all see the same snapshot of the index.
+ */
+public class LuceneMultiSearchExecutor implements MultiSearchExecutor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final BackendThreads threads;
+
+	public LuceneMultiSearchExecutor(BackendThreads threads) {
+		this.threads = threads;
+	}
+
+	@Override
+	public List<SearchResult<?>> fetch(List<MultiSearchRequest<?>> requests) {
+		Executor queryExecutor = threads.getQueryExecutor();
+		Map<List<Object>, HibernateSearchMultiReader> indexReaders = new LinkedHashMap<>();
+		try {
+			List<Item<?>> items = new ArrayList<>( requests.size() );
+			for ( MultiSearchRequest<?> request : requests ) {
+				items.add( Item.create( request ) );
+			}
+
+			List<CompletableFuture<?>> futures = new ArrayList<>( items.size() );
+			for ( Item<?> item : items ) {
+				HibernateSearchMultiReader indexReader = indexReaders.computeIfAbsent( item.indexReaderKey(),
+						ignored -> item.query.openIndexReader() );
+				futures.add( item.submit( indexReader, queryExecutor ) );
+			}
+
+			// Wait for all queries to complete, even if some of them fail,
+			// so that we don't close index readers while they are still in use.
+			Futures.unwrappedExceptionJoin( CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) )
+					.handle( (ignored, throwable) -> null ) );
+
+			SearchResult<?>[] results = new SearchResult<?>[items.size()];
+			for ( int i = 0; i < items.size(); i++ ) {
+				// Loading happens in the calling thread, one query at a time
+				results[i] = items.get( i ).complete();
+			}
+			return Arrays.asList( results );
+		}
+		finally {
+			for ( Map.Entry<List<Object>, HibernateSearchMultiReader> entry : indexReaders.entrySet() ) {
+				try {
+					entry.getValue().close();
+				}
+				catch (IOException | RuntimeException e) {
+					@SuppressWarnings("unchecked") // The first element of the key is always the set of index names
+					Set<String> indexNames = (Set<String>) entry.getKey().get( 0 );
+					log.unableToCloseIndexReader( EventContexts.fromIndexNames( indexNames ), e );
+				}
+			}
+		}
+	}
+
+	private static final class Item<H> {
+
+		@SuppressWarnings("unchecked") // This executor is only used for Lucene queries
+		static <H> Item<H> create(MultiSearchRequest<H> request) {
+			return new Item<>( (LuceneSearchQueryImpl<H>) request.query(), request.offset(), request.limit() );
+		}
+
+		private final LuceneSearchQueryImpl<H> query;
+		private final Integer offset;
+		private final Integer limit;
+
+		private CompletableFuture<LuceneLoadableSearchResult<H>> future;
+
+		private Item(LuceneSearchQueryImpl<H> query, Integer offset, Integer limit) {
+			this.query = query;
+			this.offset = offset;
+			this.limit = limit;
+		}
+
+		List<Object> indexReaderKey() {
+			return Arrays.asList( query.indexNames(), query.tenantId(), query.routingKeys() );
+		}
+
+		CompletableFuture<?> submit(HibernateSearchMultiReader indexReader, Executor queryExecutor) {
+			ReadWork<LuceneLoadableSearchResult<H>> work = query.startMultiSearchItem( offset, limit );
+			future = CompletableFuture.supplyAsync( () -> query.submitWithIndexReader( work, indexReader ),
+					queryExecutor );
+			return future;
+		}
+
+		SearchResult<H> complete() {
+			return query.completeMultiSearchItem( Futures.unwrappedExceptionJoin( future ) );
+		}
+	}
+}
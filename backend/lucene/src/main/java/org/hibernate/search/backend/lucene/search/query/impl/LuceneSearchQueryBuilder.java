@@ -14,6 +14,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
@@ -52,6 +53,8 @@
 
 	private final LuceneWorkFactory workFactory;
 	private final LuceneSyncWorkOrchestrator queryOrchestrator;
+	private final Executor queryExecutor;
+	private final LuceneMultiSearchExecutor multiSearchExecutor;
 
 	private final LuceneSearchContext searchContext;
 	private final BackendSessionContext sessionContext;
@@ -73,12 +76,16 @@
 	public LuceneSearchQueryBuilder(
 			LuceneWorkFactory workFactory,
 			LuceneSyncWorkOrchestrator queryOrchestrator,
+			Executor queryExecutor,
+			LuceneMultiSearchExecutor multiSearchExecutor,
 			LuceneSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			SearchLoadingContextBuilder<?, ?, ?> loadingContextBuilder,
 			LuceneSearchProjection<?, H> rootProjection) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.queryExecutor = queryExecutor;
+		this.multiSearchExecutor = multiSearchExecutor;
 
 		this.searchContext = searchContext;
 		this.sessionContext = sessionContext;
@@ -229,7 +236,7 @@ public LuceneSearchQuery<H> build() {
 		);
 
 		return new LuceneSearchQueryImpl<>(
-				queryOrchestrator, workFactory,
+				queryOrchestrator, queryExecutor, multiSearchExecutor, workFactory,
 				searchContext,
 				sessionContext,
 				loadingContext,
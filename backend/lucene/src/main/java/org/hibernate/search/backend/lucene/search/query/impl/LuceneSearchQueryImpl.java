@@ -10,6 +10,9 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
@@ -29,7 +32,9 @@
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
+import org.hibernate.search.engine.search.query.spi.MultiSearchExecutor;
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -45,6 +50,8 @@
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final LuceneSyncWorkOrchestrator queryOrchestrator;
+	private final Executor queryExecutor;
+	private final LuceneMultiSearchExecutor multiSearchExecutor;
 	private final LuceneWorkFactory workFactory;
 	private final LuceneSearchContext searchContext;
 	private final BackendSessionContext sessionContext;
@@ -57,7 +64,8 @@
 
 	private TimeoutManager timeoutManager;
 
-	LuceneSearchQueryImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
+	LuceneSearchQueryImpl(LuceneSyncWorkOrchestrator queryOrchestrator, Executor queryExecutor,
+			LuceneMultiSearchExecutor multiSearchExecutor,
 			LuceneWorkFactory workFactory, LuceneSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			SearchLoadingContext<?, ?> loadingContext,
@@ -67,6 +75,8 @@
 			LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher,
 			Long totalHitCountThreshold) {
 		this.queryOrchestrator = queryOrchestrator;
+		this.queryExecutor = queryExecutor;
+		this.multiSearchExecutor = multiSearchExecutor;
 		this.workFactory = workFactory;
 		this.searchContext = searchContext;
 		this.sessionContext = sessionContext;
@@ -115,12 +125,38 @@ public long fetchTotalHitCount() {
 		return result;
 	}
 
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit, Executor loadingExecutor) {
+		return doFetchAsync( offset, limit, true, loadingExecutor );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit, Executor loadingExecutor) {
+		return doFetchAsync( offset, limit, false, loadingExecutor ).thenApply( SearchResult::hits );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		// Asynchronous executions may run concurrently: each needs its own timeout manager.
+		TimeoutManager callTimeoutManager = timeoutManager.copy();
+		ReadWork<Integer> work = workFactory.count( searcher.withTimeoutManager( callTimeoutManager ) );
+		callTimeoutManager.start();
+		// Lucene queries are blocking: we simply execute them in a separate thread pool.
+		return CompletableFuture.supplyAsync( () -> doSubmit( work ), queryExecutor )
+				.<Long>thenApply( Integer::longValue )
+				.whenComplete( (result, throwable) -> callTimeoutManager.stop() );
+	}
+
+	@Override
+	public MultiSearchExecutor multiSearchExecutor() {
+		return multiSearchExecutor;
+	}
+
 	@Override
 	public LuceneSearchScroll<H> scroll(int chunkSize) {
-		Set<String> indexNames = searchContext.indexes().indexNames();
-		HibernateSearchMultiReader indexReader = HibernateSearchMultiReader.open(
-				indexNames, searchContext.indexes().elements(), routingKeys );
-		return new LuceneSearchScrollImpl<>( queryOrchestrator, workFactory, searchContext, routingKeys, timeoutManager,
+		HibernateSearchMultiReader indexReader = openIndexReader();
+		return new LuceneSearchScrollImpl<>( queryOrchestrator, workFactory, searchContext,
+				sessionContext.tenantIdentifier(), routingKeys, timeoutManager,
 				searcher, totalHitCountThreshold( true ), indexReader, chunkSize );
 	}
 
@@ -179,16 +215,72 @@ private LuceneSearchResult<H> doFetch(Integer offset, Integer limit, boolean tra
 		LuceneSearchResult<H> result = doSubmit( work )
 				/*
 				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async processing, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * Asynchronous query execution goes through doFetchAsync instead,
+				 * which loads hits in the executor provided by the user.
 				 */
 				.loadBlocking();
 		timeoutManager.stop();
 		return result;
 	}
 
+	private CompletionStage<SearchResult<H>> doFetchAsync(Integer offset, Integer limit, boolean trackTotalHitCount,
+			Executor loadingExecutor) {
+		// Asynchronous executions may run concurrently: each needs its own timeout manager.
+		TimeoutManager callTimeoutManager = timeoutManager.copy();
+		ReadWork<LuceneLoadableSearchResult<H>> work = workFactory.search(
+				searcher.withTimeoutManager( callTimeoutManager ), offset, limit,
+				totalHitCountThreshold( trackTotalHitCount ) );
+		callTimeoutManager.start();
+		// Lucene queries are blocking: we simply execute them in a separate thread pool.
+		return CompletableFuture.supplyAsync( () -> doSubmit( work ), queryExecutor )
+				/*
+				 * Loading relies on caller resources that are not thread-safe (e.g. the ORM session):
+				 * hand it over to the executor provided by the caller.
+				 */
+				.<SearchResult<H>>thenApplyAsync( LuceneLoadableSearchResult::loadBlocking, loadingExecutor )
+				.whenComplete( (result, throwable) -> callTimeoutManager.stop() );
+	}
+
+	Set<String> indexNames() {
+		return searchContext.indexes().indexNames();
+	}
+
+	String tenantId() {
+		return sessionContext.tenantIdentifier();
+	}
+
+	Set<String> routingKeys() {
+		return routingKeys;
+	}
+
+	HibernateSearchMultiReader openIndexReader() {
+		return queryOrchestrator.openIndexReader( searchContext.indexes().indexNames(),
+				searchContext.indexes().elements(), sessionContext.tenantIdentifier(), routingKeys );
+	}
+
+	ReadWork<LuceneLoadableSearchResult<H>> startMultiSearchItem(Integer offset, Integer limit) {
+		timeoutManager.start();
+		return workFactory.search( searcher, offset, limit, totalHitCountThreshold( true ) );
+	}
+
+	<T> T submitWithIndexReader(ReadWork<T> work, HibernateSearchMultiReader indexReader) {
+		return queryOrchestrator.submit(
+				searchContext.indexes().indexNames(),
+				searchContext.indexes().elements(),
+				sessionContext.tenantIdentifier(), routingKeys,
+				work, indexReader
+		);
+	}
+
+	LuceneSearchResult<H> completeMultiSearchItem(LuceneLoadableSearchResult<H> loadableResult) {
+		/*
+		 * WARNING: the following call must run in the user thread.
+		 */
+		LuceneSearchResult<H> result = loadableResult.loadBlocking();
+		timeoutManager.stop();
+		return result;
+	}
+
 	private Explanation doExplain(String typeName, String id) {
 		timeoutManager.start();
 		Query filter = searchContext.filterOrNull( sessionContext.tenantIdentifier() );
@@ -204,7 +296,7 @@ private <T> T doSubmit(ReadWork<T> work) {
 		return queryOrchestrator.submit(
 				searchContext.indexes().indexNames(),
 				searchContext.indexes().elements(),
-				routingKeys,
+				sessionContext.tenantIdentifier(), routingKeys,
 				work
 		);
 	}
@@ -25,6 +25,8 @@
 import org.hibernate.search.engine.search.timeout.spi.TimeoutManager;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.lucene.search.ScoreDoc;
+
 public class LuceneSearchScrollImpl<H> implements LuceneSearchScroll<H> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
@@ -33,6 +35,7 @@
 	private final LuceneSyncWorkOrchestrator queryOrchestrator;
 	private final LuceneWorkFactory workFactory;
 	private final LuceneSearchContext searchContext;
+	private final String tenantId;
 	private final Set<String> routingKeys;
 	private final TimeoutManager timeoutManager;
 	private final LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher;
@@ -42,14 +45,14 @@
 	private final HibernateSearchMultiReader indexReader;
 	private final int chunkSize;
 
-	private int nextChunkOffset = 0;
-	private int currentPageLimit;
+	private final int pageSize;
+
 	private LuceneExtractableSearchResult<H> currentPage;
-	private int currentPageOffset = 0;
+	private int nextChunkStartIndexInPage = 0;
 
 	public LuceneSearchScrollImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
 			LuceneWorkFactory workFactory, LuceneSearchContext searchContext,
-			Set<String> routingKeys,
+			String tenantId, Set<String> routingKeys,
 			TimeoutManager timeoutManager,
 			LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> searcher,
 			int totalHitCountThreshold,
@@ -57,13 +60,14 @@ public LuceneSearchScrollImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
 		this.queryOrchestrator = queryOrchestrator;
 		this.workFactory = workFactory;
 		this.searchContext = searchContext;
+		this.tenantId = tenantId;
 		this.routingKeys = routingKeys;
 		this.timeoutManager = timeoutManager;
 		this.searcher = searcher;
 		this.totalHitCountThreshold = totalHitCountThreshold;
 		this.indexReader = indexReader;
 		this.chunkSize = chunkSize;
-		this.currentPageLimit = chunkSize * 4; // Will fetch the topdocs for the first 4 pages initially
+		this.pageSize = chunkSize * 4; // Will fetch the topdocs for 4 chunks at a time
 	}
 
 	@Override
@@ -88,18 +92,19 @@ public LuceneSearchScrollResult<H> next() {
 	}
 
 	private LuceneSearchScrollResult<H> doNext() {
-		if ( currentPage == null || nextChunkOffset + chunkSize > currentPageLimit + currentPageOffset ) {
-			if ( currentPage != null ) {
-				currentPageLimit *= 2;
-			}
-			currentPageOffset = nextChunkOffset;
+		if ( currentPage == null
+				// If the current page is not full, there is no hit after that page: no need to fetch another.
+				|| nextChunkStartIndexInPage >= currentPage.hitSize() && currentPage.hitSize() >= pageSize ) {
+			// Resume collection right after the last hit of the previous page, if any:
+			// this way we only ever keep one page of top docs in memory
+			// and we don't need to collect (and sort) the hits of previous pages again.
+			ScoreDoc after = currentPage == null ? null : currentPage.lastHit();
 			currentPage = doSubmitWithIndexReader(
-					workFactory.scroll( searcher, currentPageOffset, currentPageLimit, totalHitCountThreshold ),
+					workFactory.scroll( searcher, after, pageSize, totalHitCountThreshold ),
 					indexReader );
+			nextChunkStartIndexInPage = 0;
 		}
 
-		int nextChunkStartIndexInPage = nextChunkOffset - currentPageOffset;
-
 		// no more results check
 		if ( nextChunkStartIndexInPage >= currentPage.hitSize() ) {
 			return new LuceneSearchScrollResultImpl<>( currentPage.total(), false, Collections.emptyList(),
@@ -127,7 +132,7 @@ private LuceneSearchScrollResult<H> doNext() {
 		LuceneSearchResult<H> result = loadableSearchResult.loadBlocking();
 
 		// increasing the index for further next(s)
-		nextChunkOffset += chunkSize;
+		nextChunkStartIndexInPage = nextChunkEndIndexInPage;
 		return new LuceneSearchScrollResultImpl<>( currentPage.total(), true, result.hits(),
 				result.took(), result.timedOut() );
 	}
@@ -136,7 +141,7 @@ private <T> T doSubmitWithIndexReader(ReadWork<T> work, HibernateSearchMultiRead
 		return queryOrchestrator.submit(
 				searchContext.indexes().indexNames(),
 				searchContext.indexes().elements(),
-				routingKeys,
+				tenantId, routingKeys,
 				work, indexReader
 		);
 	}
@@ -10,6 +10,7 @@
 import java.util.Map;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorManagers;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TimeoutCountCollectorManager;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.search.aggregation.impl.LuceneSearchAggregation;
@@ -27,6 +28,7 @@
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 class LuceneSearcherImpl<H> implements LuceneSearcher<LuceneLoadableSearchResult<H>, LuceneExtractableSearchResult<H>> {
 
@@ -75,8 +77,18 @@ public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher,
 	@Override
 	public LuceneExtractableSearchResult<H> scroll(IndexSearcher indexSearcher,
 			IndexReaderMetadataResolver metadataResolver,
-			int offset, int limit, int totalHitCountThreshold) throws IOException {
-		return doSearch( indexSearcher, metadataResolver, offset, limit, totalHitCountThreshold );
+			ScoreDoc after, int limit, int totalHitCountThreshold) throws IOException {
+		queryLog.executingLuceneQuery( requestContext.getLuceneQuery() );
+
+		// Only collect the hits following "after": the size of the priority queue
+		// is bounded by the limit, regardless of how far we are in the scroll.
+		int maxDocs = getMaxDocs( indexSearcher.getIndexReader(), 0, limit );
+		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver, after,
+				maxDocs, totalHitCountThreshold );
+		luceneCollectors.collectMatchingDocs( 0, limit );
+
+		return new LuceneExtractableSearchResult<>( requestContext, indexSearcher, luceneCollectors,
+				rootProjection, aggregations, timeoutManager );
 	}
 
 	private LuceneExtractableSearchResult<H> doSearch(IndexSearcher indexSearcher,
@@ -101,7 +113,7 @@ public int count(IndexSearcher indexSearcher) throws IOException {
 		// Soft timeout has no sense in case of count,
 		// since there is no possible to have partial result.
 		if ( timeoutManager.hasHardTimeout() ) {
-			return indexSearcher.search(
+			return CollectorManagers.search( indexSearcher,
 					requestContext.getLuceneQuery(), new TimeoutCountCollectorManager( timeoutManager.deadlineOrNull() ) );
 		}
 
@@ -123,10 +135,16 @@ public void setTimeoutManager(TimeoutManager timeoutManager) {
 		this.timeoutManager = timeoutManager;
 	}
 
+	@Override
+	public LuceneSearcherImpl<H> withTimeoutManager(TimeoutManager timeoutManager) {
+		return new LuceneSearcherImpl<>( requestContext, rootProjection, aggregations, extractionRequirements,
+				timeoutManager );
+	}
+
 	private LuceneCollectors collectMatchingDocs(IndexSearcher indexSearcher,
 			IndexReaderMetadataResolver metadataResolver, int offset, Integer limit,
 			int maxDocs, int totalHitCountThreshold) throws IOException {
-		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver,
+		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver, null,
 				maxDocs, totalHitCountThreshold );
 		luceneCollectors.collectMatchingDocs( offset, limit );
 		return luceneCollectors;
@@ -157,10 +175,10 @@ private LuceneCollectors collectMatchingDocsWithPrefetch(IndexSearcher indexSear
 	}
 
 	private LuceneCollectors buildCollectors(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int maxDocs, int totalHitCountThreshold) throws IOException {
+			ScoreDoc after, int maxDocs, int totalHitCountThreshold) throws IOException {
 		return extractionRequirements.createCollectors(
 				indexSearcher, requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
-				metadataResolver, maxDocs, timeoutManager, totalHitCountThreshold
+				metadataResolver, after, maxDocs, timeoutManager, totalHitCountThreshold
 		);
 	}
 
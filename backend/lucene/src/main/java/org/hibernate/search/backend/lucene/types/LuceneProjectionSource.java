@@ -0,0 +1,42 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types;
+
+/**
+ * Where projections on a projectable field read the values of that field from.
+ */
+public enum LuceneProjectionSource {
+
+	/**
+	 * Use the backend-specific default.
+	 * <p>
+	 * In the Lucene backend, values are stored.
+	 * Projections on single-valued fields read values from docvalues instead of stored fields
+	 * if the field has docvalues anyway (i.e. it is sortable or aggregable)
+	 * and these docvalues hold the exact projected value.
+	 */
+	DEFAULT,
+	/**
+	 * Store values, and always read them from stored fields when projecting.
+	 */
+	STORED_FIELDS,
+	/**
+	 * Do not store values, but add docvalues to the field, and always read them from docvalues when projecting.
+	 * <p>
+	 * This saves disk space and indexing time, but projections on multi-valued fields
+	 * return values in ascending order instead of the order they were indexed in,
+	 * without duplicates for string fields,
+	 * and the field is not included in projections returning the whole Lucene document.
+	 * <p>
+	 * Only available for fields whose docvalues hold the exact projected value:
+	 * string fields without an analyzer or normalizer,
+	 * boolean, integer and floating-point fields,
+	 * and {@code LocalDate}, {@code LocalTime}, {@code Year}, {@code YearMonth} and {@code MonthDay} fields.
+	 */
+	DOC_VALUES
+
+}
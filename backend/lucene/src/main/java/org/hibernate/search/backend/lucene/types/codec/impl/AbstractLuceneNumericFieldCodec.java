@@ -65,8 +65,39 @@ public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 
 	public abstract F decode(E encoded);
 
+	/**
+	 * @return {@code true} if values are stored, i.e. if projections can use stored fields.
+	 */
+	public boolean isStored() {
+		return Storage.ENABLED == storage;
+	}
+
+	/**
+	 * @return {@code true} if projections can be computed from docvalues,
+	 * i.e. if docvalues are enabled and decoding them yields exactly the values that were indexed.
+	 */
+	public boolean isProjectableFromDocValues() {
+		return DocValues.ENABLED == docValues && isEncodingLossless();
+	}
+
+	/**
+	 * @param docValue A value retrieved from the docvalues of this field.
+	 * @return The corresponding field value.
+	 */
+	public F decodeDocValue(long docValue) {
+		return decode( getDomain().sortedDocValueToTerm( docValue ) );
+	}
+
 	public abstract LuceneNumericDomain<E> getDomain();
 
+	/**
+	 * @return {@code true} if {@link #decode(Number)} returns values equal to those passed to {@link #encode(Object)},
+	 * e.g. without losing precision, scale or time zone.
+	 */
+	boolean isEncodingLossless() {
+		return false;
+	}
+
 	abstract void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath,
 			F value, E encodedValue);
 
@@ -19,6 +19,11 @@ public LuceneBooleanFieldCodec(Indexing indexing, DocValues docValues, Storage s
 		super( indexing, docValues, storage, indexNullAsValue );
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath, Boolean value,
 			Integer encodedValue) {
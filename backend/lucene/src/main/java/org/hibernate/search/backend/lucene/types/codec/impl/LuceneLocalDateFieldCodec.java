@@ -34,6 +34,11 @@ public LuceneLocalDateFieldCodec(Indexing indexing, DocValues docValues, Storage
 		super( indexing, docValues, storage, indexNullAsValue );
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath, LocalDate value,
 			Long encodedValue) {
@@ -19,6 +19,11 @@ public LuceneLongFieldCodec(Indexing indexing, DocValues docValues, Storage stor
 		super( indexing, docValues, storage, indexNullAsValue );
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath, Long value,
 			Long encodedValue) {
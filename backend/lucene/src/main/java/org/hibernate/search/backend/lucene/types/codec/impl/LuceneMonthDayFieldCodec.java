@@ -36,6 +36,11 @@ public LuceneMonthDayFieldCodec(Indexing indexing, DocValues docValues, Storage
 		super( indexing, docValues, storage, indexNullAsValue );
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath, MonthDay value,
 			Integer encodedValue) {
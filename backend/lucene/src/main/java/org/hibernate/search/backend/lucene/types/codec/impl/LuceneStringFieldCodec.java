@@ -73,6 +73,21 @@ public String encode(String value) {
 		return value;
 	}
 
+	/**
+	 * @return {@code true} if values are stored, i.e. if projections can use stored fields.
+	 */
+	public boolean isStored() {
+		return mainFieldType != null && mainFieldType.stored();
+	}
+
+	/**
+	 * @return {@code true} if projections can be computed from docvalues,
+	 * i.e. if docvalues are enabled and hold the indexed values without any normalization.
+	 */
+	public boolean isProjectableFromDocValues() {
+		return DocValues.ENABLED.equals( docValues ) && analyzerOrNormalizer == AnalyzerConstants.KEYWORD_ANALYZER;
+	}
+
 	private BytesRef normalize(String absoluteFieldPath, String value) {
 		if ( value == null ) {
 			return null;
@@ -21,6 +21,11 @@ public LuceneYearFieldCodec(Indexing indexing, DocValues docValues, Storage stor
 		super( indexing, docValues, storage, indexNullAsValue );
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath, Year value,
 			Integer encodedValue) {
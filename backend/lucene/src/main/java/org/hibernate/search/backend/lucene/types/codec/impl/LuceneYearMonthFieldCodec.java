@@ -42,6 +42,11 @@ public LuceneYearMonthFieldCodec(Indexing indexing, DocValues docValues, Storage
 		super( indexing, docValues, storage, indexNullAsValue );
 	}
 
+	@Override
+	boolean isEncodingLossless() {
+		return true;
+	}
+
 	@Override
 	void addStoredToDocument(LuceneDocumentContent documentBuilder, String absoluteFieldPath, YearMonth value,
 			Long encodedValue) {
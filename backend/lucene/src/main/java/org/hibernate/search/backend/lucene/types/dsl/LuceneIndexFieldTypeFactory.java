@@ -6,12 +6,24 @@
  */
 package org.hibernate.search.backend.lucene.types.dsl;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
+
 import org.hibernate.search.backend.lucene.search.predicate.dsl.LuceneSearchPredicateFactory;
 import org.hibernate.search.backend.lucene.search.sort.dsl.LuceneSearchSortFactory;
 import org.hibernate.search.engine.backend.types.dsl.IndexFieldTypeFactory;
 import org.hibernate.search.backend.lucene.types.converter.LuceneFieldContributor;
 import org.hibernate.search.backend.lucene.types.converter.LuceneFieldValueExtractor;
 import org.hibernate.search.engine.backend.types.dsl.IndexFieldTypeOptionsStep;
+import org.hibernate.search.engine.spatial.GeoPoint;
 
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.Sort;
@@ -20,6 +32,66 @@
 
 public interface LuceneIndexFieldTypeFactory extends IndexFieldTypeFactory {
 
+	@Override
+	<F> LuceneStandardIndexFieldTypeOptionsStep<?, F> as(Class<F> valueType);
+
+	@Override
+	LuceneStringIndexFieldTypeOptionsStep<?> asString();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, Integer> asInteger();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, Long> asLong();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, Boolean> asBoolean();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, Byte> asByte();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, Short> asShort();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, Float> asFloat();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, Double> asDouble();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, LocalDate> asLocalDate();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, LocalDateTime> asLocalDateTime();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, LocalTime> asLocalTime();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, Instant> asInstant();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, ZonedDateTime> asZonedDateTime();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, Year> asYear();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, YearMonth> asYearMonth();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, MonthDay> asMonthDay();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, OffsetDateTime> asOffsetDateTime();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, OffsetTime> asOffsetTime();
+
+	@Override
+	LuceneStandardIndexFieldTypeOptionsStep<?, GeoPoint> asGeoPoint();
+
 	/**
 	 * Define a native field type.
 	 * <p>
@@ -6,11 +6,25 @@
  */
 package org.hibernate.search.backend.lucene.types.dsl;
 
+import org.hibernate.search.backend.lucene.types.LuceneProjectionSource;
 import org.hibernate.search.engine.backend.types.dsl.StandardIndexFieldTypeOptionsStep;
 
-
-
+/**
+ * The initial and final step in a Lucene-specific "standard" index field type definition,
+ * where optional parameters can be set.
+ *
+ * @param <S> The "self" type (the actual exposed type of this step).
+ * @param <F> The type of field values.
+ */
 public interface LuceneStandardIndexFieldTypeOptionsStep<S extends LuceneStandardIndexFieldTypeOptionsStep<?, F>, F>
 		extends StandardIndexFieldTypeOptionsStep<S, F> {
 
+	/**
+	 * @param projectionSource Where projections on this field read values from.
+	 * Only relevant if the field is {@link #projectable(org.hibernate.search.engine.backend.types.Projectable) projectable}.
+	 * @return {@code this}, for method chaining.
+	 * @see LuceneProjectionSource
+	 */
+	S projectionSource(LuceneProjectionSource projectionSource);
+
 }
@@ -0,0 +1,20 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.dsl;
+
+import org.hibernate.search.engine.backend.types.dsl.StringIndexFieldTypeOptionsStep;
+
+/**
+ * The initial and final step in a Lucene-specific "string" index field type definition,
+ * where optional parameters can be set.
+ *
+ * @param <S> The "self" type (the actual exposed type of this step).
+ */
+public interface LuceneStringIndexFieldTypeOptionsStep<S extends LuceneStringIndexFieldTypeOptionsStep<?>>
+		extends StringIndexFieldTypeOptionsStep<S>, LuceneStandardIndexFieldTypeOptionsStep<S, String> {
+
+}
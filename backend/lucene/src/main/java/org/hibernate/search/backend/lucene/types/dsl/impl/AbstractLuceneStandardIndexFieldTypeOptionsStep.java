@@ -6,6 +6,10 @@
  */
 package org.hibernate.search.backend.lucene.types.dsl.impl;
 
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.types.LuceneProjectionSource;
 import org.hibernate.search.backend.lucene.types.dsl.LuceneStandardIndexFieldTypeOptionsStep;
 import org.hibernate.search.backend.lucene.types.impl.LuceneIndexValueFieldType;
 import org.hibernate.search.engine.backend.types.Aggregable;
@@ -13,6 +17,7 @@
 import org.hibernate.search.engine.backend.types.Searchable;
 import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 /**
  * @param <S> The "self" type (the actual exposed type of this step).
@@ -22,10 +27,13 @@
 		extends AbstractLuceneIndexFieldTypeOptionsStep<S, F>
 		implements LuceneStandardIndexFieldTypeOptionsStep<S, F> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	protected Projectable projectable = Projectable.DEFAULT;
 	protected Searchable searchable = Searchable.DEFAULT;
 	protected Aggregable aggregable = Aggregable.DEFAULT;
 	protected F indexNullAsValue = null;
+	protected LuceneProjectionSource projectionSource = LuceneProjectionSource.DEFAULT;
 
 	AbstractLuceneStandardIndexFieldTypeOptionsStep(LuceneIndexFieldTypeBuildContext buildContext, Class<F> valueType) {
 		super( buildContext, valueType );
@@ -55,9 +63,44 @@ public S aggregable(Aggregable aggregable) {
 		return thisAsS();
 	}
 
+	@Override
+	public S projectionSource(LuceneProjectionSource projectionSource) {
+		this.projectionSource = projectionSource;
+		return thisAsS();
+	}
+
 	@Override
 	public abstract LuceneIndexValueFieldType<F> toIndexFieldType();
 
+	/**
+	 * @param resolvedProjectable Whether the field is projectable.
+	 * @return {@code true} if projections must read values from docvalues only,
+	 * in which case docvalues must be enabled and values need not be stored.
+	 */
+	protected boolean resolveProjectionFromDocValuesOnly(boolean resolvedProjectable) {
+		return resolvedProjectable && LuceneProjectionSource.DOC_VALUES.equals( projectionSource );
+	}
+
+	/**
+	 * @param docValuesExact Whether the field has docvalues holding the exact projected value.
+	 * @return {@code true} if projections may read values from docvalues.
+	 */
+	protected boolean resolveProjectableFromDocValues(boolean docValuesExact) {
+		switch ( projectionSource ) {
+			case DEFAULT:
+				return docValuesExact;
+			case STORED_FIELDS:
+				return false;
+			case DOC_VALUES:
+				if ( !docValuesExact ) {
+					throw log.cannotUseDocValuesProjectionSource( projectionSource, buildContext.getEventContext() );
+				}
+				return true;
+			default:
+				throw new AssertionFailure( "Unexpected value for LuceneProjectionSource: " + projectionSource );
+		}
+	}
+
 	protected static boolean resolveDefault(Projectable projectable) {
 		switch ( projectable ) {
 			case DEFAULT:
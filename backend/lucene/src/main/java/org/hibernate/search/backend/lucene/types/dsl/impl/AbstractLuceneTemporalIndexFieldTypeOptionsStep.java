@@ -51,9 +51,13 @@ public LuceneIndexValueFieldType<F> toIndexFieldType() {
 		boolean resolvedProjectable = resolveDefault( projectable );
 		boolean resolvedAggregable = resolveDefault( aggregable );
 
+		boolean resolvedProjectionFromDocValuesOnly = resolveProjectionFromDocValuesOnly( resolvedProjectable );
+
 		Indexing indexing = resolvedSearchable ? Indexing.ENABLED : Indexing.DISABLED;
-		DocValues docValues = resolvedSortable || resolvedAggregable ? DocValues.ENABLED : DocValues.DISABLED;
-		Storage storage = resolvedProjectable ? Storage.ENABLED : Storage.DISABLED;
+		DocValues docValues = resolvedSortable || resolvedAggregable || resolvedProjectionFromDocValuesOnly
+				? DocValues.ENABLED : DocValues.DISABLED;
+		Storage storage = resolvedProjectable && !resolvedProjectionFromDocValuesOnly
+				? Storage.ENABLED : Storage.DISABLED;
 
 		AbstractLuceneNumericFieldCodec<F, ?> codec = createCodec( indexing, docValues, storage, indexNullAsValue );
 		builder.codec( codec );
@@ -75,6 +79,8 @@ public LuceneIndexValueFieldType<F> toIndexFieldType() {
 
 		if ( resolvedProjectable ) {
 			builder.projectable( true );
+			builder.projectableFromDocValues( resolveProjectableFromDocValues( codec.isProjectableFromDocValues() ) );
+			builder.projectableFromStoredFields( codec.isStored() );
 			builder.queryElementFactory( ProjectionTypeKeys.FIELD, new LuceneFieldProjection.Factory<>( codec ) );
 		}
 
@@ -45,9 +45,13 @@ public LuceneIndexValueFieldType<Boolean> toIndexFieldType() {
 		boolean resolvedProjectable = resolveDefault( projectable );
 		boolean resolvedAggregable = resolveDefault( aggregable );
 
+		boolean resolvedProjectionFromDocValuesOnly = resolveProjectionFromDocValuesOnly( resolvedProjectable );
+
 		Indexing indexing = resolvedSearchable ? Indexing.ENABLED : Indexing.DISABLED;
-		DocValues docValues = resolvedSortable || resolvedAggregable ? DocValues.ENABLED : DocValues.DISABLED;
-		Storage storage = resolvedProjectable ? Storage.ENABLED : Storage.DISABLED;
+		DocValues docValues = resolvedSortable || resolvedAggregable || resolvedProjectionFromDocValuesOnly
+				? DocValues.ENABLED : DocValues.DISABLED;
+		Storage storage = resolvedProjectable && !resolvedProjectionFromDocValuesOnly
+				? Storage.ENABLED : Storage.DISABLED;
 
 		LuceneBooleanFieldCodec codec = new LuceneBooleanFieldCodec( indexing, docValues, storage, indexNullAsValue );
 		builder.codec( codec );
@@ -68,6 +72,8 @@ public LuceneIndexValueFieldType<Boolean> toIndexFieldType() {
 
 		if ( resolvedProjectable ) {
 			builder.projectable( true );
+			builder.projectableFromDocValues( resolveProjectableFromDocValues( codec.isProjectableFromDocValues() ) );
+			builder.projectableFromStoredFields( codec.isStored() );
 			builder.queryElementFactory( ProjectionTypeKeys.FIELD, new LuceneFieldProjection.Factory<>( codec ) );
 		}
 
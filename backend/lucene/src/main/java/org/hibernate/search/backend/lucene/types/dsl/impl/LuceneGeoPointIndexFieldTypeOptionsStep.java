@@ -77,6 +77,8 @@ public LuceneIndexValueFieldType<GeoPoint> toIndexFieldType() {
 
 		if ( resolvedProjectable ) {
 			builder.projectable( true );
+			// Docvalues of geo points are lossy: projections always use stored fields.
+			resolveProjectableFromDocValues( false );
 			builder.queryElementFactory( ProjectionTypeKeys.FIELD, new LuceneFieldProjection.Factory<>( codec ) );
 			builder.queryElementFactory( ProjectionTypeKeys.DISTANCE, new LuceneDistanceToFieldProjection.Factory( codec ) );
 		}
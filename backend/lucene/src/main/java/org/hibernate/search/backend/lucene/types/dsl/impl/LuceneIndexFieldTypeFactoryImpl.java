@@ -25,10 +25,10 @@
 import org.hibernate.search.backend.lucene.types.converter.LuceneFieldContributor;
 import org.hibernate.search.backend.lucene.types.converter.LuceneFieldValueExtractor;
 import org.hibernate.search.backend.lucene.types.dsl.LuceneIndexFieldTypeFactory;
+import org.hibernate.search.backend.lucene.types.dsl.LuceneStandardIndexFieldTypeOptionsStep;
+import org.hibernate.search.backend.lucene.types.dsl.LuceneStringIndexFieldTypeOptionsStep;
 import org.hibernate.search.engine.backend.types.dsl.IndexFieldTypeOptionsStep;
 import org.hibernate.search.engine.backend.types.dsl.ScaledNumberIndexFieldTypeOptionsStep;
-import org.hibernate.search.engine.backend.types.dsl.StandardIndexFieldTypeOptionsStep;
-import org.hibernate.search.engine.backend.types.dsl.StringIndexFieldTypeOptionsStep;
 import org.hibernate.search.engine.mapper.mapping.building.spi.IndexFieldTypeDefaultsProvider;
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -54,69 +54,69 @@ public LuceneIndexFieldTypeFactoryImpl(EventContext eventContext,
 
 	@Override
 	@SuppressWarnings("unchecked")
-	public <F> StandardIndexFieldTypeOptionsStep<?, F> as(Class<F> valueType) {
+	public <F> LuceneStandardIndexFieldTypeOptionsStep<?, F> as(Class<F> valueType) {
 		if ( String.class.equals( valueType ) ) {
-			return (StandardIndexFieldTypeOptionsStep<?, F>) asString();
+			return (LuceneStandardIndexFieldTypeOptionsStep<?, F>) asString();
 		}
 		else if ( Integer.class.equals( valueType ) ) {
-			return (StandardIndexFieldTypeOptionsStep<?, F>) asInteger();
+			return (LuceneStandardIndexFieldTypeOptionsStep<?, F>) asInteger();
 		}
 		else if ( Long.class.equals( valueType ) ) {
-			return (StandardIndexFieldTypeOptionsStep<?, F>) asLong();
+			return (LuceneStandardIndexFieldTypeOptionsStep<?, F>) asLong();
 		}
 		else if ( Boolean.class.equals( valueType ) ) {
-			return (StandardIndexFieldTypeOptionsStep<?, F>) asBoolean();
+			return (LuceneStandardIndexFieldTypeOptionsStep<?, F>) asBoolean();
 		}
 		else if ( Byte.class.equals( valueType ) ) {
-			return (StandardIndexFieldTypeOptionsStep<?, F>) asByte();
+			return (LuceneStandardIndexFieldTypeOptionsStep<?, F>) asByte();
 		}
 		else if ( Short.class.equals( valueType ) ) {
-			return (StandardIndexFieldTypeOptionsStep<?, F>) asShort();
+			return (LuceneStandardIndexFieldTypeOptionsStep<?, F>) asShort();
 		}
 		else if ( Float.class.equals( valueType ) ) {
-			return (StandardIndexFieldTypeOptionsStep<?, F>) asFloat();
+			return (LuceneStandardIndexFieldTypeOptionsStep<?, F>) asFloat();
 		}
 		else if ( Double.class.equals( valueType ) ) {
-			return (StandardIndexFieldTypeOptionsStep<?, F>) asDouble();
+			return (LuceneStandardIndexFieldTypeOptionsStep<?, F>) asDouble();
 		}
 		else if ( LocalDate.class.equals( valueType ) ) {
-			return (StandardIndexFieldTypeOptionsStep<?, F>) asLocalDate();
+			return (LuceneStandardIndexFieldTypeOptionsStep<?, F>) asLocalDate();
 		}
 		else if ( LocalDateTime.class.equals( valueType ) ) {
-			return (StandardIndexFieldTypeOptionsStep<?, F>) asLocalDateTime();
+			return (LuceneStandardIndexFieldTypeOptionsStep<?, F>) asLocalDateTime();
 		}
 		else if ( LocalTime.class.equals( valueType ) ) {
-			return (StandardIndexFieldTypeOptionsStep<?, F>) asLocalTime();
+			return (LuceneStandardIndexFieldTypeOptionsStep<?, F>) asLocalTime();
 		}
 		else if ( Instant.class.equals( valueType ) ) {
-			return (StandardIndexFieldTypeOptionsStep<?, F>) asInstant();
+			return (LuceneStandardIndexFieldTypeOptionsStep<?, F>) asInstant();
 		}
 		else if ( ZonedDateTime.class.equals( valueType ) ) {
-			return (StandardIndexFieldTypeOptionsStep<?, F>) asZonedDateTime();
+			return (LuceneStandardIndexFieldTypeOptionsStep<?, F>) asZonedDateTime();
 		}
 		else if ( Year.class.equals( valueType ) ) {
-			return (StandardIndexFieldTypeOptionsStep<?, F>) asYear();
+			return (LuceneStandardIndexFieldTypeOptionsStep<?, F>) asYear();
 		}
 		else if ( YearMonth.class.equals( valueType ) ) {
-			return (StandardIndexFieldTypeOptionsStep<?, F>) asYearMonth();
+			return (LuceneStandardIndexFieldTypeOptionsStep<?, F>) asYearMonth();
 		}
 		else if ( MonthDay.class.equals( valueType ) ) {
-			return (StandardIndexFieldTypeOptionsStep<?, F>) asMonthDay();
+			return (LuceneStandardIndexFieldTypeOptionsStep<?, F>) asMonthDay();
 		}
 		else if ( OffsetDateTime.class.equals( valueType ) ) {
-			return (StandardIndexFieldTypeOptionsStep<?, F>) asOffsetDateTime();
+			return (LuceneStandardIndexFieldTypeOptionsStep<?, F>) asOffsetDateTime();
 		}
 		else if ( OffsetTime.class.equals( valueType ) ) {
-			return (StandardIndexFieldTypeOptionsStep<?, F>) asOffsetTime();
+			return (LuceneStandardIndexFieldTypeOptionsStep<?, F>) asOffsetTime();
 		}
 		else if ( GeoPoint.class.equals( valueType ) ) {
-			return (StandardIndexFieldTypeOptionsStep<?, F>) asGeoPoint();
+			return (LuceneStandardIndexFieldTypeOptionsStep<?, F>) asGeoPoint();
 		}
 		else if ( BigDecimal.class.equals( valueType ) ) {
-			return (StandardIndexFieldTypeOptionsStep<?, F>) asBigDecimal();
+			return (LuceneStandardIndexFieldTypeOptionsStep<?, F>) asBigDecimal();
 		}
 		else if ( BigInteger.class.equals( valueType ) ) {
-			return (StandardIndexFieldTypeOptionsStep<?, F>) asBigInteger();
+			return (LuceneStandardIndexFieldTypeOptionsStep<?, F>) asBigInteger();
 		}
 		else {
 			throw log.cannotGuessFieldType( valueType, getEventContext() );
@@ -124,97 +124,97 @@ else if ( BigInteger.class.equals( valueType ) ) {
 	}
 
 	@Override
-	public StringIndexFieldTypeOptionsStep<?> asString() {
-		return new LuceneStringIndexFieldTypeOptionsStep( this );
+	public LuceneStringIndexFieldTypeOptionsStep<?> asString() {
+		return new LuceneStringIndexFieldTypeOptionsStepImpl( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, Integer> asInteger() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, Integer> asInteger() {
 		return new LuceneIntegerIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, Long> asLong() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, Long> asLong() {
 		return new LuceneLongIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, Boolean> asBoolean() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, Boolean> asBoolean() {
 		return new LuceneBooleanIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, Byte> asByte() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, Byte> asByte() {
 		return new LuceneByteIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, Short> asShort() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, Short> asShort() {
 		return new LuceneShortIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, Float> asFloat() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, Float> asFloat() {
 		return new LuceneFloatIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, Double> asDouble() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, Double> asDouble() {
 		return new LuceneDoubleIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, LocalDate> asLocalDate() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, LocalDate> asLocalDate() {
 		return new LuceneLocalDateIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, LocalDateTime> asLocalDateTime() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, LocalDateTime> asLocalDateTime() {
 		return new LuceneLocalDateTimeIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, LocalTime> asLocalTime() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, LocalTime> asLocalTime() {
 		return new LuceneLocalTimeIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, Instant> asInstant() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, Instant> asInstant() {
 		return new LuceneInstantIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, ZonedDateTime> asZonedDateTime() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, ZonedDateTime> asZonedDateTime() {
 		return new LuceneZonedDateTimeIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, Year> asYear() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, Year> asYear() {
 		return new LuceneYearIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, YearMonth> asYearMonth() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, YearMonth> asYearMonth() {
 		return new LuceneYearMonthIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, MonthDay> asMonthDay() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, MonthDay> asMonthDay() {
 		return new LuceneMonthDayIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, OffsetDateTime> asOffsetDateTime() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, OffsetDateTime> asOffsetDateTime() {
 		return new LuceneOffsetDateTimeIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, OffsetTime> asOffsetTime() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, OffsetTime> asOffsetTime() {
 		return new LuceneOffsetTimeIndexFieldTypeOptionsStep( this );
 	}
 
 	@Override
-	public StandardIndexFieldTypeOptionsStep<?, GeoPoint> asGeoPoint() {
+	public LuceneStandardIndexFieldTypeOptionsStep<?, GeoPoint> asGeoPoint() {
 		return new LuceneGeoPointIndexFieldTypeOptionsStep( this );
 	}
 
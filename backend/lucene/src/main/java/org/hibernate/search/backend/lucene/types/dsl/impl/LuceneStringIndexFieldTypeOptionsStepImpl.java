@@ -19,6 +19,7 @@
 import org.hibernate.search.backend.lucene.types.aggregation.impl.LuceneTextTermsAggregation;
 import org.hibernate.search.backend.lucene.types.codec.impl.DocValues;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneStringFieldCodec;
+import org.hibernate.search.backend.lucene.types.dsl.LuceneStringIndexFieldTypeOptionsStep;
 import org.hibernate.search.backend.lucene.types.impl.LuceneIndexValueFieldType;
 import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneExistsPredicate;
 import org.hibernate.search.backend.lucene.types.predicate.impl.LuceneSimpleQueryStringPredicateBuilderFieldState;
@@ -30,7 +31,6 @@
 import org.hibernate.search.engine.backend.types.Norms;
 import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.engine.backend.types.TermVector;
-import org.hibernate.search.engine.backend.types.dsl.StringIndexFieldTypeOptionsStep;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -39,9 +39,9 @@
 import org.apache.lucene.index.IndexOptions;
 
 
-class LuceneStringIndexFieldTypeOptionsStep
-		extends AbstractLuceneStandardIndexFieldTypeOptionsStep<LuceneStringIndexFieldTypeOptionsStep, String>
-		implements StringIndexFieldTypeOptionsStep<LuceneStringIndexFieldTypeOptionsStep> {
+class LuceneStringIndexFieldTypeOptionsStepImpl
+		extends AbstractLuceneStandardIndexFieldTypeOptionsStep<LuceneStringIndexFieldTypeOptionsStepImpl, String>
+		implements LuceneStringIndexFieldTypeOptionsStep<LuceneStringIndexFieldTypeOptionsStepImpl> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -59,12 +59,12 @@
 
 	private Sortable sortable = Sortable.DEFAULT;
 
-	LuceneStringIndexFieldTypeOptionsStep(LuceneIndexFieldTypeBuildContext buildContext) {
+	LuceneStringIndexFieldTypeOptionsStepImpl(LuceneIndexFieldTypeBuildContext buildContext) {
 		super( buildContext, String.class );
 	}
 
 	@Override
-	public LuceneStringIndexFieldTypeOptionsStep analyzer(String analyzerName) {
+	public LuceneStringIndexFieldTypeOptionsStepImpl analyzer(String analyzerName) {
 		this.analyzerName = analyzerName;
 		this.analyzer = getAnalysisDefinitionRegistry().getAnalyzerDefinition( analyzerName );
 		if ( analyzer == null ) {
@@ -74,7 +74,7 @@ public LuceneStringIndexFieldTypeOptionsStep analyzer(String analyzerName) {
 	}
 
 	@Override
-	public LuceneStringIndexFieldTypeOptionsStep searchAnalyzer(String searchAnalyzerName) {
+	public LuceneStringIndexFieldTypeOptionsStepImpl searchAnalyzer(String searchAnalyzerName) {
 		this.searchAnalyzerName = searchAnalyzerName;
 		this.searchAnalyzer = getAnalysisDefinitionRegistry().getAnalyzerDefinition( searchAnalyzerName );
 		if ( searchAnalyzer == null ) {
@@ -84,7 +84,7 @@ public LuceneStringIndexFieldTypeOptionsStep searchAnalyzer(String searchAnalyze
 	}
 
 	@Override
-	public LuceneStringIndexFieldTypeOptionsStep normalizer(String normalizerName) {
+	public LuceneStringIndexFieldTypeOptionsStepImpl normalizer(String normalizerName) {
 		this.normalizerName = normalizerName;
 		this.normalizer = getAnalysisDefinitionRegistry().getNormalizerDefinition( normalizerName );
 		if ( normalizer == null ) {
@@ -94,19 +94,19 @@ public LuceneStringIndexFieldTypeOptionsStep normalizer(String normalizerName) {
 	}
 
 	@Override
-	public LuceneStringIndexFieldTypeOptionsStep norms(Norms norms) {
+	public LuceneStringIndexFieldTypeOptionsStepImpl norms(Norms norms) {
 		this.norms = norms;
 		return this;
 	}
 
 	@Override
-	public LuceneStringIndexFieldTypeOptionsStep termVector(TermVector termVector) {
+	public LuceneStringIndexFieldTypeOptionsStepImpl termVector(TermVector termVector) {
 		this.termVector = termVector;
 		return this;
 	}
 
 	@Override
-	public LuceneStringIndexFieldTypeOptionsStep sortable(Sortable sortable) {
+	public LuceneStringIndexFieldTypeOptionsStepImpl sortable(Sortable sortable) {
 		this.sortable = sortable;
 		return this;
 	}
@@ -119,8 +119,10 @@ public LuceneIndexValueFieldType<String> toIndexFieldType() {
 		boolean resolvedAggregable = resolveDefault( aggregable );
 		boolean resolvedNorms = resolveNorms();
 		ResolvedTermVector resolvedTermVector = resolveTermVector();
+		boolean resolvedProjectionFromDocValuesOnly = resolveProjectionFromDocValuesOnly( resolvedProjectable );
 
-		DocValues docValues = resolvedSortable || resolvedAggregable ? DocValues.ENABLED : DocValues.DISABLED;
+		DocValues docValues = resolvedSortable || resolvedAggregable || resolvedProjectionFromDocValuesOnly
+				? DocValues.ENABLED : DocValues.DISABLED;
 
 		if ( analyzer != null ) {
 			builder.analyzer( analyzerName, analyzer );
@@ -156,7 +158,8 @@ public LuceneIndexValueFieldType<String> toIndexFieldType() {
 		}
 
 		LuceneStringFieldCodec codec = new LuceneStringFieldCodec(
-				getFieldType( resolvedProjectable, resolvedSearchable, analyzer != null, resolvedNorms, resolvedTermVector ),
+				getFieldType( resolvedProjectable && !resolvedProjectionFromDocValuesOnly, resolvedSearchable,
+						analyzer != null, resolvedNorms, resolvedTermVector ),
 				docValues,
 				indexNullAsValue,
 				builder.indexingAnalyzerOrNormalizer()
@@ -188,7 +191,9 @@ public LuceneIndexValueFieldType<String> toIndexFieldType() {
 
 		if ( resolvedProjectable ) {
 			builder.projectable( true );
-			builder.queryElementFactory( ProjectionTypeKeys.FIELD, new LuceneFieldProjection.Factory<>( codec ) );
+			builder.projectableFromDocValues( resolveProjectableFromDocValues( codec.isProjectableFromDocValues() ) );
+			builder.projectableFromStoredFields( codec.isStored() );
+			builder.queryElementFactory( ProjectionTypeKeys.FIELD, LuceneFieldProjection.Factory.forText( codec ) );
 		}
 
 		if ( resolvedAggregable ) {
@@ -200,7 +205,7 @@ public LuceneIndexValueFieldType<String> toIndexFieldType() {
 	}
 
 	@Override
-	protected LuceneStringIndexFieldTypeOptionsStep thisAsS() {
+	protected LuceneStringIndexFieldTypeOptionsStepImpl thisAsS() {
 		return this;
 	}
 
@@ -39,6 +39,8 @@
 	private final boolean sortable;
 	private final boolean projectable;
 	private final boolean aggregable;
+	private final boolean projectableFromDocValues;
+	private final boolean projectableFromStoredFields;
 
 	private final Map<SearchQueryElementTypeKey<?>, LuceneSearchValueFieldQueryElementFactory<?, F>> queryElementFactories;
 
@@ -60,6 +62,8 @@ private LuceneIndexValueFieldType(Builder<F> builder) {
 		this.sortable = builder.sortable;
 		this.projectable = builder.projectable;
 		this.aggregable = builder.aggregable;
+		this.projectableFromDocValues = builder.projectableFromDocValues;
+		this.projectableFromStoredFields = builder.projectableFromStoredFields;
 		this.queryElementFactories = builder.queryElementFactories;
 		this.indexingAnalyzerOrNormalizer = builder.indexingAnalyzerOrNormalizer();
 		this.searchAnalyzerOrNormalizer = builder.searchAnalyzer != null ? builder.searchAnalyzer
@@ -155,6 +159,16 @@ public Optional<String> searchAnalyzerName() {
 		return Optional.ofNullable( searchAnalyzerName );
 	}
 
+	@Override
+	public boolean projectableFromDocValues() {
+		return projectableFromDocValues;
+	}
+
+	@Override
+	public boolean projectableFromStoredFields() {
+		return projectableFromStoredFields;
+	}
+
 	@SuppressWarnings("unchecked") // The cast is safe by construction; see the builder.
 	@Override
 	public <T> LuceneSearchValueFieldQueryElementFactory<T, F> queryElementFactory(SearchQueryElementTypeKey<T> key) {
@@ -184,6 +198,8 @@ public Analyzer searchAnalyzerOrNormalizer() {
 		private boolean sortable;
 		private boolean projectable;
 		private boolean aggregable;
+		private boolean projectableFromDocValues = false;
+		private boolean projectableFromStoredFields = true;
 
 		private final Map<SearchQueryElementTypeKey<?>, LuceneSearchValueFieldQueryElementFactory<?, F>>
 				queryElementFactories = new HashMap<>();
@@ -231,6 +247,14 @@ public void aggregable(boolean aggregable) {
 			this.aggregable = aggregable;
 		}
 
+		public void projectableFromDocValues(boolean projectableFromDocValues) {
+			this.projectableFromDocValues = projectableFromDocValues;
+		}
+
+		public void projectableFromStoredFields(boolean projectableFromStoredFields) {
+			this.projectableFromStoredFields = projectableFromStoredFields;
+		}
+
 		public <T> void queryElementFactory(SearchQueryElementTypeKey<T> key,
 				LuceneSearchValueFieldQueryElementFactory<T, F> factory) {
 			queryElementFactories.put( key, factory );
@@ -27,6 +27,7 @@
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 import org.apache.lucene.util.NumericUtils;
 
 public class LuceneDoubleDomain implements LuceneNumericDomain<Double> {
@@ -120,6 +121,11 @@ public IndexableField createSortedDocValuesField(String absoluteFieldPath, Doubl
 		return new SortedNumericDocValuesField( absoluteFieldPath, NumericUtils.doubleToSortableLong( numericValue ) );
 	}
 
+	@Override
+	public SortField.Type getSortFieldType() {
+		return SortField.Type.DOUBLE;
+	}
+
 	@Override
 	public FieldComparator<Double> createFieldComparator(String fieldName, int numHits,
 			Double missingValue, boolean reversed, int sortPos, MultiValueMode multiValueMode,
@@ -27,6 +27,7 @@
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 import org.apache.lucene.util.NumericUtils;
 
 public class LuceneFloatDomain implements LuceneNumericDomain<Float> {
@@ -120,6 +121,11 @@ public IndexableField createSortedDocValuesField(String absoluteFieldPath, Float
 		return new SortedNumericDocValuesField( absoluteFieldPath, NumericUtils.floatToSortableInt( numericValue ) );
 	}
 
+	@Override
+	public SortField.Type getSortFieldType() {
+		return SortField.Type.FLOAT;
+	}
+
 	@Override
 	public FieldComparator<Float> createFieldComparator(String fieldName, int numHits,
 			Float missingValue, boolean reversed, int sortPos, MultiValueMode multiValueMode,
@@ -27,6 +27,7 @@
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 
 public class LuceneIntegerDomain implements LuceneNumericDomain<Integer> {
 	private static final LuceneNumericDomain<Integer> INSTANCE = new LuceneIntegerDomain();
@@ -113,6 +114,11 @@ public IndexableField createSortedDocValuesField(String absoluteFieldPath, Integ
 		return new SortedNumericDocValuesField( absoluteFieldPath, numericValue.longValue() );
 	}
 
+	@Override
+	public SortField.Type getSortFieldType() {
+		return SortField.Type.INT;
+	}
+
 	@Override
 	public FieldComparator<Integer> createFieldComparator(String fieldName, int numHits,
 			Integer missingValue, boolean reversed, int sortPos, MultiValueMode multiValueMode,
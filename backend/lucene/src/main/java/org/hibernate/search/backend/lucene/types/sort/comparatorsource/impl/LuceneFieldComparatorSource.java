@@ -10,6 +10,7 @@
 
 import org.apache.lucene.search.FieldComparatorSource;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 
 public abstract class LuceneFieldComparatorSource extends FieldComparatorSource {
 
@@ -30,4 +31,15 @@ public String getNestedDocumentPath() {
 	public void setOriginalParentQuery(Query luceneQuery) {
 		this.nestedDocsProvider = new NestedDocsProvider( nestedDocumentPath, luceneQuery, filter );
 	}
+
+	/**
+	 * @param absoluteFieldPath The absolute path of the sorted field.
+	 * @param reverse Whether the sort is reversed.
+	 * @return A sort field relying on Lucene's built-in comparators that sorts documents
+	 * exactly as this comparator source would, or {@code null} if there is no such sort field.
+	 * Built-in sort fields can be compared to the index sort, see {@code IndexSortSupport}.
+	 */
+	public SortField toBuiltInSortFieldOrNull(String absoluteFieldPath, boolean reverse) {
+		return null;
+	}
 }
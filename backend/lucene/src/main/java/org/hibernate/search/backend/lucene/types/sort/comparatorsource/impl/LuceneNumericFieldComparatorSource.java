@@ -10,6 +10,9 @@
 
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSelector;
+import org.apache.lucene.search.SortedNumericSortField;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 
 public class LuceneNumericFieldComparatorSource<E extends Number> extends LuceneFieldComparatorSource {
@@ -30,4 +33,26 @@ public FieldComparator<?> newComparator(String fieldname, int numHits, int sortP
 		return numericDomain.createFieldComparator( fieldname, numHits, missingValue, reversed, sortPos,
 				sortMode, nestedDocsProvider );
 	}
+
+	@Override
+	public SortField toBuiltInSortFieldOrNull(String absoluteFieldPath, boolean reverse) {
+		if ( nestedDocumentPath != null ) {
+			return null;
+		}
+		SortedNumericSelector.Type selector;
+		switch ( sortMode ) {
+			case MIN:
+				selector = SortedNumericSelector.Type.MIN;
+				break;
+			case MAX:
+				selector = SortedNumericSelector.Type.MAX;
+				break;
+			default:
+				return null;
+		}
+		SortField sortField = new SortedNumericSortField( absoluteFieldPath, numericDomain.getSortFieldType(),
+				reverse, selector );
+		sortField.setMissingValue( missingValue );
+		return sortField;
+	}
 }
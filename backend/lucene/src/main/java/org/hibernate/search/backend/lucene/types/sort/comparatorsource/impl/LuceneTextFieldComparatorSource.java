@@ -17,6 +17,9 @@
 import org.apache.lucene.index.SortedDocValues;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedSetSelector;
+import org.apache.lucene.search.SortedSetSortField;
 import org.apache.lucene.util.BytesRef;
 
 public class LuceneTextFieldComparatorSource extends LuceneFieldComparatorSource {
@@ -50,6 +53,29 @@ protected SortedDocValues getSortedDocValues(LeafReaderContext context, String f
 		};
 	}
 
+	@Override
+	public SortField toBuiltInSortFieldOrNull(String absoluteFieldPath, boolean reverse) {
+		if ( nestedDocumentPath != null || !missingFirst() && !missingLast() ) {
+			return null;
+		}
+		SortedSetSelector.Type selector;
+		switch ( multiValueMode ) {
+			case MIN:
+				selector = SortedSetSelector.Type.MIN;
+				break;
+			case MAX:
+				selector = SortedSetSelector.Type.MAX;
+				break;
+			default:
+				return null;
+		}
+		SortField sortField = new SortedSetSortField( absoluteFieldPath, reverse, selector );
+		// Same as in newComparator: built-in comparators expect the position of missing values
+		// before the sort is reversed.
+		sortField.setMissingValue( missingLast() ^ reverse ? SortField.STRING_LAST : SortField.STRING_FIRST );
+		return sortField;
+	}
+
 	private boolean missingFirst() {
 		return SortMissingValue.MISSING_FIRST.equals( missingValue );
 	}
@@ -0,0 +1,195 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.types.sort.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.search.backend.lucene.document.model.impl.AbstractLuceneIndexSchemaFieldNode;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaValueFieldNode;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
+import org.hibernate.search.backend.lucene.types.codec.impl.LuceneStringFieldCodec;
+import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
+import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneFieldComparatorSource;
+import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneNumericFieldComparatorSource;
+import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneTextFieldComparatorSource;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.FieldComparatorSource;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+
+/**
+ * Support for index sorts, i.e. sorting documents in each segment at index time.
+ * <p>
+ * Sorts on fields generated by Hibernate Search rely on custom comparators,
+ * which Lucene will never consider equal to the sort fields of the index sort.
+ * Thus, in order for Lucene to terminate the collection of top docs early
+ * when the query sort is a prefix of the index sort,
+ * we replace the query sort with an equivalent sort relying on built-in comparators,
+ * built the same way as the index sort.
+ */
+public final class IndexSortSupport {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String ORDER_SEPARATOR = ":";
+	private static final String ASC = "asc";
+	private static final String DESC = "desc";
+
+	private IndexSortSupport() {
+	}
+
+	/**
+	 * @param model The model of the index to sort.
+	 * @param definitions The definition of each sort field, in the format {@code <field path>[:asc|:desc]}.
+	 * @param eventContext The event context to use in error messages.
+	 * @return The index sort, or {@code null} if {@code definitions} is empty.
+	 */
+	public static Sort createIndexSortOrNull(LuceneIndexModel model, List<String> definitions,
+			EventContext eventContext) {
+		if ( definitions.isEmpty() ) {
+			return null;
+		}
+		if ( model.hasNestedDocuments() ) {
+			// Lucene does not keep nested documents next to their parent when sorting segments.
+			throw log.indexSortWithNestedDocuments( eventContext );
+		}
+		SortField[] sortFields = new SortField[definitions.size()];
+		for ( int i = 0; i < sortFields.length; i++ ) {
+			sortFields[i] = createIndexSortField( model, definitions.get( i ).trim(), eventContext );
+		}
+		return new Sort( sortFields );
+	}
+
+	/**
+	 * @param indexReader The index reader the query will be executed on.
+	 * @param sort The sort of the query.
+	 * @return A sort relying on built-in comparators if the given sort is a prefix of the index sort
+	 * of at least one segment, so that Lucene can terminate collection early on these segments;
+	 * the given sort otherwise.
+	 */
+	public static Sort toEarlyTerminatingSort(IndexReader indexReader, Sort sort) {
+		SortField[] builtInSortFields = null;
+		for ( LeafReaderContext leaf : indexReader.leaves() ) {
+			Sort indexSort = leaf.reader().getMetaData().getSort();
+			if ( indexSort == null ) {
+				continue;
+			}
+			if ( builtInSortFields == null ) {
+				builtInSortFields = toBuiltInSortFieldsOrNull( sort.getSort() );
+				if ( builtInSortFields == null ) {
+					return sort;
+				}
+			}
+			if ( isPrefix( builtInSortFields, indexSort.getSort() ) ) {
+				return new Sort( builtInSortFields );
+			}
+		}
+		return sort;
+	}
+
+	private static SortField createIndexSortField(LuceneIndexModel model, String definition,
+			EventContext eventContext) {
+		String absoluteFieldPath = definition;
+		boolean reverse = false;
+		int separatorIndex = definition.lastIndexOf( ORDER_SEPARATOR );
+		if ( separatorIndex >= 0 ) {
+			absoluteFieldPath = definition.substring( 0, separatorIndex ).trim();
+			String order = definition.substring( separatorIndex + 1 ).trim().toLowerCase( Locale.ROOT );
+			if ( DESC.equals( order ) ) {
+				reverse = true;
+			}
+			else if ( !ASC.equals( order ) ) {
+				throw log.invalidIndexSortOrder( order, definition, eventContext );
+			}
+		}
+
+		AbstractLuceneIndexSchemaFieldNode field = model.fieldOrNull( absoluteFieldPath );
+		if ( field == null ) {
+			throw log.unknownFieldForIndexSort( absoluteFieldPath, eventContext );
+		}
+		SortField sortField = null;
+		if ( field.isValueField() && !field.multiValuedInRoot() ) {
+			LuceneIndexSchemaValueFieldNode<?> valueField = field.toValueField();
+			if ( valueField.type().sortable() ) {
+				LuceneFieldComparatorSource comparatorSource =
+						createDefaultComparatorSourceOrNull( valueField.type().codec(), reverse );
+				if ( comparatorSource != null ) {
+					sortField = comparatorSource.toBuiltInSortFieldOrNull( absoluteFieldPath, reverse );
+				}
+			}
+		}
+		if ( sortField == null ) {
+			throw log.invalidFieldForIndexSort( absoluteFieldPath, eventContext );
+		}
+		return sortField;
+	}
+
+	/*
+	 * Creates the comparator source that a field sort with the default options
+	 * (missing values last, default sort mode) would use.
+	 * See LuceneStandardFieldSort.
+	 */
+	private static LuceneFieldComparatorSource createDefaultComparatorSourceOrNull(LuceneFieldCodec<?> codec,
+			boolean reverse) {
+		MultiValueMode multiValueMode = reverse ? MultiValueMode.MAX : MultiValueMode.MIN;
+		if ( codec instanceof AbstractLuceneNumericFieldCodec ) {
+			return createDefaultNumericComparatorSource(
+					( (AbstractLuceneNumericFieldCodec<?, ?>) codec ).getDomain(), reverse, multiValueMode );
+		}
+		else if ( codec instanceof LuceneStringFieldCodec ) {
+			return new LuceneTextFieldComparatorSource( null, SortMissingValue.MISSING_LAST, multiValueMode, null );
+		}
+		else {
+			return null;
+		}
+	}
+
+	private static <E extends Number> LuceneFieldComparatorSource createDefaultNumericComparatorSource(
+			LuceneNumericDomain<E> domain, boolean reverse, MultiValueMode multiValueMode) {
+		E missingValue = reverse ? domain.getMinValue() : domain.getMaxValue();
+		return new LuceneNumericFieldComparatorSource<>( null, domain, missingValue, multiValueMode, null );
+	}
+
+	private static SortField[] toBuiltInSortFieldsOrNull(SortField[] sortFields) {
+		SortField[] builtInSortFields = new SortField[sortFields.length];
+		for ( int i = 0; i < sortFields.length; i++ ) {
+			SortField sortField = sortFields[i];
+			FieldComparatorSource comparatorSource = sortField.getComparatorSource();
+			if ( !( comparatorSource instanceof LuceneFieldComparatorSource ) ) {
+				return null;
+			}
+			builtInSortFields[i] = ( (LuceneFieldComparatorSource) comparatorSource )
+					.toBuiltInSortFieldOrNull( sortField.getField(), sortField.getReverse() );
+			if ( builtInSortFields[i] == null ) {
+				return null;
+			}
+		}
+		return builtInSortFields;
+	}
+
+	private static boolean isPrefix(SortField[] sortFields, SortField[] indexSortFields) {
+		if ( sortFields.length > indexSortFields.length ) {
+			return false;
+		}
+		for ( int i = 0; i < sortFields.length; i++ ) {
+			if ( !sortFields[i].equals( indexSortFields[i] ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -96,7 +96,8 @@ public CompletableFuture<?> delete(DocumentReferenceProvider referenceProvider,
 	private <T> CompletableFuture<T> submit(String documentId, String routingKey, IndexingWork<T> work,
 			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
 		// Route the work to the appropriate shard
-		LuceneSerialWorkOrchestrator orchestrator = indexManagerContext.indexingOrchestrator( documentId, routingKey );
+		LuceneSerialWorkOrchestrator orchestrator = indexManagerContext.indexingOrchestrator( tenantId, documentId,
+				routingKey );
 
 		CompletableFuture<T> futureForOrchestrator = new CompletableFuture<>();
 		CompletableFuture<T> futureForCaller;
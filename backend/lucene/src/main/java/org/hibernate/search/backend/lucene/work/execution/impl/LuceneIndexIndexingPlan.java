@@ -125,7 +125,8 @@ public void discard() {
 
 	private void collect(String documentId, String routingKey, SingleDocumentIndexingWork work) {
 		// Route the work to the appropriate shard
-		LuceneSerialWorkOrchestrator orchestrator = indexManagerContext.indexingOrchestrator( documentId, routingKey );
+		LuceneSerialWorkOrchestrator orchestrator = indexManagerContext.indexingOrchestrator( tenantId, documentId,
+				routingKey );
 
 		List<SingleDocumentIndexingWork> works = worksByOrchestrator.get( orchestrator );
 		if ( works == null ) {
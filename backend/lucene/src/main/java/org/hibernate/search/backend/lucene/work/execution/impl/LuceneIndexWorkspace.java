@@ -32,13 +32,14 @@ public LuceneIndexWorkspace(LuceneWorkFactory factory,
 
 	@Override
 	public CompletableFuture<?> mergeSegments() {
-		return doSubmit( indexManagerContext.allManagementOrchestrators(), factory.mergeSegments(), false );
+		return doSubmit( indexManagerContext.allManagementOrchestrators( sessionContext.tenantIdentifier() ),
+				factory.mergeSegments(), false );
 	}
 
 	@Override
 	public CompletableFuture<?> purge(Set<String> routingKeys) {
 		return doSubmit(
-				indexManagerContext.managementOrchestrators( routingKeys ),
+				indexManagerContext.managementOrchestrators( sessionContext.tenantIdentifier(), routingKeys ),
 				factory.deleteAll( sessionContext.tenantIdentifier(), routingKeys ),
 				true
 		);
@@ -46,12 +47,14 @@ public CompletableFuture<?> purge(Set<String> routingKeys) {
 
 	@Override
 	public CompletableFuture<?> flush() {
-		return doSubmit( indexManagerContext.allManagementOrchestrators(), factory.flush(), false );
+		return doSubmit( indexManagerContext.allManagementOrchestrators( sessionContext.tenantIdentifier() ),
+				factory.flush(), false );
 	}
 
 	@Override
 	public CompletableFuture<?> refresh() {
-		return doSubmit( indexManagerContext.allManagementOrchestrators(), factory.refresh(), false );
+		return doSubmit( indexManagerContext.allManagementOrchestrators( sessionContext.tenantIdentifier() ),
+				factory.refresh(), false );
 	}
 
 	private <T> CompletableFuture<?> doSubmit(List<LuceneParallelWorkOrchestrator> orchestrators,
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import java.util.Arrays;
+
 public abstract class AbstractSingleDocumentIndexingWork extends AbstractIndexingWork<Long>
 		implements SingleDocumentIndexingWork {
 
@@ -49,4 +51,13 @@ public Object getEntityIdentifier() {
 	public String getQueuingKey() {
 		return documentIdentifier;
 	}
+
+	/**
+	 * @return A key identifying the affected document,
+	 * for works that delete all previous versions of that document before (optionally) adding a new one.
+	 * Adds do not delete previous versions, so they must not use this key.
+	 */
+	protected final Object coalescingKey() {
+		return Arrays.asList( tenantId, documentIdentifier );
+	}
 }
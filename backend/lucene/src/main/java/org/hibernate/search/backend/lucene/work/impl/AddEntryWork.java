@@ -14,8 +14,9 @@
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.lucene.document.Document;
 
-public class AddEntryWork extends AbstractSingleDocumentIndexingWork {
+public class AddEntryWork extends AbstractSingleDocumentIndexingWork implements BulkableIndexingWork {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -27,6 +28,16 @@ public class AddEntryWork extends AbstractSingleDocumentIndexingWork {
 		this.indexEntry = indexEntry;
 	}
 
+	@Override
+	public BulkableIndexingWork asBulkable() {
+		return this;
+	}
+
+	@Override
+	public Iterable<Document> getDocuments() {
+		return indexEntry;
+	}
+
 	@Override
 	public Long execute(IndexingWorkExecutionContext context) {
 		try {
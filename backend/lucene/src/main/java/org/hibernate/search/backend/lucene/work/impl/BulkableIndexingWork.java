@@ -0,0 +1,26 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.work.impl;
+
+import org.apache.lucene.document.Document;
+
+/**
+ * A single-document indexing work that only adds documents, without deleting anything,
+ * and can thus be executed along with other works of the same kind
+ * without requiring a separate index writer lookup for each work.
+ * <p>
+ * The documents of each work are still added through a separate call to the index writer,
+ * so that they form their own block, independently of other works.
+ */
+public interface BulkableIndexingWork extends SingleDocumentIndexingWork {
+
+	/**
+	 * @return The documents to add, as a single block.
+	 */
+	Iterable<Document> getDocuments();
+
+}
@@ -32,6 +32,11 @@ public class DeleteEntryWork extends AbstractSingleDocumentIndexingWork {
 		this.filter = filter;
 	}
 
+	@Override
+	public Object getCoalescingKey() {
+		return coalescingKey();
+	}
+
 	@Override
 	public Long execute(IndexingWorkExecutionContext context) {
 		try {
@@ -21,4 +21,22 @@
 	 */
 	String getQueuingKey();
 
+	/**
+	 * @return A key identifying the document affected by this work,
+	 * if this work entirely replaces the previous state of that document (e.g. update or delete),
+	 * or {@code null}.
+	 * Works in the same batch with the same (non-null) key may be coalesced,
+	 * in which case only the last one is executed.
+	 */
+	default Object getCoalescingKey() {
+		return null;
+	}
+
+	/**
+	 * @return This work, if it can be executed in bulk along with other works, or {@code null}.
+	 */
+	default BulkableIndexingWork asBulkable() {
+		return null;
+	}
+
 }
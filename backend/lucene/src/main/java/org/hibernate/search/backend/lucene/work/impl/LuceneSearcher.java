@@ -14,14 +14,20 @@
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 public interface LuceneSearcher<R, ER> {
 
 	R search(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
 			int offset, Integer limit, int totalHitCountThreshold) throws IOException;
 
+	/**
+	 * @param after The last hit returned by the previous call to this method,
+	 * or {@code null} to start from the first hit.
+	 * Only hits sorted after this one will be collected.
+	 */
 	ER scroll(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int offset, int limit, int totalHitCountThreshold) throws IOException;
+			ScoreDoc after, int limit, int totalHitCountThreshold) throws IOException;
 
 	int count(IndexSearcher indexSearcher) throws IOException;
 
@@ -30,4 +36,11 @@ ER scroll(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResol
 	Query getLuceneQueryForExceptions();
 
 	void setTimeoutManager(TimeoutManager timeoutManager);
+
+	/**
+	 * @param timeoutManager A timeout manager.
+	 * @return A copy of this searcher using the given timeout manager,
+	 * for executions that must not share their timeout manager with other executions.
+	 */
+	LuceneSearcher<R, ER> withTimeoutManager(TimeoutManager timeoutManager);
 }
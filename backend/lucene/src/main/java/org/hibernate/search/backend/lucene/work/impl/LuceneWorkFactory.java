@@ -12,6 +12,7 @@
 
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 
 public interface LuceneWorkFactory {
@@ -42,7 +43,7 @@ SingleDocumentIndexingWork update(String tenantId, String entityTypeName, Object
 
 	<R> ReadWork<R> search(LuceneSearcher<R, ?> searcher, Integer offset, Integer limit, int totalHitCountThreshold);
 
-	<ER> ReadWork<ER> scroll(LuceneSearcher<?, ER> searcher, int offset, int limit, int totalHitCountThreshold);
+	<ER> ReadWork<ER> scroll(LuceneSearcher<?, ER> searcher, ScoreDoc after, int limit, int totalHitCountThreshold);
 
 	ReadWork<Integer> count(LuceneSearcher<?, ?> searcher);
 
@@ -36,6 +36,11 @@ public class UpdateEntryWork extends AbstractSingleDocumentIndexingWork {
 		this.indexEntry = indexEntry;
 	}
 
+	@Override
+	public Object getCoalescingKey() {
+		return coalescingKey();
+	}
+
 	@Override
 	public Long execute(IndexingWorkExecutionContext context) {
 		try {
@@ -0,0 +1,124 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LRUQueryCache;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+
+public class HibernateSearchQueryCachingPolicyTest {
+
+	private static final int DOCUMENT_COUNT = 100;
+
+	private final Directory directory = new ByteBuffersDirectory();
+	private DirectoryReader reader;
+	// Cache every segment, regardless of its size
+	private final LRUQueryCache queryCache = new LRUQueryCache( 100, 1024L * 1024L, leaf -> true,
+			Float.POSITIVE_INFINITY );
+	private IndexSearcher searcher;
+
+	@Before
+	public void setup() throws IOException {
+		try ( IndexWriter writer = new IndexWriter( directory, new IndexWriterConfig( new KeywordAnalyzer() ) ) ) {
+			for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+				Document document = new Document();
+				document.add( MetadataFields.searchableMetadataField( MetadataFields.tenantIdFieldName(),
+						i % 2 == 0 ? "tenant1" : "tenant2" ) );
+				document.add( MetadataFields.searchableMetadataField( MetadataFields.typeFieldName(),
+						MetadataFields.TYPE_MAIN_DOCUMENT ) );
+				document.add( MetadataFields.searchableMetadataField( "all", "all" ) );
+				document.add( MetadataFields.searchableMetadataField( "text", "value" + ( i % 10 ) ) );
+				writer.addDocument( document );
+			}
+		}
+		reader = DirectoryReader.open( directory );
+		searcher = new IndexSearcher( reader );
+		searcher.setQueryCache( queryCache );
+		searcher.setQueryCachingPolicy( new HibernateSearchQueryCachingPolicy() );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		reader.close();
+		directory.close();
+	}
+
+	@Test
+	public void tenantFilter_cachedOnFirstUse() throws IOException {
+		Query filter = Queries.term( MetadataFields.tenantIdFieldName(), "tenant1" );
+
+		assertThat( searcher.count( filtered( filter ) ) ).isEqualTo( DOCUMENT_COUNT / 2 );
+		assertThat( queryCache.getCacheCount() ).isEqualTo( 1 );
+		assertThat( queryCache.getHitCount() ).isEqualTo( 0 );
+
+		assertThat( searcher.count( filtered( filter ) ) ).isEqualTo( DOCUMENT_COUNT / 2 );
+		assertThat( queryCache.getCacheCount() ).isEqualTo( 1 );
+		assertThat( queryCache.getHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void mainDocumentFilter_cachedOnFirstUse() throws IOException {
+		assertThat( searcher.count( filtered( Queries.mainDocumentQuery() ) ) ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( queryCache.getCacheCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void otherFilter_notCachedOnFirstUse() throws IOException {
+		Query filter = Queries.term( "text", "value1" );
+
+		assertThat( searcher.count( filtered( filter ) ) ).isEqualTo( DOCUMENT_COUNT / 10 );
+		// Lucene's default policy only caches queries that were used multiple times, and never caches term queries
+		assertThat( queryCache.getCacheCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void mappedTypeNameFilter_neverCached() throws IOException {
+		HibernateSearchQueryCachingPolicy policy = new HibernateSearchQueryCachingPolicy();
+		Query filter = new MappedTypeNameQuery( null, "SomeType" );
+		Query otherFilter = new BooleanQuery.Builder()
+				.add( Queries.term( "text", "value1" ), BooleanClause.Occur.SHOULD )
+				.add( Queries.term( "text", "value2" ), BooleanClause.Occur.SHOULD )
+				.build();
+
+		for ( int i = 0; i < 10; i++ ) {
+			policy.onUse( filter );
+			policy.onUse( otherFilter );
+		}
+		// Other filters are cached once they were used often enough...
+		assertThat( policy.shouldCache( otherFilter ) ).isTrue();
+		// ... but this one is never worth caching.
+		assertThat( policy.shouldCache( filter ) ).isFalse();
+	}
+
+	private static Query filtered(Query filter) {
+		return new BooleanQuery.Builder()
+				// Not a MatchAllDocsQuery, so that the boolean query is not rewritten to the filter alone,
+				// and a term query, so that only the filter can be cached
+				.add( Queries.term( "all", "all" ), BooleanClause.Occur.MUST )
+				.add( filter, BooleanClause.Occur.FILTER )
+				.build();
+	}
+}
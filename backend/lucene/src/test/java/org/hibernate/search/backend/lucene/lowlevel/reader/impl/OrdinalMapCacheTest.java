@@ -0,0 +1,288 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.JoiningTextMultiValuesSource;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.TextMultiValueFacetCounts;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.facet.FacetResult;
+import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.LabelAndValue;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MultiDocValues.MultiSortedSetDocValues;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+
+public class OrdinalMapCacheTest {
+
+	private static final String FIELD = "text";
+	private static final String GROUP_FIELD = "group";
+	private static final String OTHER_FIELD = "otherText";
+	private static final String RARE = "rare";
+	private static final String COMMON = "common";
+	private static final int RARE_PERIOD = 50;
+
+	private final OrdinalMapCache cache = new OrdinalMapCache();
+
+	private Directory directory;
+	private IndexWriter writer;
+	private DirectoryReader directoryReader;
+
+	@Before
+	public void setup() throws IOException {
+		directory = new ByteBuffersDirectory();
+		// Never merge segments: we want to test counting over several segments.
+		writer = new IndexWriter( directory, new IndexWriterConfig( new KeywordAnalyzer() )
+				.setMergePolicy( NoMergePolicy.INSTANCE ) );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		cache.close();
+		if ( directoryReader != null ) {
+			directoryReader.close();
+		}
+		writer.close();
+		directory.close();
+	}
+
+	@Test
+	public void multipleSegments_reuseAcrossSearches() throws IOException {
+		addSegment( 20, 5 );
+		addSegment( 20, 3 );
+		addSegment( 10, 7 );
+		directoryReader = DirectoryReader.open( writer );
+		assertThat( directoryReader.leaves() ).hasSize( 3 );
+
+		OrdinalMap firstMapping;
+		try ( HibernateSearchMultiReader reader = openMultiReader() ) {
+			firstMapping = mapping( reader.getSortedSetValues( FIELD ) );
+			assertThat( firstMapping.getValueCount() ).isEqualTo( 7 );
+			// Same search, same reader: the ordinal map is not rebuilt.
+			assertThat( mapping( reader.getSortedSetValues( FIELD ) ) ).isSameAs( firstMapping );
+
+			assertThat( count( reader, new MatchAllDocsQuery() ) )
+					.containsExactlyEntriesOf( expectedCounts( false, 5, 20, 3, 20, 7, 10 ) );
+		}
+		assertThat( cache.size() ).isEqualTo( 1 );
+
+		// Another search, on another top-level reader wrapping the same directory reader.
+		try ( HibernateSearchMultiReader reader = openMultiReader() ) {
+			assertThat( mapping( reader.getSortedSetValues( FIELD ) ) ).isSameAs( firstMapping );
+			assertThat( count( reader, new MatchAllDocsQuery() ) )
+					.containsExactlyEntriesOf( expectedCounts( false, 5, 20, 3, 20, 7, 10 ) );
+		}
+		assertThat( cache.size() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void multipleSegments_sparseCounts() throws IOException {
+		addSegment( 200, 150 );
+		addSegment( 5, 1 );
+		addSegment( 200, 150 );
+		addSegment( 100, 40 );
+		directoryReader = DirectoryReader.open( writer );
+		assertThat( directoryReader.leaves() ).hasSize( 4 );
+
+		try ( HibernateSearchMultiReader reader = openMultiReader() ) {
+			// Few hits compared to the number of terms in most segments: these segments will be counted sparsely.
+			assertThat( count( reader, new TermQuery( new Term( GROUP_FIELD, RARE ) ) ) )
+					.containsExactlyEntriesOf( expectedCounts( true, 150, 200, 1, 5, 150, 200, 40, 100 ) );
+			// Many hits: segments will be counted densely.
+			assertThat( count( reader, new MatchAllDocsQuery() ) )
+					.containsExactlyEntriesOf( expectedCounts( false, 150, 200, 1, 5, 150, 200, 40, 100 ) );
+		}
+	}
+
+	@Test
+	public void refreshAddingSegments_rebuild() throws IOException {
+		addSegment( 20, 5 );
+		addSegment( 20, 3 );
+		directoryReader = DirectoryReader.open( writer );
+
+		OrdinalMap firstMapping;
+		try ( HibernateSearchMultiReader reader = openMultiReader() ) {
+			firstMapping = mapping( reader.getSortedSetValues( FIELD ) );
+			assertThat( count( reader, new MatchAllDocsQuery() ) )
+					.containsExactlyEntriesOf( expectedCounts( false, 5, 20, 3, 20 ) );
+		}
+		assertThat( cache.size() ).isEqualTo( 1 );
+
+		// Add a segment with new terms, and refresh.
+		addSegment( 20, 9 );
+		DirectoryReader refreshedReader = DirectoryReader.openIfChanged( directoryReader );
+		assertThat( refreshedReader ).isNotNull();
+		directoryReader.close();
+		directoryReader = refreshedReader;
+		assertThat( directoryReader.leaves() ).hasSize( 3 );
+		// Closing the previous reader evicted its ordinal maps.
+		assertThat( cache.size() ).isEqualTo( 0 );
+
+		try ( HibernateSearchMultiReader reader = openMultiReader() ) {
+			OrdinalMap refreshedMapping = mapping( reader.getSortedSetValues( FIELD ) );
+			assertThat( refreshedMapping ).isNotSameAs( firstMapping );
+			assertThat( refreshedMapping.getValueCount() ).isEqualTo( 9 );
+			assertThat( count( reader, new MatchAllDocsQuery() ) )
+					.containsExactlyEntriesOf( expectedCounts( false, 5, 20, 3, 20, 9, 20 ) );
+		}
+		assertThat( cache.size() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void multipleFields() throws IOException {
+		addSegment( 20, 5 );
+		addSegment( 20, 3 );
+		directoryReader = DirectoryReader.open( writer );
+
+		try ( HibernateSearchMultiReader reader = openMultiReader() ) {
+			OrdinalMap mapping = mapping( reader.getSortedSetValues( FIELD ) );
+			OrdinalMap otherMapping = mapping( reader.getSortedSetValues( OTHER_FIELD ) );
+			assertThat( otherMapping ).isNotSameAs( mapping );
+			assertThat( mapping( reader.getSortedSetValues( OTHER_FIELD ) ) ).isSameAs( otherMapping );
+			assertThat( reader.getSortedSetValues( "unknownField" ) ).isNull();
+		}
+	}
+
+	@Test
+	public void closed() throws IOException {
+		addSegment( 20, 5 );
+		addSegment( 20, 3 );
+		directoryReader = DirectoryReader.open( writer );
+
+		cache.close();
+
+		try ( HibernateSearchMultiReader reader = openMultiReader() ) {
+			OrdinalMap mapping = mapping( reader.getSortedSetValues( FIELD ) );
+			// Ordinal maps are no longer cached, but still correct.
+			assertThat( mapping( reader.getSortedSetValues( FIELD ) ) ).isNotSameAs( mapping );
+			assertThat( count( reader, new MatchAllDocsQuery() ) )
+					.containsExactlyEntriesOf( expectedCounts( false, 5, 20, 3, 20 ) );
+		}
+		assertThat( cache.size() ).isEqualTo( 0 );
+	}
+
+	/*
+	 * Adds one segment containing "documentCount" documents,
+	 * each document holding two values among "termCount" terms.
+	 */
+	private void addSegment(int documentCount, int termCount) throws IOException {
+		for ( int i = 0; i < documentCount; i++ ) {
+			Document document = new Document();
+			document.add( new StringField( GROUP_FIELD, group( i ), Field.Store.NO ) );
+			document.add( new SortedSetDocValuesField( FIELD, new BytesRef( firstTerm( i, termCount ) ) ) );
+			// When both values are identical, the term must only be counted once for this document.
+			document.add( new SortedSetDocValuesField( FIELD, new BytesRef( secondTerm( i, termCount ) ) ) );
+			document.add( new SortedSetDocValuesField( OTHER_FIELD, new BytesRef( group( i ) ) ) );
+			writer.addDocument( document );
+		}
+		writer.commit();
+	}
+
+	private HibernateSearchMultiReader openMultiReader() throws IOException {
+		// The multi reader will decrement the reference count when closed.
+		directoryReader.incRef();
+		Map<DirectoryReader, String> mappedTypeNames = new HashMap<>();
+		mappedTypeNames.put( directoryReader, "SomeType" );
+		return new HibernateSearchMultiReader( Collections.singletonList( directoryReader ),
+				new IndexReaderMetadataResolver( mappedTypeNames ), cache );
+	}
+
+	private static Map<String, Integer> count(HibernateSearchMultiReader reader, Query query) throws IOException {
+		FacetsCollector facetsCollector = new FacetsCollector();
+		new IndexSearcher( reader ).search( query, facetsCollector );
+		TextMultiValueFacetCounts facetCounts = new TextMultiValueFacetCounts( reader, FIELD,
+				JoiningTextMultiValuesSource.fromField( FIELD, null ), facetsCollector );
+		FacetResult result = facetCounts.getTopChildren( 1000, FIELD );
+		Map<String, Integer> counts = new LinkedHashMap<>();
+		if ( result != null ) {
+			for ( LabelAndValue labelAndValue : result.labelValues ) {
+				counts.put( labelAndValue.label, labelAndValue.value.intValue() );
+			}
+		}
+		return counts;
+	}
+
+	/*
+	 * Computes the expected counts for segments added through addSegment,
+	 * each segment being defined by a pair (termCount, documentCount).
+	 * Results are sorted by descending count, then ascending term, like facet results.
+	 */
+	private static Map<String, Integer> expectedCounts(boolean rareOnly, int... termCountAndDocumentCounts) {
+		Map<String, Integer> counts = new HashMap<>();
+		for ( int i = 0; i < termCountAndDocumentCounts.length; i += 2 ) {
+			int termCount = termCountAndDocumentCounts[i];
+			int documentCount = termCountAndDocumentCounts[i + 1];
+			for ( int doc = 0; doc < documentCount; doc++ ) {
+				if ( rareOnly && !RARE.equals( group( doc ) ) ) {
+					continue;
+				}
+				String first = firstTerm( doc, termCount );
+				String second = secondTerm( doc, termCount );
+				counts.merge( first, 1, Integer::sum );
+				if ( !second.equals( first ) ) {
+					counts.merge( second, 1, Integer::sum );
+				}
+			}
+		}
+		Map<String, Integer> sorted = new LinkedHashMap<>();
+		counts.entrySet().stream()
+				.sorted( Map.Entry.<String, Integer>comparingByValue().reversed()
+						.thenComparing( Map.Entry.comparingByKey() ) )
+				.forEachOrdered( e -> sorted.put( e.getKey(), e.getValue() ) );
+		return sorted;
+	}
+
+	private static OrdinalMap mapping(SortedSetDocValues docValues) {
+		assertThat( docValues ).isInstanceOf( MultiSortedSetDocValues.class );
+		return ( (MultiSortedSetDocValues) docValues ).mapping;
+	}
+
+	private static String group(int doc) {
+		return doc % RARE_PERIOD == 0 ? RARE : COMMON;
+	}
+
+	private static String firstTerm(int doc, int termCount) {
+		return term( doc % termCount );
+	}
+
+	private static String secondTerm(int doc, int termCount) {
+		return term( ( doc + termCount / 2 ) % termCount );
+	}
+
+	private static String term(int i) {
+		return String.format( Locale.ROOT, "term%04d", i );
+	}
+}
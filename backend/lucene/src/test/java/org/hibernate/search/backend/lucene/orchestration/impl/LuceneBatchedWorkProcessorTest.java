@@ -12,6 +12,7 @@
 import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -20,14 +21,18 @@
 import static org.mockito.Mockito.withSettings;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
+import org.hibernate.search.backend.lucene.work.impl.BulkableIndexingWork;
 import org.hibernate.search.backend.lucene.work.impl.IndexingWork;
 import org.hibernate.search.backend.lucene.work.impl.IndexingWorkExecutionContext;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
@@ -37,6 +42,8 @@
 import org.junit.Rule;
 import org.junit.Test;
 
+import org.apache.lucene.document.Document;
+
 public class LuceneBatchedWorkProcessorTest {
 
 	private static final String INDEX_NAME = "SomeIndexName";
@@ -57,7 +64,7 @@ public class LuceneBatchedWorkProcessorTest {
 
 	@Before
 	public void setup() {
-		processor = new LuceneBatchedWorkProcessor( indexEventContext, indexAccessorMock );
+		processor = new LuceneBatchedWorkProcessor( indexEventContext, indexAccessorMock, true );
 	}
 
 	@Test
@@ -179,6 +186,150 @@ public void error_batchCommit() throws IOException {
 		checkCompleteWithNothingToCommit();
 	}
 
+	@Test
+	public void bulk() throws IOException {
+		processor.beginBatch();
+		verifyNoOtherIndexInteractionsAndClear();
+
+		BulkableIndexingWork add1 = bulkableWorkMock();
+		BulkableIndexingWork add2 = bulkableWorkMock();
+		BulkableIndexingWork add3 = bulkableWorkMock();
+		CompletableFuture<Long> future1 = new CompletableFuture<>();
+		CompletableFuture<Long> future2 = new CompletableFuture<>();
+		CompletableFuture<Long> future3 = new CompletableFuture<>();
+		processor.submit( add1, future1 );
+		processor.submit( add2, future2 );
+		processor.submit( add3, future3 );
+		// Bulkable works are not executed immediately
+		verifyNoOtherIndexInteractionsAndClear();
+		assertThat( future1 ).isNotDone();
+
+		when( indexAccessorMock.getIndexWriterDelegator() ).thenReturn( indexWriterDelegatorMock );
+		when( indexWriterDelegatorMock.addDocuments( add1.getDocuments() ) ).thenReturn( 42L );
+		when( indexWriterDelegatorMock.addDocuments( add2.getDocuments() ) ).thenReturn( 43L );
+		when( indexWriterDelegatorMock.addDocuments( add3.getDocuments() ) ).thenReturn( 44L );
+		processor.endBatch();
+		InOrder inOrder = inOrder( indexAccessorMock, indexWriterDelegatorMock );
+		// A single index writer lookup, but one call per work, so that each work's documents form their own block
+		inOrder.verify( indexAccessorMock ).getIndexWriterDelegator();
+		inOrder.verify( indexWriterDelegatorMock ).addDocuments( add1.getDocuments() );
+		inOrder.verify( indexWriterDelegatorMock ).addDocuments( add2.getDocuments() );
+		inOrder.verify( indexWriterDelegatorMock ).addDocuments( add3.getDocuments() );
+		inOrder.verify( indexAccessorMock ).commitOrDelay();
+		verifyNoOtherIndexInteractionsAndClear();
+		assertThat( future1 ).isCompletedWithValue( 42L );
+		assertThat( future2 ).isCompletedWithValue( 43L );
+		assertThat( future3 ).isCompletedWithValue( 44L );
+
+		checkCompleteWithNothingToCommit();
+	}
+
+	@Test
+	public void bulk_disabled() {
+		processor = new LuceneBatchedWorkProcessor( indexEventContext, indexAccessorMock, false );
+
+		processor.beginBatch();
+		verifyNoOtherIndexInteractionsAndClear();
+
+		BulkableIndexingWork add1 = bulkableWorkMock();
+		CompletableFuture<Long> future1 = new CompletableFuture<>();
+		when( add1.execute( any() ) ).thenReturn( 42L );
+		processor.submit( add1, future1 );
+		// Without bulk adds, works are executed immediately
+		verify( add1 ).execute( any() );
+		verifyNoOtherIndexInteractionsAndClear();
+		assertThat( future1 ).isCompletedWithValue( 42L );
+
+		processor.endBatch();
+		verify( indexAccessorMock ).commitOrDelay();
+		verifyNoOtherIndexInteractionsAndClear();
+
+		checkCompleteWithNothingToCommit();
+	}
+
+	@Test
+	public void bulk_nonBulkableWork() throws IOException {
+		processor.beginBatch();
+		verifyNoOtherIndexInteractionsAndClear();
+
+		BulkableIndexingWork add1 = bulkableWorkMock();
+		BulkableIndexingWork add2 = bulkableWorkMock();
+		CompletableFuture<Long> future1 = new CompletableFuture<>();
+		CompletableFuture<Long> future2 = new CompletableFuture<>();
+		processor.submit( add1, future1 );
+		processor.submit( add2, future2 );
+		verifyNoOtherIndexInteractionsAndClear();
+
+		// A work that cannot be executed in bulk (e.g. an update) must see the effects of previous works
+		IndexingWork<Object> work = workMock();
+		Object workResult = new Object();
+		when( work.execute( any() ) ).thenReturn( workResult );
+		CompletableFuture<Object> future = new CompletableFuture<>();
+		when( indexAccessorMock.getIndexWriterDelegator() ).thenReturn( indexWriterDelegatorMock );
+		when( indexWriterDelegatorMock.addDocuments( add1.getDocuments() ) ).thenReturn( 42L );
+		when( indexWriterDelegatorMock.addDocuments( add2.getDocuments() ) ).thenReturn( 43L );
+		processor.submit( work, future );
+		InOrder inOrder = inOrder( indexAccessorMock, indexWriterDelegatorMock, work );
+		inOrder.verify( indexWriterDelegatorMock ).addDocuments( add1.getDocuments() );
+		inOrder.verify( indexWriterDelegatorMock ).addDocuments( add2.getDocuments() );
+		inOrder.verify( work ).execute( any() );
+		verify( indexAccessorMock ).getIndexWriterDelegator();
+		verifyNoOtherIndexInteractionsAndClear();
+		assertThat( future1 ).isCompletedWithValue( 42L );
+		assertThat( future2 ).isCompletedWithValue( 43L );
+		assertThat( future ).isCompletedWithValue( workResult );
+
+		processor.endBatch();
+		verify( indexAccessorMock ).commitOrDelay();
+		verifyNoOtherIndexInteractionsAndClear();
+
+		checkCompleteWithNothingToCommit();
+	}
+
+	@Test
+	public void bulk_error() throws IOException {
+		processor.beginBatch();
+		verifyNoOtherIndexInteractionsAndClear();
+
+		BulkableIndexingWork add1 = bulkableWorkMock();
+		BulkableIndexingWork add2 = bulkableWorkMock();
+		BulkableIndexingWork add3 = bulkableWorkMock();
+		CompletableFuture<Long> future1 = new CompletableFuture<>();
+		CompletableFuture<Long> future2 = new CompletableFuture<>();
+		CompletableFuture<Long> future3 = new CompletableFuture<>();
+		processor.submit( add1, future1 );
+		processor.submit( add2, future2 );
+		processor.submit( add3, future3 );
+		verifyNoOtherIndexInteractionsAndClear();
+
+		// Upon failure in the bulk, remaining works are executed one by one
+		RuntimeException bulkException = new RuntimeException( "Some message" );
+		RuntimeException workException = new RuntimeException( "Some other message" );
+		when( indexAccessorMock.getIndexWriterDelegator() ).thenReturn( indexWriterDelegatorMock );
+		when( indexWriterDelegatorMock.addDocuments( add1.getDocuments() ) ).thenReturn( 42L );
+		when( indexWriterDelegatorMock.addDocuments( add2.getDocuments() ) ).thenThrow( bulkException );
+		when( add2.execute( any() ) ).thenReturn( 43L );
+		when( add3.execute( any() ) ).thenThrow( workException );
+		processor.endBatch();
+		InOrder inOrder = inOrder( indexAccessorMock, indexWriterDelegatorMock, add1, add2, add3 );
+		inOrder.verify( indexAccessorMock ).getIndexWriterDelegator();
+		inOrder.verify( indexWriterDelegatorMock ).addDocuments( add1.getDocuments() );
+		inOrder.verify( indexWriterDelegatorMock ).addDocuments( add2.getDocuments() );
+		// The index writer must be reset before executing works again
+		inOrder.verify( indexAccessorMock ).cleanUpAfterFailure( bulkException, "Bulk of 2 index works" );
+		inOrder.verify( add2 ).execute( any() );
+		inOrder.verify( add3 ).execute( any() );
+		inOrder.verify( indexAccessorMock ).cleanUpAfterFailure( workException, "bulkableWork_2" );
+		inOrder.verify( indexAccessorMock ).commitOrDelay();
+		verify( add1, never() ).execute( any() );
+		verifyNoOtherIndexInteractionsAndClear();
+		assertThat( future1 ).isCompletedWithValue( 42L );
+		assertThat( future2 ).isCompletedWithValue( 43L );
+		assertThat( future3 ).isCompletedExceptionally();
+
+		checkCompleteWithNothingToCommit();
+	}
+
 	private void testSuccessfulWriteWorks(int workCount) throws IOException {
 		ArgumentCaptor<IndexingWorkExecutionContext> contextCapture =
 				ArgumentCaptor.forClass( IndexingWorkExecutionContext.class );
@@ -227,6 +378,15 @@ private <T> IndexingWork<T> workMock() {
 		return workMock;
 	}
 
+	private BulkableIndexingWork bulkableWorkMock() {
+		String workName = "bulkableWork_" + nextWorkId++;
+		BulkableIndexingWork workMock = mock( BulkableIndexingWork.class, withSettings().name( workName ).lenient() );
+		when( workMock.getInfo() ).thenReturn( workName );
+		when( workMock.asBulkable() ).thenReturn( workMock );
+		when( workMock.getDocuments() ).thenReturn( Collections.singletonList( new Document() ) );
+		return workMock;
+	}
+
 	private String workInfo(int index) {
 		return "work_" + index;
 	}
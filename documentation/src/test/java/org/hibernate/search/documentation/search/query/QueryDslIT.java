@@ -14,6 +14,9 @@
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import javax.persistence.EntityGraph;
 import javax.persistence.EntityManager;
@@ -25,6 +28,7 @@
 import org.hibernate.graph.GraphSemantic;
 import org.hibernate.search.documentation.testsupport.BackendConfigurations;
 import org.hibernate.search.documentation.testsupport.DocumentationSetupHelper;
+import org.hibernate.search.engine.search.query.MultiSearchResult;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.SearchResultTotal;
@@ -284,6 +288,55 @@ public void scrolling() {
 		} );
 	}
 
+	@Test
+	public void fetchAsync() {
+		// An executor in which the session can be used, e.g. one bound to the thread or event loop owning the session.
+		ExecutorService sessionExecutor = Executors.newSingleThreadExecutor();
+		try {
+			OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+				SearchSession searchSession = Search.session( entityManager );
+				// tag::fetching-async[]
+				CompletionStage<SearchResult<Book>> future = searchSession.search( Book.class )
+						.where( f -> f.matchAll() )
+						.fetchAsync( 20, sessionExecutor ); // <1>
+				// ... do something else while the query executes, without using the session ...
+				SearchResult<Book> result = future.toCompletableFuture().join(); // <2>
+				// end::fetching-async[]
+
+				assertThat( result.hits() ).extracting( Book::getId )
+						.containsExactlyInAnyOrder( BOOK1_ID, BOOK2_ID, BOOK3_ID, BOOK4_ID );
+			} );
+		}
+		finally {
+			sessionExecutor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void fetchMulti() {
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			// tag::fetching-multi[]
+			SearchQuery<Book> booksQuery = searchSession.search( Book.class ) // <1>
+					.where( f -> f.match().field( "title" ).matching( "robot" ) )
+					.toQuery();
+			SearchQuery<Manager> managersQuery = searchSession.search( Manager.class )
+					.where( f -> f.matchAll() )
+					.toQuery();
+			MultiSearchResult multiResult = searchSession.multiSearch() // <2>
+					.add( booksQuery, 20 ) // <3>
+					.add( managersQuery, 5 )
+					.fetch(); // <4>
+			SearchResult<Book> booksResult = multiResult.result( booksQuery ); // <5>
+			SearchResult<Manager> managersResult = multiResult.result( managersQuery );
+			// end::fetching-multi[]
+
+			assertThat( booksResult.hits() ).extracting( Book::getId )
+					.containsExactlyInAnyOrder( BOOK1_ID, BOOK3_ID );
+			assertThat( managersResult.total().hitCount() ).isEqualTo( 2L );
+		} );
+	}
+
 	@Test
 	public void searchQuery() {
 		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
@@ -425,6 +478,24 @@ public void fetchSize() {
 		} );
 	}
 
+	@Test
+	public void fetchParallelism() {
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+
+			// tag::fetchParallelism[]
+			SearchResult<Book> result = searchSession.search( Book.class ) // <1>
+					.where( f -> f.matchAll() )
+					.loading( o -> o.fetchSize( 50 )
+							.fetchParallelism( 4 ) ) // <2>
+					.fetch( 500 ); // <3>
+			// end::fetchParallelism[]
+
+			assertThat( result.hits() ).extracting( Book::getId )
+					.containsExactlyInAnyOrder( BOOK1_ID, BOOK2_ID, BOOK3_ID, BOOK4_ID );
+		} );
+	}
+
 	@Test
 	public void resultTotal() {
 		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.engine.backend.orchestration.spi;
 
+import org.hibernate.search.util.common.AssertionFailure;
+
 /**
  * A work ready to be submitted to a {@link BatchingExecutor},
  * and eventually processed in a batch by a {@link BatchedWorkProcessor}.
@@ -20,4 +22,30 @@
 
 	void markAsFailed(Throwable t);
 
+	/**
+	 * @return A key identifying the target of this work (typically a document),
+	 * if executing this work entirely overrides the effects of any previous work with the same key,
+	 * regardless of other works executed in between.
+	 * {@code null} if this work cannot replace previous works.
+	 * Only used when coalescing is enabled in the {@link BatchingExecutor}.
+	 */
+	default Object getCoalescingKey() {
+		return null;
+	}
+
+	/**
+	 * Marks this work as superseded by a later work with the same {@link #getCoalescingKey() coalescing key}
+	 * in the same batch.
+	 * <p>
+	 * The work will not be submitted to the processor:
+	 * instead, it should complete when the given work completes, in the same way.
+	 *
+	 * @param work The work superseding this work.
+	 * It is of the same type as this work, since it has the same coalescing key.
+	 */
+	default void markAsSupersededBy(BatchedWork<?> work) {
+		throw new AssertionFailure( "Work " + this + " cannot be superseded by " + work
+				+ ", because it does not define a coalescing key." );
+	}
+
 }
@@ -8,7 +8,10 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
@@ -26,6 +29,11 @@
  * <p>
  * Useful when works can be merged together for optimization purposes (bulking in Elasticsearch),
  * or when they should never be executed in parallel (writes to a Lucene index).
+ * <p>
+ * Optionally, works in the same batch can be coalesced:
+ * when multiple works have the same {@link BatchedWork#getCoalescingKey() coalescing key},
+ * only the last one is submitted to the processor,
+ * and the others are {@link BatchedWork#markAsSupersededBy(BatchedWork) marked as superseded} by that last one.
  */
 public final class BatchingExecutor<P extends BatchedWorkProcessor> {
 
@@ -53,10 +61,28 @@
 	public BatchingExecutor(String name,
 			P processor, int maxTasksPerBatch, boolean fair,
 			FailureHandler failureHandler) {
+		this( name, processor, maxTasksPerBatch, fair, false, failureHandler );
+	}
+
+	/**
+	 * @param name The name of the executor thread (and of this executor when reporting errors)
+	 * @param processor A task processor. May not be thread-safe.
+	 * @param maxTasksPerBatch The maximum number of tasks to process in a single batch.
+	 * Higher values mean more opportunity for the processor to optimize execution, but higher heap consumption.
+	 * @param fair if {@code true} tasks are always submitted to the
+	 * processor in FIFO order, if {@code false} tasks submitted
+	 * when the internal queue is full may be submitted out of order.
+	 * @param coalescing if {@code true}, works with the same {@link BatchedWork#getCoalescingKey() coalescing key}
+	 * in the same batch are coalesced, and only the last one is submitted to the processor.
+	 * @param failureHandler A failure handler to report failures of the background thread.
+	 */
+	public BatchingExecutor(String name,
+			P processor, int maxTasksPerBatch, boolean fair, boolean coalescing,
+			FailureHandler failureHandler) {
 		this.name = name;
 		this.failureHandler = failureHandler;
 		this.workQueue = new ArrayBlockingQueue<>( maxTasksPerBatch, fair );
-		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch );
+		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch, coalescing );
 	}
 
 	@Override
@@ -140,14 +166,16 @@ public CompletableFuture<?> completion() {
 		private final BlockingQueue<BatchedWork<? super P>> workQueue;
 		private final int maxTasksPerBatch;
 		private final List<BatchedWork<? super P>> workBuffer;
+		private final Map<Object, Integer> workIndexByCoalescingKey;
 
 		private BatchWorker(String name, P processor, BlockingQueue<BatchedWork<? super P>> workQueue,
-				int maxTasksPerBatch) {
+				int maxTasksPerBatch, boolean coalescing) {
 			this.name = name;
 			this.processor = processor;
 			this.workQueue = workQueue;
 			this.maxTasksPerBatch = maxTasksPerBatch;
 			this.workBuffer = new ArrayList<>( maxTasksPerBatch );
+			this.workIndexByCoalescingKey = coalescing ? new HashMap<>() : null;
 		}
 
 		@Override
@@ -160,8 +188,15 @@ public CompletableFuture<?> work() {
 				return completedFuture;
 			}
 
-			int workCount = workBuffer.size();
 			boolean traceEnabled = log.isTraceEnabled();
+			if ( workIndexByCoalescingKey != null ) {
+				int coalescedWorkCount = coalesce();
+				if ( traceEnabled && coalescedWorkCount > 0 ) {
+					log.tracef( "Coalesced %d works in executor '%s'", coalescedWorkCount, name );
+				}
+			}
+
+			int workCount = workBuffer.size();
 			if ( traceEnabled ) {
 				log.tracef( "Processing %d works in executor '%s'", workCount, name );
 			}
@@ -192,6 +227,42 @@ public CompletableFuture<?> work() {
 		public void complete() {
 			processor.complete();
 		}
+
+		/**
+		 * Removes from the work buffer the works superseded by a later work with the same coalescing key.
+		 * <p>
+		 * The last work for each key stays at its position in the buffer,
+		 * so works with different keys are still submitted in the order they were queued in.
+		 *
+		 * @return The number of works removed from the buffer.
+		 */
+		private int coalesce() {
+			int coalescedWorkCount = 0;
+			try {
+				for ( int i = 0; i < workBuffer.size(); i++ ) {
+					BatchedWork<? super P> work = workBuffer.get( i );
+					Object key = work.getCoalescingKey();
+					if ( key == null ) {
+						continue;
+					}
+					Integer previousIndex = workIndexByCoalescingKey.put( key, i );
+					if ( previousIndex != null ) {
+						// The previous work will complete when this one does;
+						// if this one is superseded as well, it will complete when its own successor does, and so on.
+						BatchedWork<? super P> previousWork = workBuffer.set( previousIndex, null );
+						previousWork.markAsSupersededBy( work );
+						++coalescedWorkCount;
+					}
+				}
+			}
+			finally {
+				workIndexByCoalescingKey.clear();
+			}
+			if ( coalescedWorkCount > 0 ) {
+				workBuffer.removeIf( Objects::isNull );
+			}
+			return coalescedWorkCount;
+		}
 	}
 
 	private static final class BatchScheduler implements SingletonTask.Scheduler {
@@ -395,4 +395,10 @@ BeanNotFoundException unableToResolveToClassName(@FormatWith(ClassFormatter.clas
 			+ " Otherwise, use a valid bean retrieval prefix among the following: %3$s.")
 	BeanNotFoundException invalidBeanRetrieval(String beanReference, String invalidPrefix,
 			List<String> validPrefixes, @Cause Exception e);
+
+	@Message(id = ID_OFFSET + 93, value = "Query '%1$s' was already added to this multi-search.")
+	SearchException queryAlreadyAddedToMultiSearch(Object query);
+
+	@Message(id = ID_OFFSET + 94, value = "Query '%1$s' was not added to the multi-search that produced this result.")
+	SearchException queryNotPartOfMultiSearch(Object query);
 }
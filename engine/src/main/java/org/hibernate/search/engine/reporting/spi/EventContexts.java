@@ -135,6 +135,15 @@ public String render(String param) {
 		} );
 	}
 
+	public static EventContext fromTenantId(String tenantId) {
+		return EventContext.create( new AbstractSimpleEventContextElement<String>( tenantId ) {
+			@Override
+			public String render(String param) {
+				return MESSAGES.tenant( param );
+			}
+		} );
+	}
+
 	public static EventContext fromIndexFieldAbsolutePath(String absolutePath) {
 		return EventContext.create( new AbstractSimpleEventContextElement<String>( absolutePath ) {
 			@Override
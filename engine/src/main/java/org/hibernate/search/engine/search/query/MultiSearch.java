@@ -0,0 +1,69 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.SearchTimeoutException;
+
+/**
+ * A batch of search queries to be executed together.
+ * <p>
+ * Executing multiple queries together is generally faster than executing them one after the other:
+ * backends may send all queries in a single request (Elasticsearch)
+ * or execute them in parallel against the same index snapshot (Lucene).
+ * <p>
+ * Results are retrieved by passing the query to {@link MultiSearchResult#result(SearchQuery)}.
+ */
+public interface MultiSearch {
+
+	/**
+	 * Add a query to this multi-search, without any limit.
+	 *
+	 * @param query The query to add.
+	 * @return {@code this}, for method chaining.
+	 * @throws SearchException If the query was already added to this multi-search.
+	 */
+	MultiSearch add(SearchQuery<?> query);
+
+	/**
+	 * Add a query to this multi-search, limiting to {@code limit} hits.
+	 *
+	 * @param query The query to add.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return {@code this}, for method chaining.
+	 * @throws SearchException If the query was already added to this multi-search.
+	 */
+	MultiSearch add(SearchQuery<?> query, Integer limit);
+
+	/**
+	 * Add a query to this multi-search,
+	 * skipping {@code offset} hits and limiting to {@code limit} hits.
+	 *
+	 * @param query The query to add.
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return {@code this}, for method chaining.
+	 * @throws SearchException If the query was already added to this multi-search.
+	 */
+	MultiSearch add(SearchQuery<?> query, Integer offset, Integer limit);
+
+	/**
+	 * Execute all queries added to this multi-search and return their results.
+	 *
+	 * @return The {@link MultiSearchResult}.
+	 * @throws SearchException If something goes wrong while executing one of the queries.
+	 * @throws SearchTimeoutException If a
+	 * {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#failAfter(long, TimeUnit) failure timeout was set}
+	 * on one of the queries and was reached while executing that query.
+	 * @throws RuntimeException If something goes wrong while loading entities. The exact type depends on the mapper,
+	 * e.g. HibernateException/PersistenceException for the Hibernate ORM mapper.
+	 */
+	MultiSearchResult fetch();
+
+}
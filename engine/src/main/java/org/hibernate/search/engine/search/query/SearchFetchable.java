@@ -8,10 +8,14 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.SearchTimeoutException;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 /**
  * A component allowing to fetch search results.
@@ -140,6 +144,102 @@
 	 */
 	List<H> fetchAllHits();
 
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} that will eventually
+	 * hold the {@link SearchResult}, limiting to {@code limit} hits.
+	 * <p>
+	 * The query is executed in a backend thread,
+	 * but loading of hits (e.g. entities) is handed over to {@code loadingExecutor}.
+	 * Since loading may rely on a non-thread-safe resource (e.g. an ORM session),
+	 * {@code loadingExecutor} must execute tasks in a context where that resource can be used,
+	 * for example the thread or event loop that owns the resource.
+	 * <p>
+	 * Implementations that do not support asynchronous execution
+	 * may instead execute the whole query, including loading, in {@code loadingExecutor}.
+	 *
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @param loadingExecutor The executor in which hits will be loaded.
+	 * @return A {@link CompletionStage} that will complete with the {@link SearchResult},
+	 * or exceptionally with the same exceptions as {@link #fetch(Integer)}.
+	 */
+	@Incubating
+	default CompletionStage<SearchResult<H>> fetchAsync(Integer limit, Executor loadingExecutor) {
+		return fetchAsync( null, limit, loadingExecutor );
+	}
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} that will eventually
+	 * hold the {@link SearchResult}, skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Executor)} for details about threading.
+	 *
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @param loadingExecutor The executor in which hits will be loaded.
+	 * @return A {@link CompletionStage} that will complete with the {@link SearchResult},
+	 * or exceptionally with the same exceptions as {@link #fetch(Integer, Integer)}.
+	 */
+	@Incubating
+	default CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit, Executor loadingExecutor) {
+		// Implementations should override this to execute the query in a backend thread.
+		return CompletableFuture.supplyAsync( () -> fetch( offset, limit ), loadingExecutor );
+	}
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} that will eventually
+	 * hold the hits as a {@link List}, limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Executor)} for details about threading.
+	 *
+	 * @param limit The maximum number of hits to be returned. {@code null} means no limit.
+	 * @param loadingExecutor The executor in which hits will be loaded.
+	 * @return A {@link CompletionStage} that will complete with the query hits,
+	 * or exceptionally with the same exceptions as {@link #fetchHits(Integer)}.
+	 */
+	@Incubating
+	default CompletionStage<List<H>> fetchHitsAsync(Integer limit, Executor loadingExecutor) {
+		return fetchHitsAsync( null, limit, loadingExecutor );
+	}
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} that will eventually
+	 * hold the hits as a {@link List}, skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Executor)} for details about threading.
+	 *
+	 * @param offset The number of hits to skip. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be returned. {@code null} means no limit.
+	 * @param loadingExecutor The executor in which hits will be loaded.
+	 * @return A {@link CompletionStage} that will complete with the query hits,
+	 * or exceptionally with the same exceptions as {@link #fetchHits(Integer, Integer)}.
+	 */
+	@Incubating
+	default CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit, Executor loadingExecutor) {
+		// Implementations should override this to execute the query in a backend thread.
+		return CompletableFuture.supplyAsync( () -> fetchHits( offset, limit ), loadingExecutor );
+	}
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} that will eventually
+	 * hold the total hit count.
+	 *
+	 * @return A {@link CompletionStage} that will complete with the total number of matching entities,
+	 * ignoring pagination settings,
+	 * or exceptionally with the same exceptions as {@link #fetchTotalHitCount()}.
+	 */
+	@Incubating
+	default CompletionStage<Long> fetchTotalHitCountAsync() {
+		// Implementations should override this to execute the query in a backend thread.
+		CompletableFuture<Long> future = new CompletableFuture<>();
+		try {
+			future.complete( fetchTotalHitCount() );
+		}
+		catch (RuntimeException e) {
+			future.completeExceptionally( e );
+		}
+		return future;
+	}
+
 	/**
 	 * Execute the query continuously to deliver results in small chunks through a {@link SearchScroll}.
 	 * <p>
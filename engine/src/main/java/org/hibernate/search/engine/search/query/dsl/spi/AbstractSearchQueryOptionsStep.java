@@ -9,6 +9,8 @@
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -207,6 +209,31 @@ public long fetchTotalHitCount() {
 		return toQuery().fetchTotalHitCount();
 	}
 
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer limit, Executor loadingExecutor) {
+		return toQuery().fetchAsync( limit, loadingExecutor );
+	}
+
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit, Executor loadingExecutor) {
+		return toQuery().fetchAsync( offset, limit, loadingExecutor );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer limit, Executor loadingExecutor) {
+		return toQuery().fetchHitsAsync( limit, loadingExecutor );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit, Executor loadingExecutor) {
+		return toQuery().fetchHitsAsync( offset, limit, loadingExecutor );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return toQuery().fetchTotalHitCountAsync();
+	}
+
 	@Override
 	public SearchScroll<H> scroll(int chunkSize) {
 		return toQuery().scroll( chunkSize );
@@ -9,6 +9,8 @@
 import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.search.query.SearchQuery;
@@ -53,6 +55,16 @@ public List<H> fetchHits(Integer limit) {
 		return fetchHits( null, limit );
 	}
 
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer limit, Executor loadingExecutor) {
+		return fetchAsync( null, limit, loadingExecutor );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer limit, Executor loadingExecutor) {
+		return fetchHitsAsync( null, limit, loadingExecutor );
+	}
+
 	@Override
 	public Optional<H> fetchSingleHit() {
 		// We don't need to fetch more than two elements to detect a problem
@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.List;
+
+import org.hibernate.search.engine.search.query.SearchResult;
+
+/**
+ * An executor for queries that are part of a {@link org.hibernate.search.engine.search.query.MultiSearch}.
+ * <p>
+ * Implementations are provided by backends, which are free to execute the queries
+ * in a single request, in parallel, or in any other way.
+ */
+public interface MultiSearchExecutor {
+
+	/**
+	 * Execute the given queries and return their results.
+	 * <p>
+	 * Loading of hits must happen in the calling thread.
+	 *
+	 * @param requests The queries to execute, along with their paging parameters.
+	 * All queries returned this executor from {@link SearchQueryImplementor#multiSearchExecutor()}.
+	 * @return The results, in the same order as {@code requests}.
+	 */
+	List<SearchResult<?>> fetch(List<MultiSearchRequest<?>> requests);
+
+}
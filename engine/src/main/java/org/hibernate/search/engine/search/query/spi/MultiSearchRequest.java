@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+/**
+ * A query to execute as part of a {@link org.hibernate.search.engine.search.query.MultiSearch},
+ * along with paging parameters.
+ *
+ * @param <H> The type of query hits.
+ */
+public final class MultiSearchRequest<H> {
+
+	private final SearchQueryImplementor<H> query;
+	private final Integer offset;
+	private final Integer limit;
+
+	public MultiSearchRequest(SearchQueryImplementor<H> query, Integer offset, Integer limit) {
+		this.query = query;
+		this.offset = offset;
+		this.limit = limit;
+	}
+
+	public SearchQueryImplementor<H> query() {
+		return query;
+	}
+
+	public Integer offset() {
+		return offset;
+	}
+
+	public Integer limit() {
+		return limit;
+	}
+
+}
@@ -21,4 +21,10 @@
 public interface SearchQueryImplementor<H> extends SearchQuery<H> {
 
 	void failAfter(long timeout, TimeUnit timeUnit);
+
+	/**
+	 * @return The executor to use when this query is part of a {@link org.hibernate.search.engine.search.query.MultiSearch}.
+	 * Queries returning the same executor will be passed to that executor together.
+	 */
+	MultiSearchExecutor multiSearchExecutor();
 }
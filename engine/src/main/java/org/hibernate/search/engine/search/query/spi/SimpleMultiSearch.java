@@ -0,0 +1,88 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.query.MultiSearch;
+import org.hibernate.search.engine.search.query.MultiSearchResult;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public class SimpleMultiSearch implements MultiSearch {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Map<SearchQuery<?>, MultiSearchRequest<?>> requests = new IdentityHashMap<>();
+	private final List<MultiSearchRequest<?>> orderedRequests = new ArrayList<>();
+
+	@Override
+	public MultiSearch add(SearchQuery<?> query) {
+		return add( query, null, null );
+	}
+
+	@Override
+	public MultiSearch add(SearchQuery<?> query, Integer limit) {
+		return add( query, null, limit );
+	}
+
+	@Override
+	public MultiSearch add(SearchQuery<?> query, Integer offset, Integer limit) {
+		if ( requests.containsKey( query ) ) {
+			throw log.queryAlreadyAddedToMultiSearch( query );
+		}
+		MultiSearchRequest<?> request = new MultiSearchRequest<>( (SearchQueryImplementor<?>) query, offset, limit );
+		requests.put( query, request );
+		orderedRequests.add( request );
+		return this;
+	}
+
+	@Override
+	public MultiSearchResult fetch() {
+		// Group queries by executor, so that each backend can execute its queries together
+		Map<MultiSearchExecutor, List<MultiSearchRequest<?>>> requestsByExecutor = new LinkedHashMap<>();
+		for ( MultiSearchRequest<?> request : orderedRequests ) {
+			requestsByExecutor.computeIfAbsent( request.query().multiSearchExecutor(), ignored -> new ArrayList<>() )
+					.add( request );
+		}
+
+		Map<SearchQuery<?>, SearchResult<?>> results = new IdentityHashMap<>();
+		for ( Map.Entry<MultiSearchExecutor, List<MultiSearchRequest<?>>> entry : requestsByExecutor.entrySet() ) {
+			List<MultiSearchRequest<?>> executorRequests = entry.getValue();
+			List<SearchResult<?>> executorResults = entry.getKey().fetch( executorRequests );
+			for ( int i = 0; i < executorRequests.size(); i++ ) {
+				results.put( executorRequests.get( i ).query(), executorResults.get( i ) );
+			}
+		}
+		return new Result( results );
+	}
+
+	private static class Result implements MultiSearchResult {
+		private final Map<SearchQuery<?>, SearchResult<?>> results;
+
+		private Result(Map<SearchQuery<?>, SearchResult<?>> results) {
+			this.results = results;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked") // The result was produced by the given query, so its type is correct.
+		public <H> SearchResult<H> result(SearchQuery<H> query) {
+			SearchResult<?> result = results.get( query );
+			if ( result == null ) {
+				throw log.queryNotPartOfMultiSearch( query );
+			}
+			return (SearchResult<H>) result;
+		}
+	}
+}
@@ -66,6 +66,7 @@ public class BatchingExecutorTest {
 
 	private ScheduledExecutorService executorService;
 	private BatchingExecutor<StubWorkProcessor> executor;
+	private boolean coalescing;
 
 	@Before
 	public void setup() {
@@ -315,6 +316,59 @@ public void endBatchFailure() throws InterruptedException {
 		checkPostExecution();
 	}
 
+	@Test
+	public void coalescing() throws InterruptedException {
+		createAndStartExecutor( 5, true, true );
+
+		Runnable unblockExecutorSwitch = blockExecutor();
+
+		StubWork work1Mock = workMock( 1 );
+		StubWork work2Mock = workMock( 2 );
+		StubWork work3Mock = workMock( 3 );
+		StubWork work4Mock = workMock( 4 );
+		StubWork work5Mock = workMock( 5 );
+		executor.submit( work1Mock );
+		executor.submit( work2Mock );
+		executor.submit( work3Mock );
+		executor.submit( work4Mock );
+		executor.submit( work5Mock );
+		verifyAsynchronouslyAndReset( inOrder -> {
+			// No calls expected yet
+		} );
+
+		StubCompletionListener completionListenerAfterSubmit = addPendingCompletionListener();
+
+		CompletableFuture<Object> batch1Future = CompletableFuture.completedFuture( null );
+		when( work1Mock.getCoalescingKey() ).thenReturn( "key1" );
+		// Works without a key are never coalesced, but don't prevent coalescing of other works
+		when( work2Mock.getCoalescingKey() ).thenReturn( null );
+		when( work3Mock.getCoalescingKey() ).thenReturn( "key1" );
+		when( work4Mock.getCoalescingKey() ).thenReturn( "key2" );
+		when( work5Mock.getCoalescingKey() ).thenReturn( "key1" );
+		when( processorMock.endBatch() ).thenReturn( (CompletableFuture) batch1Future );
+		unblockExecutorSwitch.run();
+		verifyAsynchronouslyAndReset( inOrder -> {
+			inOrder.verify( work1Mock ).getCoalescingKey();
+			inOrder.verify( work2Mock ).getCoalescingKey();
+			inOrder.verify( work3Mock ).getCoalescingKey();
+			inOrder.verify( work1Mock ).markAsSupersededBy( work3Mock );
+			inOrder.verify( work4Mock ).getCoalescingKey();
+			inOrder.verify( work5Mock ).getCoalescingKey();
+			inOrder.verify( work3Mock ).markAsSupersededBy( work5Mock );
+			inOrder.verify( processorMock ).beginBatch();
+			// Only the last work for each key is submitted, at its original position
+			inOrder.verify( work2Mock ).submitTo( processorMock );
+			inOrder.verify( work4Mock ).submitTo( processorMock );
+			inOrder.verify( work5Mock ).submitTo( processorMock );
+			inOrder.verify( processorMock ).endBatch();
+			// Since the queue is empty, works should be considered complete.
+			inOrder.verify( processorMock ).complete();
+			inOrder.verify( completionListenerAfterSubmit ).onComplete();
+		} );
+
+		checkPostExecution();
+	}
+
 	private void verifyAsynchronouslyAndReset(Consumer<InOrder> verify) {
 		await().untilAsserted( () -> {
 			InOrder inOrder = inOrder( mocks.toArray() );
@@ -335,6 +389,9 @@ private Runnable blockExecutor()
 		when( processorMock.endBatch() ).thenReturn( (CompletableFuture) blockingBatchFuture );
 		executor.submit( blockingWorkMock );
 		verifyAsynchronouslyAndReset( inOrder -> {
+			if ( coalescing ) {
+				inOrder.verify( blockingWorkMock ).getCoalescingKey();
+			}
 			inOrder.verify( processorMock ).beginBatch();
 			inOrder.verify( blockingWorkMock ).submitTo( processorMock );
 			inOrder.verify( processorMock ).endBatch();
@@ -345,8 +402,13 @@ private Runnable blockExecutor()
 	}
 
 	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair) {
+		createAndStartExecutor( maxTasksPerBatch, fair, false );
+	}
+
+	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair, boolean coalescing) {
+		this.coalescing = coalescing;
 		this.executor = new BatchingExecutor<>(
-				NAME, processorMock, maxTasksPerBatch, fair, failureHandlerMock
+				NAME, processorMock, maxTasksPerBatch, fair, coalescing, failureHandlerMock
 		);
 
 		// Having multiple threads should not matter:
@@ -395,6 +457,9 @@ private void checkPostExecution() throws InterruptedException {
 		when( processorMock.endBatch() ).thenReturn( (CompletableFuture) batchFuture );
 		executor.submit( workMock );
 		verifyAsynchronouslyAndReset( inOrder -> {
+			if ( coalescing ) {
+				inOrder.verify( workMock ).getCoalescingKey();
+			}
 			inOrder.verify( processorMock ).beginBatch();
 			inOrder.verify( workMock ).submitTo( processorMock );
 			inOrder.verify( processorMock ).endBatch();
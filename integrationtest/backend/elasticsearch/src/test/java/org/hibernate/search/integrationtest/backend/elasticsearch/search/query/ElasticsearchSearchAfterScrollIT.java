@@ -0,0 +1,176 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchScrollMode;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.dialect.ElasticsearchTestDialect;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test scrolling with the "search-after" scroll mode, with and without slices.
+ */
+public class ElasticsearchSearchAfterScrollIT {
+
+	private static final int DOCUMENT_COUNT = 200;
+	private static final int CHUNK_SIZE = 30;
+	private static final int SLICE_COUNT = 4;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Test
+	public void noSlice() {
+		setup( 1 );
+
+		List<String> expectedIds = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			expectedIds.add( docId( i ) );
+		}
+
+		try ( SearchScroll<DocumentReference> scroll = index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() )
+				.scroll( CHUNK_SIZE ) ) {
+			// Without slices, hits must be returned in the order defined by the query
+			assertThat( collectIds( scroll ) ).containsExactlyElementsOf( expectedIds );
+		}
+	}
+
+	@Test
+	public void slices_indexOrder() {
+		assumeTrue( "This test only makes sense if the Elasticsearch cluster supports points in time",
+				ElasticsearchTestDialect.get().supportsPointInTime() );
+
+		setup( SLICE_COUNT );
+
+		List<String> expectedIds = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			expectedIds.add( docId( i ) );
+		}
+
+		try ( SearchScroll<DocumentReference> scroll = index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.indexOrder() )
+				.scroll( CHUNK_SIZE ) ) {
+			// Slices do not preserve any order, but each hit must be returned exactly once
+			assertThat( collectIds( scroll ) ).containsExactlyInAnyOrderElementsOf( expectedIds );
+		}
+	}
+
+	@Test
+	public void slices_fieldSort() {
+		assumeTrue( "This test only makes sense if the Elasticsearch cluster supports points in time",
+				ElasticsearchTestDialect.get().supportsPointInTime() );
+
+		setup( SLICE_COUNT );
+
+		assertThatThrownBy( () -> index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() )
+				.scroll( CHUNK_SIZE ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to scroll with " + SLICE_COUNT + " slices",
+						"slicing requires the query to be sorted by index order only" );
+	}
+
+	@Test
+	public void slices_defaultSort() {
+		assumeTrue( "This test only makes sense if the Elasticsearch cluster supports points in time",
+				ElasticsearchTestDialect.get().supportsPointInTime() );
+
+		setup( SLICE_COUNT );
+
+		// The default sort is by score, which slices cannot preserve either
+		assertThatThrownBy( () -> index.query()
+				.where( f -> f.matchAll() )
+				.scroll( CHUNK_SIZE ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to scroll with " + SLICE_COUNT + " slices",
+						"slicing requires the query to be sorted by index order only" );
+	}
+
+	@Test
+	public void slices_noPointInTime() {
+		assumeTrue( "This test only makes sense if the Elasticsearch cluster does not support points in time",
+				!ElasticsearchTestDialect.get().supportsPointInTime() );
+
+		setup( SLICE_COUNT );
+
+		assertThatThrownBy( () -> index.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.indexOrder() )
+				.scroll( CHUNK_SIZE ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Unable to scroll with " + SLICE_COUNT + " slices",
+						"slicing requires the 'search-after' scroll mode" );
+	}
+
+	private void setup(int sliceCount) {
+		setupHelper.start()
+				.withBackendProperty( ElasticsearchBackendSettings.SCROLL_MODE,
+						ElasticsearchScrollMode.SEARCH_AFTER.externalRepresentation() )
+				.withBackendProperty( ElasticsearchBackendSettings.SCROLL_SLICES, sliceCount )
+				.withIndex( index )
+				.setup();
+
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						docId( i ),
+						document -> document.addValue( index.binding().integer, i )
+				) )
+				.join();
+	}
+
+	private static List<String> collectIds(SearchScroll<DocumentReference> scroll) {
+		List<String> ids = new ArrayList<>();
+		for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits();
+				chunk = scroll.next() ) {
+			assertThat( chunk.hits() ).hasSizeLessThanOrEqualTo( CHUNK_SIZE );
+			assertThat( chunk.total().hitCount() ).isEqualTo( DOCUMENT_COUNT );
+			for ( DocumentReference hit : chunk.hits() ) {
+				ids.add( hit.id() );
+			}
+		}
+		return ids;
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -10,6 +10,9 @@
 
 import java.util.function.Consumer;
 
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.types.LuceneProjectionSource;
+import org.hibernate.search.engine.backend.types.Projectable;
 import org.hibernate.search.engine.mapper.mapping.building.spi.IndexBindingContext;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
@@ -79,6 +82,45 @@ public void unknownSearchAnalyzer() {
 						.build() );
 	}
 
+	@Test
+	public void projectionSource_docValues_lossyDocValues() {
+		assertThatThrownBy(
+				() -> setup( ctx -> {
+					ctx.createTypeFactory().extension( LuceneExtension.get() ).asInstant()
+							.projectable( Projectable.YES )
+							.projectionSource( LuceneProjectionSource.DOC_VALUES )
+							.toIndexFieldType();
+				} ),
+				"Projecting from docvalues that do not hold the exact value"
+		)
+				.isInstanceOf( SearchException.class )
+				.hasMessageMatching( FailureReportUtils.buildFailureReportPattern()
+						.typeContext( index.typeName() )
+						.indexContext( index.name() )
+						.failure( "Invalid projection source 'DOC_VALUES'" )
+						.build() );
+	}
+
+	@Test
+	public void projectionSource_docValues_normalizer() {
+		assertThatThrownBy(
+				() -> setup( ctx -> {
+					ctx.createTypeFactory().extension( LuceneExtension.get() ).asString()
+							.normalizer( DefaultAnalysisDefinitions.NORMALIZER_LOWERCASE.name )
+							.projectable( Projectable.YES )
+							.projectionSource( LuceneProjectionSource.DOC_VALUES )
+							.toIndexFieldType();
+				} ),
+				"Projecting from normalized docvalues"
+		)
+				.isInstanceOf( SearchException.class )
+				.hasMessageMatching( FailureReportUtils.buildFailureReportPattern()
+						.typeContext( index.typeName() )
+						.indexContext( index.name() )
+						.failure( "Invalid projection source 'DOC_VALUES'" )
+						.build() );
+	}
+
 	private void setup(Consumer<IndexBindingContext> mappingContributor) {
 		index = StubMappedIndex.ofAdvancedNonRetrievable( mappingContributor );
 		setupHelper.start().withIndex( index ).setup();
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.integrationtest.backend.lucene.lowlevel.reader;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
 import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
 
@@ -18,6 +19,8 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.FailureReportUtils;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
 
@@ -159,6 +162,67 @@ public void ioStrategyDefault_refreshIntervalPositive_refreshStrategyForce() {
 		assertThatQuery( query ).hasTotalHitCount( 1 );
 	}
 
+	@Test
+	public void ioStrategyDefault_refreshBackground_refreshStrategyNone() {
+		setup( null, NON_ZERO_DELAY, true );
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThatQuery( query ).hasNoHits();
+
+		IndexIndexingPlan<?> plan = index.createIndexingPlan(
+				new StubBackendSessionContext(),
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.NONE // This means no refresh will take place until the next background refresh
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute().join();
+
+		// Readers should *not* be up-to-date immediately after indexing finishes
+		assertThatQuery( query ).hasNoHits();
+
+		// ... but they should be after some time
+		Awaitility.await().untilAsserted( () -> assertThatQuery( query ).hasTotalHitCount( 1 ) );
+	}
+
+	@Test
+	public void ioStrategyDefault_refreshBackground_refreshStrategyForce() {
+		setup( null, NON_ZERO_DELAY, true );
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThatQuery( query ).hasNoHits();
+
+		IndexIndexingPlan<?> plan = index.createIndexingPlan(
+				new StubBackendSessionContext(),
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.FORCE // This will force a refresh before the next background refresh
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute().join();
+
+		// Readers should be up-to-date immediately after indexing finishes
+		assertThatQuery( query ).hasTotalHitCount( 1 );
+	}
+
+	@Test
+	public void ioStrategyDefault_refreshBackground_refreshIntervalZero() {
+		assertThatThrownBy( () -> setup( null, 0, true ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageMatching( FailureReportUtils.buildFailureReportPattern()
+						.indexContext( index.name() )
+						.failure(
+								"Invalid refresh interval: background refresh requires a strictly positive refresh interval",
+								"'hibernate.search.backend.io.refresh_interval'"
+						)
+						.build()
+				);
+	}
+
 	@Test
 	public void ioStrategyDebug() {
 		setup( "debug", null );
@@ -182,10 +246,16 @@ public void ioStrategyDebug() {
 	}
 
 	private void setup(String ioStrategyName, Integer refreshIntervalMs) {
+		setup( ioStrategyName, refreshIntervalMs, null );
+	}
+
+	private void setup(String ioStrategyName, Integer refreshIntervalMs, Boolean refreshBackground) {
 		setupHelper.start()
 				.withIndex( index )
 				.withBackendProperty( LuceneIndexSettings.IO_STRATEGY, ioStrategyName )
 				.withBackendProperty( LuceneIndexSettings.IO_REFRESH_INTERVAL, refreshIntervalMs )
+				.withBackendProperty( LuceneIndexSettings.IO_REFRESH_BACKGROUND, refreshBackground )
+				.withBackendProperty( LuceneIndexSettings.IO_REFRESH_WARM_SEGMENTS, refreshBackground )
 				.withBackendProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, commitInterval )
 				.setup();
 	}
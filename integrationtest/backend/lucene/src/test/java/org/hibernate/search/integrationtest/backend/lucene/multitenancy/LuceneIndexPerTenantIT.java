@@ -0,0 +1,155 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.multitenancy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.multitenancy.MultiTenancyStrategyName;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.integrationtest.backend.lucene.testsupport.util.LuceneIndexContentUtils;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.IndexReader;
+
+/**
+ * Test the index-per-tenant multi-tenancy strategy:
+ * each tenant gets its own index, started on first use and stopped when idle.
+ */
+public class LuceneIndexPerTenantIT {
+
+	private static final String TENANT_1 = "tenant1";
+	private static final String TENANT_2 = "tenant2";
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	private final StubBackendSessionContext tenant1SessionContext = new StubBackendSessionContext( TENANT_1 );
+	private final StubBackendSessionContext tenant2SessionContext = new StubBackendSessionContext( TENANT_2 );
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.MULTI_TENANCY_STRATEGY,
+						MultiTenancyStrategyName.INDEX_PER_TENANT )
+				// Only one tenant index open at a time, to test that idle tenant indexes get stopped
+				.withBackendProperty( LuceneIndexSettings.MAX_OPEN_TENANT_INDEXES, 1 )
+				.withIndex( index )
+				.setup();
+	}
+
+	@Test
+	public void oneIndexPerTenant() throws IOException {
+		index( tenant1SessionContext, "1", "text1" );
+		index( tenant2SessionContext, "1", "text2" );
+		index( tenant2SessionContext, "2", "text3" );
+
+		assertThat( projectText( tenant1SessionContext ) ).containsExactlyInAnyOrder( "text1" );
+		assertThat( projectText( tenant2SessionContext ) ).containsExactlyInAnyOrder( "text2", "text3" );
+
+		// Each tenant has its own directory, containing only its own documents
+		assertThat( countDocuments( TENANT_1 ) ).isEqualTo( 1 );
+		assertThat( countDocuments( TENANT_2 ) ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void idleTenantIndexesAreStopped() {
+		LuceneIndexManagerImpl indexManager = index.unwrapForTests( LuceneIndexManagerImpl.class );
+
+		index( tenant1SessionContext, "1", "text1" );
+		assertThat( indexManager.getShardsForTests() ).hasSize( 1 );
+
+		index( tenant2SessionContext, "1", "text2" );
+		// The index of tenant 1 was stopped to make room for the index of tenant 2
+		assertThat( indexManager.getShardsForTests() ).hasSize( 1 );
+
+		// The index of tenant 1 is started again on demand, and its content was preserved
+		assertThat( projectText( tenant1SessionContext ) ).containsExactlyInAnyOrder( "text1" );
+		assertThat( projectText( tenant2SessionContext ) ).containsExactlyInAnyOrder( "text2" );
+		assertThat( indexManager.getShardsForTests() ).hasSize( 1 );
+	}
+
+	@Test
+	public void purge() throws IOException {
+		index( tenant1SessionContext, "1", "text1" );
+		index( tenant2SessionContext, "1", "text2" );
+
+		index.createWorkspace( tenant1SessionContext ).purge( Collections.emptySet() ).join();
+
+		assertThat( projectText( tenant1SessionContext ) ).isEmpty();
+		assertThat( projectText( tenant2SessionContext ) ).containsExactlyInAnyOrder( "text2" );
+		assertThat( countDocuments( TENANT_1 ) ).isZero();
+		assertThat( countDocuments( TENANT_2 ) ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void invalidTenantId() {
+		StubBackendSessionContext sessionContext = new StubBackendSessionContext( "../" + TENANT_1 );
+
+		assertThatThrownBy( () -> index.createIndexingPlan( sessionContext ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid tenant identifier: '../" + TENANT_1 + "'",
+						"the tenant identifier is used as a directory name" );
+	}
+
+	@Test
+	public void missingTenantId() {
+		StubBackendSessionContext sessionContext = new StubBackendSessionContext();
+
+		assertThatThrownBy( () -> index.createIndexingPlan( sessionContext ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Missing tenant identifier" );
+	}
+
+	private void index(StubBackendSessionContext sessionContext, String id, String text) {
+		IndexIndexingPlan<?> plan = index.createIndexingPlan( sessionContext );
+		plan.add( referenceProvider( id ), document -> document.addValue( index.binding().text, text ) );
+		plan.execute().join();
+	}
+
+	private List<String> projectText(StubBackendSessionContext sessionContext) {
+		return index.createScope().query( sessionContext )
+				.select( f -> f.field( "text", String.class ) )
+				.where( f -> f.matchAll() )
+				.fetchAllHits();
+	}
+
+	private int countDocuments(String tenantId) throws IOException {
+		return LuceneIndexContentUtils.readIndex(
+				setupHelper, index.name() + "/" + tenantId,
+				IndexReader::numDocs
+		);
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString().projectable( Projectable.YES ) ).toReference();
+		}
+	}
+}
@@ -0,0 +1,250 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.types.LuceneProjectionSource;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.integrationtest.backend.lucene.testsupport.util.LuceneIndexContentUtils;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.DirectoryReader;
+
+/**
+ * Test that projections on fields return the indexed values
+ * when projecting from docvalues instead of stored fields.
+ */
+public class LuceneFieldProjectionDocValuesIT {
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String EMPTY = "empty";
+
+	private static final Instant INSTANT_WITH_NANOS = Instant.parse( "2018-02-01T10:15:30.000000001Z" );
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start()
+				.withIndex( index )
+				.setup();
+
+		index.bulkIndexer()
+				.add( DOCUMENT_1, document -> {
+					document.addValue( index.binding().integer, 42 );
+					document.addValue( index.binding().keyword, "some value" );
+					document.addValue( index.binding().sortableInteger, 42 );
+					document.addValue( index.binding().storedInteger, 42 );
+					document.addValue( index.binding().localDate, LocalDate.of( 2018, 2, 1 ) );
+					document.addValue( index.binding().instant, INSTANT_WITH_NANOS );
+					document.addValue( index.binding().multiValuedInteger, 3 );
+					document.addValue( index.binding().multiValuedInteger, 1 );
+					document.addValue( index.binding().multiValuedInteger, 2 );
+					document.addValue( index.binding().multiValuedKeyword, "b" );
+					document.addValue( index.binding().multiValuedKeyword, "a" );
+					document.addValue( index.binding().multiValuedKeyword, "b" );
+					DocumentElement nested = document.addObject( index.binding().nested );
+					nested.addValue( index.binding().nestedInteger, 5 );
+					nested.addValue( index.binding().nestedKeyword, "y" );
+					nested = document.addObject( index.binding().nested );
+					nested.addValue( index.binding().nestedInteger, 7 );
+					nested.addValue( index.binding().nestedKeyword, "x" );
+				} )
+				.add( DOCUMENT_2, document -> {
+					document.addValue( index.binding().integer, -1 );
+					document.addValue( index.binding().keyword, "other value" );
+					document.addValue( index.binding().localDate, LocalDate.of( 1970, 1, 1 ) );
+				} )
+				.add( EMPTY, document -> { } )
+				.join();
+		index.createWorkspace().flush().join();
+	}
+
+	@Test
+	public void singleValued() {
+		assertThatQuery( index.query()
+				.select( f -> f.composite(
+						f.field( "integer", Integer.class ),
+						f.field( "keyword", String.class ),
+						f.field( "localDate", LocalDate.class )
+				) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "localDate" ).desc().missing().last() ) )
+				.hasHitsExactOrder(
+						Arrays.asList( 42, "some value", LocalDate.of( 2018, 2, 1 ) ),
+						Arrays.asList( -1, "other value", LocalDate.of( 1970, 1, 1 ) ),
+						Arrays.asList( null, null, null )
+				);
+	}
+
+	@Test
+	public void singleValued_defaultAndStoredFieldsSources() {
+		assertThatQuery( index.query()
+				.select( f -> f.composite(
+						f.field( "sortableInteger", Integer.class ),
+						f.field( "storedInteger", Integer.class )
+				) )
+				.where( f -> f.id().matching( DOCUMENT_1 ) ) )
+				.hasHitsAnyOrder( Arrays.asList( 42, 42 ) );
+	}
+
+	@Test
+	public void singleValued_lossyDocValues() {
+		// Docvalues of Instant fields only have millisecond precision: projections must use stored fields.
+		assertThatQuery( index.query()
+				.select( f -> f.field( "instant", Instant.class ) )
+				.where( f -> f.id().matching( DOCUMENT_1 ) ) )
+				.hasHitsAnyOrder( INSTANT_WITH_NANOS );
+	}
+
+	@Test
+	public void multiValued() {
+		// Values are not stored: projections return values in the order of docvalues.
+		assertThatQuery( index.query()
+				.select( f -> f.field( "multiValuedInteger", Integer.class ).multi() )
+				.where( f -> f.id().matching( DOCUMENT_1 ) ) )
+				.hasHitsAnyOrder( Arrays.asList( 1, 2, 3 ) );
+	}
+
+	@Test
+	public void multiValued_keyword() {
+		// Values are not stored: projections return values in the order of docvalues, without duplicates.
+		assertThatQuery( index.query()
+				.select( f -> f.field( "multiValuedKeyword", String.class ).multi() )
+				.where( f -> f.id().matching( DOCUMENT_1 ) ) )
+				.hasHitsAnyOrder( Arrays.asList( "a", "b" ) );
+	}
+
+	@Test
+	public void nested() {
+		List<List<Integer>> hits = index.query()
+				.select( f -> f.field( "nested.integer", Integer.class ).multi() )
+				.where( f -> f.id().matching( DOCUMENT_1 ) )
+				.fetchAllHits();
+		assertThat( hits ).hasSize( 1 );
+		assertThat( hits.get( 0 ) ).containsExactlyInAnyOrder( 5, 7 );
+
+		List<List<String>> keywordHits = index.query()
+				.select( f -> f.field( "nested.keyword", String.class ).multi() )
+				.where( f -> f.id().matching( DOCUMENT_1 ) )
+				.fetchAllHits();
+		assertThat( keywordHits ).hasSize( 1 );
+		assertThat( keywordHits.get( 0 ) ).containsExactlyInAnyOrder( "x", "y" );
+	}
+
+	@Test
+	public void notStored() throws IOException {
+		List<Document> documents = LuceneIndexContentUtils.readIndex( setupHelper, index.name(),
+				LuceneFieldProjectionDocValuesIT::storedDocuments );
+		assertThat( documents )
+				.allSatisfy( document -> {
+					assertThat( document.getField( "integer" ) ).isNull();
+					assertThat( document.getField( "keyword" ) ).isNull();
+					assertThat( document.getField( "localDate" ) ).isNull();
+					assertThat( document.getField( "multiValuedInteger" ) ).isNull();
+					assertThat( document.getField( "multiValuedKeyword" ) ).isNull();
+					assertThat( document.getField( "nested.integer" ) ).isNull();
+					assertThat( document.getField( "nested.keyword" ) ).isNull();
+				} )
+				.anySatisfy( document -> {
+					assertThat( document.getField( "instant" ) ).isNotNull();
+					assertThat( document.getField( "sortableInteger" ) ).isNotNull();
+					assertThat( document.getField( "storedInteger" ) ).isNotNull();
+				} );
+	}
+
+	private static List<Document> storedDocuments(DirectoryReader reader) throws IOException {
+		List<Document> documents = new ArrayList<>();
+		for ( int i = 0; i < reader.maxDoc(); i++ ) {
+			documents.add( reader.document( i ) );
+		}
+		return documents;
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<String> keyword;
+		final IndexFieldReference<LocalDate> localDate;
+		final IndexFieldReference<Instant> instant;
+		final IndexFieldReference<Integer> sortableInteger;
+		final IndexFieldReference<Integer> storedInteger;
+		final IndexFieldReference<Integer> multiValuedInteger;
+		final IndexFieldReference<String> multiValuedKeyword;
+		final IndexObjectFieldReference nested;
+		final IndexFieldReference<Integer> nestedInteger;
+		final IndexFieldReference<String> nestedKeyword;
+
+		IndexBinding(IndexSchemaElement root) {
+			// Docvalues are added for projections, even though the field is not sortable
+			integer = root.field( "integer", f -> f.extension( LuceneExtension.get() ).asInteger()
+					.projectable( Projectable.YES ).projectionSource( LuceneProjectionSource.DOC_VALUES ) )
+					.toReference();
+			keyword = root.field( "keyword", f -> f.extension( LuceneExtension.get() ).asString()
+					.projectable( Projectable.YES ).projectionSource( LuceneProjectionSource.DOC_VALUES ) )
+					.toReference();
+			localDate = root.field( "localDate", f -> f.extension( LuceneExtension.get() ).asLocalDate()
+					.sortable( Sortable.YES ).projectable( Projectable.YES )
+					.projectionSource( LuceneProjectionSource.DOC_VALUES ) )
+					.toReference();
+			instant = root.field( "instant", f -> f.asInstant()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			sortableInteger = root.field( "sortableInteger", f -> f.asInteger()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			storedInteger = root.field( "storedInteger", f -> f.extension( LuceneExtension.get() ).asInteger()
+					.sortable( Sortable.YES ).projectable( Projectable.YES )
+					.projectionSource( LuceneProjectionSource.STORED_FIELDS ) )
+					.toReference();
+			multiValuedInteger = root.field( "multiValuedInteger", f -> f.extension( LuceneExtension.get() ).asInteger()
+					.sortable( Sortable.YES ).projectable( Projectable.YES )
+					.projectionSource( LuceneProjectionSource.DOC_VALUES ) )
+					.multiValued()
+					.toReference();
+			multiValuedKeyword = root.field( "multiValuedKeyword", f -> f.extension( LuceneExtension.get() ).asString()
+					.projectable( Projectable.YES ).projectionSource( LuceneProjectionSource.DOC_VALUES ) )
+					.multiValued()
+					.toReference();
+			IndexSchemaObjectField nestedObject = root.objectField( "nested", ObjectStructure.NESTED )
+					.multiValued();
+			nested = nestedObject.toReference();
+			nestedInteger = nestedObject.field( "integer", f -> f.extension( LuceneExtension.get() ).asInteger()
+					.projectable( Projectable.YES ).projectionSource( LuceneProjectionSource.DOC_VALUES ) )
+					.toReference();
+			nestedKeyword = nestedObject.field( "keyword", f -> f.extension( LuceneExtension.get() ).asString()
+					.projectable( Projectable.YES ).projectionSource( LuceneProjectionSource.DOC_VALUES ) )
+					.toReference();
+		}
+	}
+}
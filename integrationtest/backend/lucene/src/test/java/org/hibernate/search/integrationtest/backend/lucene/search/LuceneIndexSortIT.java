@@ -0,0 +1,228 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
+import org.hibernate.search.engine.search.sort.dsl.SearchSortFactory;
+import org.hibernate.search.engine.search.sort.dsl.SortFinalStep;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappedIndex;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that index sorts are applied and allow searches to terminate early
+ * when the query sort is a prefix of the index sort.
+ */
+public class LuceneIndexSortIT {
+
+	private static final int SEGMENT_DOCUMENT_COUNT = 50;
+	private static final int DOCUMENT_COUNT = SEGMENT_DOCUMENT_COUNT * 2;
+	private static final String MISSING_DATE = "missingDate";
+	private static final LocalDate FIRST_DATE = LocalDate.of( 2000, 1, 1 );
+	private static final int PAGE_SIZE = 5;
+	private static final int TOTAL_HIT_COUNT_THRESHOLD = 10;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Test
+	public void querySortEqualToIndexSort() {
+		setupAndIndex( "publicationDate:desc,title" );
+
+		SearchResult<String> result = query( f -> f.field( "publicationDate" ).desc().then().field( "title" ) )
+				.totalHitCountThreshold( TOTAL_HIT_COUNT_THRESHOLD )
+				.fetch( PAGE_SIZE );
+
+		assertThat( result.hits() ).containsExactly( "title99", "title98", "title97", "title96", "title95" );
+		assertEarlyTerminated( result.total() );
+	}
+
+	@Test
+	public void querySortPrefixOfIndexSort() {
+		setupAndIndex( "publicationDate:desc,title" );
+
+		SearchResult<String> result = query( f -> f.field( "publicationDate" ).desc() )
+				.totalHitCountThreshold( TOTAL_HIT_COUNT_THRESHOLD )
+				.fetch( PAGE_SIZE );
+
+		assertThat( result.hits() ).containsExactly( "title99", "title98", "title97", "title96", "title95" );
+		assertEarlyTerminated( result.total() );
+	}
+
+	@Test
+	public void querySortPrefixOfIndexSort_exactTotalHitCount() {
+		setupAndIndex( "publicationDate:desc" );
+
+		SearchResult<String> result = query( f -> f.field( "publicationDate" ).desc() )
+				.fetch( PAGE_SIZE );
+
+		assertThat( result.hits() ).containsExactly( "title99", "title98", "title97", "title96", "title95" );
+		assertThat( result.total().isHitCountExact() ).isTrue();
+		assertThat( result.total().hitCount() ).isEqualTo( DOCUMENT_COUNT + 1 );
+	}
+
+	@Test
+	public void querySortPrefixOfIndexSort_missingValues() {
+		setupAndIndex( "publicationDate" );
+
+		SearchResult<String> result = query( f -> f.field( "publicationDate" ) )
+				.totalHitCountThreshold( TOTAL_HIT_COUNT_THRESHOLD )
+				.fetch( PAGE_SIZE );
+
+		assertThat( result.hits() ).containsExactly( "title00", "title01", "title02", "title03", "title04" );
+		assertEarlyTerminated( result.total() );
+
+		// Missing values are sorted last, as with query sorts
+		assertThat( query( f -> f.field( "publicationDate" ) ).fetchAll().hits() )
+				.hasSize( DOCUMENT_COUNT + 1 )
+				.last().isEqualTo( MISSING_DATE );
+	}
+
+	@Test
+	public void querySortNotPrefixOfIndexSort() {
+		setupAndIndex( "publicationDate:desc" );
+
+		// Different order
+		assertThat( query( f -> f.field( "publicationDate" ).asc() )
+				.totalHitCountThreshold( TOTAL_HIT_COUNT_THRESHOLD )
+				.fetchHits( PAGE_SIZE ) )
+				.containsExactly( "title00", "title01", "title02", "title03", "title04" );
+
+		// Different missing values
+		assertThat( query( f -> f.field( "publicationDate" ).desc().missing().first() )
+				.totalHitCountThreshold( TOTAL_HIT_COUNT_THRESHOLD )
+				.fetchHits( PAGE_SIZE ) )
+				.containsExactly( MISSING_DATE, "title99", "title98", "title97", "title96" );
+
+		// Different field
+		assertThat( query( f -> f.field( "title" ).desc() )
+				.totalHitCountThreshold( TOTAL_HIT_COUNT_THRESHOLD )
+				.fetchHits( PAGE_SIZE ) )
+				.containsExactly( "title99", "title98", "title97", "title96", "title95" );
+	}
+
+	@Test
+	public void invalid_unknownField() {
+		assertThatThrownBy( () -> setup( "unknownField" ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid index sort: unknown field 'unknownField'" );
+	}
+
+	@Test
+	public void invalid_order() {
+		assertThatThrownBy( () -> setup( "publicationDate:sideways" ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid sort order 'sideways' in index sort definition 'publicationDate:sideways'" );
+	}
+
+	@Test
+	public void invalid_multiValuedField() {
+		assertThatThrownBy( () -> setup( "tags" ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid index sort: field 'tags' cannot be used to sort the index" );
+	}
+
+	@Test
+	public void invalid_nestedDocuments() {
+		StubMappedIndex nestedIndex = StubMappedIndex.ofNonRetrievable( root -> root
+				.objectField( "nested", ObjectStructure.NESTED )
+				.toReference() );
+		assertThatThrownBy( () -> setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.INDEX_SORT, "nested" )
+				.withIndex( nestedIndex )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "index sorts cannot be used on indexes with nested documents" );
+	}
+
+	private void assertEarlyTerminated(SearchResultTotal total) {
+		assertThat( total.isHitCountLowerBound() ).isTrue();
+		assertThat( total.hitCountLowerBound() ).isBetween( (long) TOTAL_HIT_COUNT_THRESHOLD, (long) DOCUMENT_COUNT );
+	}
+
+	private SearchQueryOptionsStep<?, String, ?, ?, ?> query(
+			Function<? super SearchSortFactory, ? extends SortFinalStep> sort) {
+		return index.query()
+				.select( f -> f.field( "title", String.class ) )
+				.where( f -> f.match().field( "category" ).matching( "book" ) )
+				.sort( sort );
+	}
+
+	private void setup(String indexSort) {
+		setupHelper.start()
+				.withBackendProperty( LuceneIndexSettings.INDEX_SORT, indexSort )
+				.withIndex( index )
+				.setup();
+	}
+
+	private void setupAndIndex(String indexSort) {
+		setup( indexSort );
+
+		// Index documents in two batches, so that the index has multiple segments
+		for ( int segment = 0; segment < 2; segment++ ) {
+			int offset = segment * SEGMENT_DOCUMENT_COUNT;
+			index.bulkIndexer()
+					.add( SEGMENT_DOCUMENT_COUNT, i -> documentProvider( String.valueOf( offset + i ), document -> {
+						int documentIndex = offset + i;
+						document.addValue( index.binding().category, "book" );
+						document.addValue( index.binding().title, String.format( Locale.ROOT, "title%02d", documentIndex ) );
+						document.addValue( index.binding().publicationDate, FIRST_DATE.plusDays( documentIndex ) );
+						document.addValue( index.binding().tags, "tag" );
+					} ) )
+					.join();
+			index.createWorkspace().flush().join();
+		}
+		index.bulkIndexer()
+				.add( MISSING_DATE, document -> {
+					document.addValue( index.binding().category, "book" );
+					document.addValue( index.binding().title, MISSING_DATE );
+				} )
+				.join();
+		index.createWorkspace().refresh().join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> category;
+		final IndexFieldReference<String> title;
+		final IndexFieldReference<LocalDate> publicationDate;
+		final IndexFieldReference<String> tags;
+
+		IndexBinding(IndexSchemaElement root) {
+			category = root.field( "category", f -> f.asString() ).toReference();
+			title = root.field( "title", f -> f.asString()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			publicationDate = root.field( "publicationDate", f -> f.asLocalDate().sortable( Sortable.YES ) )
+					.toReference();
+			tags = root.field( "tags", f -> f.asString().sortable( Sortable.YES ) )
+					.multiValued()
+					.toReference();
+		}
+	}
+}
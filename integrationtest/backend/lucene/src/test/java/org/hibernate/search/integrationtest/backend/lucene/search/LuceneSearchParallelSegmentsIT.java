@@ -0,0 +1,138 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatResult;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.lucene.testsupport.util.LuceneIndexContentUtils;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+/**
+ * Test that search queries return the same results when segments are searched in parallel,
+ * i.e. that results from each index slice are correctly reduced.
+ */
+public class LuceneSearchParallelSegmentsIT {
+
+	private static final int DOCUMENT_COUNT = 1000;
+	private static final int CATEGORY_COUNT = 4;
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.SEARCH_PARALLEL_SEGMENTS, true )
+				// Create many small segments, so that the index is split into multiple slices
+				.withBackendProperty( LuceneIndexSettings.IO_WRITER_MAX_BUFFERED_DOCS, 50 )
+				.withBackendProperty( LuceneIndexSettings.IO_MERGE_FACTOR, 1000 )
+				.withIndex( index )
+				.setup();
+
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> StubMapperUtils.documentProvider(
+						String.valueOf( i ),
+						document -> {
+							document.addValue( index.binding().number, i );
+							document.addValue( index.binding().category, "category" + ( i % CATEGORY_COUNT ) );
+						} ) )
+				.join();
+		index.createWorkspace().flush().join();
+	}
+
+	@Test
+	public void multipleSlices() throws IOException {
+		// Lucene puts at most 5 segments in each slice
+		int segmentCount = LuceneIndexContentUtils.readIndex( setupHelper, index.name(),
+				reader -> reader.leaves().size() );
+		assertThat( segmentCount ).isGreaterThan( 5 );
+	}
+
+	@Test
+	public void sort_offsetAndLimit() {
+		SearchResult<Integer> result = index.query()
+				.select( f -> f.field( "number", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ).desc() )
+				.fetch( 100, 20 );
+
+		assertThatResult( result )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasHitsExactOrder( expectedNumbersDesc( DOCUMENT_COUNT - 101, 20 ) );
+	}
+
+	@Test
+	public void totalHitCount() {
+		assertThatQuery( index.query()
+				.where( f -> f.range().field( "number" ).atLeast( DOCUMENT_COUNT / 2 ) ) )
+				.hasTotalHitCount( DOCUMENT_COUNT / 2 );
+		assertThat( index.query()
+				.where( f -> f.range().field( "number" ).atLeast( DOCUMENT_COUNT / 2 ) )
+				.fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT / 2 );
+	}
+
+	@Test
+	public void aggregation() {
+		AggregationKey<Map<String, Long>> countsByCategoryKey = AggregationKey.of( "countsByCategory" );
+
+		SearchResult<?> result = index.query()
+				.where( f -> f.matchAll() )
+				.aggregation( countsByCategoryKey, f -> f.terms().field( "category", String.class ) )
+				.fetch( 0 );
+
+		assertThat( result.aggregation( countsByCategoryKey ) )
+				.hasSize( CATEGORY_COUNT )
+				.allSatisfy( (category, count) -> assertThat( count ).isEqualTo( DOCUMENT_COUNT / CATEGORY_COUNT ) );
+	}
+
+	private static List<Integer> expectedNumbersDesc(int first, int count) {
+		List<Integer> numbers = new ArrayList<>();
+		for ( int i = first; i > first - count; i-- ) {
+			numbers.add( i );
+		}
+		return numbers;
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> number;
+		final IndexFieldReference<String> category;
+
+		IndexBinding(IndexSchemaElement root) {
+			number = root.field( "number", f -> f.asInteger()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			category = root.field( "category", f -> f.asString()
+					.aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+}
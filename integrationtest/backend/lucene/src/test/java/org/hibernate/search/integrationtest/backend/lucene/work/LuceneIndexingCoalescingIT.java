@@ -0,0 +1,155 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.work;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.multitenancy.MultiTenancyStrategyName;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.integrationtest.backend.lucene.testsupport.util.LuceneIndexContentUtils;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.IndexReader;
+
+/**
+ * Test that coalescing works affecting the same document in the same batch
+ * preserves the effect of the last work.
+ */
+public class LuceneIndexingCoalescingIT {
+
+	private static final int UPDATE_COUNT = 50;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Test
+	public void lastUpdateWins() throws IOException {
+		setup( MultiTenancyStrategyName.NONE );
+		StubBackendSessionContext sessionContext = new StubBackendSessionContext();
+
+		IndexIndexingPlan<?> plan = index.createIndexingPlan( sessionContext );
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().text, "initial" ) );
+		for ( int i = 0; i < UPDATE_COUNT; i++ ) {
+			String value = "update" + i;
+			plan.addOrUpdate( referenceProvider( "1" ), document -> document.addValue( index.binding().text, value ) );
+		}
+		plan.execute().join();
+
+		assertThat( countDocuments() ).isEqualTo( 1 );
+		assertThat( projectText( sessionContext ) ).containsExactly( "update" + ( UPDATE_COUNT - 1 ) );
+	}
+
+	@Test
+	public void lastDeleteWins() throws IOException {
+		setup( MultiTenancyStrategyName.NONE );
+		StubBackendSessionContext sessionContext = new StubBackendSessionContext();
+
+		IndexIndexingPlan<?> plan = index.createIndexingPlan( sessionContext );
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().text, "initial" ) );
+		plan.execute().join();
+
+		plan = index.createIndexingPlan( sessionContext );
+		for ( int i = 0; i < UPDATE_COUNT; i++ ) {
+			String value = "update" + i;
+			plan.addOrUpdate( referenceProvider( "1" ), document -> document.addValue( index.binding().text, value ) );
+		}
+		plan.delete( referenceProvider( "1" ) );
+		plan.execute().join();
+
+		assertThat( countDocuments() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void deleteThenAdd() throws IOException {
+		setup( MultiTenancyStrategyName.NONE );
+		StubBackendSessionContext sessionContext = new StubBackendSessionContext();
+
+		IndexIndexingPlan<?> plan = index.createIndexingPlan( sessionContext );
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().text, "initial" ) );
+		plan.execute().join();
+
+		// Adds never replace previous works: the delete must still be executed.
+		plan = index.createIndexingPlan( sessionContext );
+		plan.delete( referenceProvider( "1" ) );
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().text, "added" ) );
+		plan.execute().join();
+
+		assertThat( countDocuments() ).isEqualTo( 1 );
+		assertThat( projectText( sessionContext ) ).containsExactly( "added" );
+	}
+
+	@Test
+	public void multiTenancy() throws IOException {
+		setup( MultiTenancyStrategyName.DISCRIMINATOR );
+		StubBackendSessionContext tenant1SessionContext = new StubBackendSessionContext( "tenant1" );
+		StubBackendSessionContext tenant2SessionContext = new StubBackendSessionContext( "tenant2" );
+
+		IndexIndexingPlan<?> tenant1Plan = index.createIndexingPlan( tenant1SessionContext );
+		IndexIndexingPlan<?> tenant2Plan = index.createIndexingPlan( tenant2SessionContext );
+		for ( int i = 0; i < UPDATE_COUNT; i++ ) {
+			String value = "update" + i;
+			tenant1Plan.addOrUpdate( referenceProvider( "1" ), document -> document.addValue( index.binding().text, value ) );
+			tenant2Plan.addOrUpdate( referenceProvider( "1" ), document -> document.addValue( index.binding().text, value ) );
+		}
+		tenant2Plan.delete( referenceProvider( "1" ) );
+		tenant1Plan.execute().join();
+		tenant2Plan.execute().join();
+
+		// Works for the same document identifier in different tenants are not coalesced together
+		assertThat( countDocuments() ).isEqualTo( 1 );
+		assertThat( projectText( tenant1SessionContext ) ).containsExactly( "update" + ( UPDATE_COUNT - 1 ) );
+		assertThat( projectText( tenant2SessionContext ) ).isEmpty();
+	}
+
+	private void setup(MultiTenancyStrategyName multiTenancyStrategyName) {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.MULTI_TENANCY_STRATEGY, multiTenancyStrategyName )
+				.withBackendProperty( LuceneIndexSettings.INDEXING_COALESCE_WORKS, true )
+				// A single queue, so that all works end up in the same batches
+				.withBackendProperty( LuceneIndexSettings.INDEXING_QUEUE_COUNT, 1 )
+				.withIndex( index )
+				.setup();
+	}
+
+	private int countDocuments() throws IOException {
+		return LuceneIndexContentUtils.readIndex(
+				setupHelper, index.name(),
+				IndexReader::numDocs
+		);
+	}
+
+	private List<String> projectText(StubBackendSessionContext sessionContext) {
+		return index.createScope().query( sessionContext )
+				.select( f -> f.field( "text", String.class ) )
+				.where( f -> f.matchAll() )
+				.fetchAllHits();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString().projectable( Projectable.YES ) ).toReference();
+		}
+	}
+}
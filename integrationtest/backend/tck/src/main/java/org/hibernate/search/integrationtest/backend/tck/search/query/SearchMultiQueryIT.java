@@ -0,0 +1,146 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatResult;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.Locale;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.MultiSearch;
+import org.hibernate.search.engine.search.query.MultiSearchResult;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.spi.SimpleMultiSearch;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+public class SearchMultiQueryIT {
+
+	private static final int DOCUMENT_COUNT = 100;
+	private static final int OTHER_DOCUMENT_COUNT = 10;
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+	private static final SimpleMappedIndex<IndexBinding> otherIndex =
+			SimpleMappedIndex.of( IndexBinding::new ).name( "other" );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start().withIndexes( index, otherIndex ).setup();
+
+		initData( index, DOCUMENT_COUNT );
+		initData( otherIndex, OTHER_DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void fetch() {
+		SearchQuery<Integer> first = index.query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() )
+				.toQuery();
+		SearchQuery<Integer> second = index.query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.range().field( "integer" ).atLeast( DOCUMENT_COUNT / 2 ) )
+				.sort( f -> f.field( "integer" ).desc() )
+				.toQuery();
+		SearchQuery<DocumentReference> third = otherIndex.query()
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		MultiSearchResult result = new SimpleMultiSearch()
+				.add( first, 3 )
+				.add( second, 2, 2 )
+				.add( third, 0 )
+				.fetch();
+
+		assertThatResult( result.result( first ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasHitsExactOrder( 0, 1, 2 );
+		assertThatResult( result.result( second ) )
+				.hasTotalHitCount( DOCUMENT_COUNT / 2 )
+				.hasHitsExactOrder( DOCUMENT_COUNT - 3, DOCUMENT_COUNT - 4 );
+		assertThatResult( result.result( third ) )
+				.hasTotalHitCount( OTHER_DOCUMENT_COUNT )
+				.hasNoHits();
+	}
+
+	@Test
+	public void fetch_sameResultsAsSeparateFetch() {
+		SearchQuery<DocumentReference> first = index.query()
+				.where( f -> f.range().field( "integer" ).lessThan( 10 ) )
+				.toQuery();
+		SearchQuery<DocumentReference> second = otherIndex.query()
+				.where( f -> f.range().field( "integer" ).atLeast( 5 ) )
+				.toQuery();
+
+		MultiSearchResult result = new SimpleMultiSearch()
+				.add( first )
+				.add( second )
+				.fetch();
+
+		assertThat( result.result( first ).hits() )
+				.containsExactlyInAnyOrderElementsOf( first.fetchAllHits() );
+		assertThat( result.result( second ).hits() )
+				.containsExactlyInAnyOrderElementsOf( second.fetchAllHits() );
+	}
+
+	@Test
+	public void fetch_empty() {
+		SearchQuery<DocumentReference> query = index.query().where( f -> f.matchAll() ).toQuery();
+
+		MultiSearchResult result = new SimpleMultiSearch().fetch();
+
+		assertThatThrownBy( () -> result.result( query ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "was not added to the multi-search that produced this result" );
+	}
+
+	@Test
+	public void add_alreadyAdded() {
+		SearchQuery<DocumentReference> query = index.query().where( f -> f.matchAll() ).toQuery();
+
+		MultiSearch multiSearch = new SimpleMultiSearch().add( query );
+
+		assertThatThrownBy( () -> multiSearch.add( query, 10 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "was already added to this multi-search" );
+	}
+
+	private static void initData(SimpleMappedIndex<IndexBinding> mappedIndex, int documentCount) {
+		mappedIndex.bulkIndexer()
+				.add( documentCount, i -> documentProvider(
+						String.format( Locale.ROOT, "document_%05d", i ),
+						document -> document.addValue( mappedIndex.binding().integer, i )
+				) )
+				.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -14,14 +14,20 @@
 import static org.hibernate.search.util.impl.integrationtest.common.stub.backend.StubBackendUtils.reference;
 import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
 import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
@@ -43,6 +49,12 @@ public class SearchQueryFetchIT {
 
 	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
 
+	private final AtomicInteger loadingTaskCount = new AtomicInteger();
+	private final Executor loadingExecutor = task -> {
+		loadingTaskCount.incrementAndGet();
+		task.run();
+	};
+
 	@Before
 	public void setup() {
 		setupHelper.start().withIndex( index ).setup();
@@ -258,6 +270,62 @@ public void fetchTotalHitCount() {
 		assertThat( matchFirstHalfQuery().fetchTotalHitCount() ).isEqualTo( DOCUMENT_COUNT / 2 );
 	}
 
+	@Test
+	public void fetchAsync() {
+		assertThatResult( matchAllQuerySortByField().fetchAsync( 1, 2, loadingExecutor ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 1 ), docId( 2 ) );
+
+		assertThatResult( matchFirstHalfQuery().fetchAsync( null, loadingExecutor ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT / 2 )
+				.hasDocRefHitsAnyOrder( builder -> {
+					for ( int i = 0; i < DOCUMENT_COUNT / 2; i++ ) {
+						builder.doc( index.typeName(), docId( i ) );
+					}
+				} );
+	}
+
+	@Test
+	public void fetchHitsAsync() {
+		assertThatHits( matchAllQuerySortByField().fetchHitsAsync( 1, 2, loadingExecutor ).toCompletableFuture().join() )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 1 ), docId( 2 ) );
+
+		assertThatHits( matchAllQuerySortByField().fetchHitsAsync( 1, loadingExecutor ).toCompletableFuture().join() )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 0 ) );
+	}
+
+	@Test
+	public void fetchAsync_loadingExecutor() {
+		matchAllQuerySortByField().fetchAsync( 1, 2, loadingExecutor ).toCompletableFuture().join();
+		// Loading must be handed over to the executor provided by the caller
+		assertThat( loadingTaskCount ).hasValue( 1 );
+
+		matchAllQuerySortByField().fetchHitsAsync( 1, 2, loadingExecutor ).toCompletableFuture().join();
+		assertThat( loadingTaskCount ).hasValue( 2 );
+	}
+
+	@Test
+	public void fetchTotalHitCountAsync() {
+		assertThat( matchAllQuerySortByField().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT );
+
+		assertThat( matchFirstHalfQuery().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT / 2 );
+	}
+
+	@Test
+	public void fetchAsync_concurrent() {
+		List<CompletableFuture<SearchResult<DocumentReference>>> futures = new ArrayList<>();
+		for ( int i = 0; i < 20; i++ ) {
+			futures.add( matchOneQuery( i ).fetchAsync( null, loadingExecutor ).toCompletableFuture() );
+		}
+		for ( int i = 0; i < 20; i++ ) {
+			assertThatResult( futures.get( i ).join() )
+					.hasTotalHitCount( 1 )
+					.hasDocRefHitsExactOrder( index.typeName(), docId( i ) );
+		}
+	}
+
 	@Test
 	public void fetchSingleHit() {
 		Optional<DocumentReference> result = matchOneQuery( 4 ).fetchSingleHit();
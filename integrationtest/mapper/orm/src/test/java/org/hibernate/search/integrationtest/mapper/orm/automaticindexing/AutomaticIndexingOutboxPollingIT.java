@@ -0,0 +1,269 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinSession;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinTransaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.OutboxEvent;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.awaitility.Awaitility;
+
+/**
+ * Test automatic indexing with the outbox-polling strategy:
+ * changes are recorded in an outbox table and indexed asynchronously.
+ */
+public class AutomaticIndexingOutboxPollingIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock();
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "text", String.class )
+				.objectField( "contained", b2 -> b2
+						.multiValued( true )
+						.field( "text", String.class )
+				)
+		);
+
+		sessionFactory = ormSetupHelper.start()
+				.withProperty( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_STRATEGY,
+						AutomaticIndexingStrategyName.OUTBOX_POLLING )
+				.withProperty( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_OUTBOX_POLLING_POLLING_INTERVAL, 10 )
+				.withProperty( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_OUTBOX_POLLING_MAX_ATTEMPTS, 2 )
+				.setup( IndexedEntity.class, ContainedEntity.class );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void persistUpdateDelete() {
+		backendMock.expectWorks( IndexedEntity.INDEX, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE )
+				.addOrUpdate( "1", b -> b.field( "text", "initialValue" ) )
+				.processedThenExecuted();
+		withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity( 1, "initialValue" );
+			session.persist( entity1 );
+		} );
+		awaitProcessing();
+
+		backendMock.expectWorks( IndexedEntity.INDEX, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE )
+				.addOrUpdate( "1", b -> b.field( "text", "updatedValue" ) )
+				.processedThenExecuted();
+		withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = session.get( IndexedEntity.class, 1 );
+			entity1.text = "updatedValue";
+		} );
+		awaitProcessing();
+
+		backendMock.expectWorks( IndexedEntity.INDEX, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE )
+				.delete( "1" )
+				.processedThenExecuted();
+		withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = session.get( IndexedEntity.class, 1 );
+			session.delete( entity1 );
+		} );
+		awaitProcessing();
+	}
+
+	@Test
+	public void deleteContained_owningSideOnly() {
+		backendMock.expectWorks( IndexedEntity.INDEX, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE )
+				.addOrUpdate( "1", b -> b
+						.field( "text", "initialValue" )
+						.objectField( "contained", b2 -> b2
+								.field( "text", "containedValue" )
+						)
+				)
+				.processedThenExecuted();
+		withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity( 1, "initialValue" );
+			ContainedEntity contained = new ContainedEntity( 2, "containedValue" );
+			contained.containing = entity1;
+			entity1.contained.add( contained );
+			session.persist( entity1 );
+			session.persist( contained );
+		} );
+		awaitProcessing();
+
+		// The containing entity does not change,
+		// but must be reindexed so that its document no longer includes the deleted entity.
+		backendMock.expectWorks( IndexedEntity.INDEX, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE )
+				.addOrUpdate( "1", b -> b
+						.field( "text", "initialValue" )
+				)
+				.processedThenExecuted();
+		withinTransaction( sessionFactory, session -> {
+			// Only delete the entity on the owning side of the association:
+			// the collection on the containing side is not updated.
+			ContainedEntity contained = session.get( ContainedEntity.class, 2 );
+			session.delete( contained );
+		} );
+		awaitProcessing();
+	}
+
+	@Test
+	public void indexingFailure() {
+		CompletableFuture<?> failingFuture = new CompletableFuture<>();
+		failingFuture.completeExceptionally( new SimulatedFailure( "Indexing failure" ) );
+
+		// The batch fails as a whole...
+		backendMock.expectWorks( IndexedEntity.INDEX, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE )
+				.addOrUpdate( "1", b -> b.field( "text", "failingValue" ) )
+				.addOrUpdate( "2", b -> b.field( "text", "initialValue" ) )
+				.processedThenExecuted( failingFuture );
+		// ... then entities are processed one by one, so that the failing entity does not block the others.
+		backendMock.expectWorks( IndexedEntity.INDEX, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE )
+				.addOrUpdate( "1", b -> b.field( "text", "failingValue" ) )
+				.processedThenExecuted( failingFuture );
+		backendMock.expectWorks( IndexedEntity.INDEX, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE )
+				.addOrUpdate( "2", b -> b.field( "text", "initialValue" ) )
+				.processedThenExecuted();
+		// The failing entity is retried on the next poll, until it reaches the maximum number of attempts.
+		backendMock.expectWorks( IndexedEntity.INDEX, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE )
+				.addOrUpdate( "1", b -> b.field( "text", "failingValue" ) )
+				.processedThenExecuted( failingFuture );
+		withinTransaction( sessionFactory, session -> {
+			session.persist( new IndexedEntity( 1, "failingValue" ) );
+			session.persist( new IndexedEntity( 2, "initialValue" ) );
+		} );
+
+		Awaitility.await().atMost( 5, TimeUnit.SECONDS ).untilAsserted( () -> {
+			backendMock.verifyExpectationsMet();
+			withinTransaction( sessionFactory, session -> {
+				// The failing event is abandoned, but left in the outbox table.
+				assertThat( outboxEvents( session ) )
+						.extracting( OutboxEvent::getEntityId, OutboxEvent::getAttempts )
+						.containsExactly( tuple( 1, 2 ) );
+			} );
+		} );
+
+		// Abandoned events are no longer processed: other entities can still be indexed.
+		backendMock.expectWorks( IndexedEntity.INDEX, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE )
+				.addOrUpdate( "2", b -> b.field( "text", "updatedValue" ) )
+				.processedThenExecuted();
+		withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity2 = session.get( IndexedEntity.class, 2 );
+			entity2.text = "updatedValue";
+		} );
+		Awaitility.await().atMost( 5, TimeUnit.SECONDS ).untilAsserted( () -> {
+			backendMock.verifyExpectationsMet();
+			withinTransaction( sessionFactory, session -> {
+				assertThat( outboxEvents( session ) ).hasSize( 1 );
+			} );
+		} );
+	}
+
+	@Test
+	public void rollback() {
+		withinSession( sessionFactory, session -> {
+			Transaction transaction = session.beginTransaction();
+			session.persist( new IndexedEntity( 1, "initialValue" ) );
+			session.flush();
+			// Events are recorded in the same transaction as the entity changes
+			assertThat( outboxEvents( session ) ).hasSize( 1 );
+			transaction.rollback();
+		} );
+		withinTransaction( sessionFactory, session -> {
+			assertThat( outboxEvents( session ) ).isEmpty();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	private void awaitProcessing() {
+		Awaitility.await().atMost( 5, TimeUnit.SECONDS ).untilAsserted( () -> {
+			backendMock.verifyExpectationsMet();
+			withinTransaction( sessionFactory, session -> {
+				assertThat( outboxEvents( session ) ).isEmpty();
+			} );
+		} );
+	}
+
+	private static List<OutboxEvent> outboxEvents(Session session) {
+		return session.createQuery( "select e from " + OutboxEvent.class.getName() + " e", OutboxEvent.class )
+				.getResultList();
+	}
+
+	@Entity(name = "IndexedEntity")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+		@GenericField
+		private String text;
+		@OneToMany(mappedBy = "containing")
+		@IndexedEmbedded
+		private List<ContainedEntity> contained = new ArrayList<>();
+
+		protected IndexedEntity() {
+		}
+
+		IndexedEntity(int id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+
+	@Entity(name = "ContainedEntity")
+	public static class ContainedEntity {
+		@Id
+		private Integer id;
+		@GenericField
+		private String text;
+		@ManyToOne
+		private IndexedEntity containing;
+
+		protected ContainedEntity() {
+		}
+
+		ContainedEntity(int id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+
+	private static class SimulatedFailure extends RuntimeException {
+		SimulatedFailure(String message) {
+			super( message );
+		}
+	}
+}
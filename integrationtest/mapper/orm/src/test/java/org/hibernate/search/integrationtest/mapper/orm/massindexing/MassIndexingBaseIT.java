@@ -113,6 +113,125 @@ public void defaultMassIndexerStartAndWait() throws Exception {
 		backendMock.verifyExpectationsMet();
 	}
 
+	@Test
+	public void batchesInFlightPerThread() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.session( session );
+			MassIndexer indexer = searchSession.massIndexer()
+					// Use a single thread loading one entity at a time,
+					// so that each entity is in a different batch.
+					.threadsToLoadObjects( 1 )
+					.batchSizeToLoadObjects( 1 )
+					.batchesInFlightPerThread( 2 );
+
+			backendMock.expectWorksAnyOrder(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					)
+					.processedThenExecuted();
+
+			backendMock.expectIndexScaleWorks( Book.INDEX, session.getTenantIdentifier() )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.refresh();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void batchesInFlightPerThread_invalid() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			MassIndexer indexer = Search.session( session ).massIndexer();
+			assertThatThrownBy( () -> indexer.batchesInFlightPerThread( 0 ) )
+					.isInstanceOf( IllegalArgumentException.class )
+					.hasMessageContaining( "numberOfBatches must be at least 1" );
+		} );
+	}
+
+	@Test
+	public void threadsToLoadIdentifiers() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.session( session );
+			MassIndexer indexer = searchSession.massIndexer()
+					// More threads than entities: some identifier ranges would be empty.
+					.threadsToLoadIdentifiers( 5 );
+
+			backendMock.expectWorksAnyOrder(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					)
+					.processedThenExecuted();
+
+			backendMock.expectIndexScaleWorks( Book.INDEX, session.getTenantIdentifier() )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.refresh();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void threadsToLoadIdentifiers_invalid() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			MassIndexer indexer = Search.session( session ).massIndexer();
+			assertThatThrownBy( () -> indexer.threadsToLoadIdentifiers( 0 ) )
+					.isInstanceOf( IllegalArgumentException.class )
+					.hasMessageContaining( "numberOfThreads must be at least 1" );
+		} );
+	}
+
+	@Test
+	public void resumeFromCheckpoints_noCheckpointStore() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			MassIndexer indexer = Search.session( session ).massIndexer()
+					.resumeFromCheckpoints( true );
+			assertThatThrownBy( indexer::startAndWait )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContainingAll( "Cannot resume mass indexing from checkpoints",
+							"no checkpoint store was set" );
+		} );
+	}
+
 	@Test
 	public void dropAndCreateSchemaOnStart() {
 		OrmUtils.withinSession( sessionFactory, session -> {
@@ -0,0 +1,168 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.search.loading;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.backend.StubBackendUtils.reference;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinSession;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.integrationtest.mapper.orm.search.loading.model.singletype.SingleTypeLoadingMapping;
+import org.hibernate.search.integrationtest.mapper.orm.search.loading.model.singletype.SingleTypeLoadingModel;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.util.impl.integrationtest.common.rule.StubSearchWorkBehavior;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Test parallel fetching of entities when executing a search query
+ * when only a single type is involved.
+ */
+@RunWith(Parameterized.class)
+public class SearchQueryEntityLoadingFetchParallelismIT<T> extends AbstractSearchQueryEntityLoadingSingleTypeIT<T> {
+
+	@Parameterized.Parameters(name = "{0}, {1}")
+	public static List<Object[]> params() {
+		List<Object[]> result = new ArrayList<>();
+		forAllModelMappingCombinations( (model, mapping) -> {
+			result.add( new Object[] { model, mapping } );
+		} );
+		return result;
+	}
+
+	private SessionFactory sessionFactory;
+
+	public SearchQueryEntityLoadingFetchParallelismIT(SingleTypeLoadingModel<T> model,
+			SingleTypeLoadingMapping mapping) {
+		super( model, mapping );
+	}
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( model.getIndexName() );
+
+		sessionFactory = ormSetupHelper.start()
+				.withProperty( HibernateOrmMapperSettings.QUERY_LOADING_MAX_FETCH_PARALLELISM, 3 )
+				.withConfiguration( c -> mapping.configure( c, model ) )
+				.setup();
+
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Override
+	protected SessionFactory sessionFactory() {
+		return sessionFactory;
+	}
+
+	@Test
+	public void multipleFetches() {
+		persistThatManyEntities( 100 );
+
+		withinSession( sessionFactory, session -> {
+			// 100 entities to load with a fetch size of 15 => 7 fetches, executed by 3 parallel tasks
+			List<T> loaded = search( session, 100, 15, 3 );
+
+			assertThat( loaded ).hasSize( 100 );
+			for ( int i = 0; i < loaded.size(); i++ ) {
+				T entity = loaded.get( i );
+				assertThat( entity ).isInstanceOf( model.getIndexedClass() );
+				assertThat( Hibernate.isInitialized( entity ) ).isTrue();
+				// Hits are returned in the order of document references, regardless of the order of fetches
+				assertThat( sessionFactory.getPersistenceUnitUtil().getIdentifier( entity ) ).isEqualTo( i );
+				// Entities were loaded in separate sessions
+				assertThat( session.contains( entity ) ).isFalse();
+			}
+		} );
+	}
+
+	@Test
+	public void multipleFetches_alreadyManaged() {
+		persistThatManyEntities( 100 );
+
+		withinSession( sessionFactory, session -> {
+			List<T> managed = new ArrayList<>();
+			for ( int i = 0; i < 100; i += 10 ) {
+				managed.add( session.get( model.getIndexedClass(), i ) );
+			}
+
+			List<T> loaded = search( session, 100, 15, 3 );
+
+			assertThat( loaded ).hasSize( 100 );
+			for ( int i = 0; i < loaded.size(); i++ ) {
+				T entity = loaded.get( i );
+				assertThat( sessionFactory.getPersistenceUnitUtil().getIdentifier( entity ) ).isEqualTo( i );
+				if ( i % 10 == 0 ) {
+					// Entities already managed by the session are returned as-is, preserving identity
+					assertThat( session.contains( entity ) ).isTrue();
+					assertThat( entity ).isSameAs( managed.get( i / 10 ) );
+				}
+				else {
+					assertThat( session.contains( entity ) ).isFalse();
+				}
+			}
+		} );
+	}
+
+	@Test
+	public void singleFetch() {
+		persistThatManyEntities( 10 );
+
+		withinSession( sessionFactory, session -> {
+			// 10 entities to load with a fetch size of 15 => a single fetch, executed in the current session
+			List<T> loaded = search( session, 10, 15, 3 );
+
+			assertThat( loaded ).hasSize( 10 );
+			for ( int i = 0; i < loaded.size(); i++ ) {
+				T entity = loaded.get( i );
+				assertThat( sessionFactory.getPersistenceUnitUtil().getIdentifier( entity ) ).isEqualTo( i );
+				assertThat( session.contains( entity ) ).isTrue();
+			}
+		} );
+	}
+
+	@Test
+	public void invalid_0() {
+		withinSession( sessionFactory, session -> {
+			assertThatThrownBy( () -> Search.session( session ).search( model.getIndexedClass() )
+					.where( f -> f.matchAll() )
+					.loading( o -> o.fetchParallelism( 0 ) ) )
+					.isInstanceOf( IllegalArgumentException.class )
+					.hasMessageContaining( "'fetchParallelism' must be strictly positive" );
+		} );
+	}
+
+	private List<T> search(Session session, int entityCount, int fetchSize, int fetchParallelism) {
+		List<DocumentReference> hitDocumentReferences = new ArrayList<>();
+		for ( int i = 0; i < entityCount; i++ ) {
+			hitDocumentReferences.add( reference( model.getIndexName(), mapping.getDocumentIdForEntityId( i ) ) );
+		}
+		backendMock.expectSearchObjects(
+				Collections.singletonList( model.getIndexName() ),
+				b -> { },
+				StubSearchWorkBehavior.of( entityCount, hitDocumentReferences )
+		);
+
+		List<T> loaded = Search.session( session ).search( model.getIndexedClass() )
+				.where( f -> f.matchAll() )
+				.loading( o -> o.fetchSize( fetchSize ).fetchParallelism( fetchParallelism ) )
+				.fetchAllHits();
+		backendMock.verifyExpectationsMet();
+		return loaded;
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base;
+
+import java.util.List;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.AbstractBackendHolder;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Abstract class for JMH benchmarks related to iterating over all the hits of a query,
+ * e.g. for exports.
+ * <p>
+ * Compares scrolling with fetching successive pages using an offset.
+ * To benchmark large indexes, set the {@code initialIndexSize} parameter, e.g. {@code -p initialIndexSize=5000000}.
+ */
+@Fork(1)
+@State(Scope.Thread)
+public abstract class AbstractScrollBenchmarks extends AbstractBackendBenchmarks {
+
+	@Param({ "1000" })
+	private int chunkSize;
+
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void scroll(ReadCounters counters, Blackhole blackhole) {
+		try ( SearchScroll<DocumentReference> scroll = createQuery().scroll( chunkSize ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits();
+					chunk = scroll.next() ) {
+				consume( chunk.hits(), counters, blackhole );
+			}
+		}
+	}
+
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void offsetPaging(ReadCounters counters, Blackhole blackhole) {
+		SearchQuery<DocumentReference> query = createQuery();
+		int offset = 0;
+		List<DocumentReference> hits = query.fetchHits( offset, chunkSize );
+		while ( !hits.isEmpty() ) {
+			consume( hits, counters, blackhole );
+			offset += hits.size();
+			hits = query.fetchHits( offset, chunkSize );
+		}
+	}
+
+	private SearchQuery<DocumentReference> createQuery() {
+		return getIndexPartition().getIndex().createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( MappedIndex.SHORT_TEXT_FIELD_NAME ) )
+				.toQuery();
+	}
+
+	private static void consume(List<DocumentReference> hits, ReadCounters counters, Blackhole blackhole) {
+		for ( DocumentReference hit : hits ) {
+			blackhole.consume( hit );
+		}
+		counters.read += hits.size();
+	}
+
+}
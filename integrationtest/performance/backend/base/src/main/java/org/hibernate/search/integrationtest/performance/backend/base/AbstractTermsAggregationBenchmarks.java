@@ -0,0 +1,60 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base;
+
+import java.util.Map;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.AbstractBackendHolder;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Abstract class for JMH benchmarks related to terms aggregations on text fields,
+ * executed repeatedly on the same index.
+ * <p>
+ * Terms aggregations are most costly on indexes with many segments:
+ * to benchmark such indexes, make sure to set backend properties that lead to many segments,
+ * e.g. for the Lucene backend {@code -p configuration=io.writer.max_buffered_docs=1000}.
+ */
+@Fork(1)
+@State(Scope.Thread)
+public abstract class AbstractTermsAggregationBenchmarks extends AbstractBackendBenchmarks {
+
+	private static final AggregationKey<Map<String, Long>> AGGREGATION_KEY = AggregationKey.of( "terms" );
+
+	@Param({ "10" })
+	private int maxTermCount;
+
+	@Benchmark
+	@Threads(AbstractBackendHolder.INDEX_COUNT)
+	public void textTermsAggregation(Blackhole blackhole) {
+		MappedIndex index = getIndexPartition().getIndex();
+
+		SearchResult<DocumentReference> results = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.aggregation( AGGREGATION_KEY, f -> f.terms().field( MappedIndex.SHORT_TEXT_FIELD_NAME, String.class )
+						.maxTermCount( maxTermCount ) )
+				.fetch( 0 );
+
+		blackhole.consume( results.total().hitCount() );
+		for ( Map.Entry<String, Long> entry : results.aggregation( AGGREGATION_KEY ).entrySet() ) {
+			blackhole.consume( entry.getKey() );
+			blackhole.consume( entry.getValue() );
+		}
+	}
+
+}
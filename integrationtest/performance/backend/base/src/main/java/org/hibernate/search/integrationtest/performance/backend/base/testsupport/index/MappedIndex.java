@@ -9,6 +9,7 @@
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
 import org.hibernate.search.engine.backend.types.Sortable;
 import org.hibernate.search.engine.mapper.mapping.building.spi.IndexedEntityBindingContext;
 import org.hibernate.search.integrationtest.performance.backend.base.testsupport.analysis.Analyzers;
@@ -37,7 +38,8 @@ protected void bind(IndexedEntityBindingContext context) {
 		IndexSchemaElement root = context.schemaElement();
 		shortTextField = root.field(
 				SHORT_TEXT_FIELD_NAME,
-				f -> f.asString().normalizer( Analyzers.NORMALIZER_ENGLISH ).sortable( Sortable.YES )
+				f -> f.asString().normalizer( Analyzers.NORMALIZER_ENGLISH )
+						.sortable( Sortable.YES ).aggregable( Aggregable.YES )
 		)
 				.toReference();
 		longTextField = root.field( LONG_TEXT_FIELD_NAME, f -> f.asString().analyzer( Analyzers.ANALYZER_ENGLISH ) )
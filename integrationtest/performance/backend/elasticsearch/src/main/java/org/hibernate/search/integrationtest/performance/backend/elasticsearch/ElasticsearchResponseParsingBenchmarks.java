@@ -0,0 +1,119 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.elasticsearch;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.BulkResponseParser;
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+
+/**
+ * Benchmarks for the parsing of large Elasticsearch responses.
+ * <p>
+ * Only bulk responses are parsed in a streaming fashion;
+ * search responses are always parsed into a full JSON tree,
+ * and are only benchmarked here to compare allocations with bulk responses of the same size.
+ * <p>
+ * Does not require an Elasticsearch cluster: responses are generated in memory.
+ * Mostly useful to compare allocation rates; run with the GC profiler:
+ * {@code java -jar benchmarks.jar ElasticsearchResponseParsingBenchmarks -prof gc}.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+public class ElasticsearchResponseParsingBenchmarks {
+
+	@Param({ "10000" })
+	private int responseSize;
+
+	private Gson gson;
+	private BulkResponseParser bulkResponseParser;
+
+	private byte[] bulkResponse;
+	private byte[] searchResponse;
+
+	@Setup
+	public void setup() {
+		gson = GsonProvider.create( GsonBuilder::new, false ).getGson();
+		bulkResponseParser = new BulkResponseParser( gson );
+		bulkResponse = createBulkResponse( responseSize ).getBytes( StandardCharsets.UTF_8 );
+		searchResponse = createSearchResponse( responseSize ).getBytes( StandardCharsets.UTF_8 );
+	}
+
+	@Benchmark
+	public void bulkResponse_tree(Blackhole blackhole) throws IOException {
+		try ( Reader reader = reader( bulkResponse ) ) {
+			blackhole.consume( gson.fromJson( reader, JsonObject.class ) );
+		}
+	}
+
+	@Benchmark
+	public void bulkResponse_streaming(Blackhole blackhole) throws IOException {
+		try ( Reader reader = reader( bulkResponse ) ) {
+			blackhole.consume( bulkResponseParser.parse( reader ) );
+		}
+	}
+
+	@Benchmark
+	public void searchResponse_tree(Blackhole blackhole) throws IOException {
+		try ( Reader reader = reader( searchResponse ) ) {
+			blackhole.consume( gson.fromJson( reader, JsonObject.class ) );
+		}
+	}
+
+	private static Reader reader(byte[] bytes) {
+		return new InputStreamReader( new ByteArrayInputStream( bytes ), StandardCharsets.UTF_8 );
+	}
+
+	private static String createBulkResponse(int itemCount) {
+		StringBuilder builder = new StringBuilder( "{\"took\":120,\"errors\":false,\"items\":[" );
+		for ( int i = 0; i < itemCount; i++ ) {
+			if ( i > 0 ) {
+				builder.append( ',' );
+			}
+			builder.append( "{\"index\":{\"_index\":\"myindex-000001\",\"_type\":\"_doc\",\"_id\":\"" ).append( i )
+					.append( "\",\"_version\":1,\"result\":\"created\"," )
+					.append( "\"_shards\":{\"total\":2,\"successful\":1,\"failed\":0}," )
+					.append( "\"_seq_no\":" ).append( i ).append( ",\"_primary_term\":1,\"status\":201}}" );
+		}
+		return builder.append( "]}" ).toString();
+	}
+
+	private static String createSearchResponse(int hitCount) {
+		StringBuilder builder = new StringBuilder( "{\"took\":12,\"timed_out\":false," )
+				.append( "\"_shards\":{\"total\":1,\"successful\":1,\"skipped\":0,\"failed\":0}," )
+				.append( "\"hits\":{\"total\":{\"value\":" ).append( hitCount )
+				.append( ",\"relation\":\"eq\"},\"max_score\":1.0,\"hits\":[" );
+		for ( int i = 0; i < hitCount; i++ ) {
+			if ( i > 0 ) {
+				builder.append( ',' );
+			}
+			builder.append( "{\"_index\":\"myindex-000001\",\"_type\":\"_doc\",\"_id\":\"" ).append( i )
+					.append( "\",\"_score\":1.0,\"_source\":{\"shortText\":\"Some short text " ).append( i )
+					.append( "\",\"longText\":\"Some longer text that would typically be found in a document " )
+					.append( "and that spans multiple sentences. It includes the number " ).append( i )
+					.append( ".\",\"numeric\":" ).append( i ).append( "}}" );
+		}
+		return builder.append( "]}}" ).toString();
+	}
+
+}
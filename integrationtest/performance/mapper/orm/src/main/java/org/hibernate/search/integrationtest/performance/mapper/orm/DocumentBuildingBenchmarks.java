@@ -0,0 +1,148 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.orm;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.cfg.BackendSettings;
+import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.integrationtest.performance.mapper.orm.model.WideEntity;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.schema.management.SchemaManagementStrategyName;
+import org.hibernate.search.mapper.orm.work.SearchIndexingPlan;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.SimpleSessionFactoryBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for the building of documents from a wide entity with multiple levels of {@code @IndexedEmbedded},
+ * which involves reading many properties.
+ * <p>
+ * Compares the available strategies for reading the value of properties,
+ * see {@link HibernateOrmMapperSettings#MAPPING_PROPERTY_READ_STRATEGY}.
+ * <p>
+ * Only documents are built: they are never sent to the index.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DocumentBuildingBenchmarks {
+
+	@Param({ "method-handle", "lambda-metafactory" })
+	private String propertyReadStrategy;
+
+	@Param({ "100" })
+	private int entityCountPerSession;
+
+	private SessionFactory sessionFactory;
+
+	private List<WideEntity> entities;
+
+	@Setup(Level.Trial)
+	public void setupTrial() {
+		sessionFactory = new SimpleSessionFactoryBuilder()
+				.setProperty( AvailableSettings.DRIVER, "org.h2.Driver" )
+				.setProperty( AvailableSettings.URL, "jdbc:h2:mem:document_building;DB_CLOSE_DELAY=-1" )
+				.setProperty( AvailableSettings.USER, "sa" )
+				.setProperty( AvailableSettings.PASS, "" )
+				// Entities are never persisted: the database is not used.
+				.setProperty( AvailableSettings.HBM2DDL_AUTO, "none" )
+				.setProperty( EngineSettings.BACKEND + "." + BackendSettings.TYPE, LuceneBackendSettings.TYPE_NAME )
+				.setProperty( EngineSettings.BACKEND + "." + LuceneIndexSettings.DIRECTORY_TYPE, "local-heap" )
+				.setProperty( HibernateOrmMapperSettings.SCHEMA_MANAGEMENT_STRATEGY,
+						SchemaManagementStrategyName.NONE )
+				.setProperty( HibernateOrmMapperSettings.MAPPING_PROPERTY_READ_STRATEGY, propertyReadStrategy )
+				.addAnnotatedClass( WideEntity.class )
+				.build();
+
+		entities = new ArrayList<>( entityCountPerSession );
+		int id = 0;
+		for ( int i = 0; i < entityCountPerSession; i++ ) {
+			WideEntity parent = null;
+			// Create one more level than the embedding depth, so that the deepest level is not embedded
+			for ( int level = 0; level <= WideEntity.EMBEDDING_DEPTH + 1; level++ ) {
+				WideEntity entity = createEntity( id++ );
+				if ( parent == null ) {
+					entities.add( entity );
+				}
+				else {
+					parent.setChild( entity );
+				}
+				parent = entity;
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDownTrial() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+	}
+
+	@Benchmark
+	public void buildDocuments() {
+		try ( Session session = sessionFactory.openSession() ) {
+			SearchIndexingPlan indexingPlan = Search.session( session ).indexingPlan();
+			for ( WideEntity entity : entities ) {
+				indexingPlan.addOrUpdate( entity );
+			}
+			// Builds the documents, but does not send them to the index.
+			indexingPlan.process();
+		}
+	}
+
+	private static WideEntity createEntity(int id) {
+		WideEntity entity = new WideEntity();
+		entity.setId( id );
+		entity.setText0( "Text 0 of entity " + id );
+		entity.setText1( "Text 1 of entity " + id );
+		entity.setText2( "Text 2 of entity " + id );
+		entity.setText3( "Text 3 of entity " + id );
+		entity.setText4( "Text 4 of entity " + id );
+		entity.setText5( "Text 5 of entity " + id );
+		entity.setText6( "Text 6 of entity " + id );
+		entity.setText7( "Text 7 of entity " + id );
+		entity.setText8( "Text 8 of entity " + id );
+		entity.setText9( "Text 9 of entity " + id );
+		entity.setNumber0( id * 10 + 0 );
+		entity.setNumber1( id * 10 + 1 );
+		entity.setNumber2( id * 10 + 2 );
+		entity.setNumber3( id * 10 + 3 );
+		entity.setNumber4( id * 10 + 4 );
+		entity.setNumber5( id * 10 + 5 );
+		entity.setNumber6( id * 10 + 6 );
+		entity.setNumber7( id * 10 + 7 );
+		entity.setNumber8( id * 10 + 8 );
+		entity.setNumber9( id * 10 + 9 );
+		return entity;
+	}
+
+}
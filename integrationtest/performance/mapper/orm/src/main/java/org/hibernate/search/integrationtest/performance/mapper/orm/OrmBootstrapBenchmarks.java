@@ -0,0 +1,87 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.orm;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.cfg.BackendSettings;
+import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.integrationtest.performance.mapper.orm.testsupport.GeneratedModel;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.schema.management.SchemaManagementStrategyName;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.SimpleSessionFactoryBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for the bootstrap of a Hibernate ORM session factory with Hibernate Search,
+ * for a domain model with many entity types, most of which are not indexed.
+ * <p>
+ * Compares the reflective inspection of all entity types
+ * with the use of a pre-built Jandex index to skip types without any mapping annotation.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrmBootstrapBenchmarks {
+
+	@Param({ "500" })
+	private int entityTypeCount;
+
+	@Param({ "30" })
+	private int propertyCountPerType;
+
+	@Param({ "false", "true" })
+	private boolean jandexIndex;
+
+	private GeneratedModel model;
+
+	@Setup(Level.Trial)
+	public void setupTrial() {
+		model = GeneratedModel.create( entityTypeCount, propertyCountPerType );
+	}
+
+	@Benchmark
+	public void bootstrap(Blackhole blackhole) {
+		SimpleSessionFactoryBuilder builder = new SimpleSessionFactoryBuilder()
+				.setProperty( AvailableSettings.DRIVER, "org.h2.Driver" )
+				.setProperty( AvailableSettings.URL, "jdbc:h2:mem:bootstrap;DB_CLOSE_DELAY=-1" )
+				.setProperty( AvailableSettings.USER, "sa" )
+				.setProperty( AvailableSettings.PASS, "" )
+				// Only measure the bootstrap of mappings, not the creation of the database schema.
+				.setProperty( AvailableSettings.HBM2DDL_AUTO, "none" )
+				.setProperty( EngineSettings.BACKEND + "." + BackendSettings.TYPE, LuceneBackendSettings.TYPE_NAME )
+				.setProperty( EngineSettings.BACKEND + "." + LuceneIndexSettings.DIRECTORY_TYPE, "local-heap" )
+				.setProperty( HibernateOrmMapperSettings.SCHEMA_MANAGEMENT_STRATEGY,
+						SchemaManagementStrategyName.NONE )
+				.addAnnotatedClasses( model.entityTypes() );
+		if ( jandexIndex ) {
+			builder.setProperty( HibernateOrmMapperSettings.MAPPING_JANDEX_INDEXES,
+					Collections.singletonList( model.jandexIndex() ) );
+		}
+		try ( SessionFactory sessionFactory = builder.build() ) {
+			blackhole.consume( sessionFactory );
+		}
+	}
+
+}
@@ -0,0 +1,256 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.orm.model;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+
+import org.hibernate.search.mapper.pojo.automaticindexing.ReindexOnUpdate;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexingDependency;
+
+/**
+ * A wide entity, embedding other instances of itself on multiple levels.
+ * <p>
+ * Mapping annotations are on getters, so that Hibernate ORM uses property access
+ * and Hibernate Search reads properties through getters.
+ */
+@Entity(name = WideEntity.NAME)
+@Indexed(index = WideEntity.NAME)
+public class WideEntity {
+
+	public static final String NAME = "WideEntity";
+
+	public static final int EMBEDDING_DEPTH = 4;
+
+	private Integer id;
+	private String text0;
+	private String text1;
+	private String text2;
+	private String text3;
+	private String text4;
+	private String text5;
+	private String text6;
+	private String text7;
+	private String text8;
+	private String text9;
+	private Integer number0;
+	private Integer number1;
+	private Integer number2;
+	private Integer number3;
+	private Integer number4;
+	private Integer number5;
+	private Integer number6;
+	private Integer number7;
+	private Integer number8;
+	private Integer number9;
+	private WideEntity child;
+
+	@Id
+	public Integer getId() {
+		return id;
+	}
+
+	public void setId(Integer id) {
+		this.id = id;
+	}
+
+	@FullTextField
+	public String getText0() {
+		return text0;
+	}
+
+	public void setText0(String text0) {
+		this.text0 = text0;
+	}
+
+	@FullTextField
+	public String getText1() {
+		return text1;
+	}
+
+	public void setText1(String text1) {
+		this.text1 = text1;
+	}
+
+	@FullTextField
+	public String getText2() {
+		return text2;
+	}
+
+	public void setText2(String text2) {
+		this.text2 = text2;
+	}
+
+	@FullTextField
+	public String getText3() {
+		return text3;
+	}
+
+	public void setText3(String text3) {
+		this.text3 = text3;
+	}
+
+	@FullTextField
+	public String getText4() {
+		return text4;
+	}
+
+	public void setText4(String text4) {
+		this.text4 = text4;
+	}
+
+	@FullTextField
+	public String getText5() {
+		return text5;
+	}
+
+	public void setText5(String text5) {
+		this.text5 = text5;
+	}
+
+	@FullTextField
+	public String getText6() {
+		return text6;
+	}
+
+	public void setText6(String text6) {
+		this.text6 = text6;
+	}
+
+	@FullTextField
+	public String getText7() {
+		return text7;
+	}
+
+	public void setText7(String text7) {
+		this.text7 = text7;
+	}
+
+	@FullTextField
+	public String getText8() {
+		return text8;
+	}
+
+	public void setText8(String text8) {
+		this.text8 = text8;
+	}
+
+	@FullTextField
+	public String getText9() {
+		return text9;
+	}
+
+	public void setText9(String text9) {
+		this.text9 = text9;
+	}
+
+	@GenericField
+	public Integer getNumber0() {
+		return number0;
+	}
+
+	public void setNumber0(Integer number0) {
+		this.number0 = number0;
+	}
+
+	@GenericField
+	public Integer getNumber1() {
+		return number1;
+	}
+
+	public void setNumber1(Integer number1) {
+		this.number1 = number1;
+	}
+
+	@GenericField
+	public Integer getNumber2() {
+		return number2;
+	}
+
+	public void setNumber2(Integer number2) {
+		this.number2 = number2;
+	}
+
+	@GenericField
+	public Integer getNumber3() {
+		return number3;
+	}
+
+	public void setNumber3(Integer number3) {
+		this.number3 = number3;
+	}
+
+	@GenericField
+	public Integer getNumber4() {
+		return number4;
+	}
+
+	public void setNumber4(Integer number4) {
+		this.number4 = number4;
+	}
+
+	@GenericField
+	public Integer getNumber5() {
+		return number5;
+	}
+
+	public void setNumber5(Integer number5) {
+		this.number5 = number5;
+	}
+
+	@GenericField
+	public Integer getNumber6() {
+		return number6;
+	}
+
+	public void setNumber6(Integer number6) {
+		this.number6 = number6;
+	}
+
+	@GenericField
+	public Integer getNumber7() {
+		return number7;
+	}
+
+	public void setNumber7(Integer number7) {
+		this.number7 = number7;
+	}
+
+	@GenericField
+	public Integer getNumber8() {
+		return number8;
+	}
+
+	public void setNumber8(Integer number8) {
+		this.number8 = number8;
+	}
+
+	@GenericField
+	public Integer getNumber9() {
+		return number9;
+	}
+
+	public void setNumber9(Integer number9) {
+		this.number9 = number9;
+	}
+
+	@ManyToOne
+	@IndexedEmbedded(includeDepth = EMBEDDING_DEPTH)
+	@IndexingDependency(reindexOnUpdate = ReindexOnUpdate.SHALLOW)
+	public WideEntity getChild() {
+		return child;
+	}
+
+	public void setChild(WideEntity child) {
+		this.child = child;
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.orm.testsupport;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+
+/**
+ * A domain model with an arbitrary number of entity types, generated at runtime,
+ * along with the corresponding Jandex index.
+ * <p>
+ * Only one entity type out of {@value #INDEXED_TYPE_RATIO} is indexed,
+ * so that most entity types do not carry any Hibernate Search annotation,
+ * as is common in large domain models.
+ */
+public final class GeneratedModel {
+
+	public static final int INDEXED_TYPE_RATIO = 10;
+
+	public static GeneratedModel create(int entityTypeCount, int propertyCountPerType) {
+		List<DynamicType.Unloaded<Object>> unloadedTypes = new ArrayList<>( entityTypeCount );
+		Indexer indexer = new Indexer();
+		for ( int i = 0; i < entityTypeCount; i++ ) {
+			boolean indexed = i % INDEXED_TYPE_RATIO == 0;
+			DynamicType.Unloaded<Object> unloaded = generateEntityType( i, propertyCountPerType, indexed );
+			try {
+				indexer.index( new ByteArrayInputStream( unloaded.getBytes() ) );
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException( e );
+			}
+			unloadedTypes.add( unloaded );
+		}
+		// Load all types in the same class loader
+		DynamicType.Loaded<Object> loaded = unloadedTypes.get( 0 )
+				.include( unloadedTypes.subList( 1, unloadedTypes.size() ) )
+				.load( GeneratedModel.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER );
+		Map<TypeDescription, Class<?>> includedTypes = loaded.getLoadedAuxiliaryTypes();
+		List<Class<?>> entityTypes = new ArrayList<>( entityTypeCount );
+		entityTypes.add( loaded.getLoaded() );
+		for ( DynamicType.Unloaded<Object> unloaded : unloadedTypes.subList( 1, unloadedTypes.size() ) ) {
+			entityTypes.add( includedTypes.get( unloaded.getTypeDescription() ) );
+		}
+		return new GeneratedModel( entityTypes, indexer.complete() );
+	}
+
+	private static DynamicType.Unloaded<Object> generateEntityType(int typeIndex, int propertyCount,
+			boolean indexed) {
+		String entityName = "Entity" + typeIndex;
+		DynamicType.Builder<Object> builder = new ByteBuddy()
+				.subclass( Object.class )
+				.name( GeneratedModel.class.getPackage().getName() + ".generated." + entityName )
+				.annotateType( AnnotationDescription.Builder.ofType( Entity.class )
+						.define( "name", entityName )
+						.build() );
+		if ( indexed ) {
+			builder = builder.annotateType( AnnotationDescription.Builder.ofType( Indexed.class ).build() );
+		}
+		builder = builder.defineField( "id", Long.class, Visibility.PRIVATE )
+				.annotateField( AnnotationDescription.Builder.ofType( Id.class ).build() );
+		for ( int i = 0; i < propertyCount; i++ ) {
+			DynamicType.Builder.FieldDefinition.Optional.Valuable<Object> field =
+					builder.defineField( "property" + i, String.class, Visibility.PRIVATE );
+			builder = indexed
+					? field.annotateField( AnnotationDescription.Builder.ofType( FullTextField.class ).build() )
+					: field;
+		}
+		return builder.make();
+	}
+
+	private final List<Class<?>> entityTypes;
+	private final Index jandexIndex;
+
+	private GeneratedModel(List<Class<?>> entityTypes, Index jandexIndex) {
+		this.entityTypes = entityTypes;
+		this.jandexIndex = jandexIndex;
+	}
+
+	public List<Class<?>> entityTypes() {
+		return entityTypes;
+	}
+
+	public Index jandexIndex() {
+		return jandexIndex;
+	}
+}
@@ -9,6 +9,7 @@
 import java.util.Collection;
 import java.util.Collections;
 
+import org.hibernate.search.engine.search.query.MultiSearch;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
 import org.hibernate.search.mapper.javabean.common.EntityReference;
 import org.hibernate.search.mapper.javabean.scope.SearchScope;
@@ -62,6 +63,16 @@ public interface SearchSession extends AutoCloseable {
 	 */
 	<T> SearchQuerySelectStep<?, EntityReference, ?, ?, ?, ?> search(SearchScope<T> scope);
 
+	/**
+	 * Create a {@link MultiSearch}, to execute multiple search queries together.
+	 * <p>
+	 * Queries are created as usual, e.g. through {@link #search(Class)} and {@code toQuery()},
+	 * then added to the multi-search.
+	 *
+	 * @return A new, empty {@link MultiSearch}.
+	 */
+	MultiSearch multiSearch();
+
 	/**
 	 * Create a {@link SearchScope} limited to the given type.
 	 *
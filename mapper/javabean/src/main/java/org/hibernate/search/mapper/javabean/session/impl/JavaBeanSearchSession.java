@@ -13,7 +13,9 @@
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.search.query.MultiSearch;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
+import org.hibernate.search.engine.search.query.spi.SimpleMultiSearch;
 import org.hibernate.search.engine.backend.common.spi.DocumentReferenceConverter;
 import org.hibernate.search.mapper.javabean.common.EntityReference;
 import org.hibernate.search.mapper.javabean.loading.LoadingOptions;
@@ -89,6 +91,11 @@ public PojoRuntimeIntrospector runtimeIntrospector() {
 		return search( (SearchScopeImpl<T>) scope );
 	}
 
+	@Override
+	public MultiSearch multiSearch() {
+		return new SimpleMultiSearch();
+	}
+
 	@Override
 	public <T> SearchScopeImpl<T> scope(Collection<? extends Class<? extends T>> types) {
 		return mappingContext.createScope( types );
@@ -30,7 +30,20 @@ public enum AutomaticIndexingStrategyName {
 	 * Indexing is triggered automatically when entities are modified in the Hibernate ORM session:
 	 * entity insertion, update etc.
 	 */
-	SESSION("session");
+	SESSION("session"),
+
+	/**
+	 * Indexing is triggered automatically when entities are modified in the Hibernate ORM session,
+	 * but asynchronously:
+	 * the type and identifier of modified entities are stored in an outbox table,
+	 * in the same transaction as the changes to the entities themselves,
+	 * and a background processor later polls that table, loads the entities and reindexes them.
+	 * <p>
+	 * This decouples transaction commits from indexing, and ensures that changes are indexed
+	 * even if the application crashes right after a transaction is committed,
+	 * at the cost of a delay between the commit and the changes becoming visible in the indexes.
+	 */
+	OUTBOX_POLLING("outbox-polling");
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -0,0 +1,85 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.hibernate.boot.jaxb.Origin;
+import org.hibernate.boot.jaxb.SourceType;
+import org.hibernate.boot.jaxb.hbm.spi.JaxbHbmHibernateMapping;
+import org.hibernate.boot.jaxb.internal.MappingBinder;
+import org.hibernate.boot.jaxb.spi.Binding;
+import org.hibernate.boot.model.source.internal.hbm.MappingDocument;
+import org.hibernate.boot.spi.MetadataBuildingContext;
+import org.hibernate.boot.spi.MetadataImplementor;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+
+import org.jboss.jandex.IndexView;
+
+/**
+ * Adds the mapping of {@link OutboxEvent} to the Hibernate ORM metadata
+ * when the automatic indexing strategy is {@link AutomaticIndexingStrategyName#OUTBOX_POLLING outbox-polling}.
+ */
+@SuppressWarnings("deprecation") // There is no alternative in Hibernate ORM 5.4
+public class OutboxAdditionalJaxbMappingProducer
+		implements org.hibernate.boot.spi.AdditionalJaxbMappingProducer {
+
+	private static final ConfigurationProperty<Boolean> ENABLED =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.ENABLED )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperSettings.Defaults.ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<AutomaticIndexingStrategyName> AUTOMATIC_INDEXING_STRATEGY =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.AUTOMATIC_INDEXING_STRATEGY )
+					.as( AutomaticIndexingStrategyName.class, AutomaticIndexingStrategyName::of )
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_STRATEGY )
+					.build();
+
+	public static final String TABLE_NAME = "HSEARCH_OUTBOX_EVENT";
+
+	private static final String MAPPING = "<?xml version=\"1.0\"?>\n"
+			+ "<hibernate-mapping xmlns=\"http://www.hibernate.org/xsd/orm/hbm\" default-access=\"field\">\n"
+			+ "    <class name=\"" + OutboxEvent.class.getName() + "\" table=\"" + TABLE_NAME + "\">\n"
+			+ "        <id name=\"id\" type=\"long\">\n"
+			+ "            <generator class=\"org.hibernate.id.enhanced.SequenceStyleGenerator\">\n"
+			+ "                <param name=\"sequence_name\">" + TABLE_NAME + "_SEQ</param>\n"
+			+ "                <param name=\"increment_size\">50</param>\n"
+			+ "            </generator>\n"
+			+ "        </id>\n"
+			+ "        <property name=\"entityName\" type=\"string\" length=\"256\" not-null=\"true\"/>\n"
+			+ "        <property name=\"entityId\" type=\"serializable\" length=\"8192\" not-null=\"true\"/>\n"
+			+ "        <property name=\"attempts\" type=\"integer\" not-null=\"true\"/>\n"
+			+ "    </class>\n"
+			+ "</hibernate-mapping>\n";
+
+	@Override
+	public Collection<MappingDocument> produceAdditionalMappings(MetadataImplementor metadata,
+			IndexView jandexIndex, MappingBinder mappingBinder, MetadataBuildingContext buildingContext) {
+		ConfigurationPropertySource propertySource = ConfigurationPropertySource.fromMap(
+				buildingContext.getBootstrapContext().getServiceRegistry()
+						.getService( ConfigurationService.class ).getSettings()
+		);
+		if ( !ENABLED.get( propertySource )
+				|| !AutomaticIndexingStrategyName.OUTBOX_POLLING.equals( AUTOMATIC_INDEXING_STRATEGY.get( propertySource ) ) ) {
+			return Collections.emptyList();
+		}
+
+		Origin origin = new Origin( SourceType.OTHER, "search" );
+		ByteArrayInputStream stream = new ByteArrayInputStream( MAPPING.getBytes( StandardCharsets.UTF_8 ) );
+		Binding<?> binding = mappingBinder.bind( stream, origin );
+		JaxbHbmHibernateMapping root = (JaxbHbmHibernateMapping) binding.getRoot();
+		return Collections.singletonList( new MappingDocument( root, origin, buildingContext ) );
+	}
+}
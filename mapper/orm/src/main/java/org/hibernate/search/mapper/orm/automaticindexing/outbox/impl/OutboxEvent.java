@@ -0,0 +1,57 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import java.io.Serializable;
+
+/**
+ * An event recorded in the outbox table, signaling that an entity may need to be reindexed.
+ * <p>
+ * Mapped through {@link OutboxAdditionalJaxbMappingProducer}.
+ */
+public final class OutboxEvent {
+
+	private Long id;
+	private String entityName;
+	private Serializable entityId;
+	private int attempts;
+
+	protected OutboxEvent() {
+		// For Hibernate ORM
+	}
+
+	public OutboxEvent(String entityName, Serializable entityId) {
+		this.entityName = entityName;
+		this.entityId = entityId;
+		this.attempts = 0;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[id=" + id + ", entityName=" + entityName
+				+ ", entityId=" + entityId + ", attempts=" + attempts + "]";
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getEntityName() {
+		return entityName;
+	}
+
+	public Serializable getEntityId() {
+		return entityId;
+	}
+
+	/**
+	 * @return The number of times processing this event failed.
+	 */
+	public int getAttempts() {
+		return attempts;
+	}
+}
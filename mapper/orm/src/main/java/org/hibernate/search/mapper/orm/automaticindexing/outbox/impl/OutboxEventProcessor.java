@@ -0,0 +1,360 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.LockMode;
+import org.hibernate.LockOptions;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.engine.reporting.EntityIndexingFailureContext;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.mapper.orm.common.EntityReference;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.session.impl.HibernateOrmSearchSession;
+import org.hibernate.search.mapper.orm.session.impl.HibernateOrmSearchSessionMappingContext;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Periodically polls the outbox table for {@link OutboxEvent events},
+ * and reindexes the corresponding entities.
+ * <p>
+ * Events are processed in batches, each in its own transaction:
+ * events are locked (skipping events already locked by other processors),
+ * deduplicated, the corresponding entities are loaded and reindexed,
+ * and only then are the events deleted.
+ * <p>
+ * If processing a batch fails, the transaction is rolled back
+ * and the events of that batch are processed again, entity by entity, each in its own transaction,
+ * so that a single failing entity does not prevent indexing the others.
+ * Events that still fail are left in the outbox with an incremented attempt count,
+ * to be processed again on a later poll, so each change is indexed at least once.
+ * Once an event failed {@code maxAttempts} times, it is abandoned:
+ * it is no longer polled, but left in the outbox table for inspection.
+ */
+public final class OutboxEventProcessor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String SELECT_EVENTS_QUERY = "select e from " + OutboxEvent.class.getName()
+			+ " e where e.attempts < :maxAttempts order by e.id";
+
+	private static final String SELECT_EVENTS_BY_ID_QUERY = "select e from " + OutboxEvent.class.getName()
+			+ " e where e.id in (:ids) and e.attempts < :maxAttempts";
+
+	private static final String INCREMENT_ATTEMPTS_QUERY = "update " + OutboxEvent.class.getName()
+			+ " e set e.attempts = e.attempts + 1 where e.id in (:ids)";
+
+	private final SessionFactoryImplementor sessionFactory;
+	private final HibernateOrmSearchSessionMappingContext mappingContext;
+	private final OutboxTypeContextProvider typeContextProvider;
+	private final long pollingInterval;
+	private final int batchSize;
+	private final int maxAttempts;
+
+	private ScheduledExecutorService executor;
+
+	public OutboxEventProcessor(SessionFactoryImplementor sessionFactory,
+			HibernateOrmSearchSessionMappingContext mappingContext,
+			OutboxTypeContextProvider typeContextProvider, long pollingInterval, int batchSize,
+			int maxAttempts) {
+		this.sessionFactory = sessionFactory;
+		this.mappingContext = mappingContext;
+		this.typeContextProvider = typeContextProvider;
+		this.pollingInterval = pollingInterval;
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+	}
+
+	public void start(ThreadPoolProvider threadPoolProvider) {
+		log.debugf( "Starting outbox event processor with polling interval %sms, batch size %s and max attempts %s",
+				pollingInterval, batchSize, maxAttempts );
+		executor = threadPoolProvider.newScheduledExecutor( 1, "Outbox event processor" );
+		executor.scheduleWithFixedDelay( this::poll, pollingInterval, pollingInterval, TimeUnit.MILLISECONDS );
+	}
+
+	public void stop() {
+		if ( executor != null ) {
+			executor.shutdownNow();
+			executor = null;
+		}
+	}
+
+	private void poll() {
+		try {
+			// Keep going as long as we get full batches, i.e. as long as there may be more events.
+			while ( processBatch() >= batchSize && !Thread.currentThread().isInterrupted() ) {
+				log.trace( "Full batch of outbox events processed; processing the next one immediately" );
+			}
+		}
+		catch (RuntimeException e) {
+			// Do not propagate: that would cancel subsequent polls.
+			FailureContext.Builder contextBuilder = FailureContext.builder();
+			contextBuilder.throwable( e );
+			contextBuilder.failingOperation( log.outboxEventProcessing() );
+			mappingContext.failureHandler().handle( contextBuilder.build() );
+		}
+	}
+
+	/**
+	 * @return The number of processed events, or {@code 0} if processing failed for at least one event.
+	 */
+	private int processBatch() {
+		int eventCount;
+		Map<String, Map<Serializable, List<Long>>> eventIdsByEntity;
+		try ( SessionImplementor session = openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			try {
+				List<OutboxEvent> events = session.createQuery( SELECT_EVENTS_QUERY, OutboxEvent.class )
+						.setParameter( "maxAttempts", maxAttempts )
+						.setMaxResults( batchSize )
+						.setLockOptions( new LockOptions( LockMode.PESSIMISTIC_WRITE )
+								.setTimeOut( LockOptions.SKIP_LOCKED ) )
+						.getResultList();
+				if ( events.isEmpty() ) {
+					transaction.commit();
+					return 0;
+				}
+				log.tracef( "Processing %s outbox events", events.size() );
+
+				EntityIndexingFailureContext failure = reindex( session, events );
+				if ( failure == null ) {
+					for ( OutboxEvent event : events ) {
+						session.remove( event );
+					}
+					session.flush();
+					transaction.commit();
+					return events.size();
+				}
+
+				transaction.rollback();
+				eventCount = events.size();
+				eventIdsByEntity = groupIdsByEntity( events );
+				if ( eventIdsByEntity.size() == 1 && eventIdsByEntity.values().iterator().next().size() == 1 ) {
+					// All events are about the same entity: processing them again would not help.
+					Map.Entry<Serializable, List<Long>> idEntry =
+							eventIdsByEntity.values().iterator().next().entrySet().iterator().next();
+					recordFailure( events.get( 0 ).getEntityName(), idEntry.getKey(), idEntry.getValue(),
+							maxAttemptsSoFar( events ) + 1, failure );
+					return 0;
+				}
+				// Do not report the failure yet:
+				// it will be reported for each failing entity when processing entities one by one.
+				log.debugf( failure.throwable(), "Failed to process a batch of %s outbox events;"
+						+ " processing these events entity by entity", eventCount );
+			}
+			catch (RuntimeException e) {
+				if ( transaction.isActive() ) {
+					transaction.rollback();
+				}
+				throw e;
+			}
+		}
+
+		boolean allSucceeded = true;
+		for ( Map.Entry<String, Map<Serializable, List<Long>>> entry : eventIdsByEntity.entrySet() ) {
+			String entityName = entry.getKey();
+			for ( Map.Entry<Serializable, List<Long>> idEntry : entry.getValue().entrySet() ) {
+				allSucceeded &= processInIsolation( entityName, idEntry.getKey(), idEntry.getValue() );
+			}
+		}
+		// If some events failed, do not process them again immediately: wait for the next poll.
+		return allSucceeded ? eventCount : 0;
+	}
+
+	/**
+	 * Processes the events of a single entity in their own transaction.
+	 *
+	 * @return {@code true} if processing succeeded, {@code false} otherwise.
+	 */
+	private boolean processInIsolation(String entityName, Serializable entityId, List<Long> eventIds) {
+		EntityIndexingFailureContext failure;
+		int attempts;
+		try ( SessionImplementor session = openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			try {
+				// Events may have been locked by another processor since we rolled back the batch.
+				List<OutboxEvent> events = session.createQuery( SELECT_EVENTS_BY_ID_QUERY, OutboxEvent.class )
+						.setParameterList( "ids", eventIds )
+						.setParameter( "maxAttempts", maxAttempts )
+						.setLockOptions( new LockOptions( LockMode.PESSIMISTIC_WRITE )
+								.setTimeOut( LockOptions.SKIP_LOCKED ) )
+						.getResultList();
+				if ( events.isEmpty() ) {
+					transaction.commit();
+					return true;
+				}
+
+				failure = reindex( session, events );
+				if ( failure == null ) {
+					for ( OutboxEvent event : events ) {
+						session.remove( event );
+					}
+					session.flush();
+					transaction.commit();
+					return true;
+				}
+				transaction.rollback();
+				attempts = maxAttemptsSoFar( events ) + 1;
+			}
+			catch (RuntimeException e) {
+				if ( transaction.isActive() ) {
+					transaction.rollback();
+				}
+				throw e;
+			}
+		}
+
+		recordFailure( entityName, entityId, eventIds, attempts, failure );
+		return false;
+	}
+
+	private void recordFailure(String entityName, Serializable entityId, List<Long> eventIds, int attempts,
+			EntityIndexingFailureContext failure) {
+		// Use a separate transaction, since the one used for indexing was rolled back.
+		try ( SessionImplementor session = openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			try {
+				session.createQuery( INCREMENT_ATTEMPTS_QUERY )
+						.setParameterList( "ids", eventIds )
+						.executeUpdate();
+				transaction.commit();
+			}
+			catch (RuntimeException e) {
+				if ( transaction.isActive() ) {
+					transaction.rollback();
+				}
+				throw e;
+			}
+		}
+
+		mappingContext.failureHandler().handle( failure );
+		if ( attempts >= maxAttempts ) {
+			log.abandoningOutboxEvents( entityName, entityId, attempts, eventIds,
+					OutboxAdditionalJaxbMappingProducer.TABLE_NAME );
+		}
+	}
+
+	private static int maxAttemptsSoFar(List<OutboxEvent> events) {
+		int attempts = 0;
+		for ( OutboxEvent event : events ) {
+			attempts = Math.max( attempts, event.getAttempts() );
+		}
+		return attempts;
+	}
+
+	private SessionImplementor openSession() {
+		SessionImplementor session = (SessionImplementor) sessionFactory.withOptions().openSession();
+		session.setHibernateFlushMode( FlushMode.MANUAL );
+		session.setCacheMode( CacheMode.IGNORE );
+		return session;
+	}
+
+	private static Map<String, Map<Serializable, List<Long>>> groupIdsByEntity(List<OutboxEvent> events) {
+		// Use LinkedHashMaps for deterministic iteration
+		Map<String, Map<Serializable, List<Long>>> eventIdsByEntity = new LinkedHashMap<>();
+		for ( OutboxEvent event : events ) {
+			eventIdsByEntity.computeIfAbsent( event.getEntityName(), ignored -> new LinkedHashMap<>() )
+					.computeIfAbsent( event.getEntityId(), ignored -> new ArrayList<>() )
+					.add( event.getId() );
+		}
+		return eventIdsByEntity;
+	}
+
+	/**
+	 * @return {@code null} if reindexing succeeded, a failure context otherwise.
+	 */
+	private EntityIndexingFailureContext reindex(SessionImplementor session, List<OutboxEvent> events) {
+		IndexIndexingPlanExecutionReport<EntityReference> report;
+		try {
+			report = Futures.unwrappedExceptionJoin( createIndexingPlan( session, events ).executeAndReport() );
+		}
+		catch (RuntimeException e) {
+			EntityIndexingFailureContext.Builder contextBuilder = EntityIndexingFailureContext.builder();
+			contextBuilder.throwable( e );
+			contextBuilder.failingOperation( log.automaticIndexing() );
+			return contextBuilder.build();
+		}
+		if ( report.throwable().isPresent() ) {
+			EntityIndexingFailureContext.Builder contextBuilder = EntityIndexingFailureContext.builder();
+			contextBuilder.throwable( report.throwable().get() );
+			contextBuilder.failingOperation( log.automaticIndexing() );
+			for ( EntityReference entityReference : report.failingEntityReferences() ) {
+				contextBuilder.entityReference( entityReference );
+			}
+			return contextBuilder.build();
+		}
+		return null;
+	}
+
+	private PojoIndexingPlan<EntityReference> createIndexingPlan(SessionImplementor session, List<OutboxEvent> events) {
+		// Deduplicate: an entity may have been modified in multiple transactions since the last poll.
+		// Use a LinkedHashMap for deterministic iteration
+		Map<String, Set<Serializable>> idsByEntityName = new LinkedHashMap<>();
+		for ( OutboxEvent event : events ) {
+			idsByEntityName.computeIfAbsent( event.getEntityName(), ignored -> new LinkedHashSet<>() )
+					.add( event.getEntityId() );
+		}
+
+		// Make sure documents are committed before we delete the events.
+		HibernateOrmSearchSession searchSession = HibernateOrmSearchSession.get( mappingContext, session );
+		PojoIndexingPlan<EntityReference> plan = mappingContext.createIndexingPlan( searchSession,
+				DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE );
+
+		for ( Map.Entry<String, Set<Serializable>> entry : idsByEntityName.entrySet() ) {
+			String entityName = entry.getKey();
+			OutboxTypeContext typeContext = typeContextProvider.forHibernateOrmEntityName( entityName );
+			if ( typeContext == null ) {
+				// The mapping changed since the event was recorded, and this type is no longer relevant.
+				log.debugf( "Ignoring outbox events for entity type '%s', which is no longer indexed", entityName );
+				continue;
+			}
+			List<Serializable> ids = new ArrayList<>( entry.getValue() );
+			List<?> entities = session.byMultipleIds( entityName ).multiLoad( ids );
+			for ( int i = 0; i < ids.size(); i++ ) {
+				Serializable id = ids.get( i );
+				Object entity = entities.get( i );
+				Object providedId = typeContext.toIndexingPlanProvidedId( id );
+				if ( entity != null ) {
+					plan.addOrUpdate( typeContext.typeIdentifier(), providedId, null, entity );
+				}
+				else if ( !typeContext.indexed() ) {
+					// Contained entities are not in the index: nothing to delete.
+					// Entities embedding this one were resolved when the deletion was recorded,
+					// and have events of their own.
+					continue;
+				}
+				else if ( providedId == null ) {
+					log.cannotDeleteFromOutboxEvent( entityName, id );
+				}
+				else {
+					plan.delete( typeContext.typeIdentifier(), providedId, null, null );
+				}
+			}
+		}
+		return plan;
+	}
+}
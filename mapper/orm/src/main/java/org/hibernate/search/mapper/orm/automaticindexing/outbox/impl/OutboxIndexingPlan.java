@@ -0,0 +1,197 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+import org.hibernate.search.mapper.orm.common.EntityReference;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+import org.hibernate.search.mapper.pojo.session.spi.PojoSearchSessionMappingContext;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * An indexing plan that does not index anything,
+ * but instead records the type and identifier of affected entities as {@link OutboxEvent outbox events},
+ * in the same transaction as the changes to the entities.
+ * <p>
+ * Events are written to the database when the plan is {@link #process() processed},
+ * and later consumed by the {@link OutboxEventProcessor}.
+ */
+public final class OutboxIndexingPlan implements PojoIndexingPlan<EntityReference> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final OutboxTypeContextProvider typeContextProvider;
+	private final PojoSearchSessionMappingContext mappingContext;
+	private final PojoWorkSessionContext<?> sessionContext;
+	private final SessionImplementor session;
+
+	// Use a LinkedHashMap for deterministic iteration
+	private final Map<String, Set<Serializable>> idsByEntityName = new LinkedHashMap<>();
+	private final List<DeletedEntity> deletedEntities = new ArrayList<>();
+
+	public OutboxIndexingPlan(OutboxTypeContextProvider typeContextProvider,
+			PojoSearchSessionMappingContext mappingContext, PojoWorkSessionContext<?> sessionContext,
+			SessionImplementor session) {
+		this.typeContextProvider = typeContextProvider;
+		this.mappingContext = mappingContext;
+		this.sessionContext = sessionContext;
+		this.session = session;
+	}
+
+	@Override
+	public void add(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey,
+			Object entity) {
+		record( typeIdentifier, providedId, entity );
+	}
+
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey,
+			Object entity) {
+		record( typeIdentifier, providedId, entity );
+	}
+
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey,
+			Object entity, BitSet dirtyPaths) {
+		// Dirty paths are lost: the processor will consider all paths dirty.
+		record( typeIdentifier, providedId, entity );
+	}
+
+	@Override
+	public void delete(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey,
+			Object entity) {
+		// The processor will detect the entity no longer exists, and will delete it from the index.
+		Serializable entityId = record( typeIdentifier, providedId, entity );
+		if ( entity != null ) {
+			// The processor will not be able to resolve the entities embedding this one once it is deleted:
+			// they must be resolved now, while the entity and its associations are still available.
+			deletedEntities.add( new DeletedEntity( typeIdentifier, entityId, entity ) );
+		}
+	}
+
+	@Override
+	public void process() {
+		resolveEntitiesEmbeddingDeletedEntities();
+		if ( idsByEntityName.isEmpty() ) {
+			return;
+		}
+		// Use a child session sharing the same connection, and thus the same transaction,
+		// so that we do not interfere with the flush of the user's session.
+		try ( Session childSession = session.sessionWithOptions()
+				.connection()
+				.autoClose( false )
+				.connectionHandlingMode( PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION )
+				.openSession() ) {
+			for ( Map.Entry<String, Set<Serializable>> entry : idsByEntityName.entrySet() ) {
+				String entityName = entry.getKey();
+				for ( Serializable id : entry.getValue() ) {
+					childSession.persist( new OutboxEvent( entityName, id ) );
+				}
+			}
+			childSession.flush();
+		}
+		idsByEntityName.clear();
+	}
+
+	@Override
+	public CompletableFuture<IndexIndexingPlanExecutionReport<EntityReference>> executeAndReport() {
+		process();
+		// Nothing to execute: indexing will happen asynchronously, in the outbox event processor.
+		return CompletableFuture.completedFuture( IndexIndexingPlanExecutionReport.<EntityReference>builder().build() );
+	}
+
+	@Override
+	public void discard() {
+		idsByEntityName.clear();
+		deletedEntities.clear();
+	}
+
+	@Override
+	public void discardNotProcessed() {
+		idsByEntityName.clear();
+		deletedEntities.clear();
+	}
+
+	private void resolveEntitiesEmbeddingDeletedEntities() {
+		if ( deletedEntities.isEmpty() ) {
+			return;
+		}
+		// Resolve as late as possible, like a regular indexing plan would,
+		// so that all changes to associations in this session are taken into account.
+		// Each resolved entity is recorded as an event of its own, in the same transaction as the deletion,
+		// so the processor will reindex it even though the deleted entity can no longer be loaded.
+		for ( DeletedEntity deletedEntity : deletedEntities ) {
+			mappingContext.resolveEntitiesToReindex( sessionContext, deletedEntity.typeIdentifier,
+					deletedEntity.entityId, deletedEntity.entity, this::recordContainingEntity );
+		}
+		deletedEntities.clear();
+	}
+
+	private void recordContainingEntity(Object containingEntity) {
+		PojoRawTypeIdentifier<?> typeIdentifier =
+				sessionContext.runtimeIntrospector().detectEntityType( containingEntity );
+		if ( typeIdentifier == null ) {
+			throw new AssertionFailure( "Attempt to reindex entity " + containingEntity
+					+ " because a contained entity was deleted, but this entity type is not indexed directly." );
+		}
+		record( typeIdentifier, null, containingEntity );
+	}
+
+	private Serializable record(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity) {
+		OutboxTypeContext typeContext = typeContextProvider.forExactType( typeIdentifier );
+		if ( typeContext == null ) {
+			throw new AssertionFailure( "Type " + typeIdentifier + " is neither indexed nor contained in an indexed type" );
+		}
+		Serializable entityId;
+		if ( entity instanceof HibernateProxy ) {
+			entityId = ( (HibernateProxy) entity ).getHibernateLazyInitializer().getIdentifier();
+		}
+		else if ( entity != null ) {
+			entityId = typeContext.entityPersister().getIdentifier( entity, session );
+		}
+		else if ( typeContext.providedIdIsEntityId() ) {
+			entityId = (Serializable) providedId;
+		}
+		else {
+			throw log.cannotRecordOutboxEventWithoutEntityId( typeContext.hibernateOrmEntityName(), providedId );
+		}
+		idsByEntityName.computeIfAbsent( typeContext.hibernateOrmEntityName(), ignored -> new LinkedHashSet<>() )
+				.add( entityId );
+		return entityId;
+	}
+
+	private static final class DeletedEntity {
+		private final PojoRawTypeIdentifier<?> typeIdentifier;
+		private final Serializable entityId;
+		private final Object entity;
+
+		private DeletedEntity(PojoRawTypeIdentifier<?> typeIdentifier, Serializable entityId, Object entity) {
+			this.typeIdentifier = typeIdentifier;
+			this.entityId = entityId;
+			this.entity = entity;
+		}
+	}
+}
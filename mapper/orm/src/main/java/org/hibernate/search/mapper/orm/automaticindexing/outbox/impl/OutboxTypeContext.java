@@ -0,0 +1,33 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+
+public interface OutboxTypeContext {
+
+	PojoRawTypeIdentifier<?> typeIdentifier();
+
+	String hibernateOrmEntityName();
+
+	EntityPersister entityPersister();
+
+	/**
+	 * @return {@code true} if this type is indexed, {@code false} if it is only contained in indexed types.
+	 */
+	boolean indexed();
+
+	/**
+	 * @return {@code true} if the identifiers provided to indexing plans for this type are entity identifiers,
+	 * {@code false} otherwise.
+	 */
+	boolean providedIdIsEntityId();
+
+	Object toIndexingPlanProvidedId(Object entityId);
+
+}
@@ -33,8 +33,10 @@
 import org.hibernate.search.mapper.orm.bootstrap.spi.HibernateOrmIntegrationBooter;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertyChecker;
 import org.hibernate.search.mapper.orm.bootstrap.spi.HibernateOrmIntegrationBooterBehavior;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
 import org.hibernate.search.mapper.orm.cfg.spi.HibernateOrmMapperSpiSettings;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.mapping.PropertyReadStrategyName;
 import org.hibernate.search.mapper.orm.mapping.impl.HibernateOrmMapping;
 import org.hibernate.search.mapper.orm.mapping.impl.HibernateSearchContextProviderService;
 import org.hibernate.search.mapper.orm.mapping.impl.HibernateOrmMappingInitiator;
@@ -69,6 +71,24 @@ static ConfigurationPropertySource getPropertySource(ServiceRegistry serviceRegi
 			ConfigurationProperty.forKey( HibernateOrmMapperSpiSettings.INTEGRATION_PARTIAL_BUILD_STATE )
 					.as( HibernateOrmIntegrationPartialBuildState.class, HibernateOrmIntegrationPartialBuildState::parse )
 					.build();
+
+	private static final ConfigurationProperty<PropertyReadStrategyName> MAPPING_PROPERTY_READ_STRATEGY =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.MAPPING_PROPERTY_READ_STRATEGY )
+					.as( PropertyReadStrategyName.class, PropertyReadStrategyName::of )
+					.withDefault( HibernateOrmMapperSettings.Defaults.MAPPING_PROPERTY_READ_STRATEGY )
+					.build();
+
+	private static ValueReadHandleFactory createValueReadHandleFactory(PropertyReadStrategyName strategyName) {
+		switch ( strategyName ) {
+			case LAMBDA_METAFACTORY:
+				return ValueReadHandleFactory.usingLambdaMetafactory( MethodHandles.publicLookup() );
+			case METHOD_HANDLE:
+				return ValueReadHandleFactory.usingMethodHandle( MethodHandles.publicLookup() );
+			default:
+				throw new AssertionFailure( "Unexpected property read strategy: " + strategyName );
+		}
+	}
+
 	private final Metadata metadata;
 	private final ServiceRegistryImplementor serviceRegistry;
 	private final ReflectionManager reflectionManager;
@@ -84,11 +104,11 @@ private HibernateOrmIntegrationBooterImpl(BuilderImpl builder) {
 		this.metadata = builder.metadata;
 		this.serviceRegistry = (ServiceRegistryImplementor) builder.bootstrapContext.getServiceRegistry();
 		this.reflectionManager = builder.bootstrapContext.getReflectionManager();
-		this.valueReadHandleFactory = builder.valueReadHandleFactory != null ? builder.valueReadHandleFactory
-				: ValueReadHandleFactory.usingMethodHandle( MethodHandles.publicLookup() );
 		this.propertyChecker = builder.propertyChecker != null ? builder.propertyChecker : ConfigurationPropertyChecker.create();
 		this.rootPropertySource = builder.rootPropertySource != null ? builder.rootPropertySource
 				: getPropertySource( serviceRegistry, propertyChecker );
+		this.valueReadHandleFactory = builder.valueReadHandleFactory != null ? builder.valueReadHandleFactory
+				: createValueReadHandleFactory( MAPPING_PROPERTY_READ_STRATEGY.get( rootPropertySource ) );
 		this.ormConfigurationService = serviceRegistry.getService( ConfigurationService.class );
 
 		Optional<EnvironmentSynchronizer> providedEnvironmentSynchronizer = getOrmServiceOrEmpty( EnvironmentSynchronizer.class );
@@ -11,6 +11,7 @@
 import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
 import org.hibernate.search.mapper.orm.automaticindexing.session.AutomaticIndexingSynchronizationStrategyNames;
 import org.hibernate.search.mapper.orm.mapping.HibernateOrmSearchMappingConfigurer;
+import org.hibernate.search.mapper.orm.mapping.PropertyReadStrategyName;
 import org.hibernate.search.mapper.orm.schema.management.SchemaManagementStrategyName;
 import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
 import org.hibernate.search.mapper.orm.automaticindexing.session.AutomaticIndexingSynchronizationStrategy;
@@ -78,6 +79,60 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = PREFIX + Radicals.AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK;
 
+	/**
+	 * The interval between two polls of the outbox table, in milliseconds,
+	 * when the automatic indexing strategy is {@link AutomaticIndexingStrategyName#OUTBOX_POLLING outbox-polling}.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_POLLING_POLLING_INTERVAL}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_POLLING_POLLING_INTERVAL =
+			PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_POLLING_INTERVAL;
+
+	/**
+	 * The maximum number of outbox events processed in a single transaction
+	 * when the automatic indexing strategy is {@link AutomaticIndexingStrategyName#OUTBOX_POLLING outbox-polling}.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 50},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_POLLING_BATCH_SIZE}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_POLLING_BATCH_SIZE =
+			PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_BATCH_SIZE;
+
+	/**
+	 * The maximum number of times the processing of an outbox event is attempted
+	 * when the automatic indexing strategy is {@link AutomaticIndexingStrategyName#OUTBOX_POLLING outbox-polling}.
+	 * <p>
+	 * Once an event failed that many times, it is no longer processed:
+	 * it is left in the outbox table, and the corresponding entity must be reindexed manually.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 5},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_POLLING_MAX_ATTEMPTS}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_POLLING_MAX_ATTEMPTS =
+			PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_MAX_ATTEMPTS;
+
+	/**
+	 * Whether this application instance should process outbox events
+	 * when the automatic indexing strategy is {@link AutomaticIndexingStrategyName#OUTBOX_POLLING outbox-polling}.
+	 * <p>
+	 * When disabled, this application instance only records events in the outbox table,
+	 * and events are expected to be processed by another instance.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_POLLING_PROCESSOR_ENABLED}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_POLLING_PROCESSOR_ENABLED =
+			PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_PROCESSOR_ENABLED;
+
 	/**
 	 * The strategy to use when loading entities during the execution of a search query.
 	 * <p>
@@ -99,6 +154,28 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String QUERY_LOADING_FETCH_SIZE = PREFIX + Radicals.QUERY_LOADING_FETCH_SIZE;
 
+	/**
+	 * The maximum number of database connections used concurrently, across the whole application,
+	 * to load entities in parallel during the execution of search queries
+	 * with a {@link org.hibernate.search.mapper.orm.search.loading.dsl.SearchLoadingOptionsStep#fetchParallelism(int) fetch parallelism}
+	 * higher than {@code 1}.
+	 * <p>
+	 * Each of these connections is taken from the connection pool
+	 * in addition to the connection already used by the session executing the search query,
+	 * so this must be significantly lower than the size of the connection pool,
+	 * or loading will exhaust the connection pool and may even deadlock.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to half the size of the connection pool as set through the Hibernate ORM property
+	 * {@value org.hibernate.cfg.AvailableSettings#POOL_SIZE},
+	 * or to {@link Defaults#QUERY_LOADING_MAX_FETCH_PARALLELISM} if that property is not set.
+	 * Set this property explicitly when the size of the connection pool is configured through other properties,
+	 * e.g. with third-party connection pools.
+	 */
+	public static final String QUERY_LOADING_MAX_FETCH_PARALLELISM = PREFIX + Radicals.QUERY_LOADING_MAX_FETCH_PARALLELISM;
+
 	/**
 	 * Whether annotations should be automatically processed for entity types,
 	 * as well as nested types in those entity types, for instance embedded types.
@@ -110,6 +187,21 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String MAPPING_PROCESS_ANNOTATIONS = PREFIX + Radicals.MAPPING_PROCESS_ANNOTATIONS;
 
+	/**
+	 * Pre-built Jandex indexes of entity types and embedded types,
+	 * used to avoid the reflective inspection of types that do not carry any mapping annotation
+	 * when processing annotations.
+	 * <p>
+	 * Types that are not part of these indexes will still be inspected using reflection.
+	 * <p>
+	 * Expects a String, such as "META-INF/jandex.idx", i.e. the path to a Jandex index resource on the classpath,
+	 * or a comma-separated string of such paths,
+	 * or a collection containing such paths and/or {@code org.jboss.jandex.IndexView} instances.
+	 * <p>
+	 * Defaults to no value, i.e. all types are inspected using reflection.
+	 */
+	public static final String MAPPING_JANDEX_INDEXES = PREFIX + Radicals.MAPPING_JANDEX_INDEXES;
+
 	/**
 	 * The mapping configurer to use.
 	 * <p>
@@ -122,6 +214,17 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String MAPPING_CONFIGURER = PREFIX + Radicals.MAPPING_CONFIGURER;
 
+	/**
+	 * The strategy used to read the value of properties when building documents.
+	 * <p>
+	 * Expects a {@link PropertyReadStrategyName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link Defaults#MAPPING_PROPERTY_READ_STRATEGY}.
+	 *
+	 * @see PropertyReadStrategyName
+	 */
+	public static final String MAPPING_PROPERTY_READ_STRATEGY = PREFIX + Radicals.MAPPING_PROPERTY_READ_STRATEGY;
+
 	/**
 	 * The schema management strategy, controlling how indexes and their schema
 	 * are created, updated, validated or dropped on startup and shutdown.
@@ -146,10 +249,17 @@ private Radicals() {
 		public static final String AUTOMATIC_INDEXING_STRATEGY = "automatic_indexing.strategy";
 		public static final String AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY = "automatic_indexing.synchronization.strategy";
 		public static final String AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = "automatic_indexing.enable_dirty_check";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_POLLING_POLLING_INTERVAL = "automatic_indexing.outbox_polling.polling_interval";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_POLLING_BATCH_SIZE = "automatic_indexing.outbox_polling.batch_size";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_POLLING_MAX_ATTEMPTS = "automatic_indexing.outbox_polling.max_attempts";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_POLLING_PROCESSOR_ENABLED = "automatic_indexing.outbox_polling.processor.enabled";
 		public static final String QUERY_LOADING_CACHE_LOOKUP_STRATEGY = "query.loading.cache_lookup.strategy";
 		public static final String QUERY_LOADING_FETCH_SIZE = "query.loading.fetch_size";
+		public static final String QUERY_LOADING_MAX_FETCH_PARALLELISM = "query.loading.max_fetch_parallelism";
 		public static final String MAPPING_PROCESS_ANNOTATIONS = "mapping.process_annotations";
+		public static final String MAPPING_JANDEX_INDEXES = "mapping.jandex_indexes";
 		public static final String MAPPING_CONFIGURER = "mapping.configurer";
+		public static final String MAPPING_PROPERTY_READ_STRATEGY = "mapping.property_read_strategy";
 		public static final String SCHEMA_MANAGEMENT_STRATEGY = "schema_management.strategy";
 	}
 
@@ -167,10 +277,17 @@ private Defaults() {
 		public static final BeanReference<AutomaticIndexingSynchronizationStrategy> AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY =
 				BeanReference.of( AutomaticIndexingSynchronizationStrategy.class, "write-sync" );
 		public static final boolean AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = true;
+		public static final int AUTOMATIC_INDEXING_OUTBOX_POLLING_POLLING_INTERVAL = 100;
+		public static final int AUTOMATIC_INDEXING_OUTBOX_POLLING_BATCH_SIZE = 50;
+		public static final int AUTOMATIC_INDEXING_OUTBOX_POLLING_MAX_ATTEMPTS = 5;
+		public static final boolean AUTOMATIC_INDEXING_OUTBOX_POLLING_PROCESSOR_ENABLED = true;
 		public static final EntityLoadingCacheLookupStrategy QUERY_LOADING_CACHE_LOOKUP_STRATEGY =
 				EntityLoadingCacheLookupStrategy.SKIP;
 		public static final int QUERY_LOADING_FETCH_SIZE = 100;
+		public static final int QUERY_LOADING_MAX_FETCH_PARALLELISM = 1;
 		public static final boolean MAPPING_PROCESS_ANNOTATIONS = true;
+		public static final PropertyReadStrategyName MAPPING_PROPERTY_READ_STRATEGY =
+				PropertyReadStrategyName.METHOD_HANDLE;
 		public static final SchemaManagementStrategyName SCHEMA_MANAGEMENT_STRATEGY = SchemaManagementStrategyName.CREATE_OR_VALIDATE;
 	}
 
@@ -6,9 +6,17 @@
  */
 package org.hibernate.search.mapper.orm.loading.impl;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import org.hibernate.QueryTimeoutException;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.exception.LockTimeoutException;
 import org.hibernate.jpa.QueryHints;
 import org.hibernate.persister.entity.EntityPersister;
@@ -17,6 +25,7 @@
 import org.hibernate.search.mapper.orm.common.impl.HibernateOrmUtils;
 import org.hibernate.search.mapper.pojo.loading.spi.PojoLoader;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+import org.hibernate.search.util.common.impl.Futures;
 
 abstract class AbstractHibernateOrmEntityLoader<E> implements PojoLoader<E> {
 	protected static final String IDS_PARAMETER_NAME = "ids";
@@ -72,8 +81,106 @@ else if ( expectedType.equals( sessionContext.runtimeIntrospector().detectEntity
 
 	abstract List<?> doLoadEntities(List<?> allIds, Long timeout);
 
-	final Query<E> createQuery(int fetchSize, Long timeout) {
-		Query<E> query = queryFactory.createQueryForLoadByUniqueProperty( sessionContext.session(), IDS_PARAMETER_NAME );
+	/**
+	 * @param idCount The number of identifiers to load.
+	 * @return {@code true} if loading that many identifiers will be performed in parallel,
+	 * in separate stateless sessions, in which case loaded entities will not be added to the persistence context.
+	 */
+	final boolean loadsInParallel(int idCount) {
+		return fetchParallelism() > 1 && idCount > loadingOptions.fetchSize();
+	}
+
+	/**
+	 * Loads entities with the given identifiers, in batches of at most {@code fetchSize} identifiers,
+	 * and passes the result of each batch to the given consumer, in the current thread.
+	 * <p>
+	 * If {@link #loadsInParallel(int)}, batches are distributed among multiple tasks executed concurrently,
+	 * each in its own stateless session;
+	 * loaded entities that are already managed by the current session are replaced with the managed instance,
+	 * but others are detached.
+	 * Otherwise, batches are loaded sequentially, in the current session.
+	 *
+	 * @param ids The identifiers of entities to load.
+	 * @param timeout The timeout for each query, in milliseconds, or {@code null}.
+	 * @param resultConsumer A consumer for the result of each batch.
+	 * Entities are returned in no particular order.
+	 */
+	final void loadInBatches(List<?> ids, Long timeout, Consumer<List<E>> resultConsumer) {
+		int fetchSize = loadingOptions.fetchSize();
+		SessionImplementor session = sessionContext.session();
+		if ( !loadsInParallel( ids.size() ) ) {
+			for ( int start = 0; start < ids.size(); start += fetchSize ) {
+				List<?> batch = ids.subList( start, Math.min( start + fetchSize, ids.size() ) );
+				resultConsumer.accept( loadBatch( session, batch, fetchSize, timeout ) );
+			}
+			return;
+		}
+
+		int batchCount = ( ids.size() + fetchSize - 1 ) / fetchSize;
+		int taskCount = Math.min( fetchParallelism(), batchCount );
+		List<CompletableFuture<List<E>>> futures = new ArrayList<>( taskCount );
+		for ( int i = 0; i < taskCount; i++ ) {
+			int taskIndex = i;
+			futures.add( CompletableFuture.supplyAsync(
+					() -> loadBatchesInStatelessSession( ids, taskIndex, taskCount, fetchSize, timeout ),
+					loadingOptions.parallelLoadingExecutor()
+			) );
+		}
+		// Propagate the original exception, in particular for timeouts.
+		Futures.unwrappedExceptionJoin( CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) ) );
+		PersistenceContext persistenceContext = session.getPersistenceContext();
+		for ( CompletableFuture<List<E>> future : futures ) {
+			List<E> result = future.join();
+			for ( int i = 0; i < result.size(); i++ ) {
+				// Preserve identity with entities that were already managed by the current session.
+				E loaded = result.get( i );
+				EntityKey key = session.generateEntityKey( entityPersister.getIdentifier( loaded, session ),
+						entityPersister );
+				@SuppressWarnings("unchecked") // The managed entity has the same identity, hence the same type
+				E managed = (E) persistenceContext.getEntity( key );
+				if ( managed != null ) {
+					result.set( i, managed );
+				}
+			}
+			resultConsumer.accept( result );
+		}
+	}
+
+	/**
+	 * @return The number of batches that can be loaded concurrently for a single search query,
+	 * bounded by the number of connections parallel loading may use across the whole application.
+	 */
+	private int fetchParallelism() {
+		return Math.min( loadingOptions.fetchParallelism(), loadingOptions.maxFetchParallelism() );
+	}
+
+	private List<E> loadBatchesInStatelessSession(List<?> ids, int taskIndex, int taskCount,
+			int fetchSize, Long timeout) {
+		SessionImplementor session = sessionContext.session();
+		List<E> result = new ArrayList<>();
+		try ( StatelessSession statelessSession = session.getSessionFactory().withStatelessOptions()
+				.tenantIdentifier( session.getTenantIdentifier() )
+				.openStatelessSession() ) {
+			SharedSessionContractImplementor statelessSessionImplementor =
+					(SharedSessionContractImplementor) statelessSession;
+			// Batches are assigned to tasks in a round-robin fashion.
+			for ( int start = taskIndex * fetchSize; start < ids.size(); start += taskCount * fetchSize ) {
+				List<?> batch = ids.subList( start, Math.min( start + fetchSize, ids.size() ) );
+				result.addAll( loadBatch( statelessSessionImplementor, batch, fetchSize, timeout ) );
+			}
+		}
+		return result;
+	}
+
+	private List<E> loadBatch(SharedSessionContractImplementor session, List<?> ids, int fetchSize, Long timeout) {
+		// Don't reuse the query; see https://hibernate.atlassian.net/browse/HHH-14439
+		Query<E> query = createQuery( session, fetchSize, timeout );
+		query.setParameterList( IDS_PARAMETER_NAME, padIds( ids, fetchSize ) );
+		return query.getResultList();
+	}
+
+	private Query<E> createQuery(SharedSessionContractImplementor session, int fetchSize, Long timeout) {
+		Query<E> query = queryFactory.createQueryForLoadByUniqueProperty( session, IDS_PARAMETER_NAME );
 
 		query.setFetchSize( fetchSize );
 		if ( timeout != null ) {
@@ -87,4 +194,28 @@ final Query<E> createQuery(int fetchSize, Long timeout) {
 
 		return query;
 	}
+
+	/**
+	 * Pads the given list of identifiers to the next power of two, capped to the fetch size,
+	 * by repeating the last identifier.
+	 * <p>
+	 * This way, the number of distinct SQL statements (one per number of parameters in the "IN" clause)
+	 * is bounded to a handful, which allows JDBC drivers and databases to reuse prepared statements
+	 * and execution plans instead of re-parsing a new statement for almost every batch.
+	 * Duplicate values in an "IN" clause do not affect the result.
+	 */
+	static List<?> padIds(List<?> ids, int fetchSize) {
+		int size = ids.size();
+		int paddedSize = size <= 1 ? size : Math.min( Integer.highestOneBit( size - 1 ) << 1, fetchSize );
+		if ( paddedSize <= size ) {
+			return ids;
+		}
+		List<Object> padded = new ArrayList<>( paddedSize );
+		padded.addAll( ids );
+		Object last = ids.get( size - 1 );
+		while ( padded.size() < paddedSize ) {
+			padded.add( last );
+		}
+		return padded;
+	}
 }
@@ -6,16 +6,19 @@
  */
 package org.hibernate.search.mapper.orm.loading.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
 import javax.persistence.criteria.ParameterExpression;
 import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 import javax.persistence.metamodel.SingularAttribute;
 
-import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.model.domain.spi.EntityTypeDescriptor;
 import org.hibernate.query.Query;
@@ -37,36 +40,72 @@ private CriteriaTypeQueryFactory(EntityTypeDescriptor<E> typeDescriptor,
 		this.uniqueProperty = uniqueProperty;
 	}
 
+	@Override
+	public Class<?> uniquePropertyJavaType() {
+		return uniqueProperty.getJavaType();
+	}
+
 	@Override
 	public Query<Long> createQueryForCount(SharedSessionContractImplementor session,
-			Set<? extends Class<? extends E>> includedTypesFilter) {
+			Set<? extends Class<? extends E>> includedTypesFilter, IdentifierRange range) {
 		CriteriaBuilder criteriaBuilder = session.getFactory().getCriteriaBuilder();
 		CriteriaQuery<Long> criteriaQuery = criteriaBuilder.createQuery( Long.class );
 		Root<E> root = criteriaQuery.from( typeDescriptor );
 		criteriaQuery.select( criteriaBuilder.count( root ) );
-		if ( !includedTypesFilter.isEmpty() ) {
-			criteriaQuery.where( root.type().in( includedTypesFilter ) );
-		}
+		criteriaQuery.where( restrictions( criteriaBuilder, root, includedTypesFilter, range ) );
 		return session.createQuery( criteriaQuery );
 	}
 
 	@Override
 	public Query<I> createQueryForIdentifierListing(SharedSessionContractImplementor session,
-			Set<? extends Class<? extends E>> includedTypesFilter) {
+			Set<? extends Class<? extends E>> includedTypesFilter, IdentifierRange range, boolean ordered) {
 		CriteriaBuilder criteriaBuilder = session.getFactory().getCriteriaBuilder();
 		CriteriaQuery<I> criteriaQuery = criteriaBuilder.createQuery( uniqueProperty.getJavaType() );
 		Root<E> root = criteriaQuery.from( typeDescriptor );
 		Path<I> idPath = root.get( uniqueProperty );
 		criteriaQuery.select( idPath );
-		if ( !includedTypesFilter.isEmpty() ) {
-			criteriaQuery.where( root.type().in( includedTypesFilter ) );
+		criteriaQuery.where( restrictions( criteriaBuilder, root, includedTypesFilter, range ) );
+		if ( ordered ) {
+			criteriaQuery.orderBy( criteriaBuilder.asc( idPath ) );
 		}
 		return session.createQuery( criteriaQuery );
 	}
 
 	@Override
-	public Query<E> createQueryForLoadByUniqueProperty(SessionImplementor session, String parameterName) {
-		CriteriaBuilder criteriaBuilder = session.getCriteriaBuilder();
+	@SuppressWarnings({ "unchecked", "rawtypes" }) // Only called for identifiers with a natural order
+	public Query<Object[]> createQueryForIdentifierBounds(SharedSessionContractImplementor session,
+			Set<? extends Class<? extends E>> includedTypesFilter) {
+		CriteriaBuilder criteriaBuilder = session.getFactory().getCriteriaBuilder();
+		CriteriaQuery<Object[]> criteriaQuery = criteriaBuilder.createQuery( Object[].class );
+		Root<E> root = criteriaQuery.from( typeDescriptor );
+		Expression<Comparable> idPath = (Expression) root.get( uniqueProperty );
+		criteriaQuery.multiselect( criteriaBuilder.least( idPath ), criteriaBuilder.greatest( idPath ) );
+		criteriaQuery.where( restrictions( criteriaBuilder, root, includedTypesFilter, IdentifierRange.all() ) );
+		return session.createQuery( criteriaQuery );
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" }) // Ranges are only used for identifiers with a natural order
+	private Predicate[] restrictions(CriteriaBuilder criteriaBuilder, Root<E> root,
+			Set<? extends Class<? extends E>> includedTypesFilter, IdentifierRange range) {
+		List<Predicate> predicates = new ArrayList<>();
+		if ( !includedTypesFilter.isEmpty() ) {
+			predicates.add( root.type().in( includedTypesFilter ) );
+		}
+		Expression<Comparable> idPath = (Expression) root.get( uniqueProperty );
+		if ( range.lowerBound() != null ) {
+			predicates.add( range.lowerBoundInclusive()
+					? criteriaBuilder.greaterThanOrEqualTo( idPath, (Comparable) range.lowerBound() )
+					: criteriaBuilder.greaterThan( idPath, (Comparable) range.lowerBound() ) );
+		}
+		if ( range.upperBound() != null ) {
+			predicates.add( criteriaBuilder.lessThan( idPath, (Comparable) range.upperBound() ) );
+		}
+		return predicates.toArray( new Predicate[0] );
+	}
+
+	@Override
+	public Query<E> createQueryForLoadByUniqueProperty(SharedSessionContractImplementor session, String parameterName) {
+		CriteriaBuilder criteriaBuilder = session.getFactory().getCriteriaBuilder();
 		ParameterExpression<Collection> idsParameter = criteriaBuilder.parameter( Collection.class, parameterName );
 		CriteriaQuery<E> criteriaQuery = criteriaBuilder.createQuery( typeDescriptor.getJavaType() );
 		Root<E> root = criteriaQuery.from( typeDescriptor );
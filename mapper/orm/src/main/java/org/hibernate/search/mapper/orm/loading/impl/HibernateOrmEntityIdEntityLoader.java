@@ -9,10 +9,12 @@
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.engine.spi.EntityKey;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.persister.entity.EntityPersister;
-import org.hibernate.query.Query;
+import org.hibernate.search.util.common.impl.CollectionHelper;
 
 /**
  * An entity loader for indexed entities whose document ID is the entity ID.
@@ -39,9 +41,7 @@ protected List<Object> doLoadEntities(List<?> allIds, Long timeout) {
 		EntityKey[] keys = toEntityKeys( allIds );
 		List<Object> loadedEntities = createListContainingNulls( allIds.size() );
 
-		int fetchSize = loadingOptions.fetchSize();
-
-		List<Object> ids = new ArrayList<>( fetchSize );
+		List<Object> ids = new ArrayList<>( keys.length );
 		for ( int i = 0; i < keys.length; i++ ) {
 			EntityKey key = keys[i];
 			if ( cacheLookupStrategyImplementor != null ) {
@@ -52,25 +52,52 @@ protected List<Object> doLoadEntities(List<?> allIds, Long timeout) {
 					continue;
 				}
 			}
-
 			ids.add( key.getIdentifier() );
-			if ( ids.size() >= fetchSize ) {
-				// Don't reuse the query; see https://hibernate.atlassian.net/browse/HHH-14439
-				Query<E> query = createQuery( fetchSize, timeout );
-				query.setParameterList( IDS_PARAMETER_NAME, ids );
-				// The result is worthless, as entities are not in the right order.
-				// However, this will load entities into the persistence context... see further down.
-				query.getResultList();
-				ids.clear();
+		}
+
+		if ( loadsInParallel( ids.size() ) ) {
+			// Entities will be loaded in separate sessions and won't end up in the persistence context.
+			// Entities already managed by the current session must be returned as-is, to preserve identity:
+			// only load the others.
+			ids.clear();
+			for ( int i = 0; i < keys.length; i++ ) {
+				EntityKey key = keys[i];
+				if ( key == null ) {
+					// Already loaded through a cache; skip.
+					continue;
+				}
+				Object managed = persistenceContextLookup.lookup( key );
+				if ( managed != null ) {
+					loadedEntities.set( i, managed );
+					keys[i] = null;
+					continue;
+				}
+				ids.add( key.getIdentifier() );
 			}
 		}
-		if ( !ids.isEmpty() ) {
-			Query<E> query = createQuery( fetchSize, timeout );
-			query.setParameterList( IDS_PARAMETER_NAME, ids );
-			// Same as above: the result is worthless.
-			query.getResultList();
+
+		if ( loadsInParallel( ids.size() ) ) {
+			// Retrieve the other entities from the query results.
+			SessionImplementor session = sessionContext.session();
+			Map<Object, Object> entityById = CollectionHelper.newHashMap( ids.size() );
+			loadInBatches( ids, timeout, result -> {
+				for ( E loaded : result ) {
+					entityById.put( entityPersister.getIdentifier( loaded, session ), loaded );
+				}
+			} );
+			for ( int i = 0; i < keys.length; i++ ) {
+				EntityKey key = keys[i];
+				if ( key != null ) {
+					loadedEntities.set( i, entityById.get( key.getIdentifier() ) );
+				}
+			}
+			return loadedEntities;
 		}
 
+		// The result is worthless, as entities are not in the right order.
+		// However, this will load entities into the persistence context... see further down.
+		loadInBatches( ids, timeout, ignored -> { } );
+
 		// All entities are now in the persistence context. Get them!
 		for ( int i = 0; i < keys.length; i++ ) {
 			EntityKey key = keys[i];
@@ -128,6 +128,12 @@ public SearchLoadingOptionsStep fetchSize(int fetchSize) {
 			return this;
 		}
 
+		@Override
+		public SearchLoadingOptionsStep fetchParallelism(int fetchParallelism) {
+			loadingOptions.fetchParallelism( fetchParallelism );
+			return this;
+		}
+
 		@Override
 		public SearchLoadingOptionsStep cacheLookupStrategy(EntityLoadingCacheLookupStrategy strategy) {
 			this.cacheLookupStrategy = strategy;
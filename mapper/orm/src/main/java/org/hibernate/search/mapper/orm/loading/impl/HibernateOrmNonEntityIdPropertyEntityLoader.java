@@ -13,7 +13,6 @@
 
 import org.hibernate.Hibernate;
 import org.hibernate.persister.entity.EntityPersister;
-import org.hibernate.query.Query;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.util.common.impl.CollectionHelper;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -48,26 +47,8 @@
 
 	@Override
 	protected List<E> doLoadEntities(List<?> allIds, Long timeout) {
-		int fetchSize = loadingOptions.fetchSize();
-
 		Map<Object, E> entityById = CollectionHelper.newHashMap( allIds.size() );
-
-		List<Object> ids = new ArrayList<>( fetchSize );
-		for ( Object documentIdSourceValue : allIds ) {
-			ids.add( documentIdSourceValue );
-			if ( ids.size() >= fetchSize ) {
-				// Don't reuse the query; see https://hibernate.atlassian.net/browse/HHH-14439
-				Query<E> query = createQuery( fetchSize, timeout );
-				query.setParameterList( IDS_PARAMETER_NAME, ids );
-				addResults( entityById, query.getResultList() );
-				ids.clear();
-			}
-		}
-		if ( !ids.isEmpty() ) {
-			Query<E> query = createQuery( fetchSize, timeout );
-			query.setParameterList( IDS_PARAMETER_NAME, ids );
-			addResults( entityById, query.getResultList() );
-		}
+		loadInBatches( allIds, timeout, loaded -> addResults( entityById, loaded ) );
 
 		List<E> result = new ArrayList<>( allIds.size() );
 		for ( Object identifier : allIds ) {
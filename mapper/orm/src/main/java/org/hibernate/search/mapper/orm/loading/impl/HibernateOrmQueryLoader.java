@@ -22,12 +22,32 @@ public HibernateOrmQueryLoader(TypeQueryFactory<E, I> queryFactory,
 		this.includedTypesFilter = includedTypesFilter;
 	}
 
+	public Class<?> identifierJavaType() {
+		return queryFactory.uniquePropertyJavaType();
+	}
+
 	public Query<Long> createCountQuery(SharedSessionContractImplementor session) {
-		return queryFactory.createQueryForCount( session, includedTypesFilter );
+		return createCountQuery( session, IdentifierRange.all() );
+	}
+
+	public Query<Long> createCountQuery(SharedSessionContractImplementor session, IdentifierRange range) {
+		return queryFactory.createQueryForCount( session, includedTypesFilter, range );
 	}
 
 	public Query<I> createIdentifiersQuery(SharedSessionContractImplementor session) {
-		return queryFactory.createQueryForIdentifierListing( session, includedTypesFilter );
+		return createIdentifiersQuery( session, IdentifierRange.all() );
+	}
+
+	public Query<I> createIdentifiersQuery(SharedSessionContractImplementor session, IdentifierRange range) {
+		return queryFactory.createQueryForIdentifierListing( session, includedTypesFilter, range, false );
+	}
+
+	public Query<I> createOrderedIdentifiersQuery(SharedSessionContractImplementor session, IdentifierRange range) {
+		return queryFactory.createQueryForIdentifierListing( session, includedTypesFilter, range, true );
+	}
+
+	public Query<Object[]> createIdentifierBoundsQuery(SharedSessionContractImplementor session) {
+		return queryFactory.createQueryForIdentifierBounds( session, includedTypesFilter );
 	}
 
 	public Query<E> createLoadingQuery(SessionImplementor session, String idParameterName) {
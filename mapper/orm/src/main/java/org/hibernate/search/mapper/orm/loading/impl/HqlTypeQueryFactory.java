@@ -7,44 +7,67 @@
 package org.hibernate.search.mapper.orm.loading.impl;
 
 import java.util.Set;
+import java.util.StringJoiner;
 
-import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.query.Query;
+import org.hibernate.type.Type;
 
 class HqlTypeQueryFactory<E, I> implements TypeQueryFactory<E, I> {
 
 	private final EntityPersister entityPersister;
 	private final String uniquePropertyName;
+	private final Class<I> uniquePropertyJavaType;
 
+	@SuppressWarnings("unchecked")
 	HqlTypeQueryFactory(EntityPersister entityPersister, String uniquePropertyName) {
 		this.entityPersister = entityPersister;
 		this.uniquePropertyName = uniquePropertyName;
+		// The identifier property is not part of the "regular" properties of the persister.
+		Type uniquePropertyType = uniquePropertyName.equals( entityPersister.getIdentifierPropertyName() )
+				? entityPersister.getIdentifierType()
+				: entityPersister.getPropertyType( uniquePropertyName );
+		this.uniquePropertyJavaType = (Class<I>) uniquePropertyType.getReturnedClass();
+	}
+
+	@Override
+	public Class<?> uniquePropertyJavaType() {
+		return uniquePropertyJavaType;
 	}
 
 	@Override
 	public Query<Long> createQueryForCount(SharedSessionContractImplementor session,
-			Set<? extends Class<? extends E>> includedTypesFilter) {
-		return createQueryWithTypesFilter( session,
+			Set<? extends Class<? extends E>> includedTypesFilter, IdentifierRange range) {
+		return createQueryWithRestrictions( session,
 				"select count(e) from " + entityPersister.getEntityName() + " e",
 				Long.class,
-				"e", includedTypesFilter );
+				"e", includedTypesFilter, range, "" );
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
 	public Query<I> createQueryForIdentifierListing(SharedSessionContractImplementor session,
-			Set<? extends Class<? extends E>> includedTypesFilter) {
-		return createQueryWithTypesFilter( session,
+			Set<? extends Class<? extends E>> includedTypesFilter, IdentifierRange range, boolean ordered) {
+		return createQueryWithRestrictions( session,
 				"select e. " + uniquePropertyName + " from " + entityPersister.getEntityName() + " e",
-				(Class<I>) entityPersister.getIdentifierType().getReturnedClass(),
-				"e", includedTypesFilter );
+				uniquePropertyJavaType,
+				"e", includedTypesFilter, range,
+				ordered ? " order by e. " + uniquePropertyName : "" );
+	}
+
+	@Override
+	public Query<Object[]> createQueryForIdentifierBounds(SharedSessionContractImplementor session,
+			Set<? extends Class<? extends E>> includedTypesFilter) {
+		return createQueryWithRestrictions( session,
+				"select min(e. " + uniquePropertyName + "), max(e. " + uniquePropertyName + ")"
+						+ " from " + entityPersister.getEntityName() + " e",
+				Object[].class,
+				"e", includedTypesFilter, IdentifierRange.all(), "" );
 	}
 
 	@SuppressWarnings("unchecked")
 	@Override
-	public Query<E> createQueryForLoadByUniqueProperty(SessionImplementor session, String parameterName) {
+	public Query<E> createQueryForLoadByUniqueProperty(SharedSessionContractImplementor session, String parameterName) {
 		return session.createQuery(
 				"select e from " + entityPersister.getEntityName()
 						+ " e where " + uniquePropertyName + " in (:" + parameterName + ")",
@@ -52,16 +75,30 @@ public Query<E> createQueryForLoadByUniqueProperty(SessionImplementor session, S
 		);
 	}
 
-	private <T> Query<T> createQueryWithTypesFilter(SharedSessionContractImplementor session,
+	private <T> Query<T> createQueryWithRestrictions(SharedSessionContractImplementor session,
 			String hql, Class<T> returnedType, String entityAlias,
-			Set<? extends Class<? extends E>> includedTypesFilter) {
+			Set<? extends Class<? extends E>> includedTypesFilter, IdentifierRange range, String orderBy) {
+		StringJoiner restrictions = new StringJoiner( " and ", " where ", "" ).setEmptyValue( "" );
 		if ( !includedTypesFilter.isEmpty() ) {
-			hql += " where " + entityAlias + " .type() in (:types)";
+			restrictions.add( entityAlias + " .type() in (:types)" );
 		}
-		Query<T> query = session.createQuery( hql, returnedType );
+		if ( range.lowerBound() != null ) {
+			restrictions.add( entityAlias + "." + uniquePropertyName
+					+ ( range.lowerBoundInclusive() ? " >= " : " > " ) + ":lowerBound" );
+		}
+		if ( range.upperBound() != null ) {
+			restrictions.add( entityAlias + "." + uniquePropertyName + " < :upperBound" );
+		}
+		Query<T> query = session.createQuery( hql + restrictions + orderBy, returnedType );
 		if ( !includedTypesFilter.isEmpty() ) {
 			query.setParameterList( "types", includedTypesFilter );
 		}
+		if ( range.lowerBound() != null ) {
+			query.setParameter( "lowerBound", range.lowerBound() );
+		}
+		if ( range.upperBound() != null ) {
+			query.setParameter( "upperBound", range.upperBound() );
+		}
 		return query;
 	}
 }
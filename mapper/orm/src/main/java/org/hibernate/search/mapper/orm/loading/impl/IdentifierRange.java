@@ -0,0 +1,65 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.loading.impl;
+
+/**
+ * A range of identifiers, used to split the listing of identifiers into multiple queries.
+ * <p>
+ * Bounds are expected to be of the same type as the identifier; a {@code null} bound means "unbounded".
+ */
+public final class IdentifierRange {
+
+	private static final IdentifierRange ALL = new IdentifierRange( null, true, null );
+
+	public static IdentifierRange all() {
+		return ALL;
+	}
+
+	public static IdentifierRange between(Object lowerBoundInclusive, Object upperBoundExclusive) {
+		return new IdentifierRange( lowerBoundInclusive, true, upperBoundExclusive );
+	}
+
+	private final Object lowerBound;
+	private final boolean lowerBoundInclusive;
+	private final Object upperBound;
+
+	private IdentifierRange(Object lowerBound, boolean lowerBoundInclusive, Object upperBound) {
+		this.lowerBound = lowerBound;
+		this.lowerBoundInclusive = lowerBoundInclusive;
+		this.upperBound = upperBound;
+	}
+
+	@Override
+	public String toString() {
+		return ( lowerBoundInclusive ? "[" : "(" ) + ( lowerBound == null ? "" : lowerBound )
+				+ ", " + ( upperBound == null ? "" : upperBound ) + ")";
+	}
+
+	/**
+	 * @param identifier An identifier within this range.
+	 * @return The part of this range that is strictly after the given identifier.
+	 */
+	public IdentifierRange after(Object identifier) {
+		return new IdentifierRange( identifier, false, upperBound );
+	}
+
+	public Object lowerBound() {
+		return lowerBound;
+	}
+
+	public boolean lowerBoundInclusive() {
+		return lowerBoundInclusive;
+	}
+
+	/**
+	 * @return The upper bound of this range, always exclusive.
+	 */
+	public Object upperBound() {
+		return upperBound;
+	}
+
+}
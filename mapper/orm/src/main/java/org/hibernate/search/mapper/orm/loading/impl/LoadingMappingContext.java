@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.orm.loading.impl;
 
+import java.util.concurrent.Executor;
+
 import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
 
 public interface LoadingMappingContext {
@@ -14,4 +16,15 @@ public interface LoadingMappingContext {
 
 	int fetchSize();
 
+	/**
+	 * @return The maximum number of batches of entities loaded concurrently, across the whole application.
+	 */
+	int maxFetchParallelism();
+
+	/**
+	 * @return The executor to use when loading batches of entities in parallel.
+	 * Created on first call.
+	 */
+	Executor parallelLoadingExecutor();
+
 }
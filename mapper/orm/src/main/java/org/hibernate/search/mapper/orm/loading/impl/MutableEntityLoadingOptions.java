@@ -8,16 +8,22 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.search.util.common.impl.Contracts;
 
 public class MutableEntityLoadingOptions {
+	private final LoadingMappingContext mappingContext;
+
 	private int fetchSize;
 
+	private int fetchParallelism = 1;
+
 	private List<EntityGraphHint<?>> entityGraphHints;
 
 	public MutableEntityLoadingOptions(LoadingMappingContext mappingContext) {
+		this.mappingContext = mappingContext;
 		this.fetchSize = mappingContext.fetchSize();
 	}
 
@@ -30,6 +36,23 @@ public void fetchSize(int fetchSize) {
 		this.fetchSize = fetchSize;
 	}
 
+	public int fetchParallelism() {
+		return fetchParallelism;
+	}
+
+	public void fetchParallelism(int fetchParallelism) {
+		Contracts.assertStrictlyPositive( fetchParallelism, "fetchParallelism" );
+		this.fetchParallelism = fetchParallelism;
+	}
+
+	public int maxFetchParallelism() {
+		return mappingContext.maxFetchParallelism();
+	}
+
+	public Executor parallelLoadingExecutor() {
+		return mappingContext.parallelLoadingExecutor();
+	}
+
 	public EntityGraphHint<?> entityGraphHintOrNullForType(EntityPersister entityPersister) {
 		if ( entityGraphHints == null ) {
 			return null;
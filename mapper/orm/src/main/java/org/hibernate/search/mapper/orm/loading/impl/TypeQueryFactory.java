@@ -9,7 +9,6 @@
 import java.util.Set;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
-import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.metamodel.model.domain.spi.EntityTypeDescriptor;
 import org.hibernate.metamodel.spi.MetamodelImplementor;
@@ -33,12 +32,25 @@
 		}
 	}
 
+	Class<?> uniquePropertyJavaType();
+
 	Query<Long> createQueryForCount(SharedSessionContractImplementor session,
-			Set<? extends Class<? extends E>> includedTypesFilter);
+			Set<? extends Class<? extends E>> includedTypesFilter, IdentifierRange range);
 
+	/**
+	 * @return A query listing identifiers in the given range,
+	 * sorted in ascending order if {@code ordered} is {@code true}.
+	 */
 	Query<I> createQueryForIdentifierListing(SharedSessionContractImplementor session,
+			Set<? extends Class<? extends E>> includedTypesFilter, IdentifierRange range, boolean ordered);
+
+	/**
+	 * @return A query returning a single row containing the lowest and highest identifier, in that order.
+	 * Only works for identifiers with a natural order.
+	 */
+	Query<Object[]> createQueryForIdentifierBounds(SharedSessionContractImplementor session,
 			Set<? extends Class<? extends E>> includedTypesFilter);
 
-	Query<E> createQueryForLoadByUniqueProperty(SessionImplementor session, String parameterName);
+	Query<E> createQueryForLoadByUniqueProperty(SharedSessionContractImplementor session, String parameterName);
 
 }
@@ -12,6 +12,7 @@
 import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.WARN;
 
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.List;
 
@@ -289,4 +290,55 @@ SearchException foundMultipleEntitiesForDocumentId(String entityName, String doc
 
 	@Message(id = ID_OFFSET + 41, value = "No such bean in bean container '%1$s'.")
 	BeanNotFoundException beanNotFoundInBeanContainer(BeanContainer beanContainer);
+
+	@Message(id = ID_OFFSET + 42, value = "Cannot resume mass indexing from checkpoints: no checkpoint store was set."
+			+ " Set a checkpoint store with MassIndexer.checkpointStore(...) or MassIndexer.checkpointFile(...).")
+	SearchException cannotResumeMassIndexingWithoutCheckpointStore();
+
+	@Message(id = ID_OFFSET + 43, value = "Unable to load mass indexing checkpoints from file '%1$s': %2$s")
+	SearchException unableToLoadMassIndexingCheckpoints(Path file, String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 44, value = "Unable to save mass indexing checkpoints to file '%1$s': %2$s")
+	SearchException unableToSaveMassIndexingCheckpoints(Path file, String causeMessage, @Cause Exception cause);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 45, value = "Unable to save mass indexing checkpoints: %1$s")
+	void unableToSaveMassIndexingCheckpointsOnFailure(String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 46, value = "Unable to record an outbox event for entity type '%1$s' with document identifier '%2$s':"
+			+ " the entity instance is not available, and the document identifier is not the entity identifier."
+			+ " With automatic indexing strategy 'outbox-polling', Hibernate Search needs either the entity instance"
+			+ " or its entity identifier.")
+	SearchException cannotRecordOutboxEventWithoutEntityId(String entityName, Object providedId);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 47, value = "Unable to delete entity '%1$s' with identifier '%2$s' from the index:"
+			+ " the entity no longer exists, and its document identifier is not the entity identifier."
+			+ " Reindex this entity type to remove the corresponding document.")
+	void cannotDeleteFromOutboxEvent(String entityName, Object entityId);
+
+	@Message(id = ID_OFFSET + 48, value = "Unable to find Jandex index '%1$s' in the classpath.")
+	SearchException unableToFindJandexIndex(String resourceName);
+
+	@Message(id = ID_OFFSET + 49, value = "Unable to read Jandex index '%1$s': %2$s")
+	SearchException unableToReadJandexIndex(String resourceName, String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET + 50, value = "Invalid Jandex index '%1$s': expected the path to a Jandex index resource"
+			+ " or an instance of '%2$s'.")
+	SearchException invalidJandexIndex(Object value, @FormatWith(ClassFormatter.class) Class<?> expectedType);
+
+	@Message(id = ID_OFFSET + 51, value = "Invalid property read strategy name: '%1$s'."
+			+ " Valid names are: %2$s.")
+	SearchException invalidPropertyReadStrategyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@LogMessage(level = WARN)
+	@Message(id = ID_OFFSET + 52, value = "Abandoning outbox events for entity '%1$s' with identifier '%2$s'"
+			+ " after %3$s failed processing attempts: these events will no longer be processed."
+			+ " Fix the cause of the failure, reindex this entity, then delete the events with identifiers %4$s"
+			+ " from table '%5$s'.")
+	void abandoningOutboxEvents(String entityName, Object entityId, int attempts, List<Long> eventIds,
+			String tableName);
+
+	@Message(value = "Processing of outbox events for automatic indexing")
+	String outboxEventProcessing();
 }
@@ -0,0 +1,59 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.mapping;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.engine.cfg.spi.ParseUtils;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public enum PropertyReadStrategyName {
+
+	/**
+	 * A strategy that reads the value of properties through {@link java.lang.invoke.MethodHandle}s.
+	 */
+	METHOD_HANDLE( "method-handle" ),
+
+	/**
+	 * A strategy that reads the value of properties through classes generated on startup
+	 * by {@link java.lang.invoke.LambdaMetafactory}, which call getters directly.
+	 * <p>
+	 * This allows the JIT to inline getters when building documents,
+	 * at the cost of generating one class per getter on startup.
+	 * <p>
+	 * Only applies to public getters of public types:
+	 * fields and other getters are read through {@link java.lang.invoke.MethodHandle}s,
+	 * as with {@link #METHOD_HANDLE}.
+	 */
+	LAMBDA_METAFACTORY( "lambda-metafactory" );
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static PropertyReadStrategyName of(String value) {
+		return ParseUtils.parseDiscreteValues(
+				PropertyReadStrategyName.values(),
+				PropertyReadStrategyName::externalRepresentation,
+				log::invalidPropertyReadStrategyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	PropertyReadStrategyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	public String externalRepresentation() {
+		return externalRepresentation;
+	}
+}
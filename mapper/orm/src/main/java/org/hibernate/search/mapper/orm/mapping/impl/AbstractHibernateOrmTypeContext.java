@@ -9,6 +9,7 @@
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.OutboxTypeContext;
 import org.hibernate.search.mapper.orm.event.impl.HibernateOrmListenerTypeContext;
 import org.hibernate.search.mapper.orm.scope.impl.HibernateOrmScopeTypeContext;
 import org.hibernate.search.mapper.orm.session.impl.HibernateOrmSessionTypeContext;
@@ -18,7 +19,7 @@
 
 abstract class AbstractHibernateOrmTypeContext<E>
 		implements HibernateOrmScopeTypeContext<E>, HibernateOrmListenerTypeContext,
-				HibernateOrmSessionTypeContext<E> {
+				HibernateOrmSessionTypeContext<E>, OutboxTypeContext {
 
 	private final PojoRawTypeIdentifier<E> typeIdentifier;
 	private final String jpaEntityName;
@@ -48,10 +49,12 @@ public String jpaEntityName() {
 		return jpaEntityName;
 	}
 
+	@Override
 	public String hibernateOrmEntityName() {
 		return entityPersister.getEntityName();
 	}
 
+	@Override
 	public EntityPersister entityPersister() {
 		return entityPersister;
 	}
@@ -19,6 +19,16 @@ private HibernateOrmContainedTypeContext(HibernateOrmContainedTypeContext.Builde
 		super( builder, sessionFactory );
 	}
 
+	@Override
+	public boolean indexed() {
+		return false;
+	}
+
+	@Override
+	public boolean providedIdIsEntityId() {
+		return true;
+	}
+
 	@Override
 	public Object toIndexingPlanProvidedId(Object entityId) {
 		// The concept of document ID is not relevant for contained types,
@@ -69,6 +69,16 @@ public IndexManager indexManager() {
 		return indexManager.toAPI();
 	}
 
+	@Override
+	public boolean indexed() {
+		return true;
+	}
+
+	@Override
+	public boolean providedIdIsEntityId() {
+		return documentIdIsEntityId;
+	}
+
 	@Override
 	public Object toIndexingPlanProvidedId(Object entityId) {
 		if ( documentIdIsEntityId ) {
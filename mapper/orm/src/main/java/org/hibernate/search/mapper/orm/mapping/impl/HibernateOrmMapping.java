@@ -13,10 +13,13 @@
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 
 import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.search.engine.backend.Backend;
@@ -24,6 +27,7 @@
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.common.spi.SearchIntegration;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
@@ -33,6 +37,8 @@
 import org.hibernate.search.engine.mapper.mapping.spi.MappingPreStopContext;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingStartContext;
 import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.OutboxEventProcessor;
 import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
 import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.common.impl.HibernateOrmUtils;
@@ -60,6 +66,7 @@
 import org.hibernate.search.mapper.pojo.schema.management.spi.PojoScopeSchemaManager;
 import org.hibernate.search.mapper.pojo.scope.spi.PojoScopeDelegate;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -70,6 +77,36 @@ public class HibernateOrmMapping extends AbstractPojoMappingImplementor<Hibernat
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final ConfigurationProperty<AutomaticIndexingStrategyName> AUTOMATIC_INDEXING_STRATEGY =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_STRATEGY )
+					.as( AutomaticIndexingStrategyName.class, AutomaticIndexingStrategyName::of )
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_STRATEGY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_OUTBOX_POLLING_POLLING_INTERVAL =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_POLLING_INTERVAL )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_POLLING_POLLING_INTERVAL )
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_OUTBOX_POLLING_BATCH_SIZE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_BATCH_SIZE )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_POLLING_BATCH_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_OUTBOX_POLLING_MAX_ATTEMPTS =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_MAX_ATTEMPTS )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_POLLING_MAX_ATTEMPTS )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> AUTOMATIC_INDEXING_OUTBOX_POLLING_PROCESSOR_ENABLED =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_PROCESSOR_ENABLED )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_POLLING_PROCESSOR_ENABLED )
+					.build();
+
 	private static final ConfigurationProperty<BeanReference<? extends AutomaticIndexingSynchronizationStrategy>> AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY =
 			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY )
 					.asBeanReference( AutomaticIndexingSynchronizationStrategy.class )
@@ -88,6 +125,17 @@ public class HibernateOrmMapping extends AbstractPojoMappingImplementor<Hibernat
 					.withDefault( HibernateOrmMapperSettings.Defaults.QUERY_LOADING_FETCH_SIZE )
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> QUERY_LOADING_MAX_FETCH_PARALLELISM =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.QUERY_LOADING_MAX_FETCH_PARALLELISM )
+					.asInteger()
+					.build();
+
+	// Not a Hibernate Search property: this is read from the unprefixed Hibernate ORM properties.
+	private static final OptionalConfigurationProperty<Integer> ORM_POOL_SIZE =
+			ConfigurationProperty.forKey( AvailableSettings.POOL_SIZE )
+					.asInteger()
+					.build();
+
 	private static final ConfigurationProperty<SchemaManagementStrategyName> SCHEMA_MANAGEMENT_STRATEGY =
 			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.SCHEMA_MANAGEMENT_STRATEGY )
 					.as( SchemaManagementStrategyName.class, SchemaManagementStrategyName::of )
@@ -109,15 +157,29 @@ public static MappingImplementor<HibernateOrmMapping> create(
 
 			int fetchSize = QUERY_LOADING_FETCH_SIZE.get( propertySource );
 
+			int maxFetchParallelism = QUERY_LOADING_MAX_FETCH_PARALLELISM.get( propertySource )
+					.orElseGet( () -> defaultMaxFetchParallelism( sessionFactory ) );
+
 			SchemaManagementStrategyName schemaManagementStrategyName = SCHEMA_MANAGEMENT_STRATEGY.get( propertySource );
 			SchemaManagementListener schemaManagementListener = new SchemaManagementListener( schemaManagementStrategyName );
 
-			return new HibernateOrmMapping(
+			boolean outboxPollingEnabled = AutomaticIndexingStrategyName.OUTBOX_POLLING.equals(
+					AUTOMATIC_INDEXING_STRATEGY.get( propertySource ) );
+
+			HibernateOrmMapping mapping = new HibernateOrmMapping(
 					mappingDelegate, typeContextContainer, sessionFactory,
 					synchronizationStrategyHolder,
-					cacheLookupStrategy, fetchSize,
-					schemaManagementListener
+					cacheLookupStrategy, fetchSize, maxFetchParallelism,
+					schemaManagementListener,
+					outboxPollingEnabled
 			);
+			if ( outboxPollingEnabled && AUTOMATIC_INDEXING_OUTBOX_POLLING_PROCESSOR_ENABLED.get( propertySource ) ) {
+				mapping.outboxEventProcessor = new OutboxEventProcessor( sessionFactory, mapping, typeContextContainer,
+						AUTOMATIC_INDEXING_OUTBOX_POLLING_POLLING_INTERVAL.get( propertySource ),
+						AUTOMATIC_INDEXING_OUTBOX_POLLING_BATCH_SIZE.get( propertySource ),
+						AUTOMATIC_INDEXING_OUTBOX_POLLING_MAX_ATTEMPTS.get( propertySource ) );
+			}
+			return mapping;
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
@@ -126,32 +188,51 @@ public static MappingImplementor<HibernateOrmMapping> create(
 		}
 	}
 
+	private static int defaultMaxFetchParallelism(SessionFactoryImplementor sessionFactory) {
+		// Parallel loading uses connections in addition to those of sessions executing search queries:
+		// leave at least half of the connection pool to these sessions.
+		return ORM_POOL_SIZE.get( ConfigurationPropertySource.fromMap( sessionFactory.getProperties() ) )
+				.filter( poolSize -> poolSize > 0 )
+				.map( poolSize -> Math.max( 1, poolSize / 2 ) )
+				.orElse( HibernateOrmMapperSettings.Defaults.QUERY_LOADING_MAX_FETCH_PARALLELISM );
+	}
+
 	private final SessionFactoryImplementor sessionFactory;
 	private final HibernateOrmTypeContextContainer typeContextContainer;
 	private final BeanHolder<? extends AutomaticIndexingSynchronizationStrategy> defaultSynchronizationStrategyHolder;
 	private final EntityLoadingCacheLookupStrategy cacheLookupStrategy;
 	private final int fetchSize;
+	private final int maxFetchParallelism;
 
 	private final SchemaManagementListener schemaManagementListener;
+	private final boolean outboxPollingEnabled;
+	private OutboxEventProcessor outboxEventProcessor;
+	private volatile ExecutorService parallelLoadingExecutor;
 
 	private HibernateOrmMapping(PojoMappingDelegate mappingDelegate,
 			HibernateOrmTypeContextContainer typeContextContainer,
 			SessionFactoryImplementor sessionFactory,
 			BeanHolder<? extends AutomaticIndexingSynchronizationStrategy> defaultSynchronizationStrategyHolder,
 			EntityLoadingCacheLookupStrategy cacheLookupStrategy,
-			int fetchSize,
-			SchemaManagementListener schemaManagementListener) {
+			int fetchSize, int maxFetchParallelism,
+			SchemaManagementListener schemaManagementListener,
+			boolean outboxPollingEnabled) {
 		super( mappingDelegate );
 		this.typeContextContainer = typeContextContainer;
 		this.sessionFactory = sessionFactory;
 		this.defaultSynchronizationStrategyHolder = defaultSynchronizationStrategyHolder;
 		this.cacheLookupStrategy = cacheLookupStrategy;
 		this.fetchSize = fetchSize;
+		this.maxFetchParallelism = maxFetchParallelism;
 		this.schemaManagementListener = schemaManagementListener;
+		this.outboxPollingEnabled = outboxPollingEnabled;
 	}
 
 	@Override
 	public CompletableFuture<?> start(MappingStartContext context) {
+		if ( outboxEventProcessor != null ) {
+			outboxEventProcessor.start( threadPoolProvider() );
+		}
 		Optional<SearchScopeImpl<Object>> scope = createAllScope();
 		if ( !scope.isPresent() ) {
 			// No indexed type
@@ -163,6 +244,10 @@ public CompletableFuture<?> start(MappingStartContext context) {
 
 	@Override
 	public CompletableFuture<?> preStop(MappingPreStopContext context) {
+		if ( outboxEventProcessor != null ) {
+			// Stop indexing before the schema gets dropped
+			outboxEventProcessor.stop();
+		}
 		Optional<SearchScopeImpl<Object>> scope = createAllScope();
 		if ( !scope.isPresent() ) {
 			// No indexed type
@@ -174,7 +259,11 @@ public CompletableFuture<?> preStop(MappingPreStopContext context) {
 
 	@Override
 	protected void doStop() {
-		defaultSynchronizationStrategyHolder.close();
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.push( OutboxEventProcessor::stop, outboxEventProcessor );
+			closer.push( ExecutorService::shutdownNow, parallelLoadingExecutor );
+			closer.push( BeanHolder::close, defaultSynchronizationStrategyHolder );
+		}
 	}
 
 	@Override
@@ -254,6 +343,28 @@ public int fetchSize() {
 		return fetchSize;
 	}
 
+	@Override
+	public int maxFetchParallelism() {
+		return maxFetchParallelism;
+	}
+
+	@Override
+	public Executor parallelLoadingExecutor() {
+		ExecutorService executor = parallelLoadingExecutor;
+		if ( executor == null ) {
+			synchronized ( this ) {
+				executor = parallelLoadingExecutor;
+				if ( executor == null ) {
+					// Most applications never load entities in parallel: only create threads when necessary.
+					// Each thread uses its own database connection: bound the number of threads accordingly.
+					executor = threadPoolProvider().newFixedThreadPool( maxFetchParallelism, "Entity loading" );
+					parallelLoadingExecutor = executor;
+				}
+			}
+		}
+		return executor;
+	}
+
 	@Override
 	public SessionFactoryImplementor sessionFactory() {
 		return sessionFactory;
@@ -269,6 +380,11 @@ public FailureHandler failureHandler() {
 		return delegate().failureHandler();
 	}
 
+	@Override
+	public boolean outboxPollingEnabled() {
+		return outboxPollingEnabled;
+	}
+
 	@Override
 	public HibernateOrmScopeSessionContext sessionContext(EntityManager entityManager) {
 		return HibernateOrmSearchSession.get( this, HibernateOrmUtils.toSessionImplementor( entityManager ) );
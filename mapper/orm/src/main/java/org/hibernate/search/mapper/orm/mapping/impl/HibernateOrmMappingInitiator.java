@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.orm.mapping.impl;
 
+import java.util.List;
+
 import org.hibernate.MultiTenancyStrategy;
 import org.hibernate.annotations.common.reflection.ReflectionManager;
 import org.hibernate.boot.Metadata;
@@ -39,6 +41,12 @@ public class HibernateOrmMappingInitiator extends AbstractPojoMappingInitiator<H
 					.withDefault( HibernateOrmMapperSettings.Defaults.MAPPING_PROCESS_ANNOTATIONS )
 					.build();
 
+	private static final OptionalConfigurationProperty<List<Object>> MAPPING_JANDEX_INDEXES =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.MAPPING_JANDEX_INDEXES )
+					.as( Object.class, value -> value )
+					.multivalued()
+					.build();
+
 	private static final OptionalConfigurationProperty<BeanReference<? extends HibernateOrmSearchMappingConfigurer>> MAPPING_CONFIGURER =
 			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.MAPPING_CONFIGURER )
 					.asBeanReference( HibernateOrmSearchMappingConfigurer.class )
@@ -93,6 +101,10 @@ public void configure(MappingBuildContext buildContext,
 		if ( processAnnotations ) {
 			annotatedTypeDiscoveryEnabled( true );
 
+			MAPPING_JANDEX_INDEXES.getAndMap( propertySource, indexReferences -> JandexAnnotatedTypeFilter.create(
+					indexReferences, buildContext.classResolver(), buildContext.resourceResolver() ) )
+					.ifPresent( this::annotatedTypeFilter );
+
 			AnnotationMappingConfigurationContext annotationMapping = annotationMapping();
 			for ( PersistentClass persistentClass : basicTypeMetadataProvider.getPersistentClasses() ) {
 				if ( persistentClass.hasPojoRepresentation() ) {
@@ -17,6 +17,7 @@
 import org.hibernate.search.mapper.orm.loading.impl.LoadingIndexedTypeContextProvider;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.model.impl.HibernateOrmBasicTypeMetadataProvider;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.OutboxTypeContextProvider;
 import org.hibernate.search.mapper.orm.event.impl.HibernateOrmListenerTypeContextProvider;
 import org.hibernate.search.mapper.orm.model.impl.HibernateOrmRawTypeIdentifierResolver;
 import org.hibernate.search.mapper.orm.session.impl.HibernateOrmSessionTypeContextProvider;
@@ -26,7 +27,8 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 class HibernateOrmTypeContextContainer implements HibernateOrmListenerTypeContextProvider,
-		HibernateOrmSessionTypeContextProvider, LoadingIndexedTypeContextProvider, BatchTypeIdentifierProvider {
+		HibernateOrmSessionTypeContextProvider, LoadingIndexedTypeContextProvider, BatchTypeIdentifierProvider,
+		OutboxTypeContextProvider {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -74,6 +76,18 @@ public <E> HibernateOrmContainedTypeContext<E> containedForExactType(PojoRawType
 		return (HibernateOrmContainedTypeContext<E>) containedTypeContexts.get( typeIdentifier );
 	}
 
+	@Override
+	public AbstractHibernateOrmTypeContext<?> forExactType(PojoRawTypeIdentifier<?> typeIdentifier) {
+		AbstractHibernateOrmTypeContext<?> result = indexedTypeContexts.get( typeIdentifier );
+		if ( result != null ) {
+			return result;
+		}
+
+		result = containedTypeContexts.get( typeIdentifier );
+
+		return result;
+	}
+
 	@Override
 	public AbstractHibernateOrmTypeContext<?> forHibernateOrmEntityName(String hibernateOrmEntityName) {
 		AbstractHibernateOrmTypeContext<?> result =
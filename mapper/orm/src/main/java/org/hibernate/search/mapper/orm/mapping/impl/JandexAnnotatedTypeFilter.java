@@ -0,0 +1,137 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.mapping.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.engine.environment.classpath.spi.ClassResolver;
+import org.hibernate.search.engine.environment.classpath.spi.ResourceResolver;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.processing.PropertyMapping;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.processing.TypeMapping;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoAnnotatedTypeFilter;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.CompositeIndex;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexView;
+
+/**
+ * A filter relying on pre-built Jandex indexes to tell which types carry mapping annotations,
+ * so that types without any mapping annotation do not need to be inspected using reflection.
+ * <p>
+ * Types that are not part of the indexes are assumed to carry mapping annotations,
+ * so that they will be inspected using reflection, as usual.
+ */
+final class JandexAnnotatedTypeFilter implements PojoAnnotatedTypeFilter {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	static JandexAnnotatedTypeFilter create(List<Object> indexReferences, ClassResolver classResolver,
+			ResourceResolver resourceResolver) {
+		List<IndexView> indexes = new ArrayList<>( indexReferences.size() );
+		for ( Object indexReference : indexReferences ) {
+			if ( indexReference instanceof IndexView ) {
+				indexes.add( (IndexView) indexReference );
+			}
+			else if ( indexReference instanceof String ) {
+				indexes.add( readIndex( (String) indexReference, resourceResolver ) );
+			}
+			else {
+				throw log.invalidJandexIndex( indexReference, IndexView.class );
+			}
+		}
+		return new JandexAnnotatedTypeFilter( CompositeIndex.create( indexes ), classResolver );
+	}
+
+	private static IndexView readIndex(String resourceName, ResourceResolver resourceResolver) {
+		InputStream stream = resourceResolver.locateResourceStream( resourceName );
+		if ( stream == null ) {
+			throw log.unableToFindJandexIndex( resourceName );
+		}
+		try ( InputStream closeableStream = stream ) {
+			return new IndexReader( closeableStream ).read();
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToReadJandexIndex( resourceName, e.getMessage(), e );
+		}
+	}
+
+	private final IndexView index;
+	private final ClassResolver classResolver;
+	// Only used during bootstrap, from a single thread.
+	private final Map<DotName, Boolean> mappingAnnotationCache = new HashMap<>();
+
+	private JandexAnnotatedTypeFilter(IndexView index, ClassResolver classResolver) {
+		this.index = index;
+		this.classResolver = classResolver;
+	}
+
+	@Override
+	public boolean mayBeAnnotated(Class<?> type) {
+		ClassInfo classInfo = index.getClassByName( DotName.createSimple( type.getName() ) );
+		if ( classInfo == null ) {
+			// Not indexed: we don't know anything about this type.
+			return true;
+		}
+		// This includes annotations on the type itself and on its fields and methods.
+		for ( DotName annotationName : classInfo.annotations().keySet() ) {
+			if ( isMappingAnnotation( annotationName ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean isMappingAnnotation(DotName annotationName) {
+		Boolean result = mappingAnnotationCache.get( annotationName );
+		if ( result == null ) {
+			result = isMappingAnnotation( annotationName.toString() );
+			mappingAnnotationCache.put( annotationName, result );
+		}
+		return result;
+	}
+
+	private boolean isMappingAnnotation(String annotationClassName) {
+		Class<?> annotationType;
+		try {
+			annotationType = classResolver.classForName( annotationClassName );
+		}
+		catch (RuntimeException e) {
+			// Be on the safe side: let the reflective inspection handle this annotation.
+			return true;
+		}
+		if ( !annotationType.isAnnotation() ) {
+			return false;
+		}
+		if ( hasMappingMetaAnnotation( annotationType ) ) {
+			return true;
+		}
+		// Containing annotation for repeatable mapping annotations, e.g. @GenericField.List
+		try {
+			Method valueMethod = annotationType.getDeclaredMethod( "value" );
+			Class<?> valueType = valueMethod.getReturnType();
+			return valueType.isArray() && hasMappingMetaAnnotation( valueType.getComponentType() );
+		}
+		catch (NoSuchMethodException e) {
+			return false;
+		}
+	}
+
+	private static boolean hasMappingMetaAnnotation(Class<?> type) {
+		return type.isAnnotationPresent( TypeMapping.class ) || type.isAnnotationPresent( PropertyMapping.class );
+	}
+}
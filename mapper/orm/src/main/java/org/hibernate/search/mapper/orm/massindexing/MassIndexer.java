@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.orm.massindexing;
 
+import java.nio.file.Path;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
@@ -40,6 +41,25 @@ public interface MassIndexer {
 	 */
 	MassIndexer threadsToLoadObjects(int numberOfThreads);
 
+	/**
+	 * Sets the number of threads to be used to load the identifiers of root entities.
+	 * <p>
+	 * With a value higher than {@code 1}, the identifier space of each entity type
+	 * is split into contiguous ranges based on the minimum and maximum identifier,
+	 * and each range is scanned by a separate thread.
+	 * This is only possible for integral numeric identifiers ({@code long}, {@code int}, ...)
+	 * and when {@link #limitIndexedObjectsTo(long) the number of indexed objects} is not limited;
+	 * in any other case, identifiers are loaded by a single thread.
+	 * <p>
+	 * Identifiers will be loaded in multiple transactions,
+	 * so this should only be used when the data does not change during mass indexing.
+	 * <p>
+	 * Defaults to {@code 1}.
+	 * @param numberOfThreads the number of threads
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer threadsToLoadIdentifiers(int numberOfThreads);
+
 	/**
 	 * Sets the batch size used to load the root entities.
 	 * @param batchSize the batch size
@@ -47,6 +67,23 @@ public interface MassIndexer {
 	 */
 	MassIndexer batchSizeToLoadObjects(int batchSize);
 
+	/**
+	 * Sets the maximum number of batches each entity loading thread may have "in flight",
+	 * i.e. loaded and submitted for indexing, but not yet indexed.
+	 * <p>
+	 * With a value higher than {@code 1}, a thread will load the next batch of entities
+	 * while the previous ones are still being indexed,
+	 * and will only wait for indexing to complete when this limit is reached.
+	 * This increases throughput when indexing is slow compared to loading,
+	 * e.g. with a remote backend,
+	 * at the cost of keeping more (detached) entities in memory.
+	 * <p>
+	 * Defaults to {@code 1}: each thread waits for a batch to be indexed before loading the next one.
+	 * @param numberOfBatches the maximum number of batches in flight for each entity loading thread
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer batchesInFlightPerThread(int numberOfBatches);
+
 	/**
 	 * Sets the cache interaction mode for the data loading tasks.
 	 * <p>
@@ -107,6 +144,52 @@ public interface MassIndexer {
 	 */
 	MassIndexer purgeAllOnStart(boolean purgeAll);
 
+	/**
+	 * Sets the store used to persist checkpoints during mass indexing,
+	 * i.e. the last identifier whose entity was indexed for each type and each identifier range,
+	 * so that mass indexing can be {@link #resumeFromCheckpoints(boolean) resumed} after a failure.
+	 * <p>
+	 * Checkpoints are saved periodically, after the indexes were flushed.
+	 * Checkpoints are removed when mass indexing completes successfully.
+	 * <p>
+	 * Identifiers must be {@link java.io.Serializable serializable} and have a natural order,
+	 * since entities are indexed in identifier order when checkpoints are enabled.
+	 * <p>
+	 * Defaults to no store, i.e. checkpoints are disabled.
+	 * @param store The checkpoint store.
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer checkpointStore(MassIndexingCheckpointStore store);
+
+	/**
+	 * Persists checkpoints to a file.
+	 * <p>
+	 * This is a shorthand for {@link #checkpointStore(MassIndexingCheckpointStore)}
+	 * with the built-in, file-based store.
+	 * @param file The path to the file where checkpoints will be saved.
+	 * The file will be created if it does not exist.
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer checkpointFile(Path file);
+
+	/**
+	 * Resumes mass indexing from the checkpoints saved by a previous, failed execution.
+	 * <p>
+	 * When enabled, the indexes are neither purged nor dropped on start,
+	 * regardless of {@link #purgeAllOnStart(boolean)} and {@link #dropAndCreateSchemaOnStart(boolean)},
+	 * and entities are only indexed if their identifier is after the checkpoint of their type and identifier range.
+	 * Entities that were indexed after the last checkpoint was saved will be indexed again
+	 * and will replace the existing documents.
+	 * <p>
+	 * Requires a {@link #checkpointStore(MassIndexingCheckpointStore) checkpoint store}.
+	 * If the store does not contain any checkpoint, all entities will be indexed.
+	 * <p>
+	 * Defaults to {@code false}.
+	 * @param enable {@code true} to resume from checkpoints, {@code false} to start from scratch.
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer resumeFromCheckpoints(boolean enable);
+
 	/**
 	 * Stops indexing after having indexed a set amount of objects.
 	 * <p>
@@ -0,0 +1,54 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing;
+
+import java.io.Serializable;
+import java.util.Map;
+
+/**
+ * A component that persists mass indexing checkpoints,
+ * so that mass indexing can be {@link MassIndexer#resumeFromCheckpoints(boolean) resumed}
+ * after a failure instead of starting from scratch.
+ * <p>
+ * Checkpoints are opaque, serializable objects identified by a string key;
+ * the store only needs to persist them and return them as they were saved.
+ * The built-in store writes checkpoints to a file:
+ * see {@link MassIndexer#checkpointFile(java.nio.file.Path)}.
+ * A custom store, for example one persisting checkpoints to a database,
+ * can be set by implementing this interface
+ * and passing an instance to {@link MassIndexer#checkpointStore(MassIndexingCheckpointStore)}.
+ * <p>
+ * Implementations must be threadsafe.
+ */
+public interface MassIndexingCheckpointStore {
+
+	/**
+	 * Loads the checkpoints passed to the last call to {@link #save(Map)}.
+	 *
+	 * @return The saved checkpoints, or an empty map if there are none.
+	 */
+	Map<String, Serializable> load();
+
+	/**
+	 * Saves checkpoints, replacing any previously saved checkpoint.
+	 * <p>
+	 * This method is invoked periodically during mass indexing, and once more at the end of mass indexing
+	 * if it did not complete successfully.
+	 *
+	 * @param checkpoints The checkpoints to save.
+	 */
+	void save(Map<String, Serializable> checkpoints);
+
+	/**
+	 * Removes all saved checkpoints.
+	 * <p>
+	 * This method is invoked when mass indexing starts without resuming,
+	 * and when mass indexing completes successfully.
+	 */
+	void clear();
+
+}
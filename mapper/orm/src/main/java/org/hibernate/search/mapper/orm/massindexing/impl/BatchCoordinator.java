@@ -17,6 +17,7 @@
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.engine.reporting.spi.RootFailureCollector;
 import org.hibernate.search.mapper.orm.logging.impl.HibernateOrmEventContextMessages;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.pojo.schema.management.spi.PojoScopeSchemaManager;
 import org.hibernate.search.mapper.pojo.work.spi.PojoScopeWorkspace;
 import org.hibernate.search.util.common.AssertionFailure;
@@ -39,9 +40,12 @@ public class BatchCoordinator extends FailureHandledRunnable {
 	private final PojoScopeWorkspace scopeWorkspace;
 
 	private final int typesToIndexInParallel;
+	private final int identifierLoadingThreads;
 	private final int documentBuilderThreads;
 	private final CacheMode cacheMode;
 	private final int objectLoadingBatchSize;
+	private final int batchesInFlightPerThread;
+	private final MassIndexingCheckpointer checkpointer;
 	private final boolean mergeSegmentsOnFinish;
 	private final boolean dropAndCreateSchemaOnStart;
 	private final boolean purgeAtStart;
@@ -56,8 +60,9 @@ public class BatchCoordinator extends FailureHandledRunnable {
 			MassIndexingNotifier notifier,
 			List<MassIndexingIndexedTypeGroup<?, ?>> typeGroupsToIndex,
 			PojoScopeSchemaManager scopeSchemaManager, PojoScopeWorkspace scopeWorkspace,
-			int typesToIndexInParallel, int documentBuilderThreads, CacheMode cacheMode,
-			int objectLoadingBatchSize, long objectsLimit, boolean mergeSegmentsOnFinish,
+			int typesToIndexInParallel, int identifierLoadingThreads, int documentBuilderThreads, CacheMode cacheMode,
+			int objectLoadingBatchSize, int batchesInFlightPerThread, MassIndexingCheckpointStore checkpointStore,
+			boolean resumeFromCheckpoints, long objectsLimit, boolean mergeSegmentsOnFinish,
 			boolean dropAndCreateSchemaOnStart, boolean purgeAtStart, boolean mergeSegmentsAfterPurge,
 			int idFetchSize, Integer transactionTimeout) {
 		super( notifier );
@@ -70,9 +75,13 @@ public class BatchCoordinator extends FailureHandledRunnable {
 		this.idFetchSize = idFetchSize;
 		this.transactionTimeout = transactionTimeout;
 		this.typesToIndexInParallel = typesToIndexInParallel;
+		this.identifierLoadingThreads = identifierLoadingThreads;
 		this.documentBuilderThreads = documentBuilderThreads;
 		this.cacheMode = cacheMode;
 		this.objectLoadingBatchSize = objectLoadingBatchSize;
+		this.batchesInFlightPerThread = batchesInFlightPerThread;
+		this.checkpointer = checkpointStore == null ? null
+				: new MassIndexingCheckpointer( checkpointStore, scopeWorkspace, resumeFromCheckpoints );
 		this.mergeSegmentsOnFinish = mergeSegmentsOnFinish;
 		this.dropAndCreateSchemaOnStart = dropAndCreateSchemaOnStart;
 		this.purgeAtStart = purgeAtStart;
@@ -97,11 +106,17 @@ protected void cleanUpOnInterruption() throws InterruptedException {
 		// Indexing performed before the exception must still be committed,
 		// in order to leave the index in a consistent state
 		afterBatchOnInterruption();
+		if ( checkpointer != null ) {
+			checkpointer.saveOnFailure();
+		}
 	}
 
 	@Override
 	protected void cleanUpOnFailure() {
 		cancelPendingTasks();
+		if ( checkpointer != null ) {
+			checkpointer.saveOnFailure();
+		}
 	}
 
 	@Override
@@ -153,8 +168,8 @@ private <E, I> BatchIndexingWorkspace<E, I> createBatchIndexingWorkspace(
 		return new BatchIndexingWorkspace<>(
 				mappingContext, sessionContext, getNotifier(),
 				typeGroup,
-				documentBuilderThreads, cacheMode,
-				objectLoadingBatchSize,
+				identifierLoadingThreads, documentBuilderThreads, cacheMode,
+				objectLoadingBatchSize, batchesInFlightPerThread, checkpointer,
 				objectsLimit, idFetchSize, transactionTimeout
 		);
 	}
@@ -168,6 +183,9 @@ private void afterBatch() throws InterruptedException {
 		}
 		Futures.unwrappedExceptionGet( scopeWorkspace.flush() );
 		Futures.unwrappedExceptionGet( scopeWorkspace.refresh() );
+		if ( checkpointer != null ) {
+			checkpointer.complete();
+		}
 	}
 
 	/**
@@ -182,6 +200,14 @@ private void afterBatchOnInterruption() throws InterruptedException {
 	 * Optional operations to do before the multiple-threads start indexing
 	 */
 	private void beforeBatch() throws InterruptedException {
+		if ( checkpointer != null ) {
+			checkpointer.start();
+			if ( checkpointer.isResuming() ) {
+				// Resuming: the indexes already contain the documents indexed before the checkpoints.
+				return;
+			}
+		}
+
 		if ( this.dropAndCreateSchemaOnStart ) {
 			RootFailureCollector failureCollector = new RootFailureCollector(
 					HibernateOrmEventContextMessages.INSTANCE.schemaManagement()
@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
@@ -16,6 +17,7 @@
 import org.hibernate.CacheMode;
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.mapper.orm.loading.impl.HibernateOrmQueryLoader;
+import org.hibernate.search.mapper.orm.loading.impl.IdentifierRange;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Futures;
@@ -40,13 +42,16 @@
 	private final MassIndexingIndexedTypeGroup<E, I> typeGroup;
 	private final HibernateOrmQueryLoader<? super E, I> typeGroupLoader;
 
-	private final ProducerConsumerQueue<List<I>> primaryKeyStream;
+	private ProducerConsumerQueue<List<I>> primaryKeyStream;
 
+	private final int identifierLoadingThreads;
 	private final int documentBuilderThreads;
 
 	// loading options
 	private final CacheMode cacheMode;
 	private final int objectLoadingBatchSize;
+	private final int batchesInFlightPerThread;
+	private final MassIndexingCheckpointer checkpointer;
 
 	private final long objectsLimit;
 
@@ -60,7 +65,8 @@
 			DetachedBackendSessionContext sessionContext,
 			MassIndexingNotifier notifier,
 			MassIndexingIndexedTypeGroup<E, I> typeGroup,
-			int objectLoadingThreads, CacheMode cacheMode, int objectLoadingBatchSize,
+			int identifierLoadingThreads, int objectLoadingThreads, CacheMode cacheMode, int objectLoadingBatchSize,
+			int batchesInFlightPerThread, MassIndexingCheckpointer checkpointer,
 			long objectsLimit,
 			int idFetchSize, Integer transactionTimeout) {
 		super( notifier );
@@ -73,14 +79,14 @@
 		this.transactionTimeout = transactionTimeout;
 
 		//thread pool sizing:
+		this.identifierLoadingThreads = identifierLoadingThreads;
 		this.documentBuilderThreads = objectLoadingThreads;
 
 		//loading options:
 		this.cacheMode = cacheMode;
 		this.objectLoadingBatchSize = objectLoadingBatchSize;
-
-		//pipelining queues:
-		this.primaryKeyStream = new ProducerConsumerQueue<>( 1 );
+		this.batchesInFlightPerThread = batchesInFlightPerThread;
+		this.checkpointer = checkpointer;
 
 		this.objectsLimit = objectsLimit;
 	}
@@ -93,9 +99,20 @@ public void runWithFailureHandler() throws InterruptedException {
 
 		final BatchTransactionalContext transactionalContext =
 				new BatchTransactionalContext( mappingContext.sessionFactory() );
+		List<IdentifierRange> identifierRanges = checkpointer == null ? Collections.emptyList()
+				: checkpointer.resumedRanges( typeGroup.includedEntityNames() );
+		if ( identifierRanges.isEmpty() ) {
+			identifierRanges = computeIdentifierRanges( transactionalContext );
+		}
+		if ( identifierRanges == null ) {
+			// Failure was already reported.
+			return;
+		}
+		//pipelining queues: one producer per identifier range
+		this.primaryKeyStream = new ProducerConsumerQueue<>( identifierRanges.size() );
 		// First start the consumers, then the producers (reverse order):
 		startIndexing();
-		startProducingPrimaryKeys( transactionalContext );
+		startProducingPrimaryKeys( transactionalContext, identifierRanges );
 		// Wait for indexing to finish.
 		Futures.unwrappedExceptionGet(
 				CompletableFuture.allOf( indexingFutures.toArray( new CompletableFuture[0] ) )
@@ -123,28 +140,58 @@ private void cancelPendingTasks() {
 		}
 	}
 
-	private void startProducingPrimaryKeys(BatchTransactionalContext transactionalContext) {
-		final Runnable primaryKeyOutputter = new OptionallyWrapInJTATransaction(
+	private List<IdentifierRange> computeIdentifierRanges(BatchTransactionalContext transactionalContext) {
+		// With a single thread, or with a limit on the number of indexed objects,
+		// a single producer is used: this ensures the list is consistent as produced by one transaction
+		if ( identifierLoadingThreads <= 1 || objectsLimit != 0 ) {
+			return Collections.singletonList( IdentifierRange.all() );
+		}
+		IdentifierRangeSplitter<E, I> splitter = new IdentifierRangeSplitter<>(
+				mappingContext.sessionFactory(), sessionContext.tenantIdentifier(),
+				getNotifier(),
+				typeGroup, typeGroupLoader,
+				identifierLoadingThreads
+		);
+		new OptionallyWrapInJTATransaction(
 				transactionalContext,
 				getNotifier(),
-				new IdentifierProducer<>(
-						mappingContext.sessionFactory(), sessionContext.tenantIdentifier(),
-						getNotifier(),
-						typeGroup, typeGroupLoader,
-						primaryKeyStream,
-						objectLoadingBatchSize,
-						objectsLimit,
-						idFetchSize
-				),
+				splitter,
 				transactionTimeout, sessionContext.tenantIdentifier()
-		);
-		//execIdentifiersLoader has size 1 and is not configurable: ensures the list is consistent as produced by one transaction
+		).run();
+		return splitter.ranges();
+	}
+
+	private void startProducingPrimaryKeys(BatchTransactionalContext transactionalContext,
+			List<IdentifierRange> identifierRanges) {
 		final ThreadPoolExecutor identifierProducingExecutor = mappingContext.threadPoolProvider().newFixedThreadPool(
-				1,
+				identifierRanges.size(),
 				MassIndexerImpl.THREAD_NAME_PREFIX + typeGroup.includedEntityNames() + " - ID loading"
 		);
 		try {
-			identifierProducingFutures.add( Futures.runAsync( primaryKeyOutputter, identifierProducingExecutor ) );
+			for ( int i = 0; i < identifierRanges.size(); i++ ) {
+				IdentifierRange identifierRange = identifierRanges.get( i );
+				MassIndexingCheckpointer.RangeTracker checkpointTracker = null;
+				if ( checkpointer != null ) {
+					checkpointTracker = checkpointer.track( typeGroup.includedEntityNames(), i, identifierRange );
+					identifierRange = checkpointTracker.remainingRange();
+				}
+				final Runnable primaryKeyOutputter = new OptionallyWrapInJTATransaction(
+						transactionalContext,
+						getNotifier(),
+						new IdentifierProducer<>(
+								mappingContext.sessionFactory(), sessionContext.tenantIdentifier(),
+								getNotifier(),
+								typeGroup, typeGroupLoader,
+								identifierRange, checkpointTracker,
+								primaryKeyStream,
+								objectLoadingBatchSize,
+								objectsLimit,
+								idFetchSize
+						),
+						transactionTimeout, sessionContext.tenantIdentifier()
+				);
+				identifierProducingFutures.add( Futures.runAsync( primaryKeyOutputter, identifierProducingExecutor ) );
+			}
 		}
 		finally {
 			identifierProducingExecutor.shutdown();
@@ -158,6 +205,8 @@ private void startIndexing() {
 				typeGroup, typeGroupLoader,
 				primaryKeyStream,
 				cacheMode,
+				batchesInFlightPerThread,
+				checkpointer,
 				transactionTimeout
 		);
 		final ThreadPoolExecutor indexingExecutor = mappingContext.threadPoolProvider().newFixedThreadPool(
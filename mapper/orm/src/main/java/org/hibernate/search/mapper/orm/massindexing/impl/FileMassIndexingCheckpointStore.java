@@ -0,0 +1,100 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpointStore;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A checkpoint store persisting checkpoints to a file using Java serialization.
+ * <p>
+ * Checkpoints are written to a temporary file first, then moved to the target file,
+ * so that a crash while saving never leaves a corrupted file behind.
+ */
+public final class FileMassIndexingCheckpointStore implements MassIndexingCheckpointStore {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Path file;
+	private final Path temporaryFile;
+
+	public FileMassIndexingCheckpointStore(Path file) {
+		this.file = file.toAbsolutePath();
+		this.temporaryFile = this.file.resolveSibling( this.file.getFileName() + ".tmp" );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[file=" + file + "]";
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // We only ever write this type to the file
+	public synchronized Map<String, Serializable> load() {
+		if ( !Files.exists( file ) ) {
+			return Collections.emptyMap();
+		}
+		try ( InputStream inputStream = Files.newInputStream( file );
+				ObjectInputStream objectInputStream = new ObjectInputStream( inputStream ) ) {
+			return (Map<String, Serializable>) objectInputStream.readObject();
+		}
+		catch (IOException | ClassNotFoundException | ClassCastException e) {
+			throw log.unableToLoadMassIndexingCheckpoints( file, e.getMessage(), e );
+		}
+	}
+
+	@Override
+	public synchronized void save(Map<String, Serializable> checkpoints) {
+		try {
+			Path parent = file.getParent();
+			if ( parent != null ) {
+				Files.createDirectories( parent );
+			}
+			try ( OutputStream outputStream = Files.newOutputStream( temporaryFile );
+					ObjectOutputStream objectOutputStream = new ObjectOutputStream( outputStream ) ) {
+				objectOutputStream.writeObject( new LinkedHashMap<>( checkpoints ) );
+			}
+			try {
+				Files.move( temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE );
+			}
+			catch (AtomicMoveNotSupportedException e) {
+				Files.move( temporaryFile, file, StandardCopyOption.REPLACE_EXISTING );
+			}
+		}
+		catch (IOException | RuntimeException e) {
+			throw log.unableToSaveMassIndexingCheckpoints( file, e.getMessage(), e );
+		}
+	}
+
+	@Override
+	public synchronized void clear() {
+		try {
+			Files.deleteIfExists( file );
+			Files.deleteIfExists( temporaryFile );
+		}
+		catch (IOException e) {
+			throw log.unableToSaveMassIndexingCheckpoints( file, e.getMessage(), e );
+		}
+	}
+
+}
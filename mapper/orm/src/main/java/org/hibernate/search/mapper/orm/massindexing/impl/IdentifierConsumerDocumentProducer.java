@@ -7,6 +7,8 @@
 package org.hibernate.search.mapper.orm.massindexing.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import javax.persistence.LockModeType;
@@ -58,6 +60,8 @@
 
 	private final ProducerConsumerQueue<List<I>> source;
 	private final CacheMode cacheMode;
+	private final int batchesInFlight;
+	private final MassIndexingCheckpointer checkpointer;
 	private final Integer transactionTimeout;
 
 	/**
@@ -72,6 +76,8 @@
 			HibernateOrmQueryLoader<? super E, I> typeGroupLoader,
 			ProducerConsumerQueue<List<I>> fromIdentifierListToEntities,
 			CacheMode cacheMode,
+			int batchesInFlight,
+			MassIndexingCheckpointer checkpointer,
 			Integer transactionTimeout
 			) {
 		this.mappingContext = mappingContext;
@@ -81,6 +87,8 @@
 		this.typeGroupLoader = typeGroupLoader;
 		this.source = fromIdentifierListToEntities;
 		this.cacheMode = cacheMode;
+		this.batchesInFlight = batchesInFlight;
+		this.checkpointer = checkpointer;
 		this.transactionTimeout = transactionTimeout;
 		this.transactionManager = mappingContext.sessionFactory()
 				.getServiceRegistry()
@@ -114,16 +122,33 @@ public void run() {
 	private void loadAndIndexAllFromQueue(SessionImplementor session) throws SystemException, NotSupportedException {
 		HibernateOrmScopeSessionContext sessionContext = mappingContext.sessionContext( session );
 		PojoIndexer indexer = sessionContext.createIndexer();
+		// Batches that were submitted for indexing, but whose indexing may not be complete yet.
+		// This allows loading the next batch while the previous ones are being indexed.
+		Deque<IndexingBatch> inFlightBatches = new ArrayDeque<>( batchesInFlight );
 		try {
 			List<I> idList;
 			do {
 				idList = source.take();
 				if ( idList != null ) {
 					log.tracef( "received list of ids %s", idList );
-					loadAndIndexList( idList, sessionContext, indexer );
+					IndexingBatch batch = loadAndIndexList( idList, sessionContext, indexer );
+					if ( batch != null ) {
+						inFlightBatches.addLast( batch );
+					}
+					else if ( checkpointer != null ) {
+						// Nothing to index: entities were probably deleted since their identifiers were listed.
+						checkpointer.batchIndexed( idList, true );
+					}
+					// Backpressure: only wait when too many batches are in flight.
+					while ( inFlightBatches.size() >= batchesInFlight ) {
+						inFlightBatches.removeFirst().waitForCompletionAndNotify();
+					}
 				}
 			}
 			while ( idList != null );
+			while ( !inFlightBatches.isEmpty() ) {
+				inFlightBatches.removeFirst().waitForCompletionAndNotify();
+			}
 		}
 		catch (InterruptedException e) {
 			// just quit
@@ -131,7 +156,7 @@ private void loadAndIndexAllFromQueue(SessionImplementor session) throws SystemE
 		}
 	}
 
-	private void loadAndIndexList(List<I> listIds, HibernateOrmMassIndexingSessionContext sessionContext,
+	private IndexingBatch loadAndIndexList(List<I> listIds, HibernateOrmMassIndexingSessionContext sessionContext,
 			PojoIndexer indexer)
 			throws InterruptedException, NotSupportedException, SystemException {
 		SessionImplementor session = sessionContext.session();
@@ -146,8 +171,11 @@ private void loadAndIndexList(List<I> listIds, HibernateOrmMassIndexingSessionCo
 					.setHibernateFlushMode( FlushMode.MANUAL )
 					.setFetchSize( listIds.size() );
 
-			indexList( sessionContext, indexer, query.getResultList() );
+			IndexingBatch batch = indexList( sessionContext, indexer, listIds, query.getResultList() );
+			// Documents are built synchronously when submitted for indexing:
+			// we no longer need the entities to be attached to the session.
 			session.clear();
+			return batch;
 		}
 		finally {
 			// it's read-only, so no need to commit
@@ -182,11 +210,11 @@ private void rollbackTransaction(SessionImplementor session) {
 		}
 	}
 
-	private void indexList(HibernateOrmMassIndexingSessionContext sessionContext, PojoIndexer indexer,
-			List<? super E> entities)
+	private IndexingBatch indexList(HibernateOrmMassIndexingSessionContext sessionContext, PojoIndexer indexer,
+			List<I> identifiers, List<? super E> entities)
 			throws InterruptedException {
 		if ( entities == null || entities.isEmpty() ) {
-			return;
+			return null;
 		}
 
 		notifier.notifyEntitiesLoaded( entities.size() );
@@ -197,32 +225,7 @@ private void indexList(HibernateOrmMassIndexingSessionContext sessionContext, Po
 			indexingFutures[i] = index( sessionContext, indexer, entity );
 		}
 
-		Futures.unwrappedExceptionGet(
-				CompletableFuture.allOf( indexingFutures )
-						// We handle exceptions on a per-entity basis below, so we ignore them here.
-						.exceptionally( exception -> null )
-		);
-
-		int successfulEntities = 0;
-		for ( int i = 0; i < entities.size(); i++ ) {
-			CompletableFuture<?> future = indexingFutures[i];
-
-			if ( future.isCompletedExceptionally() ) {
-				Object entity = entities.get( i );
-				notifier.notifyEntityIndexingFailure(
-						// We don't try to detect the exact entity type here,
-						// because that could fail if the type is not indexed
-						// (which should not happen, but well... failures should not happen to begin with).
-						typeGroup, sessionContext, entity,
-						Throwables.expectException( Futures.getThrowableNow( future ) )
-				);
-			}
-			else {
-				++successfulEntities;
-			}
-		}
-
-		notifier.notifyDocumentsAdded( successfulEntities );
+		return new IndexingBatch( sessionContext, identifiers, entities, indexingFutures );
 	}
 
 	private CompletableFuture<?> index(HibernateOrmMassIndexingSessionContext sessionContext,
@@ -236,9 +239,16 @@ private CompletableFuture<?> index(HibernateOrmMassIndexingSessionContext sessio
 		CompletableFuture<?> future;
 		try {
 			PojoRawTypeIdentifier<?> typeIdentifier = detectTypeIdentifier( sessionContext, entity );
-			future = indexer.add( typeIdentifier, null, null, entity,
-					// Commit and refresh are handled globally after all documents are indexed.
-					DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+			if ( checkpointer != null && checkpointer.isResuming() ) {
+				// When resuming, entities indexed after the last checkpoint may already be in the index.
+				future = indexer.addOrUpdate( typeIdentifier, null, null, entity,
+						DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+			}
+			else {
+				future = indexer.add( typeIdentifier, null, null, entity,
+						// Commit and refresh are handled globally after all documents are indexed.
+						DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+			}
 		}
 		catch (RuntimeException e) {
 			future = new CompletableFuture<>();
@@ -252,6 +262,54 @@ private CompletableFuture<?> index(HibernateOrmMassIndexingSessionContext sessio
 		return future;
 	}
 
+	private final class IndexingBatch {
+		private final HibernateOrmMassIndexingSessionContext sessionContext;
+		private final List<I> identifiers;
+		private final List<?> entities;
+		private final CompletableFuture<?>[] indexingFutures;
+
+		private IndexingBatch(HibernateOrmMassIndexingSessionContext sessionContext, List<I> identifiers,
+				List<?> entities, CompletableFuture<?>[] indexingFutures) {
+			this.sessionContext = sessionContext;
+			this.identifiers = identifiers;
+			this.entities = entities;
+			this.indexingFutures = indexingFutures;
+		}
+
+		void waitForCompletionAndNotify() throws InterruptedException {
+			Futures.unwrappedExceptionGet(
+					CompletableFuture.allOf( indexingFutures )
+							// We handle exceptions on a per-entity basis below, so we ignore them here.
+							.exceptionally( exception -> null )
+			);
+
+			int successfulEntities = 0;
+			for ( int i = 0; i < entities.size(); i++ ) {
+				CompletableFuture<?> future = indexingFutures[i];
+
+				if ( future.isCompletedExceptionally() ) {
+					Object entity = entities.get( i );
+					notifier.notifyEntityIndexingFailure(
+							// We don't try to detect the exact entity type here,
+							// because that could fail if the type is not indexed
+							// (which should not happen, but well... failures should not happen to begin with).
+							typeGroup, sessionContext, entity,
+							Throwables.expectException( Futures.getThrowableNow( future ) )
+					);
+				}
+				else {
+					++successfulEntities;
+				}
+			}
+
+			notifier.notifyDocumentsAdded( successfulEntities );
+
+			if ( checkpointer != null ) {
+				checkpointer.batchIndexed( identifiers, successfulEntities == entities.size() );
+			}
+		}
+	}
+
 	private PojoRawTypeIdentifier<?> detectTypeIdentifier(HibernateOrmMassIndexingSessionContext sessionContext,
 			Object entity) {
 		return sessionContext.runtimeIntrospector().detectEntityType( entity );
@@ -18,14 +18,15 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.Query;
 import org.hibernate.search.mapper.orm.loading.impl.HibernateOrmQueryLoader;
+import org.hibernate.search.mapper.orm.loading.impl.IdentifierRange;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 /**
  * This Runnable is going to feed the indexing queue
  * with the identifiers of all the entities going to be indexed.
- * This step in the indexing process is not parallel (should be
- * done by one thread per type) so that a single transaction is used
+ * This step in the indexing process is not parallel within a given range of identifiers
+ * (should be done by one thread per type and range) so that a single transaction is used
  * to define the group of entities to be indexed.
  * Produced identifiers are put in the destination queue grouped in List
  * instances: the reason for this is to load them in batches
@@ -47,6 +48,8 @@
 	private final MassIndexingIndexedTypeGroup<E, I> typeGroup;
 	private final HibernateOrmQueryLoader<? super E, I> typeGroupLoader;
 
+	private final IdentifierRange range;
+	private final MassIndexingCheckpointer.RangeTracker checkpointTracker;
 	private final ProducerConsumerQueue<List<I>> destination;
 	private final int batchSize;
 	private final long objectsLimit;
@@ -56,6 +59,7 @@
 			MassIndexingNotifier notifier,
 			MassIndexingIndexedTypeGroup<E, I> typeGroup,
 			HibernateOrmQueryLoader<? super E, I> typeGroupLoader,
+			IdentifierRange range, MassIndexingCheckpointer.RangeTracker checkpointTracker,
 			ProducerConsumerQueue<List<I>> destination,
 			int objectLoadingBatchSize,
 			long objectsLimit, int idFetchSize) {
@@ -64,6 +68,8 @@
 		this.notifier = notifier;
 		this.typeGroup = typeGroup;
 		this.typeGroupLoader = typeGroupLoader;
+		this.range = range;
+		this.checkpointTracker = checkpointTracker;
 		this.destination = destination;
 		this.batchSize = objectLoadingBatchSize;
 		this.objectsLimit = objectsLimit;
@@ -75,7 +81,7 @@
 	public void run(StatelessSession upperSession) {
 		log.trace( "started" );
 		try {
-			inTransactionWrapper( upperSession );
+			inTransactionWrapper( sessionFactory, tenantId, upperSession, this::loadAllIdentifiers );
 		}
 		catch (RuntimeException exception) {
 			notifier.notifyRunnableFailure( exception, log.massIndexerFetchingIds( typeGroup.includedEntityNames() ) );
@@ -86,7 +92,8 @@ public void run(StatelessSession upperSession) {
 		log.trace( "finished" );
 	}
 
-	private void inTransactionWrapper(StatelessSession upperSession) {
+	static void inTransactionWrapper(SessionFactory sessionFactory, String tenantId,
+			StatelessSession upperSession, SessionWork work) {
 		StatelessSession session = upperSession;
 		if ( upperSession == null ) {
 			if ( tenantId == null ) {
@@ -103,7 +110,7 @@ private void inTransactionWrapper(StatelessSession upperSession) {
 				transaction.begin();
 			}
 			try {
-				loadAllIdentifiers( (SharedSessionContractImplementor) session );
+				work.execute( (SharedSessionContractImplementor) session );
 			}
 			finally {
 				if ( controlTransactions ) {
@@ -128,7 +135,7 @@ private void loadAllIdentifiers(final SharedSessionContractImplementor session)
 			totalCount = objectsLimit;
 		}
 		if ( log.isDebugEnabled() ) {
-			log.debugf( "going to fetch %d primary keys", (Long) totalCount );
+			log.debugf( "going to fetch %d primary keys in range %s", (Long) totalCount, range );
 		}
 		notifier.notifyAddedTotalCount( totalCount );
 
@@ -156,24 +163,37 @@ private void loadAllIdentifiers(final SharedSessionContractImplementor session)
 			}
 		}
 		enqueueList( destinationList );
+		if ( checkpointTracker != null ) {
+			checkpointTracker.producerFinished();
+		}
 	}
 
 	private Query<Long> createTotalCountQuery(SharedSessionContractImplementor session) {
-		return typeGroupLoader.createCountQuery( session )
+		return typeGroupLoader.createCountQuery( session, range )
 				.setCacheable( false );
 	}
 
 	private Query<I> createIdentifiersQuery(SharedSessionContractImplementor session) {
-		return typeGroupLoader.createIdentifiersQuery( session )
-				.setCacheable( false )
+		// Checkpoints require identifiers to be indexed in order
+		Query<I> query = checkpointTracker == null ? typeGroupLoader.createIdentifiersQuery( session, range )
+				: typeGroupLoader.createOrderedIdentifiersQuery( session, range );
+		return query.setCacheable( false )
 				.setFetchSize( idFetchSize );
 	}
 
 	private void enqueueList(final List<I> idsList) throws InterruptedException {
 		if ( ! idsList.isEmpty() ) {
+			if ( checkpointTracker != null ) {
+				checkpointTracker.batchProduced( idsList );
+			}
 			destination.put( idsList );
 			log.tracef( "produced a list of ids %s", idsList );
 		}
 	}
 
+	@FunctionalInterface
+	interface SessionWork {
+		void execute(SharedSessionContractImplementor session) throws InterruptedException;
+	}
+
 }
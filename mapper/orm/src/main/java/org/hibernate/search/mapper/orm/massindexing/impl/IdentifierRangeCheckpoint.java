@@ -0,0 +1,82 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.io.Serializable;
+
+import org.hibernate.search.mapper.orm.loading.impl.IdentifierRange;
+
+/**
+ * The persisted state of mass indexing for one range of identifiers of a type group:
+ * the range itself, so that the same ranges can be used when resuming,
+ * and the last identifier whose entity was indexed, if any.
+ * <p>
+ * All entities whose identifier is in the range and lower than or equal to the last indexed identifier
+ * are guaranteed to have been indexed.
+ */
+final class IdentifierRangeCheckpoint implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final String typeGroupName;
+	private final int rangeIndex;
+	private final Serializable lowerBound;
+	private final Serializable upperBound;
+	private final Serializable lastIndexedIdentifier;
+
+	IdentifierRangeCheckpoint(String typeGroupName, int rangeIndex, IdentifierRange range,
+			Serializable lastIndexedIdentifier) {
+		this( typeGroupName, rangeIndex, (Serializable) range.lowerBound(), (Serializable) range.upperBound(),
+				lastIndexedIdentifier );
+	}
+
+	private IdentifierRangeCheckpoint(String typeGroupName, int rangeIndex,
+			Serializable lowerBound, Serializable upperBound, Serializable lastIndexedIdentifier) {
+		this.typeGroupName = typeGroupName;
+		this.rangeIndex = rangeIndex;
+		this.lowerBound = lowerBound;
+		this.upperBound = upperBound;
+		this.lastIndexedIdentifier = lastIndexedIdentifier;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "typeGroupName=" + typeGroupName
+				+ ", range=" + range()
+				+ ", lastIndexedIdentifier=" + lastIndexedIdentifier
+				+ "]";
+	}
+
+	static String key(String typeGroupName, int rangeIndex) {
+		return typeGroupName + "#" + rangeIndex;
+	}
+
+	String key() {
+		return key( typeGroupName, rangeIndex );
+	}
+
+	String typeGroupName() {
+		return typeGroupName;
+	}
+
+	int rangeIndex() {
+		return rangeIndex;
+	}
+
+	IdentifierRange range() {
+		return IdentifierRange.between( lowerBound, upperBound );
+	}
+
+	Serializable lastIndexedIdentifier() {
+		return lastIndexedIdentifier;
+	}
+
+	IdentifierRangeCheckpoint withLastIndexedIdentifier(Serializable identifier) {
+		return new IdentifierRangeCheckpoint( typeGroupName, rangeIndex, lowerBound, upperBound, identifier );
+	}
+}
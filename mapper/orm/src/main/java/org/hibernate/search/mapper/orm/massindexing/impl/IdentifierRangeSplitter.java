@@ -0,0 +1,141 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.LongFunction;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.search.mapper.orm.loading.impl.HibernateOrmQueryLoader;
+import org.hibernate.search.mapper.orm.loading.impl.IdentifierRange;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * This Runnable splits the identifiers of all the entities going to be indexed
+ * into contiguous ranges, so that identifiers can be loaded by multiple {@link IdentifierProducer}s in parallel.
+ * <p>
+ * Only integral numeric identifiers are supported;
+ * for other identifier types, a single range containing all identifiers is returned.
+ * The first and last ranges are unbounded,
+ * so that entities created after the bounds were computed are not missed.
+ *
+ * @param <E> The entity type
+ * @param <I> The identifier type
+ */
+public class IdentifierRangeSplitter<E, I> implements StatelessSessionAwareRunnable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SessionFactory sessionFactory;
+	private final MassIndexingNotifier notifier;
+	private final String tenantId;
+
+	private final MassIndexingIndexedTypeGroup<E, I> typeGroup;
+	private final HibernateOrmQueryLoader<? super E, I> typeGroupLoader;
+
+	private final int rangeCount;
+
+	private List<IdentifierRange> ranges;
+
+	IdentifierRangeSplitter(SessionFactory sessionFactory, String tenantId,
+			MassIndexingNotifier notifier,
+			MassIndexingIndexedTypeGroup<E, I> typeGroup,
+			HibernateOrmQueryLoader<? super E, I> typeGroupLoader,
+			int rangeCount) {
+		this.sessionFactory = sessionFactory;
+		this.tenantId = tenantId;
+		this.notifier = notifier;
+		this.typeGroup = typeGroup;
+		this.typeGroupLoader = typeGroupLoader;
+		this.rangeCount = rangeCount;
+	}
+
+	@Override
+	public void run(StatelessSession upperSession) {
+		LongFunction<Object> identifierConverter = identifierConverter( typeGroupLoader.identifierJavaType() );
+		if ( identifierConverter == null ) {
+			log.debugf( "Identifiers of %s cannot be split into ranges: loading them in a single thread",
+					typeGroup.includedEntityNames() );
+			ranges = Collections.singletonList( IdentifierRange.all() );
+			return;
+		}
+		try {
+			IdentifierProducer.inTransactionWrapper( sessionFactory, tenantId, upperSession,
+					session -> split( session, identifierConverter ) );
+		}
+		catch (RuntimeException exception) {
+			notifier.notifyRunnableFailure( exception, log.massIndexerFetchingIds( typeGroup.includedEntityNames() ) );
+		}
+	}
+
+	/**
+	 * @return The identifier ranges, or {@code null} if splitting failed.
+	 */
+	List<IdentifierRange> ranges() {
+		return ranges;
+	}
+
+	private void split(SharedSessionContractImplementor session, LongFunction<Object> identifierConverter) {
+		Object[] bounds = typeGroupLoader.createIdentifierBoundsQuery( session )
+				.setCacheable( false )
+				.uniqueResult();
+		if ( bounds == null || bounds[0] == null || bounds[1] == null ) {
+			// No entity to index
+			ranges = Collections.singletonList( IdentifierRange.all() );
+			return;
+		}
+
+		BigInteger min = BigInteger.valueOf( ( (Number) bounds[0] ).longValue() );
+		BigInteger max = BigInteger.valueOf( ( (Number) bounds[1] ).longValue() );
+		BigInteger span = max.subtract( min ).add( BigInteger.ONE );
+		BigInteger count = BigInteger.valueOf( rangeCount );
+
+		List<IdentifierRange> result = new ArrayList<>( rangeCount );
+		Object minBound = identifierConverter.apply( min.longValue() );
+		Object lowerBound = null;
+		for ( int i = 1; i < rangeCount; i++ ) {
+			long upperBoundAsLong = min.add( span.multiply( BigInteger.valueOf( i ) ).divide( count ) ).longValue();
+			Object upperBound = identifierConverter.apply( upperBoundAsLong );
+			if ( upperBound.equals( minBound ) || upperBound.equals( lowerBound ) ) {
+				// Fewer distinct identifiers than ranges: skip empty ranges.
+				continue;
+			}
+			result.add( IdentifierRange.between( lowerBound, upperBound ) );
+			lowerBound = upperBound;
+		}
+		result.add( IdentifierRange.between( lowerBound, null ) );
+
+		log.debugf( "Identifiers of %s will be loaded in the following ranges: %s",
+				typeGroup.includedEntityNames(), result );
+		ranges = result;
+	}
+
+	private static LongFunction<Object> identifierConverter(Class<?> identifierType) {
+		if ( Long.class.equals( identifierType ) || long.class.equals( identifierType ) ) {
+			return Long::valueOf;
+		}
+		else if ( Integer.class.equals( identifierType ) || int.class.equals( identifierType ) ) {
+			return value -> (int) value;
+		}
+		else if ( Short.class.equals( identifierType ) || short.class.equals( identifierType ) ) {
+			return value -> (short) value;
+		}
+		else if ( Byte.class.equals( identifierType ) || byte.class.equals( identifierType ) ) {
+			return value -> (byte) value;
+		}
+		else {
+			return null;
+		}
+	}
+}
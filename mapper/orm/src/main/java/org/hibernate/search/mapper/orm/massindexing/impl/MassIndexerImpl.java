@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.orm.massindexing.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -16,6 +17,7 @@
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpointStore;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexingFailureHandler;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
 import org.hibernate.search.mapper.pojo.schema.management.spi.PojoScopeSchemaManager;
@@ -47,7 +49,9 @@ public class MassIndexerImpl implements MassIndexer {
 	// default settings defined here:
 	private int typesToIndexInParallel = 1;
 	private int documentBuilderThreads = 6; //loading the main entity, also responsible for loading of lazy @IndexedEmbedded collections
+	private int identifierLoadingThreads = 1;
 	private int objectLoadingBatchSize = 10;
+	private int batchesInFlightPerThread = 1;
 	private long objectsLimit = 0; //means no limit at all
 	private CacheMode cacheMode = CacheMode.IGNORE;
 	private boolean mergeSegmentsOnFinish = false;
@@ -56,6 +60,8 @@ public class MassIndexerImpl implements MassIndexer {
 	private boolean mergeSegmentsAfterPurge = true;
 	private int idFetchSize = 100; //reasonable default as we only load IDs
 	private Integer idLoadingTransactionTimeout;
+	private MassIndexingCheckpointStore checkpointStore;
+	private boolean resumeFromCheckpoints = false;
 
 	private MassIndexingFailureHandler failureHandler;
 	private MassIndexingMonitor monitor;
@@ -100,6 +106,15 @@ public MassIndexer threadsToLoadObjects(int numberOfThreads) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer threadsToLoadIdentifiers(int numberOfThreads) {
+		if ( numberOfThreads < 1 ) {
+			throw new IllegalArgumentException( "numberOfThreads must be at least 1" );
+		}
+		this.identifierLoadingThreads = numberOfThreads;
+		return this;
+	}
+
 	@Override
 	public MassIndexer batchSizeToLoadObjects(int batchSize) {
 		if ( batchSize < 1 ) {
@@ -109,6 +124,15 @@ public MassIndexer batchSizeToLoadObjects(int batchSize) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer batchesInFlightPerThread(int numberOfBatches) {
+		if ( numberOfBatches < 1 ) {
+			throw new IllegalArgumentException( "numberOfBatches must be at least 1" );
+		}
+		this.batchesInFlightPerThread = numberOfBatches;
+		return this;
+	}
+
 	@Override
 	public MassIndexer mergeSegmentsOnFinish(boolean enable) {
 		this.mergeSegmentsOnFinish = enable;
@@ -133,6 +157,26 @@ public MassIndexer purgeAllOnStart(boolean enable) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer checkpointStore(MassIndexingCheckpointStore store) {
+		this.checkpointStore = store;
+		return this;
+	}
+
+	@Override
+	public MassIndexer checkpointFile(Path file) {
+		if ( file == null ) {
+			throw new IllegalArgumentException( "file must not be null" );
+		}
+		return checkpointStore( new FileMassIndexingCheckpointStore( file ) );
+	}
+
+	@Override
+	public MassIndexer resumeFromCheckpoints(boolean enable) {
+		this.resumeFromCheckpoints = enable;
+		return this;
+	}
+
 	@Override
 	public MassIndexer transactionTimeout(int timeoutInSeconds) {
 		this.idLoadingTransactionTimeout = timeoutInSeconds;
@@ -169,6 +213,9 @@ public void startAndWait() throws InterruptedException {
 	}
 
 	protected BatchCoordinator createCoordinator() {
+		if ( resumeFromCheckpoints && checkpointStore == null ) {
+			throw log.cannotResumeMassIndexingWithoutCheckpointStore();
+		}
 		MassIndexingNotifier notifier = new MassIndexingNotifier(
 				getOrCreateFailureHandler(),
 				getOrCreateMonitor()
@@ -177,8 +224,9 @@ protected BatchCoordinator createCoordinator() {
 				mappingContext, sessionContext,
 				notifier,
 				typeGroupsToIndex, scopeSchemaManager, scopeWorkspace,
-				typesToIndexInParallel, documentBuilderThreads,
-				cacheMode, objectLoadingBatchSize, objectsLimit,
+				typesToIndexInParallel, identifierLoadingThreads, documentBuilderThreads,
+				cacheMode, objectLoadingBatchSize, batchesInFlightPerThread,
+				checkpointStore, resumeFromCheckpoints, objectsLimit,
 				mergeSegmentsOnFinish, dropAndCreateSchemaOnStart, purgeAtStart, mergeSegmentsAfterPurge,
 				idFetchSize, idLoadingTransactionTimeout
 		);
@@ -0,0 +1,281 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.hibernate.search.mapper.orm.loading.impl.IdentifierRange;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingCheckpointStore;
+import org.hibernate.search.mapper.pojo.work.spi.PojoScopeWorkspace;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Tracks the progress of mass indexing for each range of identifiers of each type group,
+ * and periodically saves that progress to a {@link MassIndexingCheckpointStore}.
+ * <p>
+ * Identifiers are listed in ascending order and batches are tracked in the order they were produced,
+ * so the checkpoint of a range is the last identifier of the last batch
+ * such that this batch and all previous batches were indexed successfully.
+ * Batches that failed to index stop the checkpoint from advancing,
+ * so that they are indexed again when resuming.
+ */
+public class MassIndexingCheckpointer {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// Saving checkpoints requires flushing the indexes, so we don't want to do it too often.
+	private static final long SAVE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos( 10 );
+
+	private final MassIndexingCheckpointStore store;
+	private final PojoScopeWorkspace scopeWorkspace;
+	private final boolean resume;
+
+	private final Map<String, IdentifierRangeCheckpoint> resumedCheckpoints = new LinkedHashMap<>();
+	private final Map<String, RangeTracker> trackers = new ConcurrentHashMap<>();
+	// Batches are tracked by identity: the very same list instance is passed from producers to consumers.
+	private final Map<List<?>, RangeTracker> pendingBatches = Collections.synchronizedMap( new IdentityHashMap<>() );
+
+	private final ReentrantLock saveLock = new ReentrantLock();
+	private volatile long lastSaveNanos;
+
+	MassIndexingCheckpointer(MassIndexingCheckpointStore store, PojoScopeWorkspace scopeWorkspace, boolean resume) {
+		this.store = store;
+		this.scopeWorkspace = scopeWorkspace;
+		this.resume = resume;
+	}
+
+	boolean isResuming() {
+		return resume;
+	}
+
+	/**
+	 * Loads checkpoints from the store if resuming, or clears the store otherwise.
+	 */
+	void start() {
+		if ( resume ) {
+			for ( Serializable checkpoint : store.load().values() ) {
+				if ( checkpoint instanceof IdentifierRangeCheckpoint ) {
+					IdentifierRangeCheckpoint rangeCheckpoint = (IdentifierRangeCheckpoint) checkpoint;
+					resumedCheckpoints.put( rangeCheckpoint.key(), rangeCheckpoint );
+				}
+			}
+			log.debugf( "Resuming mass indexing from checkpoints %s", resumedCheckpoints.values() );
+		}
+		else {
+			store.clear();
+		}
+		lastSaveNanos = System.nanoTime();
+	}
+
+	/**
+	 * @param typeGroupName The name of a type group.
+	 * @return The identifier ranges used by a previous execution for the given type group,
+	 * or an empty list if there are none.
+	 */
+	List<IdentifierRange> resumedRanges(String typeGroupName) {
+		List<IdentifierRangeCheckpoint> checkpoints = new ArrayList<>();
+		for ( IdentifierRangeCheckpoint checkpoint : resumedCheckpoints.values() ) {
+			if ( checkpoint.typeGroupName().equals( typeGroupName ) ) {
+				checkpoints.add( checkpoint );
+			}
+		}
+		checkpoints.sort( Comparator.comparingInt( IdentifierRangeCheckpoint::rangeIndex ) );
+		List<IdentifierRange> ranges = new ArrayList<>( checkpoints.size() );
+		for ( IdentifierRangeCheckpoint checkpoint : checkpoints ) {
+			ranges.add( checkpoint.range() );
+		}
+		return ranges;
+	}
+
+	RangeTracker track(String typeGroupName, int rangeIndex, IdentifierRange range) {
+		String key = IdentifierRangeCheckpoint.key( typeGroupName, rangeIndex );
+		IdentifierRangeCheckpoint resumedCheckpoint = resumedCheckpoints.get( key );
+		IdentifierRangeCheckpoint checkpoint = resumedCheckpoint != null ? resumedCheckpoint
+				: new IdentifierRangeCheckpoint( typeGroupName, rangeIndex, range, null );
+		RangeTracker tracker = new RangeTracker( checkpoint );
+		trackers.put( key, tracker );
+		return tracker;
+	}
+
+	/**
+	 * Notifies the checkpointer that a batch of identifiers was indexed,
+	 * and saves checkpoints if the last save was long enough ago.
+	 *
+	 * @param identifiers The batch of identifiers, as produced by {@link RangeTracker#batchProduced(List)}.
+	 * @param successful Whether all entities in the batch were indexed successfully.
+	 * @throws InterruptedException If interrupted while flushing indexes.
+	 */
+	void batchIndexed(List<?> identifiers, boolean successful) throws InterruptedException {
+		RangeTracker tracker = pendingBatches.remove( identifiers );
+		if ( tracker == null ) {
+			return;
+		}
+		tracker.batchIndexed( identifiers, successful );
+		// Only one thread saves at a time; others just move on.
+		if ( System.nanoTime() - lastSaveNanos >= SAVE_INTERVAL_NANOS && saveLock.tryLock() ) {
+			try {
+				doSave();
+			}
+			finally {
+				saveLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * To be called when mass indexing ends:
+	 * clears checkpoints if all identifier ranges were fully indexed, saves them otherwise.
+	 *
+	 * @throws InterruptedException If interrupted while flushing indexes.
+	 */
+	void complete() throws InterruptedException {
+		for ( RangeTracker tracker : trackers.values() ) {
+			if ( !tracker.isComplete() ) {
+				save();
+				return;
+			}
+		}
+		store.clear();
+	}
+
+	/**
+	 * To be called when mass indexing fails or is interrupted: saves checkpoints, logging any failure.
+	 */
+	void saveOnFailure() {
+		try {
+			save();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (RuntimeException e) {
+			log.unableToSaveMassIndexingCheckpointsOnFailure( e.getMessage(), e );
+		}
+	}
+
+	private void save() throws InterruptedException {
+		saveLock.lock();
+		try {
+			doSave();
+		}
+		finally {
+			saveLock.unlock();
+		}
+	}
+
+	private void doSave() throws InterruptedException {
+		// Take a snapshot first: after the flush, everything indexed up to the snapshot is durable.
+		// Resumed checkpoints of type groups that were not started yet are kept as-is.
+		Map<String, Serializable> snapshot = new LinkedHashMap<>( resumedCheckpoints );
+		for ( Map.Entry<String, RangeTracker> entry : trackers.entrySet() ) {
+			snapshot.put( entry.getKey(), entry.getValue().checkpoint() );
+		}
+		Futures.unwrappedExceptionGet( scopeWorkspace.flush() );
+		store.save( snapshot );
+		lastSaveNanos = System.nanoTime();
+		log.tracef( "Saved mass indexing checkpoints %s", snapshot.values() );
+	}
+
+	final class RangeTracker {
+		private final Deque<PendingBatch> batches = new ArrayDeque<>();
+		private IdentifierRangeCheckpoint checkpoint;
+		private boolean failed;
+		private boolean producerFinished;
+
+		private RangeTracker(IdentifierRangeCheckpoint checkpoint) {
+			this.checkpoint = checkpoint;
+		}
+
+		/**
+		 * @return The part of the range that remains to be indexed.
+		 */
+		synchronized IdentifierRange remainingRange() {
+			IdentifierRange range = checkpoint.range();
+			Serializable lastIndexedIdentifier = checkpoint.lastIndexedIdentifier();
+			return lastIndexedIdentifier == null ? range : range.after( lastIndexedIdentifier );
+		}
+
+		void batchProduced(List<?> identifiers) {
+			synchronized ( this ) {
+				if ( failed ) {
+					// The checkpoint of this range can no longer advance: no need to track further batches.
+					return;
+				}
+				batches.addLast( new PendingBatch( identifiers ) );
+			}
+			pendingBatches.put( identifiers, this );
+		}
+
+		synchronized void producerFinished() {
+			producerFinished = true;
+		}
+
+		private synchronized IdentifierRangeCheckpoint checkpoint() {
+			return checkpoint;
+		}
+
+		// For tests
+		synchronized int trackedBatchCount() {
+			return batches.size();
+		}
+
+		private synchronized boolean isComplete() {
+			return producerFinished && !failed && batches.isEmpty();
+		}
+
+		private synchronized void batchIndexed(List<?> identifiers, boolean successful) {
+			if ( failed ) {
+				return;
+			}
+			for ( PendingBatch batch : batches ) {
+				if ( batch.identifiers == identifiers ) {
+					batch.done = true;
+					batch.successful = successful;
+					break;
+				}
+			}
+			while ( !batches.isEmpty() && batches.peekFirst().done ) {
+				PendingBatch batch = batches.peekFirst();
+				if ( !batch.successful ) {
+					failed = true;
+					// Only the position of the last checkpoint matters from now on:
+					// release the identifiers of all batches tracked so far.
+					batches.clear();
+					break;
+				}
+				batches.removeFirst();
+				checkpoint = checkpoint.withLastIndexedIdentifier(
+						(Serializable) batch.identifiers.get( batch.identifiers.size() - 1 ) );
+			}
+		}
+	}
+
+	private static final class PendingBatch {
+		private final List<?> identifiers;
+		private boolean done;
+		private boolean successful;
+
+		private PendingBatch(List<?> identifiers) {
+			this.identifiers = identifiers;
+		}
+	}
+}
@@ -125,7 +125,10 @@ private EntityReference extractReferenceOrSuppress(MassIndexingIndexedTypeGroup<
 			HibernateOrmMassIndexingSessionContext sessionContext, Object entity, Throwable throwable) {
 		try {
 			Session session = sessionContext.session();
-			Object identifier = session.getIdentifier( entity );
+			// The entity may have been detached from the session already,
+			// because indexing is pipelined with loading of the next batches:
+			// we can't use session.getIdentifier().
+			Object identifier = session.getSessionFactory().getPersistenceUnitUtil().getIdentifier( entity );
 			return EntityReferenceFactory.safeCreateEntityReference( sessionContext.entityReferenceFactory(),
 					typeGroup.commonSuperType().jpaEntityName(), identifier, throwable::addSuppressed );
 		}
@@ -33,6 +33,38 @@ public interface SearchLoadingOptionsStep {
 	 */
 	SearchLoadingOptionsStep fetchSize(int fetchSize);
 
+	/**
+	 * Set the fetch parallelism for this query,
+	 * i.e. the maximum amount of queries to the database that can be executed concurrently
+	 * when loading more entities than the {@link #fetchSize(int) fetch size}.
+	 * <p>
+	 * With a fetch parallelism higher than {@code 1},
+	 * when loading requires multiple queries to the database,
+	 * these queries are executed in separate threads,
+	 * each using its own {@link org.hibernate.StatelessSession stateless session},
+	 * hence its own database connection and transaction.
+	 * As a result:
+	 * <ul>
+	 *     <li>Entities already managed by the Hibernate ORM session used to execute the search query
+	 *     are returned as-is, but other loaded entities are <strong>detached</strong>:
+	 *     changes to these entities will not be persisted,
+	 *     and their lazy associations cannot be initialized.</li>
+	 *     <li>Changes flushed but not committed in the current transaction are not visible to these queries.</li>
+	 *     <li>Each thread takes a connection from the connection pool;
+	 *     the number of such threads across the whole application is bounded by
+	 *     {@link org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings#QUERY_LOADING_MAX_FETCH_PARALLELISM}.</li>
+	 * </ul>
+	 * Thus, this option is only suited to read-only use cases where all the necessary data is loaded eagerly,
+	 * such as exporting large pages of results.
+	 * <p>
+	 * Defaults to {@code 1}, i.e. queries to the database are executed sequentially,
+	 * in the current thread, using the current Hibernate ORM session.
+	 *
+	 * @param fetchParallelism The fetch parallelism. Must be strictly positive.
+	 * @return {@code this} for method chaining.
+	 */
+	SearchLoadingOptionsStep fetchParallelism(int fetchParallelism);
+
 	/**
 	 * Set the strategy for cache lookup before query results are loaded.
 	 *
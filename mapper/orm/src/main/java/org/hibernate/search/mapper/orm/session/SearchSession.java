@@ -14,6 +14,7 @@
 import javax.persistence.EntityManager;
 
 import org.hibernate.Session;
+import org.hibernate.search.engine.search.query.MultiSearch;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
 import org.hibernate.search.mapper.orm.automaticindexing.session.AutomaticIndexingSynchronizationStrategy;
 import org.hibernate.search.mapper.orm.common.EntityReference;
@@ -65,6 +66,16 @@ public interface SearchSession {
 	 */
 	<T> SearchQuerySelectStep<?, EntityReference, T, SearchLoadingOptionsStep, ?, ?> search(SearchScope<T> scope);
 
+	/**
+	 * Create a {@link MultiSearch}, to execute multiple search queries together.
+	 * <p>
+	 * Queries are created as usual, e.g. through {@link #search(Class)} and {@code toQuery()},
+	 * then added to the multi-search.
+	 *
+	 * @return A new, empty {@link MultiSearch}.
+	 */
+	MultiSearch multiSearch();
+
 	/**
 	 * Create a {@link SearchSchemaManager} for all indexes.
 	 *
@@ -13,6 +13,7 @@
 
 import org.hibernate.Session;
 import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.search.query.MultiSearch;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
 import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.common.impl.HibernateOrmUtils;
@@ -54,6 +55,11 @@ public DelegatingSearchSession(Supplier<? extends HibernateOrmSearchSessionMappi
 		return getDelegate().search( scope );
 	}
 
+	@Override
+	public MultiSearch multiSearch() {
+		return getDelegate().multiSearch();
+	}
+
 	@Override
 	public SearchSchemaManager schemaManager(Collection<? extends Class<?>> types) {
 		return getDelegate().schemaManager( types );
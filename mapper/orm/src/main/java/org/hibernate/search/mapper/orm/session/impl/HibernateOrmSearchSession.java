@@ -21,7 +21,10 @@
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.common.spi.DocumentReferenceConverter;
+import org.hibernate.search.engine.search.query.MultiSearch;
 import org.hibernate.search.engine.search.query.dsl.SearchQuerySelectStep;
+import org.hibernate.search.engine.search.query.spi.SimpleMultiSearch;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.OutboxIndexingPlan;
 import org.hibernate.search.mapper.orm.automaticindexing.session.impl.ConfiguredAutomaticIndexingSynchronizationStrategy;
 import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.common.impl.EntityReferenceImpl;
@@ -141,6 +144,12 @@ public PojoIndexer createIndexer() {
 		return scope.search( this, loadingContextBuilder() );
 	}
 
+	@Override
+	public MultiSearch multiSearch() {
+		checkOpen();
+		return new SimpleMultiSearch();
+	}
+
 	@Override
 	public SearchSchemaManager schemaManager(Collection<? extends Class<?>> types) {
 		return scope( types ).schemaManager();
@@ -279,10 +288,16 @@ public PojoIndexingPlan<EntityReference> currentIndexingPlan(boolean createIfDoe
 
 		ConfiguredAutomaticIndexingSynchronizationStrategy currentSynchronizationStrategy =
 				configuredAutomaticIndexingSynchronizationStrategy;
-		plan = createIndexingPlan(
-				currentSynchronizationStrategy.getDocumentCommitStrategy(),
-				currentSynchronizationStrategy.getDocumentRefreshStrategy()
-		);
+		if ( mappingContext.outboxPollingEnabled() ) {
+			// Changes will be indexed asynchronously, from the outbox table
+			plan = new OutboxIndexingPlan( typeContextProvider, mappingContext, this, sessionImplementor );
+		}
+		else {
+			plan = createIndexingPlan(
+					currentSynchronizationStrategy.getDocumentCommitStrategy(),
+					currentSynchronizationStrategy.getDocumentRefreshStrategy()
+			);
+		}
 		holder.pojoIndexingPlan( transactionIdentifier, plan );
 
 		if ( sessionImplementor.isTransactionInProgress() ) {
@@ -19,6 +19,12 @@
 
 	FailureHandler failureHandler();
 
+	/**
+	 * @return {@code true} if automatic indexing should record changes in the outbox table
+	 * instead of indexing them directly.
+	 */
+	boolean outboxPollingEnabled();
+
 	<T> SearchScopeImpl<T> createScope(Collection<? extends Class<? extends T>> types);
 
 	<T> SearchScopeImpl<T> createScope(Class<T> expectedSuperType, Collection<String> entityNames);
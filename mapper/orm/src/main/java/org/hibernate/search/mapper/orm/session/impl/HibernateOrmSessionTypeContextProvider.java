@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.orm.session.impl;
 
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.OutboxTypeContextProvider;
 import org.hibernate.search.mapper.orm.loading.impl.LoadingIndexedTypeContextProvider;
 import org.hibernate.search.mapper.orm.model.impl.HibernateOrmRuntimeIntrospectorTypeContextProvider;
 import org.hibernate.search.mapper.orm.scope.impl.HibernateOrmScopeTypeContextProvider;
@@ -13,7 +14,8 @@
 
 public interface HibernateOrmSessionTypeContextProvider
 		extends HibernateOrmScopeTypeContextProvider, HibernateOrmRuntimeIntrospectorTypeContextProvider,
-				SearchIndexingPlanTypeContextProvider, LoadingIndexedTypeContextProvider {
+				SearchIndexingPlanTypeContextProvider, LoadingIndexedTypeContextProvider,
+				OutboxTypeContextProvider {
 
 	HibernateOrmSessionIndexedTypeContext<?> indexedForJpaEntityName(String indexName);
 
@@ -0,0 +1,143 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.mapping.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.search.engine.environment.classpath.spi.ClassLoadingException;
+import org.hibernate.search.engine.environment.classpath.spi.ClassResolver;
+import org.hibernate.search.engine.environment.classpath.spi.ResourceResolver;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.FullTextField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+
+public class JandexAnnotatedTypeFilterTest {
+
+	private final ClassResolver classResolver = className -> {
+		try {
+			return Class.forName( className );
+		}
+		catch (ClassNotFoundException e) {
+			throw new ClassLoadingException( "Unable to load class " + className, e );
+		}
+	};
+
+	private final ResourceResolver resourceResolver = new ResourceResolver() {
+		@Override
+		public URL locateResource(String name) {
+			return null;
+		}
+
+		@Override
+		public InputStream locateResourceStream(String name) {
+			return null;
+		}
+	};
+
+	private JandexAnnotatedTypeFilter filter;
+
+	@Before
+	public void setup() throws IOException {
+		Index index = index( IndexedEntity.class, NonIndexedEntity.class, NonAnnotatedSuperclass.class,
+				EmbeddedWithRepeatableAnnotation.class );
+		filter = JandexAnnotatedTypeFilter.create( Collections.singletonList( index ), classResolver,
+				resourceResolver );
+	}
+
+	@Test
+	public void typeAnnotation() {
+		assertThat( filter.mayBeAnnotated( IndexedEntity.class ) ).isTrue();
+	}
+
+	@Test
+	public void repeatableAnnotation() {
+		assertThat( filter.mayBeAnnotated( EmbeddedWithRepeatableAnnotation.class ) ).isTrue();
+	}
+
+	@Test
+	public void onlyNonMappingAnnotations() {
+		assertThat( filter.mayBeAnnotated( NonIndexedEntity.class ) ).isFalse();
+		assertThat( filter.mayBeAnnotated( NonAnnotatedSuperclass.class ) ).isFalse();
+	}
+
+	@Test
+	public void notIndexed() {
+		// Unknown types must be inspected using reflection
+		assertThat( filter.mayBeAnnotated( NotIndexedInJandex.class ) ).isTrue();
+		assertThat( filter.mayBeAnnotated( Object.class ) ).isTrue();
+	}
+
+	@Test
+	public void missingResource() {
+		assertThatThrownBy( () -> JandexAnnotatedTypeFilter.create(
+				Collections.singletonList( "META-INF/missing.idx" ), classResolver, resourceResolver ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to find Jandex index 'META-INF/missing.idx'" );
+	}
+
+	@Test
+	public void invalidReference() {
+		assertThatThrownBy( () -> JandexAnnotatedTypeFilter.create(
+				Arrays.asList( 42 ), classResolver, resourceResolver ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid Jandex index '42'" );
+	}
+
+	private static Index index(Class<?>... classes) throws IOException {
+		Indexer indexer = new Indexer();
+		for ( Class<?> clazz : classes ) {
+			try ( InputStream stream = clazz.getResourceAsStream( '/' + clazz.getName().replace( '.', '/' ) + ".class" ) ) {
+				indexer.index( stream );
+			}
+		}
+		return indexer.complete();
+	}
+
+	@Entity
+	@Indexed
+	private static class IndexedEntity extends NonAnnotatedSuperclass {
+		@FullTextField
+		private String text;
+	}
+
+	@Entity
+	private static class NonIndexedEntity extends NonAnnotatedSuperclass {
+		private String text;
+	}
+
+	private static class NonAnnotatedSuperclass {
+		@Id
+		private Long id;
+	}
+
+	private static class EmbeddedWithRepeatableAnnotation {
+		@GenericField(name = "value1")
+		@GenericField(name = "value2")
+		private String value;
+	}
+
+	private static class NotIndexedInJandex {
+		@GenericField
+		private String value;
+	}
+}
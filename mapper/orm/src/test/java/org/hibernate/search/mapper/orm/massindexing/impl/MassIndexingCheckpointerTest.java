@@ -0,0 +1,175 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.mapper.orm.loading.impl.IdentifierRange;
+import org.hibernate.search.mapper.pojo.work.spi.PojoScopeWorkspace;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnit;
+import org.mockito.junit.MockitoRule;
+import org.mockito.quality.Strictness;
+
+public class MassIndexingCheckpointerTest {
+
+	private static final String TYPE_GROUP = "Book";
+
+	@Rule
+	public final MockitoRule mockito = MockitoJUnit.rule().strictness( Strictness.LENIENT );
+
+	@Rule
+	public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Mock
+	private PojoScopeWorkspace scopeWorkspace;
+
+	private FileMassIndexingCheckpointStore store;
+	private Path file;
+
+	@Before
+	public void setup() throws Exception {
+		when( scopeWorkspace.flush() ).thenAnswer( ignored -> CompletableFuture.completedFuture( null ) );
+		file = temporaryFolder.getRoot().toPath().resolve( "checkpoints" );
+		store = new FileMassIndexingCheckpointStore( file );
+	}
+
+	@Test
+	public void outOfOrderCompletion() throws InterruptedException {
+		MassIndexingCheckpointer checkpointer = new MassIndexingCheckpointer( store, scopeWorkspace, false );
+		checkpointer.start();
+		MassIndexingCheckpointer.RangeTracker first =
+				checkpointer.track( TYPE_GROUP, 0, IdentifierRange.between( null, 100L ) );
+		MassIndexingCheckpointer.RangeTracker second =
+				checkpointer.track( TYPE_GROUP, 1, IdentifierRange.between( 100L, null ) );
+		List<Long> batch1 = Arrays.asList( 1L, 2L );
+		List<Long> batch2 = Arrays.asList( 3L, 4L );
+		List<Long> batch3 = Arrays.asList( 100L, 101L );
+		first.batchProduced( batch1 );
+		first.batchProduced( batch2 );
+		second.batchProduced( batch3 );
+
+		// Out of order: the checkpoint of the first range cannot advance past batch1 yet
+		checkpointer.batchIndexed( batch2, true );
+		checkpointer.batchIndexed( batch3, true );
+		checkpointer.saveOnFailure();
+		assertThat( resumedRemainingRanges() )
+				.containsExactly( "[, 100)", "(101, )" );
+
+		checkpointer.batchIndexed( batch1, true );
+		checkpointer.saveOnFailure();
+		assertThat( resumedRemainingRanges() )
+				.containsExactly( "(4, 100)", "(101, )" );
+	}
+
+	@Test
+	public void failedBatch() throws InterruptedException {
+		MassIndexingCheckpointer checkpointer = new MassIndexingCheckpointer( store, scopeWorkspace, false );
+		checkpointer.start();
+		MassIndexingCheckpointer.RangeTracker tracker = checkpointer.track( TYPE_GROUP, 0, IdentifierRange.all() );
+		List<Long> batch1 = Arrays.asList( 1L, 2L );
+		List<Long> batch2 = Arrays.asList( 3L, 4L );
+		List<Long> batch3 = Arrays.asList( 5L, 6L );
+		tracker.batchProduced( batch1 );
+		tracker.batchProduced( batch2 );
+		tracker.batchProduced( batch3 );
+		tracker.producerFinished();
+
+		checkpointer.batchIndexed( batch1, true );
+		checkpointer.batchIndexed( batch2, false );
+		checkpointer.batchIndexed( batch3, true );
+		checkpointer.complete();
+
+		// Failed batches must be indexed again when resuming
+		assertThat( file ).exists();
+		assertThat( resumedRemainingRanges() ).containsExactly( "(2, )" );
+	}
+
+	@Test
+	public void failedBatch_releasesLaterBatches() throws InterruptedException {
+		MassIndexingCheckpointer checkpointer = new MassIndexingCheckpointer( store, scopeWorkspace, false );
+		checkpointer.start();
+		MassIndexingCheckpointer.RangeTracker tracker = checkpointer.track( TYPE_GROUP, 0, IdentifierRange.all() );
+		List<Long> batch1 = Arrays.asList( 1L, 2L );
+		List<Long> batch2 = Arrays.asList( 3L, 4L );
+		List<Long> batch3 = Arrays.asList( 5L, 6L );
+		tracker.batchProduced( batch1 );
+		tracker.batchProduced( batch2 );
+		tracker.batchProduced( batch3 );
+
+		checkpointer.batchIndexed( batch1, true );
+		checkpointer.batchIndexed( batch2, false );
+		// Once the range failed, batches are no longer kept in memory
+		assertThat( tracker.trackedBatchCount() ).isZero();
+
+		checkpointer.batchIndexed( batch3, true );
+		for ( long i = 7L; i < 100L; i += 2 ) {
+			List<Long> laterBatch = Arrays.asList( i, i + 1 );
+			tracker.batchProduced( laterBatch );
+			checkpointer.batchIndexed( laterBatch, true );
+		}
+		tracker.producerFinished();
+		assertThat( tracker.trackedBatchCount() ).isZero();
+		checkpointer.complete();
+
+		// The checkpoint stays right before the failed batch
+		assertThat( resumedRemainingRanges() ).containsExactly( "(2, )" );
+	}
+
+	@Test
+	public void complete() throws InterruptedException {
+		MassIndexingCheckpointer checkpointer = new MassIndexingCheckpointer( store, scopeWorkspace, false );
+		checkpointer.start();
+		MassIndexingCheckpointer.RangeTracker tracker = checkpointer.track( TYPE_GROUP, 0, IdentifierRange.all() );
+		List<Long> batch = Arrays.asList( 1L, 2L );
+		tracker.batchProduced( batch );
+		checkpointer.saveOnFailure();
+		assertThat( file ).exists();
+
+		tracker.producerFinished();
+		checkpointer.batchIndexed( batch, true );
+		checkpointer.complete();
+
+		assertThat( file ).doesNotExist();
+	}
+
+	@Test
+	public void start_noResume_clears() throws InterruptedException {
+		MassIndexingCheckpointer checkpointer = new MassIndexingCheckpointer( store, scopeWorkspace, false );
+		checkpointer.start();
+		checkpointer.track( TYPE_GROUP, 0, IdentifierRange.all() );
+		checkpointer.saveOnFailure();
+		assertThat( file ).exists();
+
+		new MassIndexingCheckpointer( store, scopeWorkspace, false ).start();
+
+		assertThat( file ).doesNotExist();
+	}
+
+	private List<String> resumedRemainingRanges() {
+		MassIndexingCheckpointer resumed = new MassIndexingCheckpointer( store, scopeWorkspace, true );
+		resumed.start();
+		List<IdentifierRange> ranges = resumed.resumedRanges( TYPE_GROUP );
+		String[] remaining = new String[ranges.size()];
+		for ( int i = 0; i < ranges.size(); i++ ) {
+			remaining[i] = resumed.track( TYPE_GROUP, i, ranges.get( i ) ).remainingRange().toString();
+		}
+		return Arrays.asList( remaining );
+	}
+}
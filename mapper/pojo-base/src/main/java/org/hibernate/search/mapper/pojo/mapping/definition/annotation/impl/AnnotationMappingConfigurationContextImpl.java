@@ -19,6 +19,7 @@
 import org.hibernate.search.engine.reporting.spi.FailureCollector;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoTypeMetadataContributor;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.AnnotationMappingConfigurationContext;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoAnnotatedTypeFilter;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingConfigurationContext;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingConfigurationContributor;
 import org.hibernate.search.mapper.pojo.model.spi.PojoBootstrapIntrospector;
@@ -33,6 +34,7 @@ public class AnnotationMappingConfigurationContextImpl implements AnnotationMapp
 	private final Set<Class<?>> annotatedTypes = new LinkedHashSet<>();
 
 	private boolean annotatedTypeDiscoveryEnabled = false;
+	private PojoAnnotatedTypeFilter annotatedTypeFilter = type -> true;
 
 	public AnnotationMappingConfigurationContextImpl(PojoBootstrapIntrospector introspector) {
 		this.introspector = introspector;
@@ -42,6 +44,10 @@ public void setAnnotatedTypeDiscoveryEnabled(boolean annotatedTypeDiscoveryEnabl
 		this.annotatedTypeDiscoveryEnabled = annotatedTypeDiscoveryEnabled;
 	}
 
+	public void setAnnotatedTypeFilter(PojoAnnotatedTypeFilter annotatedTypeFilter) {
+		this.annotatedTypeFilter = annotatedTypeFilter;
+	}
+
 	@Override
 	public AnnotationMappingConfigurationContext add(Class<?> annotatedType) {
 		this.annotatedTypes.add( annotatedType );
@@ -62,7 +68,7 @@ public void configure(MappingBuildContext buildContext, PojoMappingConfiguration
 		AnnotationHelper annotationHelper = new AnnotationHelper( introspector.annotationValueReadHandleFactory() );
 		AnnotationPojoTypeMetadataContributorFactory contributorFactory =
 				new AnnotationPojoTypeMetadataContributorFactory( beanResolver, failureCollector, configurationContext,
-						annotationHelper );
+						annotationHelper, annotatedTypeFilter );
 
 		/*
 		 * For types that were explicitly requested for annotation scanning and their supertypes,
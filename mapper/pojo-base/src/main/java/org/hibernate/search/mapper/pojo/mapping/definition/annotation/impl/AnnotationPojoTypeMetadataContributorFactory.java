@@ -25,6 +25,7 @@
 import org.hibernate.search.mapper.pojo.mapping.definition.programmatic.PropertyMappingStep;
 import org.hibernate.search.mapper.pojo.mapping.definition.programmatic.TypeMappingStep;
 import org.hibernate.search.mapper.pojo.mapping.definition.programmatic.impl.TypeMappingStepImpl;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoAnnotatedTypeFilter;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingConfigurationContext;
 import org.hibernate.search.mapper.pojo.model.spi.PojoPropertyModel;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeModel;
@@ -36,16 +37,24 @@ class AnnotationPojoTypeMetadataContributorFactory {
 	private final PojoMappingConfigurationContext configurationContext;
 	private final AnnotationHelper annotationHelper;
 	private final AnnotationProcessorProvider annotationProcessorProvider;
+	private final PojoAnnotatedTypeFilter annotatedTypeFilter;
 
 	AnnotationPojoTypeMetadataContributorFactory(BeanResolver beanResolver, FailureCollector rootFailureCollector,
-			PojoMappingConfigurationContext configurationContext, AnnotationHelper annotationHelper) {
+			PojoMappingConfigurationContext configurationContext, AnnotationHelper annotationHelper,
+			PojoAnnotatedTypeFilter annotatedTypeFilter) {
 		this.rootFailureCollector = rootFailureCollector;
 		this.configurationContext = configurationContext;
 		this.annotationHelper = annotationHelper;
 		this.annotationProcessorProvider = new AnnotationProcessorProvider( beanResolver, rootFailureCollector );
+		this.annotatedTypeFilter = annotatedTypeFilter;
 	}
 
 	public Optional<PojoTypeMetadataContributor> createIfAnnotated(PojoRawTypeModel<?> typeModel) {
+		if ( !annotatedTypeFilter.mayBeAnnotated( typeModel.typeIdentifier().javaClass() ) ) {
+			// Known not to carry any mapping annotation: don't bother inspecting the type and its members.
+			return Optional.empty();
+		}
+
 		// Create a programmatic type mapping object
 		TypeMappingStepImpl typeMappingStep = new TypeMappingStepImpl( typeModel );
 
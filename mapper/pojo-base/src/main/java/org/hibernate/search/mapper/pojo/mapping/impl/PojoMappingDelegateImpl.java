@@ -6,15 +6,21 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverRootContext;
+import org.hibernate.search.mapper.pojo.automaticindexing.spi.PojoImplicitReindexingResolverSessionContext;
+import org.hibernate.search.mapper.pojo.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.scope.impl.PojoScopeDelegateImpl;
@@ -23,14 +29,19 @@
 import org.hibernate.search.mapper.pojo.scope.spi.PojoScopeTypeExtendedContextProvider;
 import org.hibernate.search.mapper.pojo.work.impl.PojoIndexerImpl;
 import org.hibernate.search.mapper.pojo.work.impl.PojoIndexingPlanImpl;
+import org.hibernate.search.mapper.pojo.work.impl.PojoWorkIndexedTypeContext;
+import org.hibernate.search.mapper.pojo.work.impl.PojoWorkTypeContext;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
 import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 
 public class PojoMappingDelegateImpl implements PojoMappingDelegate {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final ThreadPoolProvider threadPoolProvider;
 	private final FailureHandler failureHandler;
 	private final PojoIndexedTypeManagerContainer indexedTypeManagers;
@@ -112,4 +123,43 @@ public PojoIndexer createIndexer(PojoWorkSessionContext<?> context) {
 				context
 		);
 	}
+
+	@Override
+	public void resolveEntitiesToReindex(PojoWorkSessionContext<?> context, PojoRawTypeIdentifier<?> typeIdentifier,
+			Object identifier, Object entity, Consumer<Object> containingEntityCollector) {
+		doResolveEntitiesToReindex( context, typeIdentifier, identifier, entity, containingEntityCollector );
+	}
+
+	private <E> void doResolveEntitiesToReindex(PojoWorkSessionContext<?> context,
+			PojoRawTypeIdentifier<E> typeIdentifier, Object identifier, Object entity,
+			Consumer<Object> containingEntityCollector) {
+		PojoWorkTypeContext<E> typeContext;
+		Optional<? extends PojoWorkIndexedTypeContext<?, E>> indexedTypeContextOptional =
+				indexedTypeManagers.getByExactType( typeIdentifier );
+		if ( indexedTypeContextOptional.isPresent() ) {
+			typeContext = indexedTypeContextOptional.get();
+		}
+		else {
+			Optional<? extends PojoContainedTypeManager<E>> containedTypeManagerOptional =
+					containedTypeManagers.getByExactType( typeIdentifier );
+			if ( !containedTypeManagerOptional.isPresent() ) {
+				throw log.nonIndexedNorContainedTypeInIndexingPlan( typeIdentifier );
+			}
+			typeContext = containedTypeManagerOptional.get();
+		}
+		PojoImplicitReindexingResolverRootContext rootContext = new PojoImplicitReindexingResolverRootContext() {
+			@Override
+			public PojoImplicitReindexingResolverSessionContext sessionContext() {
+				return context;
+			}
+
+			@Override
+			public BitSet dirtinessState() {
+				// No information: consider all paths dirty
+				return null;
+			}
+		};
+		typeContext.resolveEntitiesToReindex( containingEntityCollector::accept, context, identifier,
+				typeContext.toEntitySupplier( context, entity ), rootContext );
+	}
 }
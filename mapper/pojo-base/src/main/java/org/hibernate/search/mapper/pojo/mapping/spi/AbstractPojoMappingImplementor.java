@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.pojo.mapping.spi;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -17,6 +18,7 @@
 import org.hibernate.search.mapper.pojo.bridge.runtime.ValueBridgeToIndexedValueContext;
 import org.hibernate.search.mapper.pojo.bridge.runtime.impl.IdentifierBridgeToDocumentIdentifierContextImpl;
 import org.hibernate.search.mapper.pojo.bridge.runtime.impl.ValueBridgeToIndexedValueContextImpl;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.scope.spi.PojoScopeMappingContext;
 import org.hibernate.search.mapper.pojo.session.spi.PojoSearchSessionMappingContext;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
@@ -85,6 +87,12 @@ public PojoIndexer createIndexer(PojoWorkSessionContext<?> context) {
 		return delegate.createIndexer( context );
 	}
 
+	@Override
+	public void resolveEntitiesToReindex(PojoWorkSessionContext<?> context, PojoRawTypeIdentifier<?> typeIdentifier,
+			Object identifier, Object entity, Consumer<Object> containingEntityCollector) {
+		delegate.resolveEntitiesToReindex( context, typeIdentifier, identifier, entity, containingEntityCollector );
+	}
+
 	protected final PojoMappingDelegate delegate() {
 		return delegate;
 	}
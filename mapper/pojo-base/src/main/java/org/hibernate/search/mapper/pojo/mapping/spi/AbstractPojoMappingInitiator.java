@@ -106,6 +106,10 @@ public void annotatedTypeDiscoveryEnabled(boolean annotatedTypeDiscoveryEnabled)
 		annotationMappingConfiguration.setAnnotatedTypeDiscoveryEnabled( annotatedTypeDiscoveryEnabled );
 	}
 
+	public void annotatedTypeFilter(PojoAnnotatedTypeFilter annotatedTypeFilter) {
+		annotationMappingConfiguration.setAnnotatedTypeFilter( annotatedTypeFilter );
+	}
+
 	@Override
 	public void configure(MappingBuildContext buildContext,
 			MappingConfigurationCollector<PojoTypeMetadataContributor> configurationCollector) {
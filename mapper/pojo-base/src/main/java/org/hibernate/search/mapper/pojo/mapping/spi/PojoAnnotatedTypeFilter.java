@@ -0,0 +1,26 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.spi;
+
+/**
+ * A filter for types that may carry mapping annotations.
+ * <p>
+ * Allows to skip the reflective inspection of types (and of all their members)
+ * that are known in advance not to carry any mapping annotation,
+ * for example thanks to an annotation index built at compile time.
+ */
+public interface PojoAnnotatedTypeFilter {
+
+	/**
+	 * @param type A Java type.
+	 * @return {@code false} if the given type is known to carry no mapping annotation,
+	 * neither on the type itself nor on its members.
+	 * {@code true} otherwise, in particular if this filter has no information about the given type.
+	 */
+	boolean mayBeAnnotated(Class<?> type);
+
+}
@@ -8,6 +8,7 @@
 
 import java.util.Collection;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -44,4 +45,17 @@ <R> PojoIndexingPlan<R> createIndexingPlan(PojoWorkSessionContext<R> context,
 
 	PojoIndexer createIndexer(PojoWorkSessionContext<?> context);
 
+	/**
+	 * Resolves the entities that embed the given entity in their indexed form,
+	 * and thus must be reindexed when the given entity changes or is deleted.
+	 *
+	 * @param context The session context.
+	 * @param typeIdentifier The identifier of the entity type.
+	 * @param identifier The identifier of the entity, for error reporting. May be {@code null}.
+	 * @param entity The entity.
+	 * @param containingEntityCollector A collector for resolved entities.
+	 */
+	void resolveEntitiesToReindex(PojoWorkSessionContext<?> context, PojoRawTypeIdentifier<?> typeIdentifier,
+			Object identifier, Object entity, Consumer<Object> containingEntityCollector);
+
 }
@@ -6,8 +6,11 @@
  */
 package org.hibernate.search.mapper.pojo.session.spi;
 
+import java.util.function.Consumer;
+
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.scope.spi.PojoScopeMappingContext;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
@@ -24,4 +27,15 @@ <R> PojoIndexingPlan<R> createIndexingPlan(PojoWorkSessionContext<R> context,
 
 	PojoIndexer createIndexer(PojoWorkSessionContext<?> context);
 
+	/**
+	 * @param context The session context.
+	 * @param typeIdentifier The identifier of the entity type.
+	 * @param identifier The identifier of the entity, for error reporting. May be {@code null}.
+	 * @param entity The entity.
+	 * @param containingEntityCollector A collector for entities that embed the given entity in their indexed form.
+	 * @see org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate#resolveEntitiesToReindex(PojoWorkSessionContext, PojoRawTypeIdentifier, Object, Object, Consumer)
+	 */
+	void resolveEntitiesToReindex(PojoWorkSessionContext<?> context, PojoRawTypeIdentifier<?> typeIdentifier,
+			Object identifier, Object entity, Consumer<Object> containingEntityCollector);
+
 }
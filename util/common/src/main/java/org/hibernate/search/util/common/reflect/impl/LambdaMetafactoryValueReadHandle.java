@@ -0,0 +1,70 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.common.reflect.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Member;
+import java.util.function.Function;
+
+import org.hibernate.search.util.common.impl.Throwables;
+import org.hibernate.search.util.common.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
+
+/**
+ * A value read handle relying on a class generated by {@link java.lang.invoke.LambdaMetafactory},
+ * which calls the getter directly and thus, unlike a {@link java.lang.invoke.MethodHandle}
+ * stored in a non-constant field, can be inlined by the JIT.
+ */
+public final class LambdaMetafactoryValueReadHandle<T> implements ValueReadHandle<T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Member member;
+	private final Function<Object, T> getter;
+
+	public LambdaMetafactoryValueReadHandle(Member member, Function<Object, T> getter) {
+		this.member = member;
+		this.getter = getter;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + member + "]";
+	}
+
+	@Override
+	public T get(Object thiz) {
+		try {
+			return getter.apply( thiz );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			if ( e instanceof InterruptedException ) {
+				Thread.currentThread().interrupt();
+			}
+			throw log.errorInvokingMember( member, Throwables.safeToString( e, thiz ), e );
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return member.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == null || !obj.getClass().equals( getClass() ) ) {
+			return false;
+		}
+		LambdaMetafactoryValueReadHandle<?> other = (LambdaMetafactoryValueReadHandle<?>) obj;
+		return member.equals( other.member );
+	}
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.common.reflect.spi;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+import org.hibernate.search.util.common.reflect.impl.LambdaMetafactoryValueReadHandle;
+
+final class LambdaMetafactoryValueReadHandleFactory implements ValueReadHandleFactory {
+
+	// The generated classes are defined in this class' package, and resolve other classes through its class loader.
+	private static final MethodHandles.Lookup CALLER = MethodHandles.lookup();
+
+	private static final MethodType FACTORY_TYPE = MethodType.methodType( Function.class );
+	private static final MethodType APPLY_TYPE = MethodType.methodType( Object.class, Object.class );
+
+	private final MethodHandles.Lookup lookup;
+	private final ValueReadHandleFactory fallback;
+
+	LambdaMetafactoryValueReadHandleFactory(MethodHandles.Lookup lookup) {
+		this.lookup = lookup;
+		this.fallback = new MethodHandleValueReadHandleFactory( lookup );
+	}
+
+	@Override
+	public ValueReadHandle<?> createForField(Field field) throws IllegalAccessException {
+		// LambdaMetafactory only accepts method handles that invoke methods, not field getters.
+		return fallback.createForField( field );
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // The generated function's signature is checked by LambdaMetafactory
+	public ValueReadHandle<?> createForMethod(Method method) throws IllegalAccessException {
+		if ( !canBeCalledFromGeneratedClass( method ) ) {
+			return fallback.createForMethod( method );
+		}
+		MethodHandle getter = lookup.unreflect( method );
+		Function<Object, Object> function;
+		try {
+			CallSite callSite = LambdaMetafactory.metafactory( CALLER, "apply", FACTORY_TYPE, APPLY_TYPE,
+					getter, getter.type().wrap() );
+			function = (Function<Object, Object>) callSite.getTarget().invokeExact();
+		}
+		catch (LambdaConversionException | RuntimeException e) {
+			return fallback.createForMethod( method );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			// invokeExact() declares Throwable, but this factory method does not throw checked exceptions.
+			return fallback.createForMethod( method );
+		}
+		return new LambdaMetafactoryValueReadHandle<>( method, function );
+	}
+
+	/*
+	 * The generated class calls the method directly, through bytecode,
+	 * so it must have access to the method and to the types in its signature.
+	 * Otherwise, the failure would only occur on the first call to the handle,
+	 * so we'd rather detect this early and fall back to a MethodHandle.
+	 */
+	private static boolean canBeCalledFromGeneratedClass(Method method) {
+		Class<?> declaringClass = method.getDeclaringClass();
+		return Modifier.isPublic( method.getModifiers() )
+				&& !Modifier.isStatic( method.getModifiers() )
+				&& method.getParameterCount() == 0
+				&& !void.class.equals( method.getReturnType() )
+				&& isPublic( declaringClass )
+				&& isVisibleFromCaller( declaringClass )
+				&& isVisibleFromCaller( method.getReturnType() );
+	}
+
+	private static boolean isPublic(Class<?> type) {
+		for ( Class<?> current = type; current != null; current = current.getEnclosingClass() ) {
+			if ( !Modifier.isPublic( current.getModifiers() ) ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isVisibleFromCaller(Class<?> type) {
+		Class<?> elementType = type;
+		while ( elementType.isArray() ) {
+			elementType = elementType.getComponentType();
+		}
+		if ( elementType.isPrimitive() ) {
+			return true;
+		}
+		try {
+			return elementType.equals( Class.forName( elementType.getName(), false,
+					CALLER.lookupClass().getClassLoader() ) );
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+}
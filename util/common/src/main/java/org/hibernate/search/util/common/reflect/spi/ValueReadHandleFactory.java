@@ -34,4 +34,16 @@ static ValueReadHandleFactory usingMethodHandle(MethodHandles.Lookup lookup) {
 		return new MethodHandleValueReadHandleFactory( lookup );
 	}
 
+	/**
+	 * @param lookup A lookup with sufficient access rights to access all relevant fields and methods.
+	 * @return A factory producing value handles that rely on classes generated by
+	 * {@link java.lang.invoke.LambdaMetafactory} to call public getters directly,
+	 * which allows the JIT to inline them.
+	 * Fields, as well as methods that cannot be called directly from Hibernate Search's class loader,
+	 * are handled as in {@link #usingMethodHandle(MethodHandles.Lookup)}.
+	 */
+	static ValueReadHandleFactory usingLambdaMetafactory(MethodHandles.Lookup lookup) {
+		return new LambdaMetafactoryValueReadHandleFactory( lookup );
+	}
+
 }
@@ -39,6 +39,7 @@ public static List<Object[]> data() {
 		MethodHandles.Lookup lookup = MethodHandles.lookup();
 		return Arrays.asList( new Object[][] {
 				{ ValueReadHandleFactory.usingMethodHandle( lookup ) },
+				{ ValueReadHandleFactory.usingLambdaMetafactory( lookup ) },
 				{ ValueReadHandleFactory.usingJavaLangReflect() }
 		} );
 	}
@@ -109,6 +110,42 @@ public void publicMethod() throws Exception {
 		testMethodValueReadHandleSuccess( "publicMethod" );
 	}
 
+	@Test
+	public void publicMethodOnPublicType() throws Exception {
+		Method method = PublicEntityType.class.getDeclaredMethod( "publicMethod" );
+		Method otherMethod = PublicEntityType.class.getDeclaredMethod( "otherPublicMethod" );
+
+		ValueReadHandle<?> valueReadHandle = factory.createForMethod( method );
+		assertThat( valueReadHandle.get( new PublicEntityType() ) ).isEqualTo( 42 );
+
+		if ( factory.getClass().getSimpleName().contains( "LambdaMetafactory" ) ) {
+			assertThat( valueReadHandle ).isInstanceOf( LambdaMetafactoryValueReadHandle.class );
+		}
+
+		ValueReadHandle<?> equalValueReadHandle = factory.createForMethod( method );
+		ValueReadHandle<?> differentMethodValueReadHandle = factory.createForMethod( otherMethod );
+		assertThat( valueReadHandle ).isEqualTo( equalValueReadHandle );
+		assertThat( valueReadHandle.hashCode() ).isEqualTo( equalValueReadHandle.hashCode() );
+		assertThat( valueReadHandle ).isNotEqualTo( differentMethodValueReadHandle );
+	}
+
+	@Test
+	public void publicMethodOnPublicType_runtimeException() throws Exception {
+		Method method = PublicEntityType.class.getDeclaredMethod( "runtimeExceptionThrowingMethod" );
+
+		ValueReadHandle<?> valueReadHandle = factory.createForMethod( method );
+
+		PublicEntityType entity = new PublicEntityType();
+		assertThatThrownBy( () -> valueReadHandle.get( entity ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining(
+						"Exception while invoking '" + method.toString() + "' on 'PublicEntityType'"
+				)
+				.extracting( Throwable::getCause ).asInstanceOf( InstanceOfAssertFactories.THROWABLE )
+				.isInstanceOf( SimulatedRuntimeException.class )
+				.hasMessageContaining( "runtimeExceptionThrowingMethod" );
+	}
+
 	@Test
 	public void failure_method_error() throws Exception {
 		Method method = EntityType.class.getDeclaredMethod( "errorThrowingMethod" );
@@ -147,6 +184,7 @@ public void failure_method_illegalAccessException() throws Exception {
 						+ " if we don't use setAccessible(true), we can't create the handle,"
 						+ " and if we do use setAccessible(true), the handle has full access to the field/method.",
 				factory.getClass().getSimpleName().contains( "MethodHandle" )
+						|| factory.getClass().getSimpleName().contains( "LambdaMetafactory" )
 		);
 
 		Method method = EntityType.class.getDeclaredMethod( "illegalAccessExceptionThrowingMethod" );
@@ -169,6 +207,7 @@ public void failure_field_illegalAccessException() throws Exception {
 						+ " if we don't use setAccessible(true), we can't create the handle,"
 						+ " and if we do use setAccessible(true), the handle has full access to the field/method.",
 				factory.getClass().getSimpleName().contains( "MethodHandle" )
+						|| factory.getClass().getSimpleName().contains( "LambdaMetafactory" )
 		);
 
 		Field field = EntityType.class.getDeclaredField( "illegalAccessExceptionThrowingField" );
@@ -306,6 +345,23 @@ private String illegalAccessExceptionThrowingMethod() {
 		}
 	}
 
+	public static class PublicEntityType {
+		public int publicMethod() {
+			return 42;
+		}
+		public int otherPublicMethod() {
+			return 43;
+		}
+		public String runtimeExceptionThrowingMethod() {
+			throw new SimulatedRuntimeException( "runtimeExceptionThrowingMethod" );
+		}
+
+		@Override
+		public String toString() {
+			return "PublicEntityType";
+		}
+	}
+
 	private static class SimulatedRuntimeException extends RuntimeException {
 		public SimulatedRuntimeException(String message) {
 			super( message );
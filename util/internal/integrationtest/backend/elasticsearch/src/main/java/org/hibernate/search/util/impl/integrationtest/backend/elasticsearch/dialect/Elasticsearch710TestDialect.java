@@ -10,6 +10,7 @@
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.search.backend.elasticsearch.ElasticsearchVersion;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
@@ -161,4 +162,11 @@ public boolean supportsSkipOrLimitingTotalHitCount() {
 	public boolean hasBugForExistsOnNullGeoPointFieldWithoutDocValues() {
 		return true;
 	}
+
+	@Override
+	public boolean supportsPointInTime() {
+		// This dialect covers all versions from 7.10, but points in time were only introduced in 7.12
+		ElasticsearchVersion version = ElasticsearchVersion.of( ElasticsearchTestDialect.getClusterVersion() );
+		return version.major() > 7 || version.minor().orElse( 0 ) >= 12;
+	}
 }
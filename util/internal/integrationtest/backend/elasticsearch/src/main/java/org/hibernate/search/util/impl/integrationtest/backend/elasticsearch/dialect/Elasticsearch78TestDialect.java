@@ -12,4 +12,9 @@ public class Elasticsearch78TestDialect extends Elasticsearch710TestDialect {
 	public boolean hasBugForExistsOnNullGeoPointFieldWithoutDocValues() {
 		return false;
 	}
+
+	@Override
+	public boolean supportsPointInTime() {
+		return false;
+	}
 }
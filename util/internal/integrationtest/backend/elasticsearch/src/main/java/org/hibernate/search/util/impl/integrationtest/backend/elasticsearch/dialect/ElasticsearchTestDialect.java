@@ -76,4 +76,6 @@ default String getConcatenatedLocalDateDefaultMappingFormats() {
 	boolean supportsSkipOrLimitingTotalHitCount();
 
 	boolean hasBugForExistsOnNullGeoPointFieldWithoutDocValues();
+
+	boolean supportsPointInTime();
 }
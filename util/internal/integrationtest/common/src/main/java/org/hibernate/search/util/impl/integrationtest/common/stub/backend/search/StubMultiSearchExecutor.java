@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.spi.MultiSearchExecutor;
+import org.hibernate.search.engine.search.query.spi.MultiSearchRequest;
+
+final class StubMultiSearchExecutor implements MultiSearchExecutor {
+
+	static final StubMultiSearchExecutor INSTANCE = new StubMultiSearchExecutor();
+
+	private StubMultiSearchExecutor() {
+	}
+
+	@Override
+	public List<SearchResult<?>> fetch(List<MultiSearchRequest<?>> requests) {
+		// The stub backend simply executes queries one after the other.
+		List<SearchResult<?>> results = new ArrayList<>();
+		for ( MultiSearchRequest<?> request : requests ) {
+			results.add( request.query().fetch( request.offset(), request.limit() ) );
+		}
+		return results;
+	}
+}
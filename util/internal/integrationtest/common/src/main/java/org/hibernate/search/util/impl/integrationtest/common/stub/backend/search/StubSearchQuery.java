@@ -8,15 +8,20 @@
 
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.search.loading.spi.SearchLoadingContext;
 import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
+import org.hibernate.search.engine.search.query.spi.MultiSearchExecutor;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackend;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.projection.impl.StubSearchProjection;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.projection.impl.StubSearchProjectionContext;
@@ -81,6 +86,22 @@ public long fetchTotalHitCount() {
 		return backend.getBehavior().executeCountWork( indexNames );
 	}
 
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit, Executor loadingExecutor) {
+		// The stub backend executes everything synchronously.
+		return Futures.create( () -> CompletableFuture.completedFuture( fetch( offset, limit ) ) );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit, Executor loadingExecutor) {
+		return Futures.create( () -> CompletableFuture.completedFuture( fetchHits( offset, limit ) ) );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return Futures.create( () -> CompletableFuture.completedFuture( fetchTotalHitCount() ) );
+	}
+
 	@Override
 	public SearchScroll<H> scroll(int chunkSize) {
 		return backend.getBehavior().executeScrollWork(
@@ -93,4 +114,9 @@ public SearchScroll<H> scroll(int chunkSize) {
 	public void failAfter(long timeout, TimeUnit timeUnit) {
 		workBuilder.failAfter( timeout, timeUnit );
 	}
+
+	@Override
+	public MultiSearchExecutor multiSearchExecutor() {
+		return StubMultiSearchExecutor.INSTANCE;
+	}
 }